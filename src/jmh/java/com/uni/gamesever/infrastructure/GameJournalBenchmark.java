@@ -0,0 +1,66 @@
+package com.uni.gamesever.infrastructure;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.uni.gamesever.domain.enums.Color;
+import com.uni.gamesever.domain.enums.DirectionType;
+
+/**
+ * Kosten eines Journal-Satzes auf dem Thread der Befehlswarteschlange, bei
+ * laufendem Flush-Thread. Nach {@link #RECORDS_PER_GAME} Sätzen beginnt ein
+ * neues Spiel, damit die Datei nicht beliebig wächst.
+ *
+ * Start: {@code mvn -Pjmh test-compile exec:exec -Djmh.args=GameJournalBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GameJournalBenchmark {
+    private static final int RECORDS_PER_GAME = 4096;
+    private static final GameJournal.Start START = new GameJournal.Start(7, 7, 24, 600, 2, 42L,
+            "2026-01-01T12:00:00Z", List.of(new GameJournal.StartPlayer("p1", "p1", "Ada", Color.RED, true),
+                    new GameJournal.StartPlayer("p2", "p2", "Bob", Color.BLUE, false)));
+
+    private Path directory;
+    private GameJournalStore store;
+    private GameJournal journal;
+    private int records;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("journal-bench");
+        store = new GameJournalStore(ManagedThreads.platformThreadFactory("bench-journal-flusher-"), true,
+                directory, 50, 60);
+        journal = store.journalFor("bench");
+        journal.recordStart(START);
+    }
+
+    @TearDown
+    public void tearDown() {
+        journal.finish();
+        store.shutdown();
+    }
+
+    @Benchmark
+    public void appendPush() {
+        if (++records == RECORDS_PER_GAME) {
+            records = 0;
+            journal.finish();
+            journal.recordStart(START);
+        }
+        journal.recordPush(records & 5, DirectionType.DOWN, false);
+    }
+}
@@ -0,0 +1,88 @@
+package com.uni.gamesever.interfaces.Websocket;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uni.gamesever.domain.enums.Color;
+import com.uni.gamesever.domain.model.BoardSize;
+import com.uni.gamesever.domain.model.Coordinates;
+import com.uni.gamesever.domain.model.GameBoard;
+import com.uni.gamesever.domain.model.PlayerInfo;
+import com.uni.gamesever.domain.model.PlayerState;
+import com.uni.gamesever.domain.model.Treasure;
+import com.uni.gamesever.domain.model.TurnInfo;
+import com.uni.gamesever.domain.model.TurnState;
+import com.uni.gamesever.interfaces.Websocket.messages.server.GameStateUpdate;
+import com.uni.gamesever.interfaces.Websocket.messages.server.NextTreasureCardEvent;
+
+/**
+ * Vergleicht die bisherige Serialisierung (ObjectMapper ohne Module, Typ je
+ * Aufruf auflösen) mit {@link SerializerRegistry}.
+ *
+ * Start: {@code mvn -Pjmh test-compile exec:exec}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+    private final ObjectMapper reflectionMapper = new ObjectMapper();
+    private GameStateUpdate gameStateUpdate;
+    private NextTreasureCardEvent nextTreasureCardEvent;
+
+    @Setup
+    public void setUp() throws Exception {
+        GameBoard board = GameBoard.generateBoard(new BoardSize());
+        for (int i = 0; i < 24; i++) {
+            board.placeTreasure(i / 7 + 1, i % 7, new Treasure(i, "Schatz " + i));
+        }
+        Color[] colors = Color.values();
+        PlayerState[] players = new PlayerState[colors.length];
+        for (int i = 0; i < players.length; i++) {
+            PlayerInfo info = new PlayerInfo("player-" + i);
+            info.setName("Spieler" + i);
+            info.setColor(colors[i]);
+            players[i] = new PlayerState(info, new Coordinates(i, i), new Coordinates(0, 0), null, 6);
+        }
+        gameStateUpdate = new GameStateUpdate(board, players, new TurnInfo("player-0", TurnState.WAITING_FOR_PUSH),
+                "2026-01-01T12:00:00Z");
+        nextTreasureCardEvent = new NextTreasureCardEvent(new Treasure(7, "Krone"));
+    }
+
+    @Benchmark
+    public byte[] gameStateUpdateReflection() throws Exception {
+        return reflectionMapper.writeValueAsBytes(gameStateUpdate);
+    }
+
+    @Benchmark
+    public byte[] gameStateUpdateRegistry() throws Exception {
+        return SerializerRegistry.toJsonBytes(gameStateUpdate);
+    }
+
+    @Benchmark
+    public byte[] nextTreasureCardCachedWriterOnly() throws Exception {
+        return SerializerRegistry.writerFor(NextTreasureCardEvent.class).writeValueAsBytes(nextTreasureCardEvent);
+    }
+
+    @Benchmark
+    public byte[] gameStateUpdateCachedWriterOnly() throws Exception {
+        return SerializerRegistry.writerFor(GameStateUpdate.class).writeValueAsBytes(gameStateUpdate);
+    }
+
+    @Benchmark
+    public byte[] nextTreasureCardReflection() throws Exception {
+        return reflectionMapper.writeValueAsBytes(nextTreasureCardEvent);
+    }
+
+    @Benchmark
+    public byte[] nextTreasureCardRegistry() throws Exception {
+        return SerializerRegistry.toJsonBytes(nextTreasureCardEvent);
+    }
+}
@@ -1,27 +1,46 @@
 package com.uni.gamesever.config;
 
+import org.apache.tomcat.websocket.PerMessageDeflate;
+import org.apache.tomcat.websocket.TransformationFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.socket.config.annotation.EnableWebSocket;
 import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
 import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
 
+import com.uni.gamesever.infrastructure.CompressionMetrics;
+import com.uni.gamesever.infrastructure.ThresholdDeflateTransformation;
 import com.uni.gamesever.interfaces.Websocket.SocketConnectionHandler;
 
 @Configuration
 @EnableWebSocket
 public class WebSocketConfig
         implements WebSocketConfigurer {
+    private static final Logger log = LoggerFactory.getLogger("GAME_LOG");
 
     private final SocketConnectionHandler socketConnectionHandler;
+    private final CompressionMetrics compressionMetrics;
+    private final int compressionThresholdBytes;
 
-    public WebSocketConfig(SocketConnectionHandler socketConnectionHandler) {
+    public WebSocketConfig(SocketConnectionHandler socketConnectionHandler, CompressionMetrics compressionMetrics,
+            @Value("${websocket.compression.threshold-bytes:1024}") int compressionThresholdBytes) {
         this.socketConnectionHandler = socketConnectionHandler;
+        this.compressionMetrics = compressionMetrics;
+        this.compressionThresholdBytes = compressionThresholdBytes;
     }
 
     @Override
     public void registerWebSocketHandlers(
             WebSocketHandlerRegistry webSocketHandlerRegistry) {
 
+        // permessage-deflate wird von Tomcat ausgehandelt, sobald der Client es
+        // anbietet; komprimiert werden nur Nachrichten ab der Schwelle
+        TransformationFactory.getInstance().registerExtension(PerMessageDeflate.NAME,
+                ThresholdDeflateTransformation.builder(compressionThresholdBytes, compressionMetrics));
+        log.info("permessage-deflate für Nachrichten ab {} Bytes", compressionThresholdBytes);
+
         webSocketHandlerRegistry
                 .addHandler(socketConnectionHandler, "/game")
                 .setAllowedOrigins("*");
@@ -21,12 +21,33 @@ public class AIConfig {
     private static final double AI_TEMPERATURE = 0.5;         // Niedrig = konsistenter, 0.7 = kreativer
     private static final int AI_MAX_TOKENS = 300;             // Maximale Response-Länge
 
+    // ========== LLM-DIENST ==========
+    // Environment-Variable OPENAI_BASE_URL, z. B. für einen Proxy oder lokalen Testserver
+    private static final String AI_BASE_URL_ENV = "OPENAI_BASE_URL";
+    private static final String AI_DEFAULT_BASE_URL = "https://api.openai.com/v1/";
+    private static final long AI_REMOTE_TIMEOUT_MS = 5000;        // Frist pro LLM-Aufruf
+    private static final long AI_DECISION_DEADLINE_MS = 6000;     // Frist für die ganze Entscheidung inkl. Push-Suche
+    private static final int AI_BREAKER_FAILURES = 3;             // Fehlschläge in Folge bis zur Sperre
+    private static final long AI_BREAKER_OPEN_MS = 30_000;        // Dauer der Sperre vor dem nächsten Versuch
+
     // ========== AI VERHALTEN ==========
     private static final int AI_DELAY_MS = 500;               // Verzögerung vor AI-Zug (ms)
     private static final int AI_ROTATION_DELAY_MS = 40;       // Verzögerung zwischen Rotationen
     private static final int AI_PUSH_DELAY_MS = 50;           // Verzögerung vor Push
     private static final int AI_MOVE_WAIT_MS = 150;           // Warten auf Server nach Push
 
+    // ========== KI-VARIANTE ==========
+    // Environment-Variable AI_ENGINE: "llm" (Standard) oder "mcts" (lokale Baumsuche, ohne API-Key)
+    private static final String AI_ENGINE_ENV = "AI_ENGINE";
+    private static final String AI_ENGINE_MCTS = "mcts";
+    private static final long AI_MCTS_BUDGET_MS = 1000;   // Maximale Rechenzeit der Baumsuche pro Zug
+
+    // ========== PONDERING (Vorausrechnen während fremder Züge) ==========
+    private static final int AI_PONDER_WORKERS = 1;                  // Suchthreads je KI-Spieler
+    private static final long AI_PONDER_MAX_MS = 15_000;             // Höchstdauer pro fremdem Zug
+    private static final long AI_PONDER_QUOTA_MS_PER_SECOND = 500;   // Rechenzeit-Zuwachs je Raum und Sekunde
+    private static final long AI_PONDER_QUOTA_MAX_MS = 20_000;       // Höchstes angespartes Guthaben je Raum
+
     // ========== CACHE FÜR API-KEY ==========
     private static String cachedApiKey = null;
 
@@ -249,6 +270,46 @@ public class AIConfig {
         return AI_MAX_TOKENS;
     }
 
+    /**
+     * Basis-URL der OpenAI-kompatiblen Schnittstelle, immer mit abschließendem "/"
+     */
+    public static String getApiBaseUrl() {
+        String baseUrl = System.getenv(AI_BASE_URL_ENV);
+        if (baseUrl == null || baseUrl.isBlank()) {
+            return AI_DEFAULT_BASE_URL;
+        }
+        return baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+    }
+
+    /**
+     * Frist für einen einzelnen LLM-Aufruf (ms)
+     */
+    public static long getRemoteTimeoutMillis() {
+        return AI_REMOTE_TIMEOUT_MS;
+    }
+
+    /**
+     * Frist für eine LLM-gestützte Entscheidung, danach entscheidet die lokale
+     * Suche (ms)
+     */
+    public static long getDecisionDeadlineMillis() {
+        return AI_DECISION_DEADLINE_MS;
+    }
+
+    /**
+     * Fehlschläge in Folge, nach denen der LLM-Dienst gesperrt wird
+     */
+    public static int getCircuitBreakerFailures() {
+        return AI_BREAKER_FAILURES;
+    }
+
+    /**
+     * Dauer der Sperre des LLM-Dienstes (ms)
+     */
+    public static long getCircuitBreakerOpenMillis() {
+        return AI_BREAKER_OPEN_MS;
+    }
+
     /**
      * Verzögerung vor AI-Zug Start (ms)
      */
@@ -276,4 +337,48 @@ public class AIConfig {
     public static int getMoveWaitTime() {
         return AI_MOVE_WAIT_MS;
     }
+
+    /**
+     * Prüft ob die lokale Baumsuche (MCTS) statt des LLM genutzt werden soll
+     */
+    public static boolean isMctsEngine() {
+        return AI_ENGINE_MCTS.equalsIgnoreCase(System.getenv(AI_ENGINE_ENV));
+    }
+
+    /**
+     * Maximale Rechenzeit der Baumsuche pro Zug (ms)
+     */
+    public static long getMctsBudgetMillis() {
+        return AI_MCTS_BUDGET_MS;
+    }
+
+    /**
+     * Suchthreads, mit denen ein KI-Spieler während fremder Züge vorausrechnet
+     */
+    public static int getPonderWorkers() {
+        return AI_PONDER_WORKERS;
+    }
+
+    /**
+     * Maximale Dauer der Vorausberechnung während eines fremden Zugs (ms)
+     */
+    public static long getPonderMaxMillis() {
+        return AI_PONDER_MAX_MS;
+    }
+
+    /**
+     * Rechenzeit für Vorausberechnungen, die einem Raum pro Sekunde
+     * gutgeschrieben wird (Thread-ms)
+     */
+    public static long getPonderQuotaMillisPerSecond() {
+        return AI_PONDER_QUOTA_MS_PER_SECOND;
+    }
+
+    /**
+     * Höchstes Rechenzeit-Guthaben eines Raums für Vorausberechnungen
+     * (Thread-ms)
+     */
+    public static long getPonderQuotaMaxMillis() {
+        return AI_PONDER_QUOTA_MAX_MS;
+    }
 }
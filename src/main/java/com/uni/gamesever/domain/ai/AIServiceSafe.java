@@ -2,37 +2,64 @@ package com.uni.gamesever.domain.ai;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import com.uni.gamesever.domain.ai.llm.LlmClient;
 import com.uni.gamesever.domain.enums.BonusType;
+import com.uni.gamesever.domain.exceptions.LlmUnavailableException;
 import com.uni.gamesever.domain.model.*;
-import com.theokanning.openai.completion.chat.ChatCompletionRequest;
-import com.theokanning.openai.completion.chat.ChatMessage;
-import com.theokanning.openai.service.OpenAiService;
 
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * SICHERE AI - Macht NUR garantiert gültige Züge!
- * Keine Simulation, nur aktuell erreichbare Felder
+ * Der Push wird per Suche über alle Rotationen und Einschubstellen gewählt,
+ * die Bewegung nur über aktuell erreichbare Felder
  * Mit Bonus-Support und Home-Return-Logik
+ *
+ * Ohne {@link LlmClient} entscheidet die lokale Suche allein: gleiche Stellung,
+ * gleicher Push und stets das erreichbare Feld mit der kleinsten Distanz zum
+ * Ziel.
  */
-public class AIServiceSafe {
+public class AIServiceSafe implements DecisionProvider {
+    private static final Logger log = LoggerFactory.getLogger("GAME_LOG");
 
-    private final OpenAiService openAiService;
+    private final LlmClient llmClient;
     private final SafeMoveStrategy strategy;
     private final PathfindingService pathfinding;
+    private final PushSearch pushSearch;
     private final Gson gson = new Gson();
     private final Random random = new Random();
 
-    public AIServiceSafe(String apiKey) {
-        this.openAiService = new OpenAiService(apiKey);
+    /**
+     * Nur lokale Suche, ohne LLM
+     */
+    public AIServiceSafe(ForkJoinPool searchPool) {
+        this(null, searchPool);
+    }
+
+    /**
+     * @param llmClient  gemeinsamer LLM-Client oder {@code null} für die rein
+     *                   lokale Suche
+     * @param searchPool gemeinsamer Pool der KI-Suche
+     */
+    public AIServiceSafe(LlmClient llmClient, ForkJoinPool searchPool) {
+        this.llmClient = llmClient;
+        this.pushSearch = new PushSearch(searchPool);
         this.strategy = new SafeMoveStrategy();
         this.pathfinding = new PathfindingService();
     }
 
+    @Override
     public AIDecision getNextMove(GameState gameState) {
         // 1. Ermittle Ziel (Schatz oder Home)
         SafeMoveStrategy.TargetInfo target = strategy.determineTarget(gameState);
@@ -40,7 +67,7 @@ public class AIServiceSafe {
         // 2. Prüfe ob Bonus genutzt werden soll (aggressiv)
         AIDecision bonusDecision = evaluateBonusUsage(gameState, target);
         if (bonusDecision != null) {
-            System.out.println("🎁 AI nutzt Bonus: " + bonusDecision.getUseBonus());
+            log.debug("AI nutzt Bonus: {}", bonusDecision.getUseBonus());
             return bonusDecision;
         }
 
@@ -52,17 +79,12 @@ public class AIServiceSafe {
             return createFallbackDecision(gameState);
         }
 
-        // 4. Finde sicheren Push
-        SafeMoveStrategy.PushInfo safePush = strategy.findSafePush(gameState);
-
-        // 5. AI wählt bestes Ziel aus AKTUELL erreichbaren Feldern
+        // 4. AI wählt bestes Ziel aus AKTUELL erreichbaren Feldern
         SafeMoveStrategy.SafeMoveOption bestMove = chooseBestMove(safeOptions, gameState);
 
-        // 6. Erstelle Entscheidung
+        // 5. Erstelle Entscheidung mit dem besten simulierten Push
         AIDecision decision = new AIDecision();
-        decision.setRotations(random.nextInt(3)); // Zufällige Rotation 0-2
-        decision.setPushRowOrCol(safePush.index);
-        decision.setPushDirection(safePush.direction);
+        applyBestPush(decision, gameState);
         decision.setMoveTarget(bestMove.targetPosition);
         decision.setGoingHome(bestMove.isGoingHome);
 
@@ -104,13 +126,11 @@ public class AIServiceSafe {
         TurnState currentPhase = gameState.getCurrentTurnState();
         boolean isInPushPhase = (currentPhase == TurnState.WAITING_FOR_PUSH);
 
-        System.out.println("🔍 Bonus-Evaluation:");
-        System.out.println("   Aktuelle Phase: " + currentPhase);
-        System.out.println("   Verfügbare Boni: " + bonuses);
+        log.debug("Bonus-Evaluation: Phase {}, verfügbare Boni {}", currentPhase, bonuses);
 
         // Boni dürfen nur in der Push-Phase eingesetzt werden!
         if (!isInPushPhase) {
-            System.out.println("   → Nicht in Push-Phase - keine Boni erlaubt");
+            log.debug("Nicht in Push-Phase - keine Boni erlaubt");
             return null;
         }
 
@@ -126,14 +146,13 @@ public class AIServiceSafe {
         boolean targetReachable = isCoordinateInSet(target.position, reachable);
         int distanceToTarget = pathfinding.calculateDistance(currentPos, target.position);
 
-        System.out.println("   Ziel erreichbar: " + targetReachable);
-        System.out.println("   Distanz zum Ziel: " + distanceToTarget);
+        log.debug("Ziel erreichbar: {}, Distanz zum Ziel: {}", targetReachable, distanceToTarget);
 
         // === ALLE BONI (nur während WAITING_FOR_PUSH) ===
 
         // BEAM - Wenn Ziel nicht erreichbar
         if (bonuses.contains(BonusType.BEAM) && !targetReachable) {
-            System.out.println("   → BEAM ausgewählt: Ziel nicht erreichbar, teleportiere direkt!");
+            log.debug("BEAM ausgewählt: Ziel nicht erreichbar, teleportiere direkt!");
             AIDecision decision = new AIDecision();
             decision.setUseBonus(BonusType.BEAM);
             decision.setBeamTarget(target.position);
@@ -142,10 +161,7 @@ public class AIServiceSafe {
                 " - Ziel war nicht erreichbar");
 
             // Auch bei Bonus muss Push-Info gesetzt werden
-            SafeMoveStrategy.PushInfo safePush = strategy.findSafePush(gameState);
-            decision.setRotations(random.nextInt(3));
-            decision.setPushRowOrCol(safePush.index);
-            decision.setPushDirection(safePush.direction);
+            applyBestPush(decision, gameState);
 
             // MoveTarget als Fallback (wird bei BEAM nicht verwendet)
             decision.setMoveTarget(new Coordinates(currentPos.getColumn(), currentPos.getRow()));
@@ -157,7 +173,7 @@ public class AIServiceSafe {
         if (bonuses.contains(BonusType.SWAP)) {
             String playerOnTarget = findPlayerAtPosition(gameState, target.position);
             if (playerOnTarget != null) {
-                System.out.println("   → SWAP ausgewählt: Gegner " + playerOnTarget + " steht auf Zielfeld!");
+                log.debug("SWAP ausgewählt: Gegner {} steht auf Zielfeld!", playerOnTarget);
                 AIDecision decision = new AIDecision();
                 decision.setUseBonus(BonusType.SWAP);
                 decision.setSwapTargetPlayerId(playerOnTarget);
@@ -165,10 +181,7 @@ public class AIServiceSafe {
                 decision.setReasoning("SWAP mit Gegner auf " + (target.isHome ? "Heimfeld" : "Schatzfeld"));
 
                 // Auch bei Bonus muss Push-Info gesetzt werden
-                SafeMoveStrategy.PushInfo safePush = strategy.findSafePush(gameState);
-                decision.setRotations(random.nextInt(3));
-                decision.setPushRowOrCol(safePush.index);
-                decision.setPushDirection(safePush.direction);
+                applyBestPush(decision, gameState);
 
                 // MoveTarget als Fallback (wird bei SWAP nicht verwendet)
                 decision.setMoveTarget(new Coordinates(currentPos.getColumn(), currentPos.getRow()));
@@ -179,16 +192,13 @@ public class AIServiceSafe {
 
         // PUSH_TWICE - Wenn sehr weit entfernt (Distanz > 4)
         if (bonuses.contains(BonusType.PUSH_TWICE) && distanceToTarget > 4) {
-            System.out.println("   → PUSH_TWICE ausgewählt: Große Distanz (" + distanceToTarget + ")");
+            log.debug("PUSH_TWICE ausgewählt: Große Distanz ({})", distanceToTarget);
             AIDecision decision = new AIDecision();
             decision.setUseBonus(BonusType.PUSH_TWICE);
             decision.setGoingHome(target.isHome);
             decision.setReasoning("PUSH_TWICE für bessere Board-Positionierung bei Distanz " + distanceToTarget);
 
-            SafeMoveStrategy.PushInfo safePush = strategy.findSafePush(gameState);
-            decision.setRotations(random.nextInt(3));
-            decision.setPushRowOrCol(safePush.index);
-            decision.setPushDirection(safePush.direction);
+            applyBestPush(decision, gameState);
 
             // MoveTarget wird nach den zwei Pushes berechnet (erstmal aktuelle Position)
             decision.setMoveTarget(new Coordinates(currentPos.getColumn(), currentPos.getRow()));
@@ -199,10 +209,33 @@ public class AIServiceSafe {
         // PUSH_FIXED - Könnte nützlich sein (für späteren Ausbau)
         // TODO: Intelligentere Logik für PUSH_FIXED
 
-        System.out.println("   → Kein Bonus in dieser Phase sinnvoll");
+        log.debug("Kein Bonus in dieser Phase sinnvoll");
         return null; // Kein Bonus sinnvoll
     }
 
+    /**
+     * Setzt Rotation und Push aus der Push-Suche. Liefert die Suche nichts
+     * (z. B. ohne Ersatzkachel), wird ein zufälliger gültiger Push gewählt.
+     */
+    private void applyBestPush(AIDecision decision, GameState gameState) {
+        PushSearch.Result best = null;
+        if (gameState.getCurrentTurnState() == TurnState.WAITING_FOR_PUSH) {
+            best = pushSearch.findBestPush(gameState);
+        }
+        if (best != null) {
+            decision.setRotations(best.rotations);
+            decision.setPushRowOrCol(best.index);
+            decision.setPushDirection(best.direction);
+            log.debug("Push-Suche: Index={}, Dir={}, Rotationen={}, Ziel erreichbar: {}", best.index,
+                    best.direction, best.rotations, best.targetReachable);
+            return;
+        }
+        SafeMoveStrategy.PushInfo safePush = strategy.findSafePush(gameState);
+        decision.setRotations(random.nextInt(3)); // Zufällige Rotation 0-2
+        decision.setPushRowOrCol(safePush.index);
+        decision.setPushDirection(safePush.direction);
+    }
+
     /**
      * Findet Spieler an einer bestimmten Position (für SWAP)
      */
@@ -264,49 +297,49 @@ public class AIServiceSafe {
         if (bestOption.isGoingHome) {
             // HOME-MODUS: Priorisiere direkten Weg nach Hause
             if (bestOption.distanceToTarget == 0) {
-                System.out.println("🏠 HOME DIREKT ERREICHBAR! Gehe sofort nach Hause.");
+                log.debug("HOME DIREKT ERREICHBAR! Gehe sofort nach Hause.");
                 return bestOption;
             }
             if (bestOption.distanceToTarget <= 2) {
-                System.out.println("🏠 HOME NAHE (Distanz=" + bestOption.distanceToTarget + ") - nehme kürzesten Weg.");
+                log.debug("HOME NAHE (Distanz={}) - nehme kürzesten Weg.", bestOption.distanceToTarget);
                 return bestOption;
             }
         } else {
             // SCHATZ-MODUS: Wenn Schatz nah ist, nimm kürzesten Weg!
             if (bestOption.distanceToTarget == 0) {
-                System.out.println("💎 SCHATZ DIREKT ERREICHBAR! Gehe sofort hin.");
+                log.debug("SCHATZ DIREKT ERREICHBAR! Gehe sofort hin.");
                 return bestOption;
             }
             if (bestOption.distanceToTarget <= 2) {
-                System.out.println("💎 SCHATZ NAHE (Distanz=" + bestOption.distanceToTarget + ") - nehme kürzesten Weg.");
+                log.debug("SCHATZ NAHE (Distanz={}) - nehme kürzesten Weg.", bestOption.distanceToTarget);
                 return bestOption;
             }
         }
 
+        // Ohne LLM: lokale Suche, beste Option
+        if (llmClient == null) {
+            return bestOption;
+        }
+
         // Für komplexere Situationen: Frage AI (nur bei Distanz > 2)
         String prompt = buildPrompt(options, gameState);
+        long timeoutMillis = TurnBudget.millis(gameState.getTurnEndTime(), AIConfig.getRemoteTimeoutMillis());
 
-        List<ChatMessage> messages = new ArrayList<>();
-        messages.add(new ChatMessage("system", getSystemPrompt(bestOption.isGoingHome)));
-        messages.add(new ChatMessage("user", prompt));
-
+        // Fehler des LLM gehen an den Aufrufer, damit der FallbackDecisionProvider
+        // die lokale Suche übernehmen lässt
+        String response;
         try {
-            ChatCompletionRequest request = ChatCompletionRequest.builder()
-                    .model(AIConfig.getModel())
-                    .messages(messages)
-                    .temperature(AIConfig.getTemperature())
-                    .maxTokens(AIConfig.getMaxTokens())
-                    .build();
-
-            String response = openAiService.createChatCompletion(request)
-                    .getChoices().get(0).getMessage().getContent();
-
-            return parseChoice(response, options);
-
-        } catch (Exception e) {
-            System.err.println("AI Fehler, verwende beste Option: " + e.getMessage());
-            return options.get(0); // Fallback: Nächste zum Ziel
+            response = llmClient.complete(getSystemPrompt(bestOption.isGoingHome), prompt, timeoutMillis)
+                    .get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LlmUnavailableException("LLM-Anfrage unterbrochen", e);
+        } catch (ExecutionException e) {
+            throw new LlmUnavailableException("LLM-Anfrage fehlgeschlagen: " + e.getCause(), e.getCause());
+        } catch (TimeoutException e) {
+            throw new LlmUnavailableException("LLM-Anfrage nach " + timeoutMillis + " ms nicht beantwortet", e);
         }
+        return parseChoice(response, options);
     }
 
     private String getSystemPrompt(boolean isGoingHome) {
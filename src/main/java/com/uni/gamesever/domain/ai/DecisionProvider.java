@@ -0,0 +1,44 @@
+package com.uni.gamesever.domain.ai;
+
+/**
+ * Gemeinsame Schnittstelle aller KI-Varianten, die für einen getrennten
+ * Spieler Züge entscheiden.
+ *
+ * Wird in der Push-Phase aufgerufen und nach dem Push erneut mit dem
+ * aktualisierten Spielstand für die Bewegung.
+ *
+ * Varianten mit lokaler Suche können zusätzlich vorausrechnen, während andere
+ * Spieler am Zug sind ("Pondering"). Ohne eigene Implementierung tun die
+ * Pondering-Methoden nichts.
+ */
+public interface DecisionProvider {
+    AIDecision getNextMove(GameState gameState);
+
+    /**
+     * Startet die Vorausberechnung im Hintergrund und kehrt sofort zurück. Eine
+     * laufende Vorausberechnung wird vorher beendet.
+     *
+     * @param gameState Spielstand aus Sicht des Spielers, der gerade am Zug ist
+     * @param maxMillis höchste Laufzeit der Vorausberechnung
+     */
+    default void startPondering(GameState gameState, long maxMillis) {
+    }
+
+    /**
+     * Meldet den realen Push des Spielers am Zug. Passt er zu keinem
+     * vorausberechneten Zug, wird die Vorausberechnung abgebrochen und
+     * verworfen.
+     */
+    default void onRealPush(LastPush push) {
+    }
+
+    /**
+     * Beendet die Vorausberechnung. Ihr Ergebnis bleibt für den nächsten
+     * eigenen Zug erhalten.
+     *
+     * @return verbrauchte Rechenzeit in Thread-Millisekunden
+     */
+    default long stopPondering() {
+        return 0;
+    }
+}
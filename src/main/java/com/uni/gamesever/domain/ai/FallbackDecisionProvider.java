@@ -0,0 +1,65 @@
+package com.uni.gamesever.domain.ai;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Fragt zuerst eine entfernte bzw. langsame KI und nimmt die lokale KI, wenn
+ * die Antwort nicht bis zur Frist vorliegt oder fehlschlägt. So hält ein
+ * langsamer oder nicht erreichbarer Dienst keinen Zug über seine Frist hinaus
+ * auf.
+ */
+public class FallbackDecisionProvider implements DecisionProvider {
+    private static final Logger log = LoggerFactory.getLogger("GAME_LOG");
+
+    private final DecisionProvider primary;
+    private final DecisionProvider fallback;
+    private final Executor executor;
+    private final long maxDeadlineMillis;
+
+    /**
+     * @param executor          führt die Anfragen an {@code primary} aus
+     * @param maxDeadlineMillis höchste Frist, zusätzlich begrenzt durch
+     *                          {@link TurnBudget}
+     */
+    public FallbackDecisionProvider(DecisionProvider primary, DecisionProvider fallback, Executor executor,
+            long maxDeadlineMillis) {
+        this.primary = primary;
+        this.fallback = fallback;
+        this.executor = executor;
+        this.maxDeadlineMillis = maxDeadlineMillis;
+    }
+
+    @Override
+    public AIDecision getNextMove(GameState gameState) {
+        long deadlineMillis = TurnBudget.millis(gameState.getTurnEndTime(), maxDeadlineMillis);
+        CompletableFuture<AIDecision> request = getNextMoveAsync(gameState);
+        try {
+            AIDecision decision = request.get(deadlineMillis, TimeUnit.MILLISECONDS);
+            if (decision != null) {
+                return decision;
+            }
+        } catch (TimeoutException e) {
+            request.cancel(true);
+            log.warn("KI-Entscheidung nach {} ms nicht fertig, lokale Suche übernimmt", deadlineMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("KI-Entscheidung fehlgeschlagen, lokale Suche übernimmt: {}", e.getCause().toString());
+        }
+        return fallback.getNextMove(gameState);
+    }
+
+    /**
+     * Startet die Anfrage an die primäre KI, ohne auf sie zu warten
+     */
+    public CompletableFuture<AIDecision> getNextMoveAsync(GameState gameState) {
+        return CompletableFuture.supplyAsync(() -> primary.getNextMove(gameState), executor);
+    }
+}
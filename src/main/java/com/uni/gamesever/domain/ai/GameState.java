@@ -15,6 +15,12 @@ public class GameState {
     private String myPlayerId;
     private TurnState currentTurnState;
     private LastPush lastPush;
+    private Tile spareTile;
+    private String turnEndTime;
+    // Distanzfelder des Server-Bretts, null wenn nicht verfügbar
+    private DistanceFields distanceFields;
+    // Schatz-/Bonus-Index des Server-Bretts, null wenn nicht verfügbar
+    private BoardItemIndex itemIndex;
 
     // Getters / Setters
     public Tile[][] getBoard() {
@@ -64,4 +70,36 @@ public class GameState {
     public void setLastPush(LastPush lastPush) {
         this.lastPush = lastPush;
     }
+
+    public Tile getSpareTile() {
+        return spareTile;
+    }
+
+    public void setSpareTile(Tile spareTile) {
+        this.spareTile = spareTile;
+    }
+
+    public String getTurnEndTime() {
+        return turnEndTime;
+    }
+
+    public void setTurnEndTime(String turnEndTime) {
+        this.turnEndTime = turnEndTime;
+    }
+
+    public DistanceFields getDistanceFields() {
+        return distanceFields;
+    }
+
+    public void setDistanceFields(DistanceFields distanceFields) {
+        this.distanceFields = distanceFields;
+    }
+
+    public BoardItemIndex getItemIndex() {
+        return itemIndex;
+    }
+
+    public void setItemIndex(BoardItemIndex itemIndex) {
+        this.itemIndex = itemIndex;
+    }
 }
@@ -1,6 +1,6 @@
 package com.uni.gamesever.domain.ai;
 
-import com.uni.gamesever.domain.enums.DirectionType;
+import com.uni.gamesever.domain.game.ReachabilityEngine;
 import com.uni.gamesever.domain.model.*;
 
 import java.util.*;
@@ -11,18 +11,12 @@ import java.util.*;
  */
 public class PathfindingService {
 
-    private static final Map<DirectionType, Coordinates> DIRECTION_OFFSETS = new HashMap<>();
-
-    static {
-        DIRECTION_OFFSETS.put(DirectionType.UP, new Coordinates(0, -1));
-        DIRECTION_OFFSETS.put(DirectionType.DOWN, new Coordinates(0, 1));
-        DIRECTION_OFFSETS.put(DirectionType.LEFT, new Coordinates(-1, 0));
-        DIRECTION_OFFSETS.put(DirectionType.RIGHT, new Coordinates(1, 0));
-    }
+    private final ReachabilityEngine engine = new ReachabilityEngine();
+    private long[] blockedCells = new long[0];
 
     /**
      * Findet alle erreichbaren Felder von einer Startposition
-     * Verwendet BFS genau wie der Server (GameManager.canPlayerMove)
+     * Verwendet dieselbe Breitensuche wie der Server (GameManager.canPlayerMove)
      * @param occupiedPositions Positionen anderer Spieler (dürfen nicht betreten werden)
      */
     public Set<Coordinates> findReachableFields(Tile[][] board, Coordinates start, Set<Coordinates> occupiedPositions) {
@@ -32,72 +26,16 @@ public class PathfindingService {
             return reachable;
         }
 
-        if (occupiedPositions == null) {
-            occupiedPositions = new HashSet<>();
-        }
-
         int boardRows = board.length;
         int boardCols = board[0].length;
 
         // Startposition ist immer erreichbar
-        reachable.add(new Coordinates(start.getColumn(), start.getRow()));
-
-        boolean[][] visited = new boolean[boardRows][boardCols];
-        Queue<Coordinates> queue = new LinkedList<>();
-        queue.add(start);
-        visited[start.getRow()][start.getColumn()] = true;
-
-        while (!queue.isEmpty()) {
-            Coordinates current = queue.poll();
-            int currentColumn = current.getColumn();
-            int currentRow = current.getRow();
-
-            Tile tile = getTile(board, current);
-            if (tile == null) {
-                continue;
-            }
-
-            // Prüfe alle Ausgänge des aktuellen Tiles
-            for (DirectionType dir : tile.getEntrances()) {
-                Coordinates offset = DIRECTION_OFFSETS.get(dir);
-                int newColumn = currentColumn + offset.getColumn();
-                int newRow = currentRow + offset.getRow();
-
-                // Außerhalb des Boards?
-                if (newColumn < 0 || newColumn >= boardCols || newRow < 0 || newRow >= boardRows) {
-                    continue;
-                }
-
-                Coordinates neighbor = new Coordinates(newColumn, newRow);
-
-                // WICHTIG: Prüfe ob auf diesem Feld bereits ein anderer Spieler steht!
-                if (isOccupied(neighbor, occupiedPositions)) {
-                    continue;
-                }
-
-                Tile neighborTile = getTile(board, neighbor);
-
-                if (neighborTile == null || visited[newRow][newColumn]) {
-                    continue;
-                }
-
-                // Prüfe ob Nachbar-Tile entgegengesetzte Richtung hat
-                boolean hasOppositeEntrance = false;
-                for (DirectionType neighborDir : neighborTile.getEntrances()) {
-                    if (isOppositeDirection(dir, neighborDir)) {
-                        hasOppositeEntrance = true;
-                        break;
-                    }
-                }
+        engine.search(board, start.getRow(), start.getColumn(), collectBlockedCells(occupiedPositions, boardRows, boardCols));
 
-                if (!hasOppositeEntrance) {
-                    continue;
-                }
-
-                // Feld ist erreichbar!
-                reachable.add(neighbor);
-                queue.add(neighbor);
-                visited[newRow][newColumn] = true;
+        long[] reachableCells = engine.getReachableCells();
+        for (int cell = 0; cell < boardRows * boardCols; cell++) {
+            if (ReachabilityEngine.containsCell(reachableCells, cell)) {
+                reachable.add(new Coordinates(cell % boardCols, cell / boardCols));
             }
         }
 
@@ -105,42 +43,30 @@ public class PathfindingService {
     }
 
     /**
-     * Berechnet die Manhattan-Distanz zwischen zwei Koordinaten
-     */
-    public int calculateDistance(Coordinates from, Coordinates to) {
-        return Math.abs(from.getColumn() - to.getColumn()) + Math.abs(from.getRow() - to.getRow());
-    }
-
-    /**
-     * Prüft ob zwei Richtungen entgegengesetzt sind (wie im Server)
+     * Markiert die Felder anderer Spieler in einem wiederverwendeten Bitset
      */
-    private boolean isOppositeDirection(DirectionType dir1, DirectionType dir2) {
-        return (dir1.equals(DirectionType.UP) && dir2.equals(DirectionType.DOWN)) ||
-               (dir1.equals(DirectionType.DOWN) && dir2.equals(DirectionType.UP)) ||
-               (dir1.equals(DirectionType.LEFT) && dir2.equals(DirectionType.RIGHT)) ||
-               (dir1.equals(DirectionType.RIGHT) && dir2.equals(DirectionType.LEFT));
-    }
-
-    /**
-     * Prüft ob ein Feld von einem anderen Spieler besetzt ist
-     */
-    private boolean isOccupied(Coordinates position, Set<Coordinates> occupiedPositions) {
-        for (Coordinates occupied : occupiedPositions) {
-            if (occupied.getColumn() == position.getColumn() && occupied.getRow() == position.getRow()) {
-                return true;
+    private long[] collectBlockedCells(Set<Coordinates> occupiedPositions, int boardRows, int boardCols) {
+        int length = ReachabilityEngine.bitsetLength(boardRows * boardCols);
+        if (blockedCells.length < length) {
+            blockedCells = new long[length];
+        } else {
+            Arrays.fill(blockedCells, 0L);
+        }
+        if (occupiedPositions != null) {
+            for (Coordinates occupied : occupiedPositions) {
+                if (occupied.getRow() >= 0 && occupied.getRow() < boardRows
+                        && occupied.getColumn() >= 0 && occupied.getColumn() < boardCols) {
+                    ReachabilityEngine.addCell(blockedCells, occupied.getRow() * boardCols + occupied.getColumn());
+                }
             }
         }
-        return false;
+        return blockedCells;
     }
 
     /**
-     * Holt ein Tile an gegebener Position
+     * Berechnet die Manhattan-Distanz zwischen zwei Koordinaten
      */
-    private Tile getTile(Tile[][] board, Coordinates coords) {
-        if (coords.getRow() >= 0 && coords.getRow() < board.length &&
-            coords.getColumn() >= 0 && coords.getColumn() < board[0].length) {
-            return board[coords.getRow()][coords.getColumn()];
-        }
-        return null;
+    public int calculateDistance(Coordinates from, Coordinates to) {
+        return Math.abs(from.getColumn() - to.getColumn()) + Math.abs(from.getRow() - to.getRow());
     }
 }
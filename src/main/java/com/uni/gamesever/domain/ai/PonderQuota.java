@@ -0,0 +1,54 @@
+package com.uni.gamesever.domain.ai;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Rechenzeit-Kontingent eines Raums für Vorausberechnungen der KI. Das
+ * Guthaben wächst gleichmäßig bis zu einer Obergrenze (Token-Bucket).
+ * Vorausberechnungen reservieren vor dem Start und erhalten nicht genutzte
+ * Zeit danach zurück. Alle Werte in Thread-Millisekunden.
+ */
+class PonderQuota {
+    private final long millisPerSecond;
+    private final long maxMillis;
+    private final LongSupplier clockMillis;
+    private long available;
+    private long lastRefill;
+
+    PonderQuota(long millisPerSecond, long maxMillis, LongSupplier clockMillis) {
+        this.millisPerSecond = millisPerSecond;
+        this.maxMillis = maxMillis;
+        this.clockMillis = clockMillis;
+        this.available = maxMillis;
+        this.lastRefill = clockMillis.getAsLong();
+    }
+
+    /**
+     * @return reservierte Rechenzeit, höchstens {@code requestedMillis}
+     */
+    synchronized long reserve(long requestedMillis) {
+        refill();
+        long granted = Math.max(0, Math.min(requestedMillis, available));
+        available -= granted;
+        return granted;
+    }
+
+    /** Gibt den nicht genutzten Teil einer Reservierung zurück. */
+    synchronized void release(long unusedMillis) {
+        available = Math.min(maxMillis, available + Math.max(0, unusedMillis));
+    }
+
+    synchronized long getAvailable() {
+        refill();
+        return available;
+    }
+
+    private void refill() {
+        long now = clockMillis.getAsLong();
+        long earned = (now - lastRefill) * millisPerSecond / 1000;
+        if (earned > 0) {
+            available = Math.min(maxMillis, available + earned);
+            lastRefill = now;
+        }
+    }
+}
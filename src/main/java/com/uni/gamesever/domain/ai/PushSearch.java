@@ -0,0 +1,399 @@
+package com.uni.gamesever.domain.ai;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.uni.gamesever.domain.enums.DirectionType;
+import com.uni.gamesever.domain.game.ReachabilityEngine;
+import com.uni.gamesever.domain.model.Coordinates;
+import com.uni.gamesever.domain.model.EntranceMask;
+import com.uni.gamesever.domain.model.PlayerState;
+import com.uni.gamesever.domain.model.Tile;
+import com.uni.gamesever.domain.model.Treasure;
+
+/**
+ * Suchbasierte Push-Wahl: Jede Kombination aus Rotation der Ersatzkachel und
+ * erlaubtem Push wird auf einer Kopie der Eingangsmasken simuliert und danach
+ * bewertet, wie nah die KI ihrem Schatz bzw. Heimfeld kommt.
+ *
+ * Die Kandidaten werden parallel auf dem gemeinsamen Suchpool bewertet
+ * ({@link com.uni.gamesever.infrastructure.ManagedThreads#getSearchPool()}). Das
+ * Zeitbudget ist hart begrenzt und richtet sich nach der verbleibenden
+ * Zugzeit; nach Ablauf gilt der beste bis dahin bewertete Kandidat.
+ */
+public class PushSearch {
+    static final long MAX_BUDGET_MS = 500;
+    static final long MIN_BUDGET_MS = TurnBudget.MIN_BUDGET_MS;
+    private static final int NO_CELL = -1;
+    private static final int REACHED_SCORE = 1_000_000;
+    private static final DirectionType[] DIRECTIONS = { DirectionType.UP, DirectionType.DOWN, DirectionType.LEFT,
+            DirectionType.RIGHT };
+
+    private static final Logger log = LoggerFactory.getLogger("GAME_LOG");
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private final ForkJoinPool searchPool;
+
+    public PushSearch(ForkJoinPool searchPool) {
+        this.searchPool = searchPool;
+    }
+
+    /** Ergebnis der Suche: gewählte Rotation und Push sowie das angepeilte Feld. */
+    public static class Result {
+        public final int rotations;
+        public final int index;
+        public final DirectionType direction;
+        public final Coordinates moveTarget;
+        public final boolean targetReachable;
+        public final int score;
+
+        Result(int rotations, int index, DirectionType direction, Coordinates moveTarget, boolean targetReachable,
+                int score) {
+            this.rotations = rotations;
+            this.index = index;
+            this.direction = direction;
+            this.moveTarget = moveTarget;
+            this.targetReachable = targetReachable;
+            this.score = score;
+        }
+    }
+
+    private record Candidate(int rotations, int index, DirectionType direction) {
+    }
+
+    /**
+     * Unveränderliche Momentaufnahme des Spielzustands, die sich alle
+     * Suchthreads teilen.
+     */
+    private record Snapshot(int rows, int cols, byte[] masks, int spareMask, int myCell, int[] otherCells,
+            int targetCell, boolean targetOnSpare, boolean targetMovesWithTile) {
+    }
+
+    private static final class Scratch {
+        private final ReachabilityEngine engine = new ReachabilityEngine();
+        private byte[] masks = new byte[0];
+        private long[] blocked = new long[0];
+    }
+
+    /**
+     * @return bester Kandidat oder {@code null}, wenn kein Push erlaubt ist bzw.
+     *         Spielbrett oder Ersatzkachel fehlen
+     */
+    public Result findBestPush(GameState gameState) {
+        Tile[][] board = gameState.getBoard();
+        Tile spareTile = gameState.getSpareTile();
+        if (board == null || board.length == 0 || spareTile == null) {
+            return null;
+        }
+        Snapshot snapshot = createSnapshot(gameState, board, spareTile);
+        List<Candidate> candidates = createCandidates(gameState, board);
+        if (candidates.isEmpty()) {
+            return null;
+        }
+
+        long budgetMillis = computeBudgetMillis(gameState.getTurnEndTime());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        // Auch nach einem Abbruch sollen bereits bewertete Kandidaten sichtbar sein
+        AtomicReferenceArray<Result> results = new AtomicReferenceArray<>(candidates.size());
+
+        ForkJoinTask<?> search = searchPool.submit(() -> IntStream.range(0, candidates.size()).parallel()
+                .forEach(i -> {
+                    if (System.nanoTime() < deadline) {
+                        results.set(i, evaluate(snapshot, candidates.get(i)));
+                    }
+                }));
+        try {
+            search.get(budgetMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            search.cancel(true);
+            log.debug("Push-Suche nach {} ms abgebrochen, nutze bisher besten Kandidaten", budgetMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("Push-Suche fehlgeschlagen: {}", e.getCause().toString());
+        }
+
+        Result best = null;
+        for (int i = 0; i < results.length(); i++) {
+            Result result = results.get(i);
+            if (result != null && (best == null || result.score > best.score)) {
+                best = result;
+            }
+        }
+        return best;
+    }
+
+    static long computeBudgetMillis(String turnEndTime) {
+        return TurnBudget.millis(turnEndTime, MAX_BUDGET_MS);
+    }
+
+    private Snapshot createSnapshot(GameState gameState, Tile[][] board, Tile spareTile) {
+        int rows = board.length;
+        int cols = board[0].length;
+        byte[] masks = new byte[rows * cols];
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                Tile tile = board[row][col];
+                masks[row * cols + col] = tile != null ? (byte) tile.getEntranceMask() : 0;
+            }
+        }
+
+        PlayerState me = gameState.getMyPlayerState();
+        int myCell = toCell(me.getCurrentPosition(), cols);
+        String myId = me.getPlayerInfo() != null ? me.getPlayerInfo().getId() : null;
+        List<Integer> others = new ArrayList<>();
+        for (PlayerState player : gameState.getPlayers()) {
+            if (player == me || player.getPlayerInfo() == null || player.getCurrentPosition() == null
+                    || player.getPlayerInfo().getId().equals(myId)) {
+                continue;
+            }
+            others.add(toCell(player.getCurrentPosition(), cols));
+        }
+
+        int targetCell = NO_CELL;
+        boolean targetOnSpare = false;
+        boolean goingHome = me.getRemainingTreasureCount() == 0 && me.getHomePosition() != null;
+        if (goingHome) {
+            targetCell = toCell(me.getHomePosition(), cols);
+        } else if (me.getCurrentTreasure() != null) {
+            int treasureId = me.getCurrentTreasure().getId();
+            if (hasTreasure(spareTile, treasureId)) {
+                targetOnSpare = true;
+            } else {
+                targetCell = findTreasureCell(board, treasureId);
+            }
+        }
+
+        return new Snapshot(rows, cols, masks, spareTile.getEntranceMask(), myCell,
+                others.stream().mapToInt(Integer::intValue).toArray(), targetCell, targetOnSpare, !goingHome);
+    }
+
+    /**
+     * Alle erlaubten Pushes (ungerade Reihen/Spalten, keine feste Kachel wird
+     * herausgeschoben, kein Zurückschieben) mit allen vier Rotationen.
+     */
+    private List<Candidate> createCandidates(GameState gameState, Tile[][] board) {
+        int rows = board.length;
+        int cols = board[0].length;
+        LastPush lastPush = gameState.getLastPush();
+        List<Candidate> candidates = new ArrayList<>();
+        for (DirectionType direction : DIRECTIONS) {
+            boolean isRow = direction == DirectionType.LEFT || direction == DirectionType.RIGHT;
+            int lineCount = isRow ? rows : cols;
+            for (int index = 1; index < lineCount; index += 2) {
+                if (isPushBack(index, direction, lastPush)) {
+                    continue;
+                }
+                Tile pushedOut = board[pushedOutRow(direction, index, rows)][pushedOutCol(direction, index, cols)];
+                if (pushedOut == null || pushedOut.getIsFixed()) {
+                    continue;
+                }
+                for (int rotations = 0; rotations < EntranceMask.DIRECTIONS; rotations++) {
+                    candidates.add(new Candidate(rotations, index, direction));
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private Result evaluate(Snapshot snapshot, Candidate candidate) {
+        int rows = snapshot.rows();
+        int cols = snapshot.cols();
+        int cells = rows * cols;
+        Scratch scratch = SCRATCH.get();
+        if (scratch.masks.length < cells) {
+            scratch.masks = new byte[cells];
+            scratch.blocked = new long[ReachabilityEngine.bitsetLength(cells)];
+        }
+        byte[] masks = scratch.masks;
+        System.arraycopy(snapshot.masks(), 0, masks, 0, cells);
+        Arrays.fill(scratch.blocked, 0L);
+
+        int spareMask = snapshot.spareMask();
+        for (int i = 0; i < candidate.rotations(); i++) {
+            spareMask = EntranceMask.rotateClockwise(spareMask);
+        }
+        applyPush(masks, rows, cols, candidate.index(), candidate.direction(), (byte) spareMask);
+
+        int myCell = shiftCell(snapshot.myCell(), rows, cols, candidate.index(), candidate.direction());
+        for (int other : snapshot.otherCells()) {
+            ReachabilityEngine.addCell(scratch.blocked,
+                    shiftCell(other, rows, cols, candidate.index(), candidate.direction()));
+        }
+        int targetCell = shiftTarget(snapshot, candidate);
+
+        ReachabilityEngine engine = scratch.engine;
+        int reachableCount = engine.search(masks, rows, cols, myCell, scratch.blocked);
+        if (targetCell != NO_CELL && engine.isReachable(targetCell)) {
+            return new Result(candidate.rotations(), candidate.index(), candidate.direction(),
+                    toCoordinates(targetCell, cols), true, REACHED_SCORE - engine.getDistance(targetCell));
+        }
+
+        // Ziel nicht erreichbar: erreichbares Feld mit kleinster Manhattan-Distanz
+        int bestCell = myCell;
+        int bestDistance = Integer.MAX_VALUE;
+        if (targetCell != NO_CELL) {
+            for (int cell = 0; cell < cells; cell++) {
+                if (!engine.isReachable(cell)) {
+                    continue;
+                }
+                int distance = Math.abs(cell / cols - targetCell / cols) + Math.abs(cell % cols - targetCell % cols);
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    bestCell = cell;
+                }
+            }
+        }
+        int score = targetCell != NO_CELL ? -bestDistance * cells + reachableCount : reachableCount - cells * cells;
+        return new Result(candidate.rotations(), candidate.index(), candidate.direction(),
+                toCoordinates(bestCell, cols), false, score);
+    }
+
+    private static void applyPush(byte[] masks, int rows, int cols, int index, DirectionType direction,
+            byte spareMask) {
+        switch (direction) {
+            case UP:
+                for (int r = 0; r < rows - 1; r++) {
+                    masks[r * cols + index] = masks[(r + 1) * cols + index];
+                }
+                masks[(rows - 1) * cols + index] = spareMask;
+                break;
+            case DOWN:
+                for (int r = rows - 1; r > 0; r--) {
+                    masks[r * cols + index] = masks[(r - 1) * cols + index];
+                }
+                masks[index] = spareMask;
+                break;
+            case LEFT:
+                System.arraycopy(masks, index * cols + 1, masks, index * cols, cols - 1);
+                masks[index * cols + cols - 1] = spareMask;
+                break;
+            case RIGHT:
+                System.arraycopy(masks, index * cols, masks, index * cols + 1, cols - 1);
+                masks[index * cols] = spareMask;
+                break;
+            default:
+                throw new IllegalArgumentException("Keine gültige Richtung: " + direction);
+        }
+    }
+
+    /**
+     * Neue Position eines Felds nach dem Push. Wie bei den Spielfiguren landet
+     * das herausgeschobene Feld auf der eingeschobenen Kachel.
+     */
+    static int shiftCell(int cell, int rows, int cols, int index, DirectionType direction) {
+        int row = cell / cols;
+        int col = cell % cols;
+        switch (direction) {
+            case UP:
+                return col == index ? ((row - 1 + rows) % rows) * cols + col : cell;
+            case DOWN:
+                return col == index ? ((row + 1) % rows) * cols + col : cell;
+            case LEFT:
+                return row == index ? row * cols + (col - 1 + cols) % cols : cell;
+            case RIGHT:
+                return row == index ? row * cols + (col + 1) % cols : cell;
+            default:
+                return cell;
+        }
+    }
+
+    /**
+     * Zielfeld nach dem Push. Ein Schatz wandert mit seiner Kachel; wird er
+     * herausgeschoben, ist er in diesem Zug nicht erreichbar. Das Heimfeld ist
+     * eine feste Koordinate.
+     */
+    private static int shiftTarget(Snapshot snapshot, Candidate candidate) {
+        int rows = snapshot.rows();
+        int cols = snapshot.cols();
+        DirectionType direction = candidate.direction();
+        int index = candidate.index();
+        if (snapshot.targetOnSpare()) {
+            return insertedRow(direction, index, rows) * cols + insertedCol(direction, index, cols);
+        }
+        int targetCell = snapshot.targetCell();
+        if (targetCell == NO_CELL || !snapshot.targetMovesWithTile()) {
+            return targetCell;
+        }
+        int pushedOutCell = pushedOutRow(direction, index, rows) * cols + pushedOutCol(direction, index, cols);
+        if (targetCell == pushedOutCell) {
+            return NO_CELL;
+        }
+        return shiftCell(targetCell, rows, cols, index, direction);
+    }
+
+    private static int pushedOutRow(DirectionType direction, int index, int rows) {
+        return switch (direction) {
+            case UP -> 0;
+            case DOWN -> rows - 1;
+            default -> index;
+        };
+    }
+
+    private static int pushedOutCol(DirectionType direction, int index, int cols) {
+        return switch (direction) {
+            case LEFT -> 0;
+            case RIGHT -> cols - 1;
+            default -> index;
+        };
+    }
+
+    private static int insertedRow(DirectionType direction, int index, int rows) {
+        return switch (direction) {
+            case UP -> rows - 1;
+            case DOWN -> 0;
+            default -> index;
+        };
+    }
+
+    private static int insertedCol(DirectionType direction, int index, int cols) {
+        return switch (direction) {
+            case LEFT -> cols - 1;
+            case RIGHT -> 0;
+            default -> index;
+        };
+    }
+
+    private static boolean isPushBack(int index, DirectionType direction, LastPush lastPush) {
+        if (lastPush == null || lastPush.getRowOrColumnIndex() != index || lastPush.getDirection() == null) {
+            return false;
+        }
+        return EntranceMask.opposite(EntranceMask.of(lastPush.getDirection())) == EntranceMask.of(direction);
+    }
+
+    private static boolean hasTreasure(Tile tile, int treasureId) {
+        Treasure treasure = tile.getTreasure();
+        return treasure != null && treasure.getId() == treasureId;
+    }
+
+    private static int findTreasureCell(Tile[][] board, int treasureId) {
+        for (int row = 0; row < board.length; row++) {
+            for (int col = 0; col < board[row].length; col++) {
+                Tile tile = board[row][col];
+                if (tile != null && hasTreasure(tile, treasureId)) {
+                    return row * board[0].length + col;
+                }
+            }
+        }
+        return NO_CELL;
+    }
+
+    private static int toCell(Coordinates coordinates, int cols) {
+        return coordinates.getRow() * cols + coordinates.getColumn();
+    }
+
+    private static Coordinates toCoordinates(int cell, int cols) {
+        return new Coordinates(cell % cols, cell / cols);
+    }
+}
@@ -5,10 +5,14 @@ import com.uni.gamesever.domain.model.*;
 
 import java.util.*;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
  * Sichere Zug-Strategie: Keine Simulation, nur garantiert gültige Züge
  */
 public class SafeMoveStrategy {
+    private static final Logger log = LoggerFactory.getLogger("GAME_LOG");
 
     private final PathfindingService pathfinding;
 
@@ -18,7 +22,8 @@ public class SafeMoveStrategy {
 
     public static class SafeMoveOption {
         public Coordinates targetPosition;
-        public int distanceToTarget;  // Distanz zu Schatz ODER Home
+        public int distanceToTarget;  // Wegdistanz zu Schatz ODER Home, ohne Verbindung Manhattan-Distanz
+        public int pushesToTarget;    // Geschätzte Pushes bis zur Verbindung mit dem Ziel (0 = verbunden)
         public boolean isCurrentPosition;
         public boolean isGoingHome;   // True wenn Ziel die Heimatposition ist
 
@@ -30,8 +35,8 @@ public class SafeMoveStrategy {
         @Override
         public String toString() {
             String targetType = isGoingHome ? "HOME" : "SCHATZ";
-            return String.format("Go to (%d,%d), distance to %s: %d%s",
-                targetPosition.getColumn(), targetPosition.getRow(), targetType, distanceToTarget,
+            return String.format("Go to (%d,%d), distance to %s: %d, pushes: %d%s",
+                targetPosition.getColumn(), targetPosition.getRow(), targetType, distanceToTarget, pushesToTarget,
                 isCurrentPosition ? " (STAY)" : "");
         }
     }
@@ -60,23 +65,23 @@ public class SafeMoveStrategy {
         if (myPlayer.getRemainingTreasureCount() == 0) {
             // Alle Schätze gesammelt → Ab nach Hause!
             Coordinates home = myPlayer.getHomePosition();
-            System.out.println("🏠🏠🏠 AI-ZIEL: ALLE SCHÄTZE GESAMMELT! Gehe nach Hause um zu GEWINNEN!");
-            System.out.println("       Heimatposition: (" + home.getColumn() + "," + home.getRow() + ")");
-            System.out.println("       RemainingTreasureCount: " + myPlayer.getRemainingTreasureCount());
+            log.debug("AI-ZIEL: ALLE SCHÄTZE GESAMMELT! Gehe nach Hause um zu GEWINNEN!");
+            log.debug("Heimatposition: ({},{})", home.getColumn(), home.getRow());
+            log.debug("RemainingTreasureCount: {}", myPlayer.getRemainingTreasureCount());
             return new TargetInfo(new Coordinates(home.getColumn(), home.getRow()), true);
         }
 
         // Noch Schätze zu sammeln
         Treasure currentTreasure = myPlayer.getCurrentTreasure();
         if (currentTreasure != null) {
-            Coordinates treasurePos = findTreasurePosition(board, currentTreasure.getId());
-            System.out.println("💎 AI-ZIEL: Suche Schatz #" + currentTreasure.getId());
-            System.out.println("   Verbleibende Schätze: " + myPlayer.getRemainingTreasureCount());
+            Coordinates treasurePos = findTreasurePosition(gameState, board, currentTreasure.getId());
+            log.debug("AI-ZIEL: Suche Schatz #{}", currentTreasure.getId());
+            log.debug("Verbleibende Schätze: {}", myPlayer.getRemainingTreasureCount());
             return new TargetInfo(treasurePos, false);
         }
 
         // Kein Schatz und keine Home-Bedingung → Fallback (sollte nie passieren)
-        System.out.println("⚠️ WARNUNG: Kein Ziel gefunden! RemainingCount=" + myPlayer.getRemainingTreasureCount());
+        log.warn("WARNUNG: Kein Ziel gefunden! RemainingCount={}", myPlayer.getRemainingTreasureCount());
         return new TargetInfo(null, false);
     }
 
@@ -97,6 +102,19 @@ public class SafeMoveStrategy {
         // Ermittle Ziel (Schatz oder Home)
         TargetInfo target = determineTarget(gameState);
 
+        // Distanzfelder zum Ziel: Wegdistanz und geschätzte Pushes bis zur Verbindung
+        int[] pathDistances = null;
+        int[] pushDistances = null;
+        if (target.position != null) {
+            DistanceFields fields = gameState.getDistanceFields();
+            if (fields == null) {
+                fields = new DistanceFields(board.length, board[0].length);
+            }
+            pathDistances = fields.pathDistances(board, target.position.getRow(), target.position.getColumn());
+            pushDistances = fields.pushDistances(board, target.position.getRow(), target.position.getColumn());
+        }
+        int cols = board[0].length;
+
         List<SafeMoveOption> options = new ArrayList<>();
 
         for (Coordinates reachablePos : reachable) {
@@ -107,16 +125,22 @@ public class SafeMoveStrategy {
             option.isGoingHome = target.isHome;
 
             if (target.position != null) {
-                option.distanceToTarget = pathfinding.calculateDistance(reachablePos, target.position);
+                int cell = reachablePos.getRow() * cols + reachablePos.getColumn();
+                option.pushesToTarget = pushDistances[cell];
+                option.distanceToTarget = pathDistances[cell] != DistanceFields.UNREACHABLE
+                        ? pathDistances[cell]
+                        : pathfinding.calculateDistance(reachablePos, target.position);
             } else {
                 option.distanceToTarget = 999;
+                option.pushesToTarget = DistanceFields.UNREACHABLE;
             }
 
             options.add(option);
         }
 
-        // Sortiere: Nächste zum Ziel zuerst
-        options.sort(Comparator.comparingInt(o -> o.distanceToTarget));
+        // Sortiere: Wenigste Pushes bis zur Verbindung zuerst, dann nächste zum Ziel
+        options.sort(Comparator.<SafeMoveOption>comparingInt(o -> o.pushesToTarget)
+                .thenComparingInt(o -> o.distanceToTarget));
 
         // WICHTIG: Entferne die aktuelle Position, WENN es mindestens eine andere Option gibt
         // Die AI soll sich immer bewegen, außer wenn es absolut keine andere Wahl gibt!
@@ -130,15 +154,15 @@ public class SafeMoveStrategy {
 
             // Nur wenn es wirklich Bewegungsoptionen gibt, verwende diese
             if (!movingOptions.isEmpty()) {
-                System.out.println("✅ Filter aktuelle Position heraus - AI bewegt sich!");
-                System.out.println("   Optionen ohne Stillstand: " + movingOptions.size());
+                log.debug("Filter aktuelle Position heraus - AI bewegt sich!");
+                log.debug("Optionen ohne Stillstand: {}", movingOptions.size());
                 return movingOptions;
             }
         }
 
         // Fallback: Nur wenn absolut keine Bewegung möglich ist, bleibe stehen
         if (options.size() == 1 && options.get(0).isCurrentPosition) {
-            System.out.println("⚠️  Keine Bewegung möglich - AI bleibt stehen");
+            log.debug("Keine Bewegung möglich - AI bleibt stehen");
         }
 
         return options;
@@ -151,13 +175,13 @@ public class SafeMoveStrategy {
         LastPush lastPush = gameState.getLastPush();
         int boardSize = gameState.getBoard().length;
 
-        System.out.println("\n🔍 === PUSH-BACK DETECTION ===");
+        log.debug("=== PUSH-BACK DETECTION ===");
         if (lastPush != null) {
-            System.out.println("LastPush: Index=" + lastPush.getRowOrColumnIndex() + ", Direction=" + lastPush.getDirection());
+            log.debug("LastPush: Index={}, Direction={}", lastPush.getRowOrColumnIndex(), lastPush.getDirection());
         } else {
-            System.out.println("LastPush: null (erster Zug)");
+            log.debug("LastPush: null (erster Zug)");
         }
-        System.out.println("================================\n");
+        log.debug("================================");
 
         List<Integer> validIndices = new ArrayList<>();
         for (int i = 1; i < boardSize; i += 2) {
@@ -173,21 +197,21 @@ public class SafeMoveStrategy {
             for (DirectionType dir : directions) {
                 if (!isInvalidPush(index, dir, lastPush)) {
                     validPushes.add(new PushInfo(index, dir));
-                    System.out.println("✅ GÜLTIG: Index=" + index + ", Dir=" + dir);
+                    log.debug("GÜLTIG: Index={}, Dir={}", index, dir);
                 } else {
-                    System.out.println("⛔ VERBOTEN (Push-Back): Index=" + index + ", Dir=" + dir);
+                    log.debug("VERBOTEN (Push-Back): Index={}, Dir={}", index, dir);
                 }
             }
         }
 
         if (validPushes.isEmpty()) {
-            System.out.println("⚠️  KRITISCHER FEHLER: Keine gültigen Pushes! Verwende Fallback");
+            log.warn("KRITISCHER FEHLER: Keine gültigen Pushes! Verwende Fallback");
             return new PushInfo(1, DirectionType.DOWN);
         }
 
         // Wähle zufällig einen gültigen Push
         PushInfo chosen = validPushes.get(new java.util.Random().nextInt(validPushes.size()));
-        System.out.println("🎯 Gewählter Push: Index=" + chosen.index + ", Dir=" + chosen.direction + "\n");
+        log.debug("Gewählter Push: Index={}, Dir={}", chosen.index, chosen.direction);
 
         return chosen;
     }
@@ -222,7 +246,7 @@ public class SafeMoveStrategy {
                             (lastDirection == DirectionType.RIGHT && direction == DirectionType.LEFT);
 
         if (isOpposite) {
-            System.out.println("    → ⚠️  PUSH-BACK ERKANNT: Index=" + index + ", Last=" + lastDirection + ", Neu=" + direction);
+            log.debug("PUSH-BACK ERKANNT: Index={}, Last={}, Neu={}", index, lastDirection, direction);
         }
 
         return isOpposite;
@@ -245,9 +269,20 @@ public class SafeMoveStrategy {
         return occupied;
     }
 
-    private Coordinates findTreasurePosition(Tile[][] board, int treasureId) {
+    private Coordinates findTreasurePosition(GameState gameState, Tile[][] board, int treasureId) {
         if (treasureId < 0) return null;
 
+        // Index des Server-Bretts: O(1) statt Suche über alle Felder
+        BoardItemIndex itemIndex = gameState.getItemIndex();
+        if (itemIndex != null) {
+            int cell = itemIndex.getTreasureCell(treasureId);
+            if (cell == BoardItemIndex.NO_CELL || cell == itemIndex.getSpareCell()) {
+                return null;
+            }
+            int cols = board[0].length;
+            return new Coordinates(cell % cols, cell / cols);
+        }
+
         for (int row = 0; row < board.length; row++) {
             for (int col = 0; col < board[0].length; col++) {
                 Tile tile = board[row][col];
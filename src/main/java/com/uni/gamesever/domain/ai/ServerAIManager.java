@@ -1,6 +1,8 @@
 package com.uni.gamesever.domain.ai;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.uni.gamesever.domain.ai.llm.LlmClient;
+import com.uni.gamesever.domain.ai.mcts.MctsDecisionProvider;
 import com.uni.gamesever.domain.enums.BonusType;
 import com.uni.gamesever.domain.enums.DirectionType;
 import com.uni.gamesever.domain.exceptions.NotPlayersTurnException;
@@ -9,30 +11,67 @@ import com.uni.gamesever.domain.exceptions.UserNotFoundException;
 import com.uni.gamesever.domain.game.GameManager;
 import com.uni.gamesever.domain.game.PlayerManager;
 import com.uni.gamesever.domain.model.*;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Lazy;
-import org.springframework.stereotype.Service;
+import com.uni.gamesever.infrastructure.GameEventLogger;
+import com.uni.gamesever.infrastructure.GameMailbox;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Server AI Manager - Manages AI instances for disconnected players
  * Handles AI activation, deactivation, and decision execution
+ *
+ * Entscheidungen werden auf dem KI-Executor berechnet, nie auf dem Thread der
+ * Befehlswarteschlange; ausgeführt werden sie wieder über die Warteschlange.
+ * Die KI erhält dafür eine Momentaufnahme des Spielzustands.
+ *
+ * Während fremder Züge rechnen KI-Spieler im Hintergrund voraus. Die dafür
+ * genutzte Rechenzeit ist pro Raum durch ein {@link PonderQuota} begrenzt.
  */
-@Service
 public class ServerAIManager {
-    private final Map<String, AIServiceSafe> aiInstances = new ConcurrentHashMap<>();
+    private final Map<String, DecisionProvider> aiInstances = new ConcurrentHashMap<>();
     private final Map<String, Boolean> aiActiveFlags = new ConcurrentHashMap<>();
+    private static final long MOVE_DELAY_AFTER_PUSH_MS = 200;
+    private static final Logger log = LoggerFactory.getLogger("GAME_LOG");
     private final PlayerManager playerManager;
-    private final GameManager gameManager;
-
-    @Autowired
-    public ServerAIManager(PlayerManager playerManager, @Lazy GameManager gameManager) {
+    private GameManager gameManager;
+    private final GameMailbox gameMailbox;
+    private final Semaphore aiTurnPermits;
+    private final Executor aiExecutor;
+    private final ForkJoinPool searchPool;
+    private final ForkJoinPool ponderPool;
+    private final GameEventLogger gameEventLogger;
+    private final String roomId;
+    private final PonderQuota ponderQuota = new PonderQuota(AIConfig.getPonderQuotaMillisPerSecond(),
+            AIConfig.getPonderQuotaMaxMillis(), System::currentTimeMillis);
+    // Reservierte Rechenzeit der laufenden Vorausberechnung je KI-Spieler
+    private final Map<String, Long> ponderReservations = new ConcurrentHashMap<>();
+
+    public ServerAIManager(PlayerManager playerManager, GameManager gameManager, GameMailbox gameMailbox,
+            Semaphore aiTurnPermits, Executor aiExecutor, ForkJoinPool searchPool, ForkJoinPool ponderPool,
+            GameEventLogger gameEventLogger, String roomId) {
         this.playerManager = playerManager;
         this.gameManager = gameManager;
+        this.gameMailbox = gameMailbox;
+        this.aiTurnPermits = aiTurnPermits;
+        this.aiExecutor = aiExecutor;
+        this.searchPool = searchPool;
+        this.ponderPool = ponderPool;
+        this.gameEventLogger = gameEventLogger;
+        this.roomId = roomId;
+    }
+
+    public void setGameManager(GameManager gameManager) {
+        this.gameManager = gameManager;
     }
 
     /**
@@ -45,17 +84,30 @@ public class ServerAIManager {
             aiActiveFlags.put(identifierToken, true);
             // Lazy-initialize AI instance
             if (!aiInstances.containsKey(identifierToken)) {
-                String apiKey = AIConfig.getApiKey();
-                if (apiKey != null) {
-                    aiInstances.put(identifierToken, new AIServiceSafe(apiKey));
-                    System.out.println("🤖 AI instance created for player: " + identifierToken);
-                } else {
-                    System.err.println("❌ Cannot create AI: OpenAI API key not available");
-                }
+                aiInstances.put(identifierToken, createDecisionProvider());
+                log.debug("AI instance created for player: {}", identifierToken);
             }
         }
     }
 
+    /**
+     * Lokale Baumsuche bei {@code AI_ENGINE=mcts}. Sonst die LLM-gestützte KI
+     * über den gemeinsamen Client; antwortet sie nicht rechtzeitig, entscheidet
+     * die lokale Suche. Ohne API-Key nur die lokale Suche.
+     */
+    private DecisionProvider createDecisionProvider() {
+        if (AIConfig.isMctsEngine()) {
+            return new MctsDecisionProvider(searchPool, ponderPool);
+        }
+        String apiKey = AIConfig.getApiKey();
+        if (apiKey == null) {
+            return new AIServiceSafe(searchPool);
+        }
+        return new FallbackDecisionProvider(new AIServiceSafe(LlmClient.shared(apiKey), searchPool),
+                new AIServiceSafe(searchPool),
+                aiExecutor, AIConfig.getDecisionDeadlineMillis());
+    }
+
     /**
      * Deactivates AI when player reconnects
      * 
@@ -63,8 +115,9 @@ public class ServerAIManager {
      */
     public void deactivateAI(String identifierToken) {
         aiActiveFlags.put(identifierToken, false);
+        stopPondering(identifierToken);
         // Keep AI instance cached for potential future use
-        System.out.println("🤖 AI deactivated for player: " + identifierToken);
+        log.debug("AI deactivated for player: {}", identifierToken);
     }
 
     /**
@@ -82,66 +135,156 @@ public class ServerAIManager {
      * @param identifierToken Der fixe Token des Spielers
      */
     public void executeAITurn(String identifierToken) throws Exception {
+        executeAITurn(identifierToken, null);
+    }
+
+    /**
+     * Startet den KI-Zug. Die Entscheidung wird auf dem KI-Executor berechnet,
+     * der Zug danach über die Befehlswarteschlange ausgeführt. Hat sich der Zug
+     * inzwischen erledigt (Reconnect, Zug-Timeout), wird die Entscheidung
+     * verworfen.
+     *
+     * @param identifierToken Der fixe Token des Spielers
+     * @param onFailure       läuft auf der Befehlswarteschlange, wenn
+     *                        Entscheidung oder Ausführung scheitern; darf
+     *                        {@code null} sein
+     */
+    public void executeAITurn(String identifierToken, GameMailbox.Command onFailure) throws Exception {
         if (!isAIActive(identifierToken)) {
-            System.out.println("⚠️ AI not active for player: " + identifierToken);
+            log.debug("AI not active for player: {}", identifierToken);
             return;
         }
 
-        AIServiceSafe ai = aiInstances.get(identifierToken);
+        stopPondering(identifierToken);
+        DecisionProvider ai = aiInstances.get(identifierToken);
         if (ai == null) {
-            System.err.println("❌ No AI instance for player: " + identifierToken);
+            log.warn("No AI instance for player: {}", identifierToken);
             executeRandomFallback(identifierToken);
             return;
         }
 
-        try {
-            // Build GameState from server data
-            GameState gameState = buildGameStateForPlayer(identifierToken);
-
-            // Get AI decision
-            AIDecision decision = ai.getNextMove(gameState);
-            System.out.println("🤖 AI Decision: " + decision.getReasoning());
-
+        // Build GameState from server data
+        GameState gameState = buildGameStateForPlayer(identifierToken);
+        requestDecision(identifierToken, ai, gameState, decision -> {
+            log.debug("AI Decision: {}", decision.getReasoning());
             // Execute decision through GameManager
             executeDecision(identifierToken, decision, gameState);
+        }, onFailure);
+    }
 
-        } catch (Exception e) {
-            System.err.println("❌ AI execution failed for player " + identifierToken + ": " + e.getMessage());
-            e.printStackTrace();
-            // Fallback: skip turn (GameManager will handle this)
-            throw e;
+    /**
+     * Startet für alle KI-Spieler, die nicht am Zug sind, die Vorausberechnung
+     * ab der aktuellen Stellung. Aufruf bei jedem Zugwechsel; laufende
+     * Vorausberechnungen des vorigen Zugs werden beendet.
+     */
+    public void startPondering() {
+        stopAllPondering();
+        PlayerInfo currentPlayer = playerManager.getCurrentPlayer();
+        if (currentPlayer == null || currentPlayer.getIdentifierToken() == null) {
+            return;
+        }
+        List<String> ponderers = new ArrayList<>();
+        for (String identifierToken : aiInstances.keySet()) {
+            if (isAIActive(identifierToken) && !identifierToken.equals(currentPlayer.getIdentifierToken())) {
+                ponderers.add(identifierToken);
+            }
+        }
+        if (ponderers.isEmpty()) {
+            return;
+        }
+
+        // Momentaufnahme, da die Vorausberechnung neben der Befehlswarteschlange läuft
+        GameState gameState = buildGameStateForPlayer(currentPlayer.getIdentifierToken());
+        int workers = AIConfig.getPonderWorkers();
+        long turnMillis = Math.min(AIConfig.getPonderMaxMillis(),
+                TurnBudget.remainingMillis(gameState.getTurnEndTime(), AIConfig.getPonderMaxMillis()));
+        long share = ponderQuota.getAvailable() / ponderers.size();
+        for (String identifierToken : ponderers) {
+            long reserved = ponderQuota.reserve(Math.min(turnMillis * workers, share));
+            long maxMillis = reserved / workers;
+            if (maxMillis < TurnBudget.MIN_BUDGET_MS) {
+                ponderQuota.release(reserved);
+                continue;
+            }
+            ponderReservations.put(identifierToken, reserved);
+            aiInstances.get(identifierToken).startPondering(gameState, maxMillis);
+        }
+    }
+
+    /**
+     * Meldet den realen Push des Spielers am Zug an alle vorausrechnenden
+     * KI-Spieler
+     */
+    public void onRealPush(int rowOrColIndex, DirectionType direction) {
+        LastPush push = new LastPush(rowOrColIndex, direction);
+        for (String identifierToken : ponderReservations.keySet()) {
+            DecisionProvider ai = aiInstances.get(identifierToken);
+            if (ai != null) {
+                ai.onRealPush(push);
+            }
+        }
+    }
+
+    public void stopAllPondering() {
+        for (String identifierToken : new ArrayList<>(ponderReservations.keySet())) {
+            stopPondering(identifierToken);
+        }
+    }
+
+    /** Beendet die Vorausberechnung und gibt ungenutzte Rechenzeit zurück. */
+    private void stopPondering(String identifierToken) {
+        Long reserved = ponderReservations.remove(identifierToken);
+        if (reserved == null) {
+            return;
         }
+        DecisionProvider ai = aiInstances.get(identifierToken);
+        long used = ai != null ? ai.stopPondering() : 0;
+        ponderQuota.release(reserved - used);
     }
 
     /**
-     * Builds GameState from server models
+     * Builds GameState from server models. Kacheln und Spielerstände werden
+     * kopiert: die KI rechnet auf einem anderen Thread, während die
+     * Befehlswarteschlange das Brett weiter verändert.
      * 
      * @param identifierToken Der fixe Token des Spielers (ändert sich nicht bei
      *                        Reconnect)
      */
     private GameState buildGameStateForPlayer(String identifierToken) {
         GameState gameState = new GameState();
+        GameBoard board = gameManager.getCurrentBoard();
 
         // Set board
-        gameState.setBoard(gameManager.getCurrentBoard().getTiles());
+        Tile[][] tiles = board.getTiles();
+        Tile[][] tilesCopy = new Tile[tiles.length][];
+        for (int row = 0; row < tiles.length; row++) {
+            tilesCopy[row] = new Tile[tiles[row].length];
+            for (int col = 0; col < tiles[row].length; col++) {
+                tilesCopy[row][col] = tiles[row][col] != null ? tiles[row][col].copy() : null;
+            }
+        }
+        gameState.setBoard(tilesCopy);
+        gameState.setSpareTile(board.getSpareTile() != null ? board.getSpareTile().copy() : null);
+        // Distanzfelder und Index gehören zum Live-Brett; eigene Distanzfelder für die Kopie,
+        // Schätze werden ohne Index auf den kopierten Kacheln gesucht
+        gameState.setDistanceFields(new DistanceFields(board.getRows(), board.getCols()));
 
-        // Set players
-        PlayerState[] serverPlayers = playerManager.getNonNullPlayerStates();
+        // Set players - WICHTIG: Suche nach identifierToken, nicht nach ID!
+        PlayerState myPlayer = playerManager.getPlayerStateByIdentifierToken(identifierToken);
         List<PlayerState> playerList = new ArrayList<>();
-        for (PlayerState player : serverPlayers) {
-            if (player != null) {
-                playerList.add(player);
+        for (PlayerState player : playerManager.getNonNullPlayerStates()) {
+            PlayerState playerCopy = copyPlayerState(player);
+            playerList.add(playerCopy);
+            if (player == myPlayer) {
+                gameState.setMyPlayerState(playerCopy);
             }
         }
         gameState.setPlayers(playerList);
-
-        // Set my player - WICHTIG: Suche nach identifierToken, nicht nach ID!
-        PlayerState myPlayer = playerManager.getPlayerStateByIdentifierToken(identifierToken);
-        gameState.setMyPlayerState(myPlayer);
         gameState.setMyPlayerId(identifierToken);
 
         // Set turn state
         gameState.setCurrentTurnState(gameManager.getTurnInfo().getState());
+        gameState.setTurnEndTime(gameManager.getTurnInfo().getTurnEndTime());
 
         // Set last push (convert PushActionInfo to LastPush)
         PushActionInfo serverLastPush = gameManager.getCurrentBoard().getLastPush();
@@ -155,6 +298,24 @@ public class ServerAIManager {
         return gameState;
     }
 
+    private static PlayerState copyPlayerState(PlayerState player) {
+        PlayerState copy = new PlayerState(player.getPlayerInfo(), copyCoordinates(player.getCurrentPosition()),
+                copyCoordinates(player.getHomePosition()), player.getCurrentTreasure(),
+                player.getRemainingTreasureCount());
+        copy.setTreasuresFound(new ArrayList<>(player.getTreasuresFound()));
+        if (player.getAssignedTreasures() != null) {
+            copy.setAssignedTreasures(new ArrayList<>(player.getAssignedTreasures()));
+        }
+        if (player.getAvailableBonuses() != null) {
+            copy.setAvailableBonuses(player.getAvailableBonuses().clone());
+        }
+        return copy;
+    }
+
+    private static Coordinates copyCoordinates(Coordinates coordinates) {
+        return coordinates != null ? new Coordinates(coordinates.getColumn(), coordinates.getRow()) : null;
+    }
+
     /**
      * Executes AI decision through GameManager
      * 
@@ -167,7 +328,7 @@ public class ServerAIManager {
         // aktuelle ID!)
         PlayerInfo player = playerManager.getPlayerByIdentifierToken(identifierToken);
         if (player == null) {
-            System.err.println("❌ Player not found for identifierToken: " + identifierToken);
+            log.warn("Player not found for identifierToken: {}", identifierToken);
             return;
         }
         String currentSessionId = player.getId();
@@ -189,17 +350,36 @@ public class ServerAIManager {
             GameState gameState) throws Exception {
         // Check if player reconnected mid-execution
         if (!isAIActive(identifierToken)) {
-            System.out.println("🔄 Player reconnected during PUSH phase, aborting AI execution");
+            log.debug("Player reconnected during PUSH phase, aborting AI execution");
             return;
         }
 
+        // BEAM und SWAP ersetzen den Push, danach folgt nur noch die Bewegung
+        if (decision.getUseBonus() == BonusType.BEAM || decision.getUseBonus() == BonusType.SWAP) {
+            try {
+                if (decision.getUseBonus() == BonusType.BEAM) {
+                    gameManager.handleUseBeam(decision.getBeamTarget(), currentSessionId);
+                } else {
+                    gameManager.handleUseSwap(decision.getSwapTargetPlayerId(), currentSessionId);
+                }
+                log.debug("AI used {} bonus", decision.getUseBonus());
+                if (gameManager.getTurnInfo().getState() == TurnState.WAITING_FOR_MOVE) {
+                    gameMailbox.postDelayed(MOVE_DELAY_AFTER_PUSH_MS,
+                            () -> executeMovePhaseAfterPush(identifierToken));
+                }
+                return;
+            } catch (Exception e) {
+                log.warn("{} failed: {}", decision.getUseBonus(), e.getMessage());
+            }
+        }
+
         // Check if using PUSH_TWICE or PUSH_FIXED bonuses
         if (decision.getUseBonus() == BonusType.PUSH_TWICE) {
             try {
                 gameManager.handleUsePushTwice(currentSessionId);
-                System.out.println("🎁 AI used PUSH_TWICE bonus");
+                log.debug("AI used PUSH_TWICE bonus");
             } catch (Exception e) {
-                System.err.println("⚠️ PUSH_TWICE failed: " + e.getMessage());
+                log.warn("PUSH_TWICE failed: {}", e.getMessage());
             }
         }
 
@@ -209,12 +389,12 @@ public class ServerAIManager {
                         decision.getPushDirection(),
                         decision.getPushRowOrCol(),
                         currentSessionId);
-                System.out.println("🎁 AI used PUSH_FIXED bonus");
+                log.debug("AI used PUSH_FIXED bonus");
                 // Push Fixed does rotation + push in one call, then move to MOVE phase
                 executeMovePhaseAfterPush(identifierToken);
                 return;
             } catch (Exception e) {
-                System.err.println("⚠️ PUSH_FIXED failed: " + e.getMessage());
+                log.warn("PUSH_FIXED failed: {}", e.getMessage());
             }
         }
 
@@ -224,9 +404,9 @@ public class ServerAIManager {
                 return; // Check reconnection
             try {
                 gameManager.handleRotateTile(currentSessionId);
-                System.out.println("🔄 AI rotated spare tile (" + (i + 1) + "/" + decision.getRotations() + ")");
+                log.debug("AI rotated spare tile ({}/{})", (i + 1), decision.getRotations());
             } catch (Exception e) {
-                System.err.println("⚠️ Rotation failed: " + e.getMessage());
+                log.warn("Rotation failed: {}", e.getMessage());
             }
         }
 
@@ -238,16 +418,80 @@ public class ServerAIManager {
                     currentSessionId,
                     false // not using push fixed
             );
-            System.out.println(
-                    "⬆️ AI pushed: Index=" + decision.getPushRowOrCol() + ", Dir=" + decision.getPushDirection());
+            log.debug("AI pushed: Index={}, Dir={}", decision.getPushRowOrCol(), decision.getPushDirection());
         } catch (PushNotValidException | NotPlayersTurnException e) {
-            System.err.println("⚠️ Push failed: " + e.getMessage());
+            log.warn("Push failed: {}", e.getMessage());
             throw e;
         }
 
-        // After push, wait a bit then execute move
-        Thread.sleep(200);
-        executeMovePhaseAfterPush(identifierToken);
+        // After push, wait a bit then execute move. Die Wartezeit blockiert die
+        // Befehlswarteschlange des Raums nicht.
+        gameMailbox.postDelayed(MOVE_DELAY_AFTER_PUSH_MS, () -> executeMovePhaseAfterPush(identifierToken));
+    }
+
+    private interface DecisionHandler {
+        void accept(AIDecision decision) throws Exception;
+    }
+
+    /**
+     * Fragt den KI-Dienst auf dem KI-Executor nach einer Entscheidung und
+     * übergibt sie über die Befehlswarteschlange an {@code onDecision}. Die
+     * Anzahl gleichzeitiger Anfragen über alle Räume ist durch die Permits
+     * begrenzt; gewartet wird dabei auf dem KI-Executor, nicht in der
+     * Warteschlange.
+     */
+    private void requestDecision(String identifierToken, DecisionProvider ai, GameState gameState,
+            DecisionHandler onDecision, GameMailbox.Command onFailure) {
+        TurnState phase = gameState.getCurrentTurnState();
+        String turnEndTime = gameState.getTurnEndTime();
+        long decisionStart = System.nanoTime();
+        aiExecutor.execute(() -> {
+            AIDecision decision = null;
+            Exception failure = null;
+            try {
+                aiTurnPermits.acquire();
+                try {
+                    decision = ai.getNextMove(gameState);
+                } finally {
+                    aiTurnPermits.release();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                failure = e;
+            }
+            AIDecision result = decision;
+            Exception error = failure;
+            gameMailbox.post(() -> {
+                gameEventLogger.record(GameEventLogger.Category.AI, "AI_DECISION", roomId, identifierToken,
+                        System.nanoTime() - decisionStart);
+                if (!isStillOnTurn(identifierToken, phase, turnEndTime)) {
+                    log.debug("Turn of {} changed during AI decision, discarding it", identifierToken);
+                    return;
+                }
+                try {
+                    if (error != null) {
+                        throw error;
+                    }
+                    onDecision.accept(result);
+                } catch (Exception e) {
+                    log.warn("AI execution failed for player {}", identifierToken, e);
+                    if (onFailure != null) {
+                        onFailure.execute();
+                    }
+                }
+            });
+        });
+    }
+
+    /** Ist der KI-Spieler noch in derselben Phase desselben Zugs am Zug? */
+    private boolean isStillOnTurn(String identifierToken, TurnState phase, String turnEndTime) {
+        PlayerInfo currentPlayer = playerManager.getCurrentPlayer();
+        return isAIActive(identifierToken) && currentPlayer != null
+                && identifierToken.equals(currentPlayer.getIdentifierToken())
+                && gameManager.getTurnInfo().getState() == phase
+                && Objects.equals(gameManager.getTurnInfo().getTurnEndTime(), turnEndTime);
     }
 
     /**
@@ -256,7 +500,7 @@ public class ServerAIManager {
     private void executeMovePhaseAfterPush(String identifierToken) throws Exception {
         // Check if player reconnected
         if (!isAIActive(identifierToken)) {
-            System.out.println("🔄 Player reconnected during transition, aborting AI execution");
+            log.debug("Player reconnected during transition, aborting AI execution");
             return;
         }
 
@@ -264,25 +508,33 @@ public class ServerAIManager {
         GameState updatedState = buildGameStateForPlayer(identifierToken);
 
         // Get AI instance
-        AIServiceSafe ai = aiInstances.get(identifierToken);
+        DecisionProvider ai = aiInstances.get(identifierToken);
         if (ai == null) {
-            System.err.println("❌ No AI instance for move phase");
+            log.warn("No AI instance for move phase");
             return;
         }
 
         // Get move decision for updated board state
-        AIDecision moveDecision = ai.getNextMove(updatedState);
-        System.out.println("🤖 AI Move Decision: " + moveDecision.getReasoning());
+        requestDecision(identifierToken, ai, updatedState, moveDecision -> {
+            log.debug("AI Move Decision: {}", moveDecision.getReasoning());
 
-        // Convert identifierToken to currentSessionId for GameManager calls
-        PlayerInfo player = playerManager.getPlayerByIdentifierToken(identifierToken);
-        if (player == null) {
-            System.err.println("❌ Player not found for identifierToken: " + identifierToken);
-            return;
-        }
-        String currentSessionId = player.getId();
+            // Convert identifierToken to currentSessionId for GameManager calls
+            PlayerInfo player = playerManager.getPlayerByIdentifierToken(identifierToken);
+            if (player == null) {
+                log.warn("Player not found for identifierToken: {}", identifierToken);
+                return;
+            }
+            String currentSessionId = player.getId();
 
-        executeMovePhase(identifierToken, currentSessionId, moveDecision, updatedState);
+            // Nach PUSH_TWICE steht noch der zweite Push aus
+            if (updatedState.getCurrentTurnState() == TurnState.WAITING_FOR_PUSH) {
+                moveDecision.setUseBonus(null);
+                executePushPhase(identifierToken, currentSessionId, moveDecision, updatedState);
+                return;
+            }
+
+            executeMovePhase(identifierToken, currentSessionId, moveDecision, updatedState);
+        }, null);
     }
 
     /**
@@ -295,7 +547,7 @@ public class ServerAIManager {
             GameState gameState) throws Exception {
         // Check if player reconnected
         if (!isAIActive(identifierToken)) {
-            System.out.println("🔄 Player reconnected during MOVE phase, aborting AI execution");
+            log.debug("Player reconnected during MOVE phase, aborting AI execution");
             return;
         }
 
@@ -305,10 +557,10 @@ public class ServerAIManager {
                 gameManager.handleUseBeam(
                         decision.getBeamTarget(),
                         currentSessionId);
-                System.out.println("🎁 AI used BEAM bonus to " + decision.getBeamTarget());
+                log.debug("AI used BEAM bonus to {}", decision.getBeamTarget());
                 return; // GameManager handles turn transition
             } catch (Exception e) {
-                System.err.println("⚠️ BEAM failed: " + e.getMessage());
+                log.warn("BEAM failed: {}", e.getMessage());
             }
         }
 
@@ -317,10 +569,10 @@ public class ServerAIManager {
                 gameManager.handleUseSwap(
                         decision.getSwapTargetPlayerId(),
                         currentSessionId);
-                System.out.println("🎁 AI used SWAP bonus with player " + decision.getSwapTargetPlayerId());
+                log.debug("AI used SWAP bonus with player {}", decision.getSwapTargetPlayerId());
                 return; // GameManager handles turn transition
             } catch (Exception e) {
-                System.err.println("⚠️ SWAP failed: " + e.getMessage());
+                log.warn("SWAP failed: {}", e.getMessage());
             }
         }
 
@@ -331,15 +583,14 @@ public class ServerAIManager {
                     currentSessionId,
                     false // not using beam
             );
-            System.out.println("🚶 AI moved to: (" + decision.getMoveTarget().getColumn() + ","
-                    + decision.getMoveTarget().getRow() + ")");
+            log.debug("AI moved to: ({},{})", decision.getMoveTarget().getColumn(), decision.getMoveTarget().getRow());
 
             // GameManager automatically:
             // - Switches to next player
             // - Resets turn state to WAITING_FOR_PUSH
             // - Broadcasts game state
         } catch (Exception e) {
-            System.err.println("⚠️ Move failed: " + e.getMessage());
+            log.warn("Move failed: {}", e.getMessage());
             throw e;
         }
     }
@@ -350,12 +601,12 @@ public class ServerAIManager {
      * @param identifierToken Der fixe Token des Spielers
      */
     private void executeRandomFallback(String identifierToken) {
-        System.out.println("🎲 Executing random fallback for player: " + identifierToken);
+        log.debug("Executing random fallback for player: {}", identifierToken);
         try {
             // Convert identifierToken to currentSessionId for GameManager calls
             PlayerInfo playerInfo = playerManager.getPlayerByIdentifierToken(identifierToken);
             if (playerInfo == null) {
-                System.err.println("❌ Player not found for identifierToken: " + identifierToken);
+                log.warn("Player not found for identifierToken: {}", identifierToken);
                 return;
             }
             String currentSessionId = playerInfo.getId();
@@ -364,14 +615,14 @@ public class ServerAIManager {
             gameManager.handleRotateTile(currentSessionId);
             gameManager.handlePushTile(1, DirectionType.DOWN, currentSessionId, false);
 
-            Thread.sleep(200);
-
             // Move to current position (stay in place)
-            PlayerState player = playerManager.getPlayerStateByIdentifierToken(identifierToken);
-            gameManager.handleMovePawn(player.getCurrentPosition(), currentSessionId, false);
+            gameMailbox.postDelayed(MOVE_DELAY_AFTER_PUSH_MS, () -> {
+                PlayerState player = playerManager.getPlayerStateByIdentifierToken(identifierToken);
+                gameManager.handleMovePawn(player.getCurrentPosition(), currentSessionId, false);
+            });
 
         } catch (Exception e) {
-            System.err.println("❌ Even fallback failed: " + e.getMessage());
+            log.warn("Even fallback failed: {}", e.getMessage());
         }
     }
 }
@@ -0,0 +1,40 @@
+package com.uni.gamesever.domain.ai;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Rechenzeit, die eine KI-Suche in einem Zug höchstens nutzen darf.
+ */
+public final class TurnBudget {
+    public static final long MIN_BUDGET_MS = 20;
+    // Anteil der verbleibenden Zugzeit, den eine Suche höchstens nutzen darf
+    private static final int SHARE_DIVISOR = 10;
+
+    private TurnBudget() {
+    }
+
+    /**
+     * @param turnEndTime Zugende als ISO-Zeitstempel oder {@code null}
+     * @return höchstens {@code maxMillis}, höchstens ein Zehntel der
+     *         verbleibenden Zugzeit, mindestens {@link #MIN_BUDGET_MS}
+     */
+    public static long millis(String turnEndTime, long maxMillis) {
+        long remaining = remainingMillis(turnEndTime, maxMillis * SHARE_DIVISOR);
+        return Math.max(MIN_BUDGET_MS, Math.min(maxMillis, remaining / SHARE_DIVISOR));
+    }
+
+    /**
+     * @param turnEndTime Zugende als ISO-Zeitstempel oder {@code null}
+     * @return verbleibende Zugzeit, {@code fallbackMillis} ohne gültiges Zugende
+     */
+    public static long remainingMillis(String turnEndTime, long fallbackMillis) {
+        if (turnEndTime == null) {
+            return fallbackMillis;
+        }
+        try {
+            return Math.max(0, OffsetDateTime.parse(turnEndTime).toInstant().toEpochMilli() - System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            return fallbackMillis;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.uni.gamesever.domain.ai.llm;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Schutzschalter für einen entfernten Dienst. Nach {@code failureThreshold}
+ * Fehlschlägen in Folge ist er offen und lässt keine Aufrufe durch. Nach
+ * {@code openMillis} darf ein einzelner Probeaufruf durch; gelingt er, schließt
+ * der Schalter, sonst bleibt er weiter offen.
+ */
+public class CircuitBreaker {
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final LongSupplier clockMillis;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+
+    public CircuitBreaker(int failureThreshold, long openMillis, LongSupplier clockMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        this.clockMillis = clockMillis;
+    }
+
+    /**
+     * @return {@code true}, wenn ein Aufruf erlaubt ist. Jeder erlaubte Aufruf
+     *         muss mit {@link #onSuccess()} oder {@link #onFailure()} enden.
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (clockMillis.getAsLong() - openedAt >= openMillis) {
+                    state = State.HALF_OPEN;
+                    return true;
+                }
+                return false;
+            default:
+                // Probeaufruf läuft noch
+                return false;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clockMillis.getAsLong();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
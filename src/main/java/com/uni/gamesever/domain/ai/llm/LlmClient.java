@@ -0,0 +1,135 @@
+package com.uni.gamesever.domain.ai.llm;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.uni.gamesever.domain.ai.AIConfig;
+import com.uni.gamesever.domain.exceptions.LlmUnavailableException;
+
+/**
+ * Gemeinsamer, asynchroner Client für die Chat-Completions-Schnittstelle des
+ * LLM. Alle KI-Spieler aller Räume teilen sich eine Instanz und damit einen
+ * Verbindungspool.
+ *
+ * Jeder Aufruf hat eine eigene Frist. Fehlschläge und Fristüberschreitungen
+ * zählen für den {@link CircuitBreaker}; solange er offen ist, scheitern
+ * Aufrufe sofort, ohne den Dienst zu belasten.
+ */
+public class LlmClient {
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(2);
+    private static volatile LlmClient shared;
+
+    private final URI endpoint;
+    private final String apiKey;
+    private final HttpClient httpClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Gson gson = new Gson();
+
+    public LlmClient(URI endpoint, String apiKey, CircuitBreaker circuitBreaker) {
+        this.endpoint = endpoint;
+        this.apiKey = apiKey;
+        this.circuitBreaker = circuitBreaker;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(CONNECT_TIMEOUT)
+                .build();
+    }
+
+    /**
+     * Liefert den gemeinsamen Client für die konfigurierte Basis-URL. Ändert
+     * sich der API-Key, ersetzt ein neuer Client (mit eigenem Schutzschalter)
+     * den bisherigen.
+     */
+    public static LlmClient shared(String apiKey) {
+        LlmClient client = shared;
+        if (client == null || !client.apiKey.equals(apiKey)) {
+            synchronized (LlmClient.class) {
+                client = shared;
+                if (client == null || !client.apiKey.equals(apiKey)) {
+                    URI endpoint = URI.create(AIConfig.getApiBaseUrl()).resolve("chat/completions");
+                    CircuitBreaker breaker = new CircuitBreaker(AIConfig.getCircuitBreakerFailures(),
+                            AIConfig.getCircuitBreakerOpenMillis(), System::currentTimeMillis);
+                    client = new LlmClient(endpoint, apiKey, breaker);
+                    shared = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    /**
+     * Sendet einen Chat-Verlauf aus System- und Benutzer-Nachricht.
+     *
+     * @param timeoutMillis Frist für den gesamten Aufruf
+     * @return Antworttext der ersten Auswahl; scheitert mit
+     *         {@link LlmUnavailableException}, wenn der Schutzschalter offen ist
+     */
+    public CompletableFuture<String> complete(String systemPrompt, String userPrompt, long timeoutMillis) {
+        if (!circuitBreaker.tryAcquire()) {
+            return CompletableFuture.failedFuture(
+                    new LlmUnavailableException("LLM-Dienst vorübergehend gesperrt (Schutzschalter offen)"));
+        }
+        HttpRequest request = HttpRequest.newBuilder(endpoint)
+                .timeout(Duration.ofMillis(timeoutMillis))
+                .header("Authorization", "Bearer " + apiKey)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(requestBody(systemPrompt, userPrompt)))
+                .build();
+
+        CompletableFuture<String> result = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .thenApply(this::extractContent)
+                .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+        result.whenComplete((content, error) -> {
+            if (error == null) {
+                circuitBreaker.onSuccess();
+            } else {
+                circuitBreaker.onFailure();
+            }
+        });
+        return result;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    private String requestBody(String systemPrompt, String userPrompt) {
+        JsonArray messages = new JsonArray();
+        messages.add(message("system", systemPrompt));
+        messages.add(message("user", userPrompt));
+
+        JsonObject body = new JsonObject();
+        body.addProperty("model", AIConfig.getModel());
+        body.add("messages", messages);
+        body.addProperty("temperature", AIConfig.getTemperature());
+        body.addProperty("max_tokens", AIConfig.getMaxTokens());
+        return gson.toJson(body);
+    }
+
+    private static JsonObject message(String role, String content) {
+        JsonObject message = new JsonObject();
+        message.addProperty("role", role);
+        message.addProperty("content", content);
+        return message;
+    }
+
+    private String extractContent(HttpResponse<String> response) {
+        if (response.statusCode() / 100 != 2) {
+            throw new LlmUnavailableException("LLM-Dienst antwortet mit Status " + response.statusCode());
+        }
+        try {
+            JsonObject json = gson.fromJson(response.body(), JsonObject.class);
+            return json.getAsJsonArray("choices").get(0).getAsJsonObject()
+                    .getAsJsonObject("message").get("content").getAsString();
+        } catch (RuntimeException e) {
+            throw new LlmUnavailableException("Antwort des LLM-Dienstes nicht lesbar: " + e.getMessage());
+        }
+    }
+}
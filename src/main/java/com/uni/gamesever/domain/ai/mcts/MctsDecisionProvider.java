@@ -0,0 +1,385 @@
+package com.uni.gamesever.domain.ai.mcts;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.uni.gamesever.domain.ai.AIConfig;
+import com.uni.gamesever.domain.ai.AIDecision;
+import com.uni.gamesever.domain.ai.DecisionProvider;
+import com.uni.gamesever.domain.ai.GameState;
+import com.uni.gamesever.domain.ai.LastPush;
+import com.uni.gamesever.domain.ai.TurnBudget;
+import com.uni.gamesever.domain.enums.BonusType;
+import com.uni.gamesever.domain.game.ReachabilityEngine;
+import com.uni.gamesever.domain.model.TurnState;
+
+/**
+ * KI auf Basis von Monte-Carlo-Baumsuche. Die Züge aller Spieler werden im
+ * Baum abgebildet, bewertet wird über schnelle Zufallspartien auf
+ * {@link SimState}.
+ *
+ * Die Suche läuft auf allen Kernen (gemeinsamer Suchpool aus
+ * {@link com.uni.gamesever.infrastructure.ManagedThreads#getSearchPool()}) bis
+ * zum Zeitbudget des Zugs und liefert
+ * dann den meistbesuchten Zug (Anytime). Hat der reale Spielverlauf seit dem
+ * letzten eigenen Zug einen bereits untersuchten Ast genommen, wird dieser
+ * Teilbaum weiterverwendet.
+ *
+ * Gleiche Stellungen entstehen über verschiedene Zugfolgen mehrfach; die
+ * Ergebnisse der Erreichbarkeitssuche teilen sich alle Suchthreads und
+ * KI-Spieler über eine gemeinsame {@link TranspositionTable}.
+ *
+ * Während andere Spieler am Zug sind, sucht der Baum mit wenigen Threads ab
+ * deren Stellung weiter (Pondering), auf einem eigenen, kleinen Pool mit
+ * niedriger Priorität, damit die Züge anderer Räume Vorrang behalten. Der reale Push verwirft den Baum, wenn er
+ * zu keinem untersuchten Zug passt; sonst findet der eigene Zug seinen
+ * Teilbaum über den Hash der Stellung und braucht nur noch eine kurze Suche.
+ */
+public class MctsDecisionProvider implements DecisionProvider {
+    private static final Logger log = LoggerFactory.getLogger("GAME_LOG");
+    // 2^16 Einträge à 16 Byte
+    private static final TranspositionTable TABLE = new TranspositionTable(1 << 16);
+    private static final int PLAYOUT_TURNS_PER_PLAYER = 6;
+    // Obergrenze der Knoten, die beim Wiederfinden des Teilbaums geprüft werden
+    private static final int MAX_REUSE_CHECKS = 20_000;
+    // Ab so vielen Besuchen der übernommenen Wurzel genügt ein Viertel des Budgets
+    private static final int WELL_EXPLORED_VISITS = 4_000;
+    private static final int SHORT_SEARCH_DIVISOR = 4;
+    private static final long PONDER_STOP_TIMEOUT_MS = 50;
+    private static final AtomicBoolean NEVER_CANCELLED = new AtomicBoolean();
+
+    private final ForkJoinPool searchPool;
+    private final ForkJoinPool ponderPool;
+    private final long maxBudgetMillis;
+    private final int workers;
+    private final int ponderWorkers;
+    private MctsNode previousRoot;
+    private SimState previousRootState;
+    private CompletableFuture<Void> ponderTask;
+    private AtomicBoolean ponderCancelled;
+    private long ponderStartNanos;
+    private long ponderDeadline;
+    private boolean ponderPushSeen;
+    // Verbrauchte Pondering-Zeit, die noch nicht über stopPondering() gemeldet wurde
+    private long unreportedPonderMillis;
+
+    public MctsDecisionProvider(ForkJoinPool searchPool, ForkJoinPool ponderPool) {
+        this(searchPool, ponderPool, AIConfig.getMctsBudgetMillis(), searchPool.getParallelism(),
+                Math.min(AIConfig.getPonderWorkers(), ponderPool.getParallelism()));
+    }
+
+    MctsDecisionProvider(ForkJoinPool searchPool, ForkJoinPool ponderPool, long maxBudgetMillis, int workers,
+            int ponderWorkers) {
+        this.searchPool = searchPool;
+        this.ponderPool = ponderPool;
+        this.maxBudgetMillis = maxBudgetMillis;
+        this.workers = workers;
+        this.ponderWorkers = ponderWorkers;
+    }
+
+    @Override
+    public synchronized AIDecision getNextMove(GameState gameState) {
+        endPondering();
+        SimState state = SimState.fromGameState(gameState);
+        if (gameState.getCurrentTurnState() != TurnState.WAITING_FOR_PUSH) {
+            return moveDecision(state);
+        }
+
+        MctsNode root = findReusableSubtree(state);
+        boolean reused = root != null;
+        if (root == null) {
+            root = MctsNode.root();
+        }
+        long budgetMillis = TurnBudget.millis(gameState.getTurnEndTime(), maxBudgetMillis);
+        if (reused && root.getVisits() >= WELL_EXPLORED_VISITS) {
+            budgetMillis = Math.max(TurnBudget.MIN_BUDGET_MS, budgetMillis / SHORT_SEARCH_DIVISOR);
+        }
+        int iterations = search(root, state, budgetMillis);
+
+        MctsNode best = root.mostVisitedChild();
+        previousRoot = root;
+        previousRootState = state;
+        if (best == null) {
+            // Ohne einen einzigen Suchdurchlauf trotzdem einen gültigen Push liefern
+            return firstLegalPush(state);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("MCTS: {} Simulationen in {} ms{}, Zug {}, Besuche {}, Tabellen-Treffer {}/{}", iterations,
+                    budgetMillis, reused ? " (Baum wiederverwendet)" : "", SimMove.toString(best.getMove()),
+                    best.getVisits(), TABLE.getHits(), TABLE.getHits() + TABLE.getMisses());
+        }
+        String reasoning = String.format("MCTS: %s nach %d Besuchen, erwarteter Wert %.2f",
+                SimMove.toString(best.getMove()), best.getVisits(), best.getMeanReward());
+        return toDecision(best.getMove(), state, reasoning);
+    }
+
+    @Override
+    public synchronized void startPondering(GameState gameState, long maxMillis) {
+        endPondering();
+        SimState state = SimState.fromGameState(gameState);
+        if (state.isTerminal() || maxMillis < TurnBudget.MIN_BUDGET_MS) {
+            return;
+        }
+        MctsNode root = findReusableSubtree(state);
+        if (root == null) {
+            root = MctsNode.root();
+        }
+        previousRoot = root;
+        previousRootState = state;
+
+        AtomicBoolean cancelled = new AtomicBoolean();
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + TimeUnit.MILLISECONDS.toNanos(maxMillis);
+        MctsNode ponderRoot = root;
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[ponderWorkers];
+        for (int i = 0; i < ponderWorkers; i++) {
+            tasks[i] = CompletableFuture.supplyAsync(() -> runWorker(ponderRoot, state, deadline, cancelled),
+                    ponderPool);
+        }
+        ponderTask = CompletableFuture.allOf(tasks);
+        ponderCancelled = cancelled;
+        ponderStartNanos = startNanos;
+        ponderDeadline = deadline;
+        ponderPushSeen = false;
+    }
+
+    /**
+     * Nur der erste Push eines Zugs ist im Baum abgebildet; der zweite Push von
+     * PUSH_TWICE steckt im selben Zug.
+     */
+    @Override
+    public synchronized void onRealPush(LastPush push) {
+        if (ponderTask == null || ponderPushSeen || push == null || push.getDirection() == null) {
+            return;
+        }
+        ponderPushSeen = true;
+        int direction = SimMove.directionIndex(push.getDirection());
+        for (MctsNode child : previousRoot.getChildren()) {
+            int move = child.getMove();
+            if (SimMove.index(move) == push.getRowOrColumnIndex() && SimMove.direction(move) == direction) {
+                return;
+            }
+        }
+        log.debug("MCTS: Push {}@{} nicht vorausberechnet, Pondering verworfen", push.getDirection(),
+                push.getRowOrColumnIndex());
+        endPondering();
+        previousRoot = null;
+        previousRootState = null;
+    }
+
+    @Override
+    public synchronized long stopPondering() {
+        endPondering();
+        long used = unreportedPonderMillis;
+        unreportedPonderMillis = 0;
+        return used;
+    }
+
+    private void endPondering() {
+        if (ponderTask == null) {
+            return;
+        }
+        ponderCancelled.set(true);
+        try {
+            ponderTask.get(PONDER_STOP_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            ponderTask.cancel(true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("MCTS-Pondering fehlgeschlagen: {}", e.getCause().toString());
+        }
+        long elapsedNanos = Math.min(System.nanoTime(), ponderDeadline) - ponderStartNanos;
+        ponderTask = null;
+        ponderCancelled = null;
+        unreportedPonderMillis += TimeUnit.NANOSECONDS.toMillis(Math.max(elapsedNanos, 0)) * ponderWorkers;
+    }
+
+    synchronized boolean isPondering() {
+        return ponderTask != null && !ponderTask.isDone();
+    }
+
+    MctsNode getPreviousRoot() {
+        return previousRoot;
+    }
+
+    /**
+     * Führt Simulationen auf allen Kernen aus, bis das Budget abgelaufen ist.
+     *
+     * @return Anzahl der Simulationen
+     */
+    int search(MctsNode root, SimState rootState, long budgetMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        List<CompletableFuture<Integer>> tasks = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            tasks.add(CompletableFuture.supplyAsync(() -> runWorker(root, rootState, deadline, NEVER_CANCELLED),
+                    searchPool));
+        }
+        int iterations = 0;
+        for (CompletableFuture<Integer> task : tasks) {
+            try {
+                long remainingNanos = Math.max(deadline - System.nanoTime(), 0) + TimeUnit.MILLISECONDS.toNanos(50);
+                iterations += task.get(remainingNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                task.cancel(true);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                log.warn("MCTS-Worker fehlgeschlagen: {}", e.getCause().toString());
+            }
+        }
+        return iterations;
+    }
+
+    private int runWorker(MctsNode root, SimState rootState, long deadline, AtomicBoolean cancelled) {
+        SplittableRandom random = new SplittableRandom(ThreadLocalRandom.current().nextLong());
+        ReachabilityEngine engine = new ReachabilityEngine();
+        SimState state = rootState.copy();
+        int[] moveBuffer = new int[SimState.MAX_MOVES];
+        double[] rewards = new double[rootState.getPlayerCount()];
+        int maxPlayoutTurns = PLAYOUT_TURNS_PER_PLAYER * rootState.getPlayerCount();
+        int iterations = 0;
+
+        while (System.nanoTime() < deadline && !cancelled.get()) {
+            state.copyFrom(rootState);
+            MctsNode node = root;
+            while (!state.isTerminal()) {
+                MctsNode next = node.selectOrExpand(state, moveBuffer, random);
+                if (next == null) {
+                    break;
+                }
+                state.apply(next.getMove(), engine, TABLE);
+                node = next;
+                if (next.isNew()) {
+                    break;
+                }
+            }
+            playout(state, engine, random, moveBuffer, maxPlayoutTurns);
+            state.evaluate(rewards);
+            for (MctsNode n = node; n != null; n = n.getParent()) {
+                n.update(rewards);
+            }
+            iterations++;
+        }
+        return iterations;
+    }
+
+    private static void playout(SimState state, ReachabilityEngine engine, SplittableRandom random,
+            int[] moveBuffer, int maxTurns) {
+        for (int turn = 0; turn < maxTurns && !state.isTerminal(); turn++) {
+            int count = state.legalMoves(moveBuffer);
+            if (count == 0) {
+                return;
+            }
+            state.apply(moveBuffer[random.nextInt(count)], engine, TABLE);
+        }
+    }
+
+    /**
+     * Sucht im Baum der letzten Suche (eigener Zug oder Pondering) den Knoten,
+     * der der aktuellen Stellung entspricht.
+     */
+    MctsNode findReusableSubtree(SimState state) {
+        if (previousRoot == null || previousRootState == null || !sameShape(previousRootState, state)) {
+            return null;
+        }
+        if (previousRootState.sameAs(state)) {
+            return previousRoot;
+        }
+        ReachabilityEngine engine = new ReachabilityEngine();
+        MctsNode match = findMatch(previousRoot, previousRootState, state, engine, new int[] { MAX_REUSE_CHECKS },
+                state.getPlayerCount());
+        if (match != null) {
+            match.detach();
+        }
+        return match;
+    }
+
+    private static MctsNode findMatch(MctsNode node, SimState nodeState, SimState target, ReachabilityEngine engine,
+            int[] budget, int remainingDepth) {
+        if (remainingDepth == 0) {
+            return null;
+        }
+        for (MctsNode child : node.getChildren()) {
+            if (--budget[0] < 0) {
+                return null;
+            }
+            SimState childState = nodeState.copy();
+            childState.apply(child.getMove(), engine, TABLE);
+            if (childState.getCurrentPlayer() == target.getCurrentPlayer()) {
+                if (childState.sameAs(target)) {
+                    return child;
+                }
+            } else if (!childState.isTerminal()) {
+                MctsNode match = findMatch(child, childState, target, engine, budget, remainingDepth - 1);
+                if (match != null) {
+                    return match;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean sameShape(SimState a, SimState b) {
+        return a.rows == b.rows && a.cols == b.cols && a.playerCount == b.playerCount;
+    }
+
+    private AIDecision toDecision(int move, SimState rootState, String reasoning) {
+        BonusType bonus = SimMove.bonus(move);
+        int player = rootState.getCurrentPlayer();
+
+        AIDecision decision = new AIDecision();
+        decision.setRotations(SimMove.rotation(move));
+        decision.setPushRowOrCol(SimMove.index(move));
+        decision.setPushDirection(SimMove.directionType(SimMove.direction(move)));
+        decision.setUseBonus(bonus);
+        if (bonus == BonusType.BEAM) {
+            decision.setBeamTarget(SimState.toCoordinates(SimMove.param(move), rootState.getCols()));
+        } else if (bonus == BonusType.SWAP) {
+            decision.setSwapTargetPlayerId(rootState.getPlayerId(SimMove.param(move)));
+        }
+        decision.setMoveTarget(SimState.toCoordinates(rootState.getPosition(player), rootState.getCols()));
+        decision.setGoingHome(rootState.getProgress(player) >= rootState.treasureQueues[player].length);
+        decision.setReasoning(reasoning);
+        return decision;
+    }
+
+    /**
+     * Erster erlaubter Push ohne Bonus; die Liste der erlaubten Züge beginnt je
+     * Einschubstelle mit den einfachen Pushes.
+     */
+    private AIDecision firstLegalPush(SimState state) {
+        int[] moves = new int[SimState.MAX_MOVES];
+        int count = state.legalMoves(moves);
+        for (int i = 0; i < count; i++) {
+            if (SimMove.bonus(moves[i]) == null) {
+                return toDecision(moves[i], state, "MCTS: ohne Suchergebnis, erster gültiger Push");
+            }
+        }
+        throw new IllegalStateException(
+                "Kein gültiger Push für Spieler " + state.getPlayerId(state.getCurrentPlayer()));
+    }
+
+    // In der Bewegungsphase gibt es nichts mehr zu suchen: gierig zum Ziel
+    private AIDecision moveDecision(SimState state) {
+        int player = state.getCurrentPlayer();
+        int destination = state.greedyDestination(player, new ReachabilityEngine());
+        AIDecision decision = new AIDecision();
+        decision.setMoveTarget(SimState.toCoordinates(destination, state.getCols()));
+        decision.setGoingHome(state.getProgress(player) >= state.treasureQueues[player].length);
+        decision.setReasoning("MCTS: Bewegung zum nächsten erreichbaren Feld am Ziel");
+        return decision;
+    }
+}
@@ -0,0 +1,140 @@
+package com.uni.gamesever.domain.ai.mcts;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Knoten des Suchbaums. Mehrere Suchthreads teilen sich den Baum; Auswahl und
+ * Erweiterung laufen unter dem Monitor des Knotens, die teuren Simulationen
+ * außerhalb. Ein virtueller Verlust während der Auswahl verteilt die Threads
+ * auf verschiedene Äste.
+ *
+ * Der Wert eines Knotens zählt aus Sicht des Spielers, der den Zug zum Knoten
+ * gemacht hat (Max-n für mehrere Spieler).
+ */
+final class MctsNode {
+    private static final double EXPLORATION = Math.sqrt(2);
+    private static final int VIRTUAL_LOSS = 1;
+
+    private MctsNode parent;
+    private final int move;
+    private final int mover;
+    private final List<MctsNode> children = new ArrayList<>();
+    private int[] untriedMoves;
+    private int untriedCount;
+    private int visits;
+    private int virtualLosses;
+    private double totalReward;
+
+    MctsNode(MctsNode parent, int move, int mover) {
+        this.parent = parent;
+        this.move = move;
+        this.mover = mover;
+    }
+
+    static MctsNode root() {
+        return new MctsNode(null, 0, -1);
+    }
+
+    int getMove() {
+        return move;
+    }
+
+    MctsNode getParent() {
+        return parent;
+    }
+
+    /** Macht den Knoten zur neuen Wurzel, wenn ein Teilbaum wiederverwendet wird. */
+    void detach() {
+        parent = null;
+    }
+
+    /**
+     * Wählt den nächsten Knoten: zuerst einen noch nicht versuchten Zug, sonst
+     * das Kind mit dem höchsten UCT-Wert.
+     *
+     * @return Kind oder {@code null}, wenn es keine Züge gibt
+     */
+    synchronized MctsNode selectOrExpand(SimState state, int[] moveBuffer, SplittableRandom random) {
+        if (untriedMoves == null) {
+            untriedCount = state.legalMoves(moveBuffer);
+            untriedMoves = new int[untriedCount];
+            System.arraycopy(moveBuffer, 0, untriedMoves, 0, untriedCount);
+        }
+        MctsNode next;
+        if (untriedCount > 0) {
+            int pick = random.nextInt(untriedCount);
+            int nextMove = untriedMoves[pick];
+            untriedMoves[pick] = untriedMoves[--untriedCount];
+            next = new MctsNode(this, nextMove, state.getCurrentPlayer());
+            children.add(next);
+        } else if (children.isEmpty()) {
+            return null;
+        } else {
+            next = bestUctChild();
+        }
+        next.addVirtualLoss();
+        return next;
+    }
+
+    synchronized boolean isNew() {
+        return visits == 0;
+    }
+
+    synchronized void update(double[] rewards) {
+        visits++;
+        if (mover >= 0) {
+            totalReward += rewards[mover];
+        }
+        if (virtualLosses > 0) {
+            virtualLosses -= VIRTUAL_LOSS;
+        }
+    }
+
+    synchronized int getVisits() {
+        return visits;
+    }
+
+    synchronized double getMeanReward() {
+        return visits == 0 ? 0.0 : totalReward / visits;
+    }
+
+    /** Kind mit den meisten Besuchen (robuster als der beste Mittelwert). */
+    synchronized MctsNode mostVisitedChild() {
+        MctsNode best = null;
+        for (MctsNode child : children) {
+            if (best == null || child.getVisits() > best.getVisits()) {
+                best = child;
+            }
+        }
+        return best;
+    }
+
+    synchronized List<MctsNode> getChildren() {
+        return new ArrayList<>(children);
+    }
+
+    private synchronized void addVirtualLoss() {
+        virtualLosses += VIRTUAL_LOSS;
+    }
+
+    private MctsNode bestUctChild() {
+        double logParent = Math.log(visits + virtualLosses + 1);
+        MctsNode best = null;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (MctsNode child : children) {
+            double value;
+            synchronized (child) {
+                int effectiveVisits = child.visits + child.virtualLosses;
+                value = effectiveVisits == 0 ? Double.POSITIVE_INFINITY
+                        : child.totalReward / effectiveVisits + EXPLORATION * Math.sqrt(logParent / effectiveVisits);
+            }
+            if (value > bestValue) {
+                bestValue = value;
+                best = child;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,72 @@
+package com.uni.gamesever.domain.ai.mcts;
+
+import com.uni.gamesever.domain.enums.BonusType;
+import com.uni.gamesever.domain.enums.DirectionType;
+
+/**
+ * Kodiert einen Zug der Simulation als {@code int}: Push-Richtung (2 Bit),
+ * Rotation der Ersatzkachel (2 Bit), Reihe/Spalte (4 Bit), Bonus (3 Bit) und
+ * Bonus-Parameter (Zielfeld bei BEAM, Spielerindex bei SWAP).
+ *
+ * Die Richtung ist der Index im Uhrzeigersinn wie in
+ * {@link com.uni.gamesever.domain.model.EntranceMask} (0 = UP, 1 = RIGHT,
+ * 2 = DOWN, 3 = LEFT). Nach dem Push bzw. Bonus folgt immer die gierige
+ * Bewegung aus {@link SimState#moveGreedy}.
+ */
+public final class SimMove {
+    public static final int NO_BONUS = 0;
+    private static final DirectionType[] DIRECTIONS = { DirectionType.UP, DirectionType.RIGHT, DirectionType.DOWN,
+            DirectionType.LEFT };
+
+    private SimMove() {
+    }
+
+    public static int push(int rotation, int index, int direction) {
+        return direction | rotation << 2 | index << 4;
+    }
+
+    public static int withBonus(int move, BonusType bonus, int param) {
+        return move | (bonus.ordinal() + 1) << 8 | param << 11;
+    }
+
+    public static int direction(int move) {
+        return move & 0x3;
+    }
+
+    public static int rotation(int move) {
+        return move >>> 2 & 0x3;
+    }
+
+    public static int index(int move) {
+        return move >>> 4 & 0xF;
+    }
+
+    /** @return Bonus des Zugs oder {@code null} */
+    public static BonusType bonus(int move) {
+        int code = move >>> 8 & 0x7;
+        return code == NO_BONUS ? null : BonusType.values()[code - 1];
+    }
+
+    public static int param(int move) {
+        return move >>> 11;
+    }
+
+    public static DirectionType directionType(int direction) {
+        return DIRECTIONS[direction];
+    }
+
+    public static int directionIndex(DirectionType direction) {
+        for (int i = 0; i < DIRECTIONS.length; i++) {
+            if (DIRECTIONS[i] == direction) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static String toString(int move) {
+        BonusType bonus = bonus(move);
+        String push = directionType(direction(move)) + "@" + index(move) + " r" + rotation(move);
+        return bonus == null ? push : bonus + "(" + param(move) + ") " + push;
+    }
+}
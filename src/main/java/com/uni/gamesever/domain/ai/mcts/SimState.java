@@ -0,0 +1,712 @@
+package com.uni.gamesever.domain.ai.mcts;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.uni.gamesever.domain.ai.GameState;
+import com.uni.gamesever.domain.ai.LastPush;
+import com.uni.gamesever.domain.enums.BonusType;
+import com.uni.gamesever.domain.game.ReachabilityEngine;
+import com.uni.gamesever.domain.model.Coordinates;
+import com.uni.gamesever.domain.model.EntranceMask;
+import com.uni.gamesever.domain.model.PlayerState;
+import com.uni.gamesever.domain.model.Tile;
+import com.uni.gamesever.domain.model.Treasure;
+
+/**
+ * Kompaktes, kopierbares Spielmodell für schnelle Simulationen. Bildet die
+ * Regeln des {@code GameManager} nach: Push mit Ersatzkachel und
+ * Zurückschiebe-Verbot, Mitschieben der Figuren, Schätze, Heimfeld sowie die
+ * Boni BEAM, SWAP, PUSH_FIXED und PUSH_TWICE.
+ *
+ * Nicht nachgebildet wird das zufällige Erscheinen neuer Boni. Die Bewegung
+ * nach dem Push ist gierig (Ziel, sonst nächstes erreichbares Feld), damit ein
+ * Zug nur aus Push bzw. Bonus besteht.
+ *
+ * Jede Änderung führt den Zobrist-Hash ({@link ZobristKeys}) mit; ein Push
+ * kostet dabei O(Linienlänge). Über den Hash lassen sich teure
+ * Zwischenergebnisse in einer {@link TranspositionTable} teilen.
+ */
+public final class SimState {
+    public static final int NO_CELL = -1;
+    public static final int MAX_MOVES = 256;
+    static final int NO_ITEM = -1;
+    private static final int MAX_BONUSES = 5;
+    private static final int BONUS_TYPES = BonusType.values().length;
+    // Unterscheiden die Einträge verschiedener Ergebnisarten in der Tabelle
+    private static final long DESTINATION_SALT = 0x9E3779B97F4A7C15L;
+    private static final long SECOND_PUSH_SALT = 0xC2B2AE3D27D4EB4FL;
+
+    final int rows;
+    final int cols;
+    final byte[] masks;
+    final boolean[] fixed;
+    final int[] treasureAt;
+    final int[] bonusAt;
+    int spareMask;
+    boolean spareFixed;
+    int spareTreasure;
+    int spareBonus;
+    int lastPushIndex = -1;
+    int lastPushDirection = -1;
+
+    final int playerCount;
+    final String[] playerIds;
+    final int[][] treasureQueues;
+    final int[] position;
+    final int[] home;
+    final int[] progress;
+    final int[][] bonusCounts;
+    int currentPlayer;
+    int winner = -1;
+    long hash;
+
+    private SimState(int rows, int cols, int playerCount, String[] playerIds, int[][] treasureQueues) {
+        this.rows = rows;
+        this.cols = cols;
+        this.masks = new byte[rows * cols];
+        this.fixed = new boolean[rows * cols];
+        this.treasureAt = new int[rows * cols];
+        this.bonusAt = new int[rows * cols];
+        this.playerCount = playerCount;
+        this.playerIds = playerIds;
+        this.treasureQueues = treasureQueues;
+        this.position = new int[playerCount];
+        this.home = new int[playerCount];
+        this.progress = new int[playerCount];
+        this.bonusCounts = new int[playerCount][BONUS_TYPES];
+    }
+
+    /**
+     * Erzeugt das Modell aus Sicht des Spielers am Zug ({@code myPlayerState}).
+     * Die Spielerreihenfolge entspricht der Zugreihenfolge.
+     */
+    public static SimState fromGameState(GameState gameState) {
+        Tile[][] board = gameState.getBoard();
+        List<PlayerState> players = gameState.getPlayers();
+        int rows = board.length;
+        int cols = board[0].length;
+        int playerCount = players.size();
+
+        String[] playerIds = new String[playerCount];
+        int[][] treasureQueues = new int[playerCount][];
+        for (int p = 0; p < playerCount; p++) {
+            PlayerState player = players.get(p);
+            playerIds[p] = player.getPlayerInfo() != null ? player.getPlayerInfo().getId() : null;
+            treasureQueues[p] = treasureQueue(player);
+        }
+
+        SimState state = new SimState(rows, cols, playerCount, playerIds, treasureQueues);
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                int cell = row * cols + col;
+                Tile tile = board[row][col];
+                state.masks[cell] = tile != null ? (byte) tile.getEntranceMask() : 0;
+                state.fixed[cell] = tile != null && tile.getIsFixed();
+                state.treasureAt[cell] = treasureId(tile);
+                state.bonusAt[cell] = bonusIndex(tile);
+            }
+        }
+        Tile spareTile = gameState.getSpareTile();
+        state.spareMask = spareTile != null ? spareTile.getEntranceMask() : 0;
+        state.spareFixed = spareTile != null && spareTile.getIsFixed();
+        state.spareTreasure = treasureId(spareTile);
+        state.spareBonus = bonusIndex(spareTile);
+
+        LastPush lastPush = gameState.getLastPush();
+        if (lastPush != null && lastPush.getDirection() != null) {
+            state.lastPushIndex = lastPush.getRowOrColumnIndex();
+            state.lastPushDirection = SimMove.directionIndex(lastPush.getDirection());
+        }
+
+        for (int p = 0; p < playerCount; p++) {
+            PlayerState player = players.get(p);
+            state.position[p] = toCell(player.getCurrentPosition(), cols);
+            state.home[p] = player.getHomePosition() != null ? toCell(player.getHomePosition(), cols) : NO_CELL;
+            String[] bonuses = player.getAvailableBonuses();
+            if (bonuses != null) {
+                for (String bonus : bonuses) {
+                    state.bonusCounts[p][BonusType.valueOf(bonus).ordinal()]++;
+                }
+            }
+            if (player == gameState.getMyPlayerState() || isSamePlayer(player, gameState.getMyPlayerState())) {
+                state.currentPlayer = p;
+            }
+        }
+        state.hash = state.computeHash();
+        return state;
+    }
+
+    public SimState copy() {
+        SimState copy = new SimState(rows, cols, playerCount, playerIds, treasureQueues);
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    /** Überschreibt diesen Zustand mit {@code other} (gleiche Brettgröße und Spieler). */
+    public void copyFrom(SimState other) {
+        System.arraycopy(other.masks, 0, masks, 0, masks.length);
+        System.arraycopy(other.fixed, 0, fixed, 0, fixed.length);
+        System.arraycopy(other.treasureAt, 0, treasureAt, 0, treasureAt.length);
+        System.arraycopy(other.bonusAt, 0, bonusAt, 0, bonusAt.length);
+        spareMask = other.spareMask;
+        spareFixed = other.spareFixed;
+        spareTreasure = other.spareTreasure;
+        spareBonus = other.spareBonus;
+        lastPushIndex = other.lastPushIndex;
+        lastPushDirection = other.lastPushDirection;
+        System.arraycopy(other.position, 0, position, 0, playerCount);
+        System.arraycopy(other.home, 0, home, 0, playerCount);
+        System.arraycopy(other.progress, 0, progress, 0, playerCount);
+        for (int p = 0; p < playerCount; p++) {
+            System.arraycopy(other.bonusCounts[p], 0, bonusCounts[p], 0, BONUS_TYPES);
+        }
+        currentPlayer = other.currentPlayer;
+        winner = other.winner;
+        hash = other.hash;
+    }
+
+    /** Prüft, ob beide Zustände dieselbe Stellung beschreiben. */
+    public boolean sameAs(SimState other) {
+        return other != null && hash == other.hash && rows == other.rows && cols == other.cols && playerCount == other.playerCount
+                && currentPlayer == other.currentPlayer && winner == other.winner
+                && spareMask == other.spareMask && spareFixed == other.spareFixed
+                && spareTreasure == other.spareTreasure && spareBonus == other.spareBonus
+                && lastPushIndex == other.lastPushIndex && lastPushDirection == other.lastPushDirection
+                && Arrays.equals(position, other.position) && Arrays.equals(progress, other.progress)
+                && Arrays.equals(masks, other.masks) && Arrays.equals(fixed, other.fixed)
+                && Arrays.equals(treasureAt, other.treasureAt) && Arrays.equals(bonusAt, other.bonusAt)
+                && Arrays.deepEquals(bonusCounts, other.bonusCounts);
+    }
+
+    public long getHash() {
+        return hash;
+    }
+
+    /** Berechnet den Hash vollständig neu (inkrementell geführt in {@link #hash}). */
+    long computeHash() {
+        long h = 0;
+        for (int cell = 0; cell < masks.length; cell++) {
+            h ^= cellKey(cell);
+        }
+        h ^= spareKey();
+        if (lastPushDirection >= 0) {
+            h ^= ZobristKeys.lastPush(lastPushIndex, lastPushDirection);
+        }
+        for (int p = 0; p < playerCount; p++) {
+            h ^= ZobristKeys.position(p, position[p]) ^ ZobristKeys.progress(p, progress[p]);
+            for (int bonus = 0; bonus < BONUS_TYPES; bonus++) {
+                h ^= ZobristKeys.bonusCount(p, bonus, bonusCounts[p][bonus]);
+            }
+        }
+        h ^= ZobristKeys.currentPlayer(currentPlayer);
+        if (winner >= 0) {
+            h ^= ZobristKeys.winner(winner);
+        }
+        return h;
+    }
+
+    public int getCurrentPlayer() {
+        return currentPlayer;
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public String getPlayerId(int player) {
+        return playerIds[player];
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getPosition(int player) {
+        return position[player];
+    }
+
+    public int getProgress(int player) {
+        return progress[player];
+    }
+
+    public int getWinner() {
+        return winner;
+    }
+
+    public boolean isTerminal() {
+        return winner >= 0;
+    }
+
+    /**
+     * Aktuelles Ziel eines Spielers: Feld seines Schatzes, nach dem letzten
+     * Schatz das Heimfeld. {@link #NO_CELL}, wenn der Schatz auf der
+     * Ersatzkachel liegt.
+     */
+    public int targetCell(int player) {
+        int[] queue = treasureQueues[player];
+        if (progress[player] >= queue.length) {
+            return home[player];
+        }
+        int treasureId = queue[progress[player]];
+        for (int cell = 0; cell < treasureAt.length; cell++) {
+            if (treasureAt[cell] == treasureId) {
+                return cell;
+            }
+        }
+        return NO_CELL;
+    }
+
+    /**
+     * Schreibt alle erlaubten Züge des Spielers am Zug nach {@code out}.
+     * Rotationen, die dieselbe Kachel ergeben, werden nur einmal erzeugt.
+     *
+     * @return Anzahl der Züge
+     */
+    public int legalMoves(int[] out) {
+        int player = currentPlayer;
+        int[] counts = bonusCounts[player];
+        boolean pushTwice = counts[BonusType.PUSH_TWICE.ordinal()] > 0;
+        boolean pushFixed = counts[BonusType.PUSH_FIXED.ordinal()] > 0;
+
+        int rotationCount = 0;
+        int[] rotations = new int[EntranceMask.DIRECTIONS];
+        int[] rotatedMasks = new int[EntranceMask.DIRECTIONS];
+        int mask = spareMask;
+        for (int rotation = 0; rotation < EntranceMask.DIRECTIONS; rotation++) {
+            boolean duplicate = false;
+            for (int i = 0; i < rotationCount; i++) {
+                duplicate |= rotatedMasks[i] == mask;
+            }
+            if (!duplicate) {
+                rotations[rotationCount] = rotation;
+                rotatedMasks[rotationCount++] = mask;
+            }
+            mask = EntranceMask.rotateClockwise(mask);
+        }
+
+        int count = 0;
+        for (int direction = 0; direction < EntranceMask.DIRECTIONS; direction++) {
+            int indexCount = indexCount(direction);
+            for (int index = 0; index < indexCount; index++) {
+                if (isPushBack(index, direction)) {
+                    continue;
+                }
+                if (!fixed[lineCell(index, direction, 0)]) {
+                    for (int i = 0; i < rotationCount; i++) {
+                        out[count++] = SimMove.push(rotations[i], index, direction);
+                    }
+                    if (pushTwice) {
+                        out[count++] = SimMove.withBonus(SimMove.push(0, index, direction), BonusType.PUSH_TWICE, 0);
+                    }
+                } else if (pushFixed && index != 0 && index != rows - 1 && index != cols - 1) {
+                    // Der Server führt PUSH_FIXED ohne vorherige Rotation aus
+                    out[count++] = SimMove.withBonus(SimMove.push(0, index, direction), BonusType.PUSH_FIXED, 0);
+                }
+            }
+        }
+
+        if (counts[BonusType.BEAM.ordinal()] > 0) {
+            int target = targetCell(player);
+            if (target != NO_CELL && !isOccupiedByOther(target, player)) {
+                out[count++] = SimMove.withBonus(0, BonusType.BEAM, target);
+            }
+        }
+        if (counts[BonusType.SWAP.ordinal()] > 0) {
+            for (int other = 0; other < playerCount; other++) {
+                if (other != player) {
+                    out[count++] = SimMove.withBonus(0, BonusType.SWAP, other);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Führt Push bzw. Bonus, die gierige Bewegung und den Spielerwechsel aus.
+     */
+    public void apply(int move, ReachabilityEngine engine) {
+        apply(move, engine, null);
+    }
+
+    /**
+     * @param table Tabelle für Bewegungsziele und zweite Pushes oder
+     *              {@code null}
+     */
+    public void apply(int move, ReachabilityEngine engine, TranspositionTable table) {
+        int player = currentPlayer;
+        BonusType bonus = SimMove.bonus(move);
+        if (bonus != null) {
+            setBonusCount(player, bonus.ordinal(), bonusCounts[player][bonus.ordinal()] - 1);
+        }
+        if (bonus == BonusType.BEAM) {
+            arrive(player, SimMove.param(move));
+        } else if (bonus == BonusType.SWAP) {
+            int other = SimMove.param(move);
+            int own = position[player];
+            setPosition(player, position[other]);
+            setPosition(other, own);
+        } else {
+            rotateSpare(SimMove.rotation(move));
+            push(SimMove.index(move), SimMove.direction(move));
+            if (bonus == BonusType.PUSH_TWICE) {
+                int second = bestSecondPush(engine, table);
+                if (second >= 0) {
+                    push(SimMove.index(second), SimMove.direction(second));
+                }
+            }
+        }
+        if (winner < 0) {
+            arrive(player, cachedGreedyDestination(engine, table));
+        }
+        hash ^= ZobristKeys.currentPlayer(player);
+        currentPlayer = (player + 1) % playerCount;
+        hash ^= ZobristKeys.currentPlayer(currentPlayer);
+    }
+
+    // Der Hash enthält den Spieler am Zug, das Ergebnis hängt nur von der Stellung ab
+    private int cachedGreedyDestination(ReachabilityEngine engine, TranspositionTable table) {
+        if (table == null) {
+            return greedyDestination(currentPlayer, engine);
+        }
+        long key = hash ^ DESTINATION_SALT;
+        long cached = table.get(key);
+        if (cached != TranspositionTable.MISS) {
+            return (int) cached;
+        }
+        int destination = greedyDestination(currentPlayer, engine);
+        table.put(key, destination);
+        return destination;
+    }
+
+    /**
+     * Zielfeld der gierigen Bewegung: das eigene Ziel, wenn erreichbar, sonst
+     * das erreichbare freie Feld mit der kleinsten Manhattan-Distanz dazu.
+     */
+    public int greedyDestination(int player, ReachabilityEngine engine) {
+        int start = position[player];
+        int target = targetCell(player);
+        if (target == NO_CELL) {
+            return start;
+        }
+        engine.search(masks, rows, cols, start, null);
+        if (engine.isReachable(target) && !isOccupiedByOther(target, player)) {
+            return target;
+        }
+        int best = start;
+        int bestDistance = manhattan(start, target);
+        long[] reachable = engine.getReachableCells();
+        for (int word = 0; word < ReachabilityEngine.bitsetLength(masks.length); word++) {
+            long bits = reachable[word];
+            while (bits != 0) {
+                int cell = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                int distance = manhattan(cell, target);
+                if (distance < bestDistance && !isOccupiedByOther(cell, player)) {
+                    best = cell;
+                    bestDistance = distance;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Bewertet eine nicht beendete Stellung für alle Spieler mit Werten in
+     * [0, 1]: Fortschritt bei den Schätzen plus Nähe zum aktuellen Ziel,
+     * relativ zum stärksten Gegner.
+     */
+    public void evaluate(double[] rewards) {
+        if (winner >= 0) {
+            for (int p = 0; p < playerCount; p++) {
+                rewards[p] = p == winner ? 1.0 : 0.0;
+            }
+            return;
+        }
+        double[] values = new double[playerCount];
+        for (int p = 0; p < playerCount; p++) {
+            int target = targetCell(p);
+            double closeness = target == NO_CELL ? 0.0
+                    : 1.0 - manhattan(position[p], target) / (double) (rows + cols);
+            values[p] = (progress[p] + 0.5 * closeness) / (treasureQueues[p].length + 1);
+        }
+        for (int p = 0; p < playerCount; p++) {
+            double bestOther = 0.0;
+            for (int q = 0; q < playerCount; q++) {
+                if (q != p) {
+                    bestOther = Math.max(bestOther, values[q]);
+                }
+            }
+            rewards[p] = Math.max(0.0, Math.min(1.0, 0.5 + (values[p] - bestOther)));
+        }
+    }
+
+    private void arrive(int player, int cell) {
+        setPosition(player, cell);
+        int[] queue = treasureQueues[player];
+        if (progress[player] < queue.length && treasureAt[cell] == queue[progress[player]]) {
+            hash ^= ZobristKeys.progress(player, progress[player]);
+            progress[player]++;
+            hash ^= ZobristKeys.progress(player, progress[player]);
+        }
+        if (progress[player] >= queue.length && cell == home[player]) {
+            winner = player;
+            hash ^= ZobristKeys.winner(player);
+            return;
+        }
+        if (bonusAt[cell] != NO_ITEM && totalBonuses(player) < MAX_BONUSES) {
+            int bonus = bonusAt[cell];
+            setBonusCount(player, bonus, bonusCounts[player][bonus] + 1);
+            hash ^= ZobristKeys.tileBonus(cell, bonus);
+            bonusAt[cell] = NO_ITEM;
+        }
+    }
+
+    private void setPosition(int player, int cell) {
+        hash ^= ZobristKeys.position(player, position[player]) ^ ZobristKeys.position(player, cell);
+        position[player] = cell;
+    }
+
+    private void setBonusCount(int player, int bonus, int count) {
+        hash ^= ZobristKeys.bonusCount(player, bonus, bonusCounts[player][bonus])
+                ^ ZobristKeys.bonusCount(player, bonus, count);
+        bonusCounts[player][bonus] = count;
+    }
+
+    private void rotateSpare(int rotations) {
+        if (rotations == 0) {
+            return;
+        }
+        hash ^= ZobristKeys.spareMask(spareMask);
+        for (int i = 0; i < rotations; i++) {
+            spareMask = EntranceMask.rotateClockwise(spareMask);
+        }
+        hash ^= ZobristKeys.spareMask(spareMask);
+    }
+
+    private long cellKey(int cell) {
+        long key = ZobristKeys.tileMask(cell, masks[cell]);
+        if (fixed[cell]) {
+            key ^= ZobristKeys.tileFixed(cell);
+        }
+        if (treasureAt[cell] != NO_ITEM) {
+            key ^= ZobristKeys.tileTreasure(cell, treasureAt[cell]);
+        }
+        if (bonusAt[cell] != NO_ITEM) {
+            key ^= ZobristKeys.tileBonus(cell, bonusAt[cell]);
+        }
+        return key;
+    }
+
+    private long spareKey() {
+        long key = ZobristKeys.spareMask(spareMask);
+        if (spareFixed) {
+            key ^= ZobristKeys.spareFixed();
+        }
+        if (spareTreasure != NO_ITEM) {
+            key ^= ZobristKeys.spareTreasure(spareTreasure);
+        }
+        if (spareBonus != NO_ITEM) {
+            key ^= ZobristKeys.spareBonus(spareBonus);
+        }
+        return key;
+    }
+
+    /**
+     * Schiebt die Ersatzkachel ein. Die herausgeschobene Kachel wird zur
+     * Ersatzkachel, Figuren auf der Linie wandern mit und landen am Rand auf
+     * der eingeschobenen Kachel.
+     */
+    void push(int index, int direction) {
+        int length = lineLength(direction);
+        long lineKeys = spareKey();
+        for (int k = 0; k < length; k++) {
+            lineKeys ^= cellKey(lineCell(index, direction, k));
+        }
+        int out = lineCell(index, direction, 0);
+        byte outMask = masks[out];
+        boolean outFixed = fixed[out];
+        int outTreasure = treasureAt[out];
+        int outBonus = bonusAt[out];
+
+        for (int k = 0; k < length - 1; k++) {
+            int to = lineCell(index, direction, k);
+            int from = lineCell(index, direction, k + 1);
+            masks[to] = masks[from];
+            fixed[to] = fixed[from];
+            treasureAt[to] = treasureAt[from];
+            bonusAt[to] = bonusAt[from];
+        }
+        int in = lineCell(index, direction, length - 1);
+        masks[in] = (byte) spareMask;
+        fixed[in] = spareFixed;
+        treasureAt[in] = spareTreasure;
+        bonusAt[in] = spareBonus;
+
+        spareMask = outMask;
+        spareFixed = outFixed;
+        spareTreasure = outTreasure;
+        spareBonus = outBonus;
+
+        lineKeys ^= spareKey();
+        for (int k = 0; k < length; k++) {
+            lineKeys ^= cellKey(lineCell(index, direction, k));
+        }
+        hash ^= lineKeys;
+
+        for (int p = 0; p < playerCount; p++) {
+            int k = lineIndexOf(position[p], index, direction);
+            if (k >= 0) {
+                setPosition(p, lineCell(index, direction, k == 0 ? length - 1 : k - 1));
+            }
+        }
+        if (lastPushDirection >= 0) {
+            hash ^= ZobristKeys.lastPush(lastPushIndex, lastPushDirection);
+        }
+        lastPushIndex = index;
+        lastPushDirection = direction;
+        hash ^= ZobristKeys.lastPush(index, direction);
+    }
+
+    // Zweiter Push bei PUSH_TWICE: der normale Push, nach dem das Ziel am nächsten ist
+    private int bestSecondPush(ReachabilityEngine engine, TranspositionTable table) {
+        long key = hash ^ SECOND_PUSH_SALT;
+        long cached = table != null ? table.get(key) : TranspositionTable.MISS;
+        if (cached != TranspositionTable.MISS) {
+            return (int) cached;
+        }
+        int best = findBestSecondPush(engine);
+        if (table != null) {
+            table.put(key, best);
+        }
+        return best;
+    }
+
+    private int findBestSecondPush(ReachabilityEngine engine) {
+        int player = currentPlayer;
+        SimState scratch = copy();
+        int best = -1;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int direction = 0; direction < EntranceMask.DIRECTIONS; direction++) {
+            for (int index = 0; index < indexCount(direction); index++) {
+                if (isPushBack(index, direction) || fixed[lineCell(index, direction, 0)]) {
+                    continue;
+                }
+                scratch.copyFrom(this);
+                scratch.push(index, direction);
+                int target = scratch.targetCell(player);
+                if (target == NO_CELL) {
+                    continue;
+                }
+                int distance = scratch.manhattan(scratch.greedyDestination(player, engine), target);
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    best = SimMove.push(0, index, direction);
+                }
+            }
+        }
+        return best;
+    }
+
+    private boolean isPushBack(int index, int direction) {
+        return lastPushDirection >= 0 && index == lastPushIndex && direction == (lastPushDirection + 2) % 4;
+    }
+
+    private boolean isOccupiedByOther(int cell, int player) {
+        for (int p = 0; p < playerCount; p++) {
+            if (p != player && position[p] == cell) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int totalBonuses(int player) {
+        int total = 0;
+        for (int count : bonusCounts[player]) {
+            total += count;
+        }
+        return total;
+    }
+
+    private int manhattan(int a, int b) {
+        return Math.abs(a / cols - b / cols) + Math.abs(a % cols - b % cols);
+    }
+
+    // UP/DOWN verschieben eine Spalte, LEFT/RIGHT eine Reihe
+    private int indexCount(int direction) {
+        return direction % 2 == 0 ? cols : rows;
+    }
+
+    private int lineLength(int direction) {
+        return direction % 2 == 0 ? rows : cols;
+    }
+
+    /** k-tes Feld der Linie, gezählt von der herausgeschobenen Kachel aus. */
+    private int lineCell(int index, int direction, int k) {
+        switch (direction) {
+            case 0:
+                return k * cols + index;
+            case 1:
+                return index * cols + cols - 1 - k;
+            case 2:
+                return (rows - 1 - k) * cols + index;
+            default:
+                return index * cols + k;
+        }
+    }
+
+    private int lineIndexOf(int cell, int index, int direction) {
+        int row = cell / cols;
+        int col = cell % cols;
+        switch (direction) {
+            case 0:
+                return col == index ? row : -1;
+            case 1:
+                return row == index ? cols - 1 - col : -1;
+            case 2:
+                return col == index ? rows - 1 - row : -1;
+            default:
+                return row == index ? col : -1;
+        }
+    }
+
+    private static int[] treasureQueue(PlayerState player) {
+        Treasure current = player.getCurrentTreasure();
+        if (current == null || player.getRemainingTreasureCount() <= 0) {
+            return new int[0];
+        }
+        List<Integer> queue = new ArrayList<>();
+        queue.add(current.getId());
+        if (player.getAssignedTreasures() != null) {
+            for (Treasure treasure : player.getAssignedTreasures()) {
+                if (treasure.getId() != current.getId() && queue.size() < player.getRemainingTreasureCount()) {
+                    queue.add(treasure.getId());
+                }
+            }
+        }
+        return queue.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static boolean isSamePlayer(PlayerState a, PlayerState b) {
+        return a.getPlayerInfo() != null && b != null && b.getPlayerInfo() != null
+                && a.getPlayerInfo().getId() != null && a.getPlayerInfo().getId().equals(b.getPlayerInfo().getId());
+    }
+
+    private static int treasureId(Tile tile) {
+        return tile != null && tile.getTreasure() != null ? tile.getTreasure().getId() : NO_ITEM;
+    }
+
+    private static int bonusIndex(Tile tile) {
+        return tile != null && tile.getBonus() != null ? tile.getBonus().getType().ordinal() : NO_ITEM;
+    }
+
+    private static int toCell(Coordinates coordinates, int cols) {
+        return coordinates.getRow() * cols + coordinates.getColumn();
+    }
+
+    static Coordinates toCoordinates(int cell, int cols) {
+        return new Coordinates(cell % cols, cell / cols);
+    }
+}
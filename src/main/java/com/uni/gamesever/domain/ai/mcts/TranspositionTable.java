@@ -0,0 +1,67 @@
+package com.uni.gamesever.domain.ai.mcts;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Begrenzte, sperrfreie Hashtabelle für Zwischenergebnisse der Suche,
+ * geschlüsselt nach Zobrist-Hash. Alle Suchthreads teilen sich die Tabelle.
+ *
+ * Jeder Eintrag belegt zwei Wörter: {@code key ^ value} und {@code value}.
+ * Liest ein Thread einen halb geschriebenen Eintrag, passt die Prüfsumme nicht
+ * und der Zugriff gilt als Fehlschlag. Ein neuer Eintrag ersetzt immer den
+ * alten im selben Fach; die Tabelle wächst nie.
+ */
+public final class TranspositionTable {
+    public static final long MISS = Long.MIN_VALUE;
+
+    private final AtomicLongArray entries;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /** @param capacity Anzahl der Einträge, wird auf eine Zweierpotenz aufgerundet */
+    public TranspositionTable(int capacity) {
+        int slots = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        this.entries = new AtomicLongArray(slots * 2);
+        this.mask = slots - 1;
+    }
+
+    /** @return gespeicherter Wert oder {@link #MISS} */
+    public long get(long key) {
+        int slot = slot(key);
+        long value = entries.getOpaque(slot + 1);
+        long check = entries.getOpaque(slot);
+        if (key != 0 && (check ^ value) == key) {
+            hits.increment();
+            return value;
+        }
+        misses.increment();
+        return MISS;
+    }
+
+    public void put(long key, long value) {
+        if (key == 0 || value == MISS) {
+            return;
+        }
+        int slot = slot(key);
+        entries.setOpaque(slot, key ^ value);
+        entries.setOpaque(slot + 1, value);
+    }
+
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private int slot(long key) {
+        return ((int) (key ^ (key >>> 32)) & mask) << 1;
+    }
+}
@@ -0,0 +1,99 @@
+package com.uni.gamesever.domain.ai.mcts;
+
+/**
+ * Zobrist-Schlüssel für {@link SimState}. Jede Eigenschaft einer Stellung
+ * (Kachel auf Feld, Figur auf Feld, Ersatzkachel, letzter Push, ...) erhält
+ * einen zufällig wirkenden 64-Bit-Schlüssel; der Hash einer Stellung ist das
+ * XOR aller zutreffenden Schlüssel und lässt sich daher bei jeder Änderung
+ * inkrementell nachführen.
+ *
+ * Statt Tabellen wird das Tripel (Merkmal, a, b) eindeutig in ein
+ * {@code long} gepackt und mit dem SplitMix64-Finalizer gemischt. Der
+ * Finalizer ist bijektiv, damit sind alle Schlüssel verschieden; offene
+ * Wertebereiche wie Schatz-IDs brauchen keine feste Obergrenze.
+ */
+final class ZobristKeys {
+    private static final int TILE_MASK = 1;
+    private static final int TILE_FIXED = 2;
+    private static final int TILE_TREASURE = 3;
+    private static final int TILE_BONUS = 4;
+    private static final int SPARE_MASK = 5;
+    private static final int SPARE_FIXED = 6;
+    private static final int SPARE_TREASURE = 7;
+    private static final int SPARE_BONUS = 8;
+    private static final int LAST_PUSH = 9;
+    private static final int POSITION = 10;
+    private static final int PROGRESS = 11;
+    private static final int BONUS_COUNT = 12;
+    private static final int CURRENT_PLAYER = 13;
+    private static final int WINNER = 14;
+
+    private static final long SEED = 0x5DEECE66DL;
+
+    private ZobristKeys() {
+    }
+
+    static long tileMask(int cell, int mask) {
+        return key(TILE_MASK, cell, mask);
+    }
+
+    static long tileFixed(int cell) {
+        return key(TILE_FIXED, cell, 0);
+    }
+
+    static long tileTreasure(int cell, int treasureId) {
+        return key(TILE_TREASURE, cell, treasureId);
+    }
+
+    static long tileBonus(int cell, int bonus) {
+        return key(TILE_BONUS, cell, bonus);
+    }
+
+    static long spareMask(int mask) {
+        return key(SPARE_MASK, 0, mask);
+    }
+
+    static long spareFixed() {
+        return key(SPARE_FIXED, 0, 0);
+    }
+
+    static long spareTreasure(int treasureId) {
+        return key(SPARE_TREASURE, 0, treasureId);
+    }
+
+    static long spareBonus(int bonus) {
+        return key(SPARE_BONUS, 0, bonus);
+    }
+
+    static long lastPush(int index, int direction) {
+        return key(LAST_PUSH, index, direction);
+    }
+
+    static long position(int player, int cell) {
+        return key(POSITION, player, cell);
+    }
+
+    static long progress(int player, int progress) {
+        return key(PROGRESS, player, progress);
+    }
+
+    static long bonusCount(int player, int bonus, int count) {
+        return key(BONUS_COUNT, player << 8 | bonus, count);
+    }
+
+    static long currentPlayer(int player) {
+        return key(CURRENT_PLAYER, player, 0);
+    }
+
+    static long winner(int player) {
+        return key(WINNER, player, 0);
+    }
+
+    // Merkmal (8 Bit) | a (24 Bit) | b (32 Bit) ist eindeutig, der Finalizer bijektiv
+    private static long key(int feature, int a, int b) {
+        long z = ((long) feature << 56 | (a & 0xFFFFFFL) << 32 | (b & 0xFFFFFFFFL)) + SEED;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,5 +1,24 @@
 package com.uni.gamesever.domain.events;
 
+/**
+ * Ablauf des Zug-Timers für genau einen Zug: Spieler am Zug und Zugende beim
+ * Start des Timers. Passt beides nicht mehr zum aktuellen Zug, ist das
+ * Ereignis veraltet.
+ */
 public class TurnTimeoutEvent {
+    private final String playerId;
+    private final String turnEndTime;
 
+    public TurnTimeoutEvent(String playerId, String turnEndTime) {
+        this.playerId = playerId;
+        this.turnEndTime = turnEndTime;
+    }
+
+    public String getPlayerId() {
+        return playerId;
+    }
+
+    public String getTurnEndTime() {
+        return turnEndTime;
+    }
 }
@@ -0,0 +1,12 @@
+package com.uni.gamesever.domain.exceptions;
+
+public class LlmUnavailableException extends RuntimeException {
+    public LlmUnavailableException(String message) {
+        super(message);
+    }
+
+    public LlmUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
@@ -1,20 +1,15 @@
 package com.uni.gamesever.domain.game;
 
-import org.springframework.stereotype.Service;
-
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.uni.gamesever.domain.enums.AchievementType;
 import com.uni.gamesever.domain.model.PlayerInfo;
-import com.uni.gamesever.interfaces.Websocket.ObjectMapperSingleton;
+import com.uni.gamesever.interfaces.Websocket.SerializerRegistry;
 import com.uni.gamesever.interfaces.Websocket.messages.server.AchievementEvent;
 import com.uni.gamesever.services.SocketMessageService;
 
-@Service
 public class AchievementManager {
 
     SocketMessageService socketMessageService;
-    private final ObjectMapper objectMapper = ObjectMapperSingleton.getInstance();
     GameStatsManager gameStatsManager;
     private boolean hasBroadcastedRunnerAchievement = false;
     private boolean hasBroadcastedPusherAchievement = false;
@@ -30,7 +25,7 @@ public class AchievementManager {
         if (playerWithMostSteps != null && !hasBroadcastedRunnerAchievement) {
             AchievementEvent achievementEvent = new AchievementEvent(playerWithMostSteps.getId(),
                     AchievementType.RUNNER);
-            socketMessageService.broadcastMessage(objectMapper.writeValueAsString(achievementEvent));
+            socketMessageService.broadcastMessage(SerializerRegistry.toJson(achievementEvent));
             hasBroadcastedRunnerAchievement = true;
         }
 
@@ -38,7 +33,7 @@ public class AchievementManager {
         if (playerWithMostPushedTiles != null && !hasBroadcastedPusherAchievement) {
             AchievementEvent achievementEvent = new AchievementEvent(playerWithMostPushedTiles.getId(),
                     AchievementType.PUSHER);
-            socketMessageService.broadcastMessage(objectMapper.writeValueAsString(achievementEvent));
+            socketMessageService.broadcastMessage(SerializerRegistry.toJson(achievementEvent));
             hasBroadcastedPusherAchievement = true;
         }
     }
@@ -1,55 +1,82 @@
 package com.uni.gamesever.domain.game;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-
-import org.springframework.stereotype.Service;
+import java.util.SplittableRandom;
 
 import com.uni.gamesever.domain.enums.BonusType;
+import com.uni.gamesever.domain.model.BoardItemIndex;
 import com.uni.gamesever.domain.model.Bonus;
-import com.uni.gamesever.domain.model.Coordinates;
 import com.uni.gamesever.domain.model.GameBoard;
-import com.uni.gamesever.domain.model.Tile;
 import com.uni.gamesever.domain.model.Treasure;
 
-@Service
+/**
+ * Legt Schätze und Boni auf das Brett. Zielfelder werden gleichverteilt aus
+ * dem vom Brett nachgeführten Bitset der freien Felder gezogen
+ * ({@link BoardItemIndex}), ohne Listen aufzubauen oder zu mischen.
+ *
+ * Jedes Spiel hat einen eigenen Zufallsgenerator mit bekanntem Startwert, so
+ * dass sich die Platzierungen eines Spiels nachvollziehen lassen.
+ */
 public class BoardItemPlacementService {
+    private long seed;
+    private SplittableRandom random;
+
+    public BoardItemPlacementService() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    public BoardItemPlacementService(long seed) {
+        reseed(seed);
+    }
+
+    /**
+     * Startet den Zufallsgenerator für ein neues Spiel mit zufälligem
+     * Startwert neu
+     *
+     * @return der neue Startwert
+     */
+    public long reseed() {
+        long newSeed = random.nextLong();
+        reseed(newSeed);
+        return newSeed;
+    }
+
+    public void reseed(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
 
     public int countBonusesOnBoard(GameBoard board) {
-        int count = 0;
-        for (int r = 0; r < board.getRows(); r++) {
-            for (int c = 0; c < board.getCols(); c++) {
-                if (board.getTiles()[r][c].getBonus() != null) {
-                    count++;
-                }
-            }
-        }
-        return count;
+        return board.getBonusCountOnBoard();
     }
 
     public void placeOneBonus(GameBoard board, Bonus bonus) {
-        List<Tile> validTiles = collectValidTiles(board, false);
-
-        if (validTiles.isEmpty()) {
+        BoardItemIndex index = board.getItemIndex();
+        if (index.getFreeCellCount() == 0) {
             throw new IllegalArgumentException("Keine gültigen Felder zum Platzieren des Bonus gefunden");
         }
 
-        Collections.shuffle(validTiles);
-        validTiles.get(0).setBonus(bonus);
+        int cell = index.selectFreeCell(random.nextInt(index.getFreeCellCount()));
+        board.placeBonus(cell / board.getCols(), cell % board.getCols(), bonus);
     }
 
     public void placeTreasures(GameBoard board, List<Treasure> treasures) {
-        List<Tile> validTiles = collectValidTiles(board, true);
-
-        Collections.shuffle(validTiles);
-        int max = Math.min(treasures.size(), validTiles.size());
+        BoardItemIndex index = board.getItemIndex();
+        int freeCells = index.getFreeCellCount();
+        int max = Math.min(treasures.size(), freeCells);
 
+        // Jeder gelegte Schatz belegt sein Feld, daher wird ohne Zurücklegen gezogen
         for (int i = 0; i < max; i++) {
-            validTiles.get(i).setTreasure(treasures.get(i));
+            int cell = index.selectFreeCell(random.nextInt(index.getFreeCellCount()));
+            board.placeTreasure(cell / board.getCols(), cell % board.getCols(), treasures.get(i));
         }
 
-        if (treasures.size() > validTiles.size()) {
+        if (treasures.size() > freeCells) {
             throw new IllegalArgumentException("Nicht genügend Felder für Schätze vorhanden");
         }
     }
@@ -65,7 +92,7 @@ public class BoardItemPlacementService {
         if (chance <= 0)
             return false;
 
-        if (Math.random() > chance)
+        if (random.nextDouble() > chance)
             return false;
 
         Bonus bonus = createRandomBonus();
@@ -87,40 +114,10 @@ public class BoardItemPlacementService {
     public Bonus createRandomBonus() {
         BonusType[] types = BonusType.values();
         Bonus bonus = new Bonus();
-        bonus.setType(types[(int) (Math.random() * types.length)]);
+        bonus.setType(types[random.nextInt(types.length)]);
         return bonus;
     }
 
-    private List<Tile> collectValidTiles(GameBoard board, boolean allowTreasure) {
-        int rows = board.getSize().getRows();
-        int cols = board.getSize().getCols();
-        Tile[][] tiles = board.getTiles();
-
-        List<Tile> validTiles = new ArrayList<>();
-
-        List<Coordinates> forbiddenStartPositions = new ArrayList<>();
-        forbiddenStartPositions.add(new Coordinates(0, 0));
-        forbiddenStartPositions.add(new Coordinates(0, rows - 1));
-        forbiddenStartPositions.add(new Coordinates(cols - 1, 0));
-        forbiddenStartPositions.add(new Coordinates(cols - 1, rows - 1));
-
-        for (int rowIndex = 0; rowIndex < rows; rowIndex++) {
-            for (int colIndex = 0; colIndex < cols; colIndex++) {
-                boolean isStartField = false;
-                for (Coordinates start : forbiddenStartPositions) {
-                    if (start.getColumn() == colIndex && start.getRow() == rowIndex) {
-                        isStartField = true;
-                        break;
-                    }
-                }
-                if (!isStartField && tiles[rowIndex][colIndex].getTreasure() == null) {
-                    validTiles.add(tiles[rowIndex][colIndex]);
-                }
-            }
-        }
-        return validTiles;
-    }
-
     public List<Treasure> createTreasures(int amountOfTreasures) throws IllegalArgumentException {
         if (amountOfTreasures <= 0) {
             throw new IllegalArgumentException("Die Anzahl der Schätze muss positiv sein");
@@ -4,12 +4,12 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
 
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.uni.gamesever.domain.enums.LobbyStateEnum;
 import com.uni.gamesever.domain.events.GameTimeoutEvent;
 import com.uni.gamesever.domain.exceptions.GameAlreadyStartedException;
@@ -18,31 +18,31 @@ import com.uni.gamesever.domain.exceptions.NotEnoughPlayerException;
 import com.uni.gamesever.domain.exceptions.PlayerNotAdminException;
 import com.uni.gamesever.domain.model.BoardSize;
 import com.uni.gamesever.domain.model.GameBoard;
+import com.uni.gamesever.domain.model.PlayerInfo;
 import com.uni.gamesever.domain.model.PlayerState;
 import com.uni.gamesever.domain.model.Treasure;
 import com.uni.gamesever.domain.model.TurnState;
+import com.uni.gamesever.infrastructure.GameJournal;
 import com.uni.gamesever.infrastructure.GameTimerManager;
-import com.uni.gamesever.interfaces.Websocket.ObjectMapperSingleton;
+import com.uni.gamesever.interfaces.Websocket.SerializerRegistry;
 import com.uni.gamesever.interfaces.Websocket.messages.server.GameStarted;
-import com.uni.gamesever.interfaces.Websocket.messages.server.GameStateUpdate;
 import com.uni.gamesever.interfaces.Websocket.messages.server.NextTreasureCardEvent;
 import com.uni.gamesever.services.SocketMessageService;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-@Service
 public class GameInitializationController {
     PlayerManager playerManager;
     GameManager gameManager;
     SocketMessageService socketBroadcastService;
-    ObjectMapper objectMapper = ObjectMapperSingleton.getInstance();
     GameStatsManager gameStatsManager;
     BoardItemPlacementService boardItemPlacementService;
     GameTimerManager gameTimerManager;
     private static final Logger log = LoggerFactory.getLogger("GAME_LOG");
 
     private final ApplicationEventPublisher eventPublisher;
+    private GameJournal journal = GameJournal.DISABLED;
 
     public GameInitializationController(PlayerManager playerManager, SocketMessageService socketBroadcastService,
             GameManager gameManager, GameStatsManager gameStatsManager,
@@ -58,10 +58,28 @@ public class GameInitializationController {
 
     }
 
+    public void setJournal(GameJournal journal) {
+        this.journal = journal;
+    }
+
     public boolean handleStartGameMessage(String userID, BoardSize size, int amountOfTreasures, long gameDuration,
             int totalBonusCount)
             throws JsonProcessingException, PlayerNotAdminException, NotEnoughPlayerException, NoExtraTileException,
             GameAlreadyStartedException, IllegalArgumentException {
+        return handleStartGameMessage(userID, size, amountOfTreasures, gameDuration, totalBonusCount,
+                new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Startet das Spiel; Brett, Platzierung und Verteilung der Schätze hängen
+     * allein von {@code seed} ab. Mit demselben Startwert und denselben Spielern
+     * entsteht also dasselbe Spiel, darauf baut die Wiederherstellung aus dem
+     * {@link GameJournal} auf.
+     */
+    public boolean handleStartGameMessage(String userID, BoardSize size, int amountOfTreasures, long gameDuration,
+            int totalBonusCount, long seed)
+            throws JsonProcessingException, PlayerNotAdminException, NotEnoughPlayerException, NoExtraTileException,
+            GameAlreadyStartedException, IllegalArgumentException {
 
         if (gameManager.getTurnInfo().getState() != TurnState.NOT_STARTED) {
             throw new GameAlreadyStartedException("Das Spiel hat bereits begonnen.");
@@ -85,13 +103,17 @@ public class GameInitializationController {
 
         gameManager.setTotalBonusCountsOnBoard(totalBonusCount);
 
-        GameBoard board = GameBoard.generateBoard(size);
+        Random random = new Random(seed);
+        GameBoard board = GameBoard.generateBoard(size, random);
 
         playerManager.initializePlayerStates(board);
 
+        boardItemPlacementService.reseed(seed);
+        log.info("Startwert für Brett, Schätze und Boni: {}", seed);
+
         List<Treasure> treasures = boardItemPlacementService.createTreasures(amountOfTreasures);
         boardItemPlacementService.placeTreasures(board, treasures);
-        distributeTreasuresOnPlayers(treasures);
+        distributeTreasuresOnPlayers(treasures, random);
 
         for (int i = 0; i < 4; i++) {
             if (boardItemPlacementService.trySpawnBonus(board, gameManager.getTotalBonusCountsOnBoard())) {
@@ -121,20 +143,23 @@ public class GameInitializationController {
             eventPublisher.publishEvent(new GameTimeoutEvent());
         });
 
+        if (journal.isEnabled()) {
+            journal.recordStart(new GameJournal.Start(size.getRows(), size.getCols(), amountOfTreasures,
+                    gameDuration, totalBonusCount, seed, gameManager.getGameEndTime(), startPlayers()));
+        }
+
         GameStarted startedEvent = new GameStarted(board, playerManager.getNonNullPlayerStates(),
                 gameManager.getTurnInfo(),
                 gameManager.getGameEndTime());
-        socketBroadcastService.broadcastMessage(objectMapper.writeValueAsString(startedEvent));
+        socketBroadcastService.broadcastMessage(SerializerRegistry.toJson(startedEvent));
 
         for (PlayerState state : playerManager.getNonNullPlayerStates()) {
             NextTreasureCardEvent nextTreasureCardEvent = new NextTreasureCardEvent(state.getCurrentTreasure());
             socketBroadcastService.sendMessageToSession(state.getPlayerInfo().getId(),
-                    objectMapper.writeValueAsString(nextTreasureCardEvent));
+                    SerializerRegistry.toJson(nextTreasureCardEvent));
         }
 
-        GameStateUpdate gameStateUpdate = new GameStateUpdate(board, playerManager.getNonNullPlayerStates(),
-                gameManager.getTurnInfo(), gameManager.getGameEndTime());
-        socketBroadcastService.broadcastMessage(objectMapper.writeValueAsString(gameStateUpdate));
+        gameManager.informAllPlayersAboutCurrentGameState();
 
         // Prüfe ob der erste Spieler AI-gesteuert ist (disconnected beim Spielstart)
         gameManager.checkAndExecuteAIIfNeeded();
@@ -143,9 +168,13 @@ public class GameInitializationController {
     }
 
     public void distributeTreasuresOnPlayers(List<Treasure> treasures) {
+        distributeTreasuresOnPlayers(treasures, new Random());
+    }
+
+    public void distributeTreasuresOnPlayers(List<Treasure> treasures, Random random) {
         int playersCount = playerManager.getAmountOfPlayers();
         int index = 0;
-        Collections.shuffle(treasures);
+        Collections.shuffle(treasures, random);
 
         for (PlayerState state : playerManager.getNonNullPlayerStates()) {
             if (state == null)
@@ -161,4 +190,13 @@ public class GameInitializationController {
             state.setAssignedTreasures(assigned);
         }
     }
-}
\ No newline at end of file
+
+    private List<GameJournal.StartPlayer> startPlayers() {
+        List<GameJournal.StartPlayer> players = new ArrayList<>();
+        for (PlayerInfo player : playerManager.getNonNullPlayers()) {
+            players.add(new GameJournal.StartPlayer(player.getId(), player.getIdentifierToken(), player.getName(),
+                    player.getColor(), player.getIsAdmin()));
+        }
+        return players;
+    }
+}
@@ -2,15 +2,16 @@ package com.uni.gamesever.domain.game;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Queue;
+import java.util.Objects;
+import java.util.Set;
 
 import com.uni.gamesever.domain.ai.ServerAIManager;
 import com.uni.gamesever.domain.enums.LobbyStateEnum;
-import org.springframework.stereotype.Service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.uni.gamesever.domain.enums.BonusType;
 import com.uni.gamesever.domain.enums.DirectionType;
 import com.uni.gamesever.domain.events.GameTimeoutEvent;
@@ -32,17 +33,18 @@ import com.uni.gamesever.domain.model.PushActionInfo;
 import com.uni.gamesever.domain.model.Tile;
 import com.uni.gamesever.domain.model.TurnInfo;
 import com.uni.gamesever.domain.model.TurnState;
+import com.uni.gamesever.infrastructure.GameJournal;
+import com.uni.gamesever.infrastructure.GameMailbox;
 import com.uni.gamesever.infrastructure.GameTimerManager;
 import com.uni.gamesever.infrastructure.ReconnectTimerManager;
-import com.uni.gamesever.interfaces.Websocket.ObjectMapperSingleton;
+import com.uni.gamesever.interfaces.Websocket.SerializerRegistry;
 import com.uni.gamesever.interfaces.Websocket.messages.server.GameOverEvent;
+import com.uni.gamesever.interfaces.Websocket.messages.server.GameStatePatch;
 import com.uni.gamesever.interfaces.Websocket.messages.server.GameStateUpdate;
 import com.uni.gamesever.interfaces.Websocket.messages.server.LobbyState;
 import com.uni.gamesever.interfaces.Websocket.messages.server.NextTreasureCardEvent;
 import com.uni.gamesever.services.SocketMessageService;
-import org.springframework.context.event.EventListener;
 
-@Service
 public class GameManager {
     PlayerManager playerManager;
     GameStatsManager gameStatsManager;
@@ -52,25 +54,27 @@ public class GameManager {
     SocketMessageService socketBroadcastService;
     GameTimerManager gameTimerManager;
     ServerAIManager serverAIManager;
-    private final ObjectMapper objectMapper = ObjectMapperSingleton.getInstance();
+    private final ReachabilityEngine reachabilityEngine = new ReachabilityEngine();
+    private final GameStateSync gameStateSync = new GameStateSync();
     private boolean pushTwiceUsedInCurrentTurn = false;
-    private final Map<DirectionType, Coordinates> DIRECTION_OFFSETS = Map.of(
-            DirectionType.UP, new Coordinates(0, -1),
-            DirectionType.DOWN, new Coordinates(0, 1),
-            DirectionType.LEFT, new Coordinates(-1, 0),
-            DirectionType.RIGHT, new Coordinates(1, 0));
     BoardItemPlacementService boardItemPlacementService;
     AchievementManager achievementManager;
     private TurnInfo turnInfo;
     private String gameEndTime;
     private TurnTimer turnTimer;
     private ReconnectTimerManager reconnectTimerManager;
+    private GameMailbox gameMailbox;
+    private GameJournal journal = GameJournal.DISABLED;
+    // Aus dem Journal wiederhergestellt, es hat sich noch kein Spieler wieder verbunden
+    private boolean awaitingResume = false;
+    private static final String RECOVERY_TIMER_ID = "recovery";
+    private static final Logger log = LoggerFactory.getLogger("GAME_LOG");
 
     public GameManager(PlayerManager playerManager, SocketMessageService socketBroadcastService,
             GameStatsManager gameStatsManager, BoardItemPlacementService boardItemPlacementService,
             GameTimerManager gameTimerManager, AchievementManager achievementManager, TurnTimer turnTimer,
             ReconnectTimerManager reconnectTimerManager,
-            ServerAIManager serverAIManager) {
+            ServerAIManager serverAIManager, GameMailbox gameMailbox) {
         this.playerManager = playerManager;
         this.socketBroadcastService = socketBroadcastService;
         this.gameStatsManager = gameStatsManager;
@@ -81,6 +85,15 @@ public class GameManager {
         this.turnTimer = turnTimer;
         this.reconnectTimerManager = reconnectTimerManager;
         this.serverAIManager = serverAIManager;
+        this.gameMailbox = gameMailbox;
+    }
+
+    public void setJournal(GameJournal journal) {
+        this.journal = journal;
+    }
+
+    public GameJournal getJournal() {
+        return journal;
     }
 
     public GameBoard getCurrentBoard() {
@@ -118,6 +131,10 @@ public class GameManager {
         this.lobbyState = lobbyState;
     }
 
+    public GameStateSync getGameStateSync() {
+        return gameStateSync;
+    }
+
     public TurnInfo getTurnInfo() {
         return turnInfo;
     }
@@ -134,6 +151,15 @@ public class GameManager {
             boolean isUsingPushFixed)
             throws GameNotStartedException, NotPlayersTurnException, PushNotValidException, JsonProcessingException,
             IllegalArgumentException, NoExtraTileException, NoDirectionForPush {
+        boolean result = pushTile(rowOrColIndex, direction, playerIdWhoPushed, isUsingPushFixed);
+        journal.recordPush(rowOrColIndex, direction, isUsingPushFixed);
+        return result;
+    }
+
+    private boolean pushTile(int rowOrColIndex, DirectionType direction, String playerIdWhoPushed,
+            boolean isUsingPushFixed)
+            throws GameNotStartedException, NotPlayersTurnException, PushNotValidException, JsonProcessingException,
+            IllegalArgumentException, NoExtraTileException, NoDirectionForPush {
         if (!playerIdWhoPushed.equals(playerManager.getCurrentPlayer().getId())) {
             throw new NotPlayersTurnException(
                     "Es ist nicht dein Zug, um eine Kachel zu schieben.");
@@ -160,6 +186,7 @@ public class GameManager {
         PushActionInfo pushInfo = new PushActionInfo(rowOrColIndex);
         pushInfo.setDirections(direction.name());
         currentBoard.setLastPush(pushInfo);
+        serverAIManager.onRealPush(rowOrColIndex, direction);
         if (pushTwiceUsedInCurrentTurn) {
             pushTwiceUsedInCurrentTurn = false;
         } else {
@@ -224,6 +251,14 @@ public class GameManager {
     public boolean handleMovePawn(Coordinates targetCoordinates, String playerIdWhoMoved, boolean useBeamBonus)
             throws GameNotValidException,
             NotPlayersTurnException, NoValidActionException, JsonProcessingException, TargetCoordinateNullException {
+        boolean result = movePawn(targetCoordinates, playerIdWhoMoved, useBeamBonus);
+        journal.recordMove(targetCoordinates.getColumn(), targetCoordinates.getRow(), useBeamBonus);
+        return result;
+    }
+
+    private boolean movePawn(Coordinates targetCoordinates, String playerIdWhoMoved, boolean useBeamBonus)
+            throws GameNotValidException,
+            NotPlayersTurnException, NoValidActionException, JsonProcessingException, TargetCoordinateNullException {
         if (!playerIdWhoMoved.equals(playerManager.getCurrentPlayer().getId())) {
             throw new NotPlayersTurnException(
                     "Es ist nicht dein Zug, um die Spielfigur zu bewegen.");
@@ -261,7 +296,7 @@ public class GameManager {
                     NextTreasureCardEvent nextTreasureEvent = new NextTreasureCardEvent(
                             currentPlayerState.getCurrentTreasure());
                     socketBroadcastService.sendMessageToSession(playerIdWhoMoved,
-                            objectMapper.writeValueAsString(nextTreasureEvent));
+                            SerializerRegistry.toJson(nextTreasureEvent));
                 }
 
             } catch (IllegalStateException e) {
@@ -312,17 +347,19 @@ public class GameManager {
         getTurnInfo().setState(TurnState.WAITING_FOR_PUSH);
         getTurnInfo().setCurrentPlayerId(playerManager.getCurrentPlayer().getId());
         getTurnInfo().updateTurnEndTime();
-        turnTimer.resetTurnTimer();
+        turnTimer.resetTurnTimer(getTurnInfo());
 
     }
 
     /**
      * Prüft ob der aktuelle Spieler disconnected ist und AI aktiv hat.
      * Wenn ja, führt die AI sofort den Zug aus (Auto-Modus).
-     * Diese Methode wird nach jedem Turn-Wechsel aufgerufen.
+     * Diese Methode wird nach jedem Turn-Wechsel aufgerufen. KI-Spieler, die
+     * nicht am Zug sind, rechnen währenddessen voraus.
      */
     public void checkAndExecuteAIIfNeeded() {
         try {
+            serverAIManager.startPondering();
             PlayerInfo currentPlayer = playerManager.getCurrentPlayer();
 
             // Prüfe ob Spieler disconnected ist und AI aktiv
@@ -330,23 +367,21 @@ public class GameManager {
                 String identifierToken = currentPlayer.getIdentifierToken();
 
                 if (identifierToken != null && serverAIManager.isAIActive(identifierToken)) {
-                    System.out.println(
-                            "🤖 AUTO-AI: Spieler " + identifierToken + " ist disconnected, AI übernimmt sofort");
+                    log.debug("Spieler {} ist getrennt, AI übernimmt sofort", identifierToken);
 
-                    // Führe AI-Zug asynchron aus (nach kurzer Verzögerung für UI-Update)
-                    new Thread(() -> {
+                    // AI-Zug nach kurzer Verzögerung (UI-Update) in die Warteschlange des Raums
+                    // einreihen, damit er nicht parallel zu Client-Aktionen läuft
+                    gameMailbox.postDelayed(1000, () -> {
                         try {
-                            Thread.sleep(1000); // 1 Sekunde warten, damit UI sich aktualisieren kann
                             serverAIManager.executeAITurn(identifierToken);
                         } catch (Exception e) {
-                            System.err.println("❌ AUTO-AI execution failed: " + e.getMessage());
-                            e.printStackTrace();
+                            log.warn("AI-Zug für Spieler {} fehlgeschlagen", identifierToken, e);
                         }
-                    }).start();
+                    });
                 }
             }
         } catch (Exception e) {
-            System.err.println("⚠️ Error in checkAndExecuteAIIfNeeded: " + e.getMessage());
+            log.warn("Fehler beim Prüfen auf einen AI-Zug: {}", e.toString());
         }
     }
 
@@ -371,6 +406,7 @@ public class GameManager {
 
         informAllPlayersAboutCurrentGameState();
 
+        journal.record(GameJournal.Type.ROTATE);
         return true;
     }
 
@@ -396,56 +432,23 @@ public class GameManager {
             return true;
         }
 
-        int boardRows = board.getRows();
         int boardCols = board.getCols();
-        Map<Coordinates, Integer> stepsMap = new java.util.HashMap<>();
-
-        boolean[][] visited = new boolean[boardRows][boardCols];
-        Queue<Coordinates> queue = new java.util.LinkedList<>();
-        queue.add(start);
-        visited[start.getRow()][start.getColumn()] = true;
-        stepsMap.put(start, 0);
-
-        while (!queue.isEmpty()) {
-            Coordinates current = queue.poll();
-            int currentColumn = current.getColumn();
-            int currentRow = current.getRow();
-
-            Tile tile = board.getTileAtCoordinate(current);
-            if (tile == null) {
-                continue;
-            }
-
-            for (DirectionType dir : tile.getEntrances()) {
-                Coordinates offset = DIRECTION_OFFSETS.get(dir);
-                int newColumn = currentColumn + offset.getColumn();
-                int newRow = currentRow + offset.getRow();
-
-                if (newColumn < 0 || newColumn >= boardCols || newRow < 0 || newRow >= boardRows) {
-                    continue;
-                }
+        if (target.getColumn() < 0 || target.getColumn() >= boardCols
+                || target.getRow() < 0 || target.getRow() >= board.getRows()) {
+            return false;
+        }
+        if (!board.isConnected(start.getRow(), start.getColumn(), target.getRow(), target.getColumn())) {
+            return false;
+        }
 
-                Coordinates neighbor = new Coordinates(newColumn, newRow);
-                Tile neighborTile = board.getTileAtCoordinate(neighbor);
-                if (neighborTile == null || visited[newRow][newColumn]) {
-                    continue;
-                }
-                boolean hasOppositeEntrance = neighborTile.getEntrances().stream()
-                        .anyMatch(d -> isOppositeDirection(dir, d));
-                if (!hasOppositeEntrance) {
-                    continue;
-                }
-                if (neighbor.getColumn() == target.getColumn() && neighbor.getRow() == target.getRow()) {
-                    gameStatsManager.increaseStepsTaken(stepsMap.get(current) + 1,
-                            playerManager.getCurrentPlayer().getId());
-                    return true;
-                }
-                queue.add(neighbor);
-                visited[newRow][newColumn] = true;
-                stepsMap.put(neighbor, stepsMap.get(current) + 1);
-            }
+        // Schrittzahl für die Statistik
+        reachabilityEngine.search(board, start.getRow(), start.getColumn());
+        int steps = reachabilityEngine.getDistance(target.getRow() * boardCols + target.getColumn());
+        if (steps == ReachabilityEngine.UNREACHABLE) {
+            return false;
         }
-        return false;
+        gameStatsManager.increaseStepsTaken(steps, playerManager.getCurrentPlayer().getId());
+        return true;
     }
 
     public boolean handleUseBeam(Coordinates targetCoordinates, String playerIdWhoUsedBeam)
@@ -475,11 +478,12 @@ public class GameManager {
 
         currentPlayerState.useOneBonusOfType(BonusType.BEAM);
 
-        boolean result = handleMovePawn(targetCoordinates, playerIdWhoUsedBeam, true);
+        boolean result = movePawn(targetCoordinates, playerIdWhoUsedBeam, true);
 
         getTurnInfo().setState(TurnState.WAITING_FOR_MOVE);
         informAllPlayersAboutCurrentGameState();
 
+        journal.recordBeam(targetCoordinates.getColumn(), targetCoordinates.getRow());
         return result;
     }
 
@@ -528,6 +532,7 @@ public class GameManager {
 
         informAllPlayersAboutCurrentGameState();
 
+        journal.recordSwap(targetPlayerState.getPlayerInfo().getIdentifierToken());
         return true;
     }
 
@@ -572,7 +577,9 @@ public class GameManager {
 
         currentPlayerState.useOneBonusOfType(BonusType.PUSH_FIXED);
 
-        return handlePushTile(rowOrColIndex, direction, playerIdWhoUsedPushFixed, true);
+        boolean result = pushTile(rowOrColIndex, direction, playerIdWhoUsedPushFixed, true);
+        journal.recordPushFixed(rowOrColIndex, direction);
+        return result;
     }
 
     public boolean handleUsePushTwice(String playerIdWhoUsedPushTwice)
@@ -595,51 +602,89 @@ public class GameManager {
 
         pushTwiceUsedInCurrentTurn = true;
 
+        journal.record(GameJournal.Type.PUSH_TWICE);
         return true;
     }
 
     public void informAllPlayersAboutCurrentGameState() throws JsonProcessingException {
-        GameStateUpdate gameStatUpdate = new GameStateUpdate(currentBoard, playerManager.getNonNullPlayerStates(),
+        PlayerState[] players = playerManager.getNonNullPlayerStates();
+        GameStateUpdate gameStatUpdate = new GameStateUpdate(currentBoard, players, getTurnInfo(), getGameEndTime());
+
+        Set<String> deltaSessionIds = gameStateSync.getDeltaSessionIds();
+        if (deltaSessionIds.isEmpty()) {
+            // ohne Delta-Clients kein Brettvergleich, der nächste Delta-Client beginnt mit einem Gesamtstand
+            gameStateSync.discardBaseline();
+            socketBroadcastService.broadcast(gameStatUpdate);
+            return;
+        }
+
+        GameStatePatch patch = gameStateSync.nextVersion(currentBoard, players, getTurnInfo(), getGameEndTime());
+        // Delta-Clients erhalten nur die Änderungen, ohne Basis einen versionierten Gesamtstand
+        Object deltaMessage = patch != null ? patch
+                : gameStateSync.snapshot(currentBoard, players, getTurnInfo(), getGameEndTime());
+        socketBroadcastService.broadcastToSessions(deltaSessionIds, deltaMessage);
+        socketBroadcastService.broadcastExcept(deltaSessionIds, gameStatUpdate);
+    }
+
+    /**
+     * Sendet einer Session den vollständigen Stand der aktuellen Version, z. B.
+     * nach einem Resync-Wunsch oder einem Reconnect.
+     */
+    public void sendGameStateSnapshotToSession(String sessionId) throws JsonProcessingException {
+        if (currentBoard == null || getTurnInfo().getState() == TurnState.NOT_STARTED) {
+            return;
+        }
+        GameStateUpdate snapshot = gameStateSync.snapshot(currentBoard, playerManager.getNonNullPlayerStates(),
                 getTurnInfo(), getGameEndTime());
-        socketBroadcastService.broadcastMessage(objectMapper.writeValueAsString(gameStatUpdate));
+        socketBroadcastService.sendMessageToSession(sessionId, SerializerRegistry.toJson(snapshot));
     }
 
-    @EventListener
     public void onGameTimeout(GameTimeoutEvent event) {
         try {
             endGameByTimeoutOrAfterCollectingAllTreasures();
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Spiel konnte nach Ablauf der Spielzeit nicht beendet werden", e);
         }
     }
 
     public boolean endGameByTimeoutOrAfterCollectingAllTreasures() throws JsonProcessingException {
+        journal.finish();
+        awaitingResume = false;
         gameTimerManager.stop();
         turnTimer.stop();
+        serverAIManager.stopAllPondering();
         reconnectTimerManager.stopAll();
         gameStatsManager.updateScoresForAllPlayersAtTheEndOfTheGame();
         gameStatsManager.updateRankForAllPlayersBasedOnScore();
-        GameStateUpdate finalGameState = new GameStateUpdate(currentBoard,
-                playerManager.getNonNullPlayerStates(), getTurnInfo(), getGameEndTime());
-        socketBroadcastService.broadcastMessage(objectMapper.writeValueAsString(finalGameState));
+        informAllPlayersAboutCurrentGameState();
         achievementManager.unlockAllAchievements();
         GameOverEvent gameOver = new GameOverEvent(gameStatsManager.getSortedRankings());
         if (gameOver.getWinnerId() != null) {
-            socketBroadcastService.broadcastMessage(objectMapper.writeValueAsString(gameOver));
+            socketBroadcastService.broadcastMessage(SerializerRegistry.toJson(gameOver));
             getTurnInfo().setState(TurnState.NOT_STARTED);
             setLobbyState(LobbyStateEnum.LOBBY);
             gameStatsManager.removeAllScoresAndRanks();
         } else {
             throw new IllegalStateException("Die Gewinner-ID ist null, obwohl alle Schätze gesammelt wurden.");
         }
-        playerManager.removeNotConnectedPlayers();
+        // getrennte Spieler blockieren sonst die Plätze der Lobby
+        for (PlayerInfo removedPlayer : playerManager.removeNotConnectedPlayers()) {
+            if (removedPlayer.getIdentifierToken() != null) {
+                serverAIManager.deactivateAI(removedPlayer.getIdentifierToken());
+            }
+            log.info("Getrennter Spieler {} wurde nach Spielende aus der Lobby entfernt", removedPlayer.getId());
+        }
         LobbyState lobbyState = new LobbyState(playerManager.getNonNullPlayers());
-        socketBroadcastService.broadcastMessage(objectMapper.writeValueAsString(lobbyState));
+        socketBroadcastService.broadcastMessage(SerializerRegistry.toJson(lobbyState));
         return true;
     }
 
-    @EventListener
     public void onTurnTimeout(TurnTimeoutEvent event) {
+        if (!isCurrentTurn(event)) {
+            // Zug wurde beendet, während das Ereignis in der Warteschlange lag
+            log.debug("Veralteter Zug-Timeout für Spieler {} verworfen", event.getPlayerId());
+            return;
+        }
         try {
             PlayerInfo currentPlayer = playerManager.getCurrentPlayer();
 
@@ -649,29 +694,89 @@ public class GameManager {
             String identifierToken = currentPlayer.getIdentifierToken();
             if (identifierToken != null && !currentPlayer.getIsConnected()
                     && serverAIManager.isAIActive(identifierToken)) {
-                System.out.println("🤖 Turn timeout for disconnected player, AI taking over: "
-                        + identifierToken);
+                log.debug("Zug-Timeout für getrennten Spieler {}, AI übernimmt", identifierToken);
 
                 try {
-                    // Let AI execute the full turn
-                    serverAIManager.executeAITurn(identifierToken);
+                    // Let AI execute the full turn, scheitert sie, wird der Zug übersprungen
+                    serverAIManager.executeAITurn(identifierToken, this::skipTurn);
                     return; // AI handles turn transition
                 } catch (Exception e) {
-                    System.err.println("❌ AI execution failed: " + e.getMessage());
-                    e.printStackTrace();
+                    log.warn("AI-Zug für Spieler {} fehlgeschlagen, Zug wird übersprungen", identifierToken, e);
                     // Fall through to skip turn on AI failure
                 }
             }
 
             // Original behavior: skip to next player
-            playerManager.setNextPlayerAsCurrent();
-            resetAllVariablesForNextTurn();
-            informAllPlayersAboutCurrentGameState();
-
-            // Prüfe ob der neue aktuelle Spieler AI-gesteuert ist (disconnected)
-            checkAndExecuteAIIfNeeded();
+            skipTurn();
         } catch (JsonProcessingException e) {
-            e.printStackTrace();
+            log.error("Zug-Timeout konnte nicht verarbeitet werden", e);
+        }
+    }
+
+    private boolean isCurrentTurn(TurnTimeoutEvent event) {
+        TurnInfo turnInfo = getTurnInfo();
+        return !awaitingResume && turnInfo.getState() != TurnState.NOT_STARTED
+                && Objects.equals(event.getPlayerId(), turnInfo.getCurrentPlayerId())
+                && Objects.equals(event.getTurnEndTime(), turnInfo.getTurnEndTime());
+    }
+
+    /**
+     * Beendet den Zug des aktuellen Spielers ohne Aktion (Zug-Timeout)
+     */
+    public void skipTurn() throws JsonProcessingException {
+        playerManager.setNextPlayerAsCurrent();
+        resetAllVariablesForNextTurn();
+        journal.record(GameJournal.Type.TURN_TIMEOUT);
+        informAllPlayersAboutCurrentGameState();
+
+        // Prüfe ob der neue aktuelle Spieler AI-gesteuert ist (disconnected)
+        checkAndExecuteAIIfNeeded();
+    }
+
+    public boolean isAwaitingResume() {
+        return awaitingResume;
+    }
+
+    /**
+     * Nach der Wiederherstellung aus dem Journal ist noch niemand verbunden:
+     * Zug-Timer und KI ruhen, bis sich der erste Spieler wieder verbindet.
+     * Kommt innerhalb von {@code graceSeconds} niemand zurück, endet das Spiel
+     * wie bei einem Verbindungsverlust aller Spieler.
+     */
+    public void pauseAfterRecovery(long graceSeconds) {
+        awaitingResume = true;
+        turnTimer.stop();
+        serverAIManager.stopAllPondering();
+        reconnectTimerManager.start(RECOVERY_TIMER_ID, graceSeconds,
+                () -> gameMailbox.post(this::endGameIfNobodyReturned));
+    }
+
+    /**
+     * Der erste Spieler ist nach der Wiederherstellung zurück: das Spiel läuft
+     * mit einem neuen Zug-Timer weiter, für alle noch getrennten Spieler übernimmt
+     * die KI wie nach einem Verbindungsverlust.
+     */
+    public void resumeAfterRecovery() {
+        if (!awaitingResume) {
+            return;
+        }
+        awaitingResume = false;
+        reconnectTimerManager.stop(RECOVERY_TIMER_ID);
+        for (PlayerInfo player : playerManager.getNonNullPlayers()) {
+            if (!player.getIsConnected() && player.getIdentifierToken() != null) {
+                player.setIsAiControlled(true);
+                serverAIManager.activateAI(player.getIdentifierToken());
+            }
+        }
+        getTurnInfo().updateTurnEndTime();
+        turnTimer.resetTurnTimer(getTurnInfo());
+        checkAndExecuteAIIfNeeded();
+    }
+
+    private void endGameIfNobodyReturned() throws JsonProcessingException {
+        if (awaitingResume && playerManager.areAllPlayersDisconnected()) {
+            log.info("Kein Spieler ist nach der Wiederherstellung zurückgekehrt, Spiel wird beendet");
+            endGameByTimeoutOrAfterCollectingAllTreasures();
         }
     }
 }
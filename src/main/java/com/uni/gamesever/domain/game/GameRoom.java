@@ -0,0 +1,230 @@
+package com.uni.gamesever.domain.game;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.uni.gamesever.domain.ai.ServerAIManager;
+import com.uni.gamesever.domain.events.GameTimeoutEvent;
+import com.uni.gamesever.domain.events.TurnTimeoutEvent;
+import com.uni.gamesever.domain.model.BoardSize;
+import com.uni.gamesever.domain.model.Coordinates;
+import com.uni.gamesever.domain.model.PlayerInfo;
+import com.uni.gamesever.domain.model.TurnState;
+import com.uni.gamesever.infrastructure.GameEventLogger;
+import com.uni.gamesever.infrastructure.GameJournal;
+import com.uni.gamesever.infrastructure.GameJournalStore;
+import com.uni.gamesever.infrastructure.GameMailbox;
+import com.uni.gamesever.infrastructure.GameTimerManager;
+import com.uni.gamesever.infrastructure.HashedWheelTimer;
+import com.uni.gamesever.infrastructure.ManagedThreads;
+import com.uni.gamesever.infrastructure.ReconnectTimerManager;
+import com.uni.gamesever.infrastructure.TurnTimerManager;
+import com.uni.gamesever.interfaces.Websocket.ConnectionHandler;
+import com.uni.gamesever.services.SocketMessageService;
+
+/**
+ * Ein Spielraum mit eigenem Spielbrett, eigenen Spielern, eigenem Zugstatus und
+ * eigenen Timern. Mehrere Räume laufen unabhängig voneinander im selben Prozess.
+ * Jede Änderung am Spielzustand läuft über die {@link GameMailbox} des Raums,
+ * jede angenommene Spielaktion landet im {@link GameJournal} des Raums.
+ */
+public class GameRoom {
+    private final String roomId;
+    private final GameMailbox mailbox;
+    private final GameJournal journal;
+    private final ApplicationEventPublisher roomEventPublisher;
+    private final SocketMessageService socketMessageService;
+    private final PlayerManager playerManager;
+    private final GameStatsManager gameStatsManager;
+    private final AchievementManager achievementManager;
+    private final BoardItemPlacementService boardItemPlacementService;
+    private final GameTimerManager gameTimerManager;
+    private final TurnTimerManager turnTimerManager;
+    private final ReconnectTimerManager reconnectTimerManager;
+    private final ServerAIManager serverAIManager;
+    private final GameManager gameManager;
+    private final GameInitializationController gameInitializationController;
+    private final ConnectionHandler connectionHandler;
+
+    public GameRoom(String roomId, ManagedThreads managedThreads, HashedWheelTimer timer,
+            GameEventLogger gameEventLogger, GameJournalStore gameJournalStore) {
+        this.roomId = roomId;
+        this.mailbox = new GameMailbox(roomId, managedThreads.newThreadFactory("game-mailbox-" + roomId + "-"));
+        this.journal = gameJournalStore.journalFor(roomId);
+        this.roomEventPublisher = this::onRoomEvent;
+
+        this.socketMessageService = new SocketMessageService();
+        this.playerManager = new PlayerManager(socketMessageService);
+        this.gameStatsManager = new GameStatsManager(playerManager);
+        this.achievementManager = new AchievementManager(socketMessageService, gameStatsManager);
+        this.boardItemPlacementService = new BoardItemPlacementService();
+        this.gameTimerManager = new GameTimerManager(timer);
+        this.turnTimerManager = new TurnTimerManager(timer);
+        this.reconnectTimerManager = new ReconnectTimerManager(timer);
+        this.serverAIManager = new ServerAIManager(playerManager, null, mailbox, managedThreads.getAiTurnPermits(),
+                managedThreads.getAiExecutor(), managedThreads.getSearchPool(), managedThreads.getPonderPool(),
+                gameEventLogger, roomId);
+
+        TurnTimer turnTimer = new TurnTimer(turnTimerManager, roomEventPublisher);
+        this.gameManager = new GameManager(playerManager, socketMessageService, gameStatsManager,
+                boardItemPlacementService, gameTimerManager, achievementManager, turnTimer, reconnectTimerManager,
+                serverAIManager, mailbox);
+        this.serverAIManager.setGameManager(gameManager);
+        this.gameManager.setJournal(journal);
+
+        this.gameInitializationController = new GameInitializationController(playerManager, socketMessageService,
+                gameManager, gameStatsManager, boardItemPlacementService, gameTimerManager, roomEventPublisher);
+        this.gameInitializationController.setJournal(journal);
+        this.connectionHandler = new ConnectionHandler(playerManager, gameManager, socketMessageService,
+                serverAIManager, reconnectTimerManager);
+    }
+
+    private void onRoomEvent(Object event) {
+        if (event instanceof TurnTimeoutEvent turnTimeoutEvent) {
+            mailbox.post(() -> gameManager.onTurnTimeout(turnTimeoutEvent));
+        } else if (event instanceof GameTimeoutEvent gameTimeoutEvent) {
+            mailbox.post(() -> gameManager.onGameTimeout(gameTimeoutEvent));
+        }
+    }
+
+    /**
+     * Baut ein laufendes Spiel aus seinem Journal wieder auf: Spielstart mit
+     * denselben Spielern und demselben Startwert, danach jede aufgezeichnete
+     * Aktion in derselben Reihenfolge über dieselben Methoden wie im Spiel.
+     * Noch ist keine Session verbunden, Nachrichten gehen also ins Leere.
+     * Danach wartet das Spiel auf den ersten Reconnect, siehe
+     * {@link GameManager#pauseAfterRecovery(long)}.
+     *
+     * @return {@code false}, wenn das Spiel schon vorbei ist
+     */
+    public boolean recover(GameJournal.Recording recording, long recoveryGraceSeconds) throws Exception {
+        List<GameJournal.Entry> entries = recording.entries();
+        if (entries.isEmpty() || entries.get(0).type() != GameJournal.Type.START) {
+            throw new IllegalStateException("Das Journal beginnt nicht mit dem Spielstart.");
+        }
+        if (entries.get(entries.size() - 1).type() == GameJournal.Type.END) {
+            return false;
+        }
+        GameJournal.Start start = entries.get(0).start();
+        long remainingSeconds = Duration.between(OffsetDateTime.now(), OffsetDateTime.parse(start.gameEndTime()))
+                .getSeconds();
+        if (remainingSeconds <= 0) {
+            return false;
+        }
+
+        journal.beginReplay();
+        List<PlayerInfo> players = new ArrayList<>();
+        for (GameJournal.StartPlayer startPlayer : start.players()) {
+            PlayerInfo player = new PlayerInfo(startPlayer.id());
+            player.setIdentifierToken(startPlayer.identifierToken());
+            player.setName(startPlayer.name());
+            player.setColor(startPlayer.color());
+            player.setAdmin(startPlayer.admin());
+            player.setIsConnected(false);
+            players.add(player);
+        }
+        playerManager.restorePlayers(players);
+        gameInitializationController.handleStartGameMessage(playerManager.getAdminID(),
+                new BoardSize(start.rows(), start.cols()), start.treasureCount(), start.gameDurationSeconds(),
+                start.totalBonusCount(), start.seed());
+        for (int i = 1; i < entries.size(); i++) {
+            replay(entries.get(i));
+        }
+        if (isInLobby()) {
+            // letzter Zug vor dem Absturz hat das Spiel beendet
+            return false;
+        }
+
+        gameManager.setGameEndTime(start.gameEndTime());
+        gameTimerManager.start(remainingSeconds, () -> roomEventPublisher.publishEvent(new GameTimeoutEvent()));
+        gameManager.pauseAfterRecovery(recoveryGraceSeconds);
+        journal.resume(recording.validLength());
+        return true;
+    }
+
+    private void replay(GameJournal.Entry entry) throws Exception {
+        String currentPlayerId = playerManager.getCurrentPlayer().getId();
+        switch (entry.type()) {
+            case PUSH -> gameManager.handlePushTile(entry.index(), entry.direction(), currentPlayerId, entry.flag());
+            case PUSH_FIXED -> gameManager.handleUsePushFixedTile(entry.direction(), entry.index(), currentPlayerId);
+            case ROTATE -> gameManager.handleRotateTile(currentPlayerId);
+            case MOVE -> gameManager.handleMovePawn(new Coordinates(entry.column(), entry.row()), currentPlayerId,
+                    entry.flag());
+            case BEAM -> gameManager.handleUseBeam(new Coordinates(entry.column(), entry.row()), currentPlayerId);
+            case SWAP -> gameManager.handleUseSwap(playerIdOf(entry.identifierToken()), currentPlayerId);
+            case PUSH_TWICE -> gameManager.handleUsePushTwice(currentPlayerId);
+            case TURN_TIMEOUT -> gameManager.skipTurn();
+            case PLAYER_LEFT -> connectionHandler.handleIntentionalDisconnectOrAfterTimeOut(
+                    playerIdOf(entry.identifierToken()));
+            default -> throw new IllegalStateException("Unerwarteter Satz im Journal: " + entry.type());
+        }
+    }
+
+    private String playerIdOf(String identifierToken) {
+        PlayerInfo player = playerManager.getPlayerByIdentifierToken(identifierToken);
+        if (player == null) {
+            throw new IllegalStateException("Spieler " + identifierToken + " aus dem Journal ist nicht im Spiel.");
+        }
+        return player.getId();
+    }
+
+    public String getRoomId() {
+        return roomId;
+    }
+
+    public GameMailbox getMailbox() {
+        return mailbox;
+    }
+
+    public SocketMessageService getSocketMessageService() {
+        return socketMessageService;
+    }
+
+    public PlayerManager getPlayerManager() {
+        return playerManager;
+    }
+
+    public GameManager getGameManager() {
+        return gameManager;
+    }
+
+    public ServerAIManager getServerAIManager() {
+        return serverAIManager;
+    }
+
+    public ReconnectTimerManager getReconnectTimerManager() {
+        return reconnectTimerManager;
+    }
+
+    public GameInitializationController getGameInitializationController() {
+        return gameInitializationController;
+    }
+
+    public ConnectionHandler getConnectionHandler() {
+        return connectionHandler;
+    }
+
+    public boolean isInLobby() {
+        return gameManager.getTurnInfo().getState() == TurnState.NOT_STARTED;
+    }
+
+    public boolean isAbandoned() {
+        return isInLobby() && playerManager.getAmountOfPlayers() == 0;
+    }
+
+    public GameJournal getJournal() {
+        return journal;
+    }
+
+    public void shutdown() {
+        journal.close();
+        gameTimerManager.stop();
+        turnTimerManager.stop();
+        reconnectTimerManager.shutdown();
+        mailbox.shutdown();
+    }
+}
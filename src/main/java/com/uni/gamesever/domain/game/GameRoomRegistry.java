@@ -0,0 +1,266 @@
+package com.uni.gamesever.domain.game;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.WebSocketSession;
+
+import com.uni.gamesever.domain.enums.LobbyStateEnum;
+import com.uni.gamesever.domain.exceptions.GameFullException;
+import com.uni.gamesever.domain.model.PlayerInfo;
+import com.uni.gamesever.infrastructure.GameEventLogger;
+import com.uni.gamesever.infrastructure.GameJournal;
+import com.uni.gamesever.infrastructure.GameJournalStore;
+import com.uni.gamesever.infrastructure.HashedWheelTimer;
+import com.uni.gamesever.infrastructure.ManagedThreads;
+import com.uni.gamesever.services.SocketMessageService;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Verwaltet alle Spielräume des Servers und ordnet jede WebSocket-Session genau
+ * einem Raum zu. Es gibt keine globale Sperre: Zuordnen und Schließen eines
+ * Raums sperren nur diesen Raum, die Anzahl der Räume ist ein atomarer Zähler.
+ */
+@Service
+public class GameRoomRegistry {
+    private final Map<String, GameRoom> rooms = new ConcurrentHashMap<>();
+    private final Map<String, GameRoom> roomsBySessionId = new ConcurrentHashMap<>();
+    // identifierToken eines Spielers ist die Session-ID seines ersten Connects,
+    // eingetragen, sobald der ConnectionHandler des Raums ihn vergibt
+    private final Map<String, GameRoom> roomsByIdentifierToken = new ConcurrentHashMap<>();
+    private final AtomicInteger roomCount = new AtomicInteger();
+    private final SocketMessageService socketMessageService;
+    private final ManagedThreads managedThreads;
+    private final HashedWheelTimer timer;
+    private final GameEventLogger gameEventLogger;
+    private final GameJournalStore gameJournalStore;
+    private final int maxRooms;
+    private static final Logger log = LoggerFactory.getLogger("GAME_LOG");
+
+    public GameRoomRegistry(SocketMessageService socketMessageService, ManagedThreads managedThreads,
+            HashedWheelTimer timer, GameEventLogger gameEventLogger, GameJournalStore gameJournalStore,
+            @Value("${game-server.max-rooms:256}") int maxRooms) {
+        this.socketMessageService = socketMessageService;
+        this.managedThreads = managedThreads;
+        this.timer = timer;
+        this.gameEventLogger = gameEventLogger;
+        this.gameJournalStore = gameJournalStore;
+        this.maxRooms = maxRooms;
+    }
+
+    /**
+     * Stellt beim Start alle Spiele wieder her, für die noch ein Journal
+     * vorliegt. Ihre Spieler gelten als getrennt und kommen über ihren
+     * identifierToken zurück in den Raum. Journale, deren Wiederherstellung
+     * scheitert, werden beiseitegelegt statt gelöscht.
+     */
+    @PostConstruct
+    public void recoverRooms() {
+        for (String roomId : gameJournalStore.findJournaledRoomIds()) {
+            GameRoom room = newRoom(roomId);
+            boolean[] running = new boolean[1];
+            try {
+                GameJournal.Recording recording = gameJournalStore.read(roomId);
+                room.getMailbox().runAndWait(() -> running[0] = room.recover(recording,
+                        gameJournalStore.getRecoveryGraceSeconds()));
+            } catch (Exception e) {
+                log.warn("Spiel in Raum {} konnte nicht aus dem Journal wiederhergestellt werden: {}", roomId,
+                        e.toString());
+                room.shutdown();
+                gameJournalStore.quarantine(roomId);
+                continue;
+            }
+            if (!running[0]) {
+                room.shutdown();
+                gameJournalStore.discard(roomId);
+                continue;
+            }
+            rooms.put(roomId, room);
+            roomCount.incrementAndGet();
+            for (PlayerInfo player : room.getPlayerManager().getNonNullPlayers()) {
+                roomsByIdentifierToken.put(player.getIdentifierToken(), room);
+            }
+            log.info("Spiel in Raum {} aus dem Journal wiederhergestellt ({} Spieler)", roomId,
+                    room.getPlayerManager().getAmountOfPlayers());
+        }
+    }
+
+    public GameRoom getRoomOfSession(String sessionId) {
+        if (sessionId == null) {
+            return null;
+        }
+        return roomsBySessionId.get(sessionId);
+    }
+
+    /**
+     * Ordnet eine Session einem Raum zu. Ein bekannter identifierToken führt zurück
+     * in den Raum des Spielers, sonst wird eine offene Lobby gewählt oder ein
+     * neuer Raum eröffnet.
+     */
+    public GameRoom assignSessionToRoom(String sessionId, String identifierToken)
+            throws GameFullException {
+        GameRoom room = getRoomOfSession(sessionId);
+        if (room != null) {
+            return room;
+        }
+
+        removeAbandonedRooms();
+
+        while (true) {
+            if (identifierToken != null && !identifierToken.isEmpty()) {
+                room = findRoomByIdentifierToken(identifierToken);
+                if (room != null && bindSession(sessionId, room, false)) {
+                    return room;
+                }
+            }
+            room = findOpenLobby();
+            if (room == null) {
+                room = openNewRoom();
+            }
+            if (bindSession(sessionId, room, true)) {
+                return room;
+            }
+            // Raum wurde inzwischen geschlossen oder belegt, neu wählen
+        }
+    }
+
+    public void releaseSession(String sessionId) {
+        GameRoom room = roomsBySessionId.remove(sessionId);
+        if (room == null) {
+            return;
+        }
+        room.getSocketMessageService().removeDisconnectedSessionWithID(sessionId);
+        if (isClosable(room)) {
+            closeRoom(room);
+        }
+    }
+
+    public Collection<GameRoom> getRooms() {
+        return rooms.values();
+    }
+
+    public int getTotalPlayerCount() {
+        int count = 0;
+        for (GameRoom room : rooms.values()) {
+            count += room.getPlayerManager().getAmountOfPlayers();
+        }
+        return count;
+    }
+
+    public LobbyStateEnum getLobbyState() {
+        if (roomCount.get() < maxRooms || findOpenLobby() != null) {
+            return LobbyStateEnum.LOBBY;
+        }
+        return LobbyStateEnum.IN_GAME;
+    }
+
+    private GameRoom findRoomByIdentifierToken(String identifierToken) {
+        GameRoom room = roomsByIdentifierToken.get(identifierToken);
+        if (room == null || rooms.get(room.getRoomId()) != room) {
+            return null;
+        }
+        if (room.getPlayerManager().getPlayerByIdentifierToken(identifierToken) == null) {
+            // Spieler hat den Raum inzwischen verlassen
+            roomsByIdentifierToken.remove(identifierToken, room);
+            return null;
+        }
+        return room;
+    }
+
+    private GameRoom findOpenLobby() {
+        for (GameRoom room : rooms.values()) {
+            if (room.isInLobby() && hasFreeSeat(room)) {
+                return room;
+            }
+        }
+        return null;
+    }
+
+    private static boolean hasFreeSeat(GameRoom room) {
+        // Spieler belegen ihren Platz auch ohne Session, beitretende Sessions noch ohne Spieler
+        int occupiedSeats = Math.max(room.getPlayerManager().getAmountOfPlayers(),
+                room.getSocketMessageService().getSessionCount());
+        return occupiedSeats < PlayerManager.MAX_PLAYERS;
+    }
+
+    private GameRoom openNewRoom() throws GameFullException {
+        if (roomCount.incrementAndGet() > maxRooms) {
+            roomCount.decrementAndGet();
+            throw new GameFullException("Alle Spielräume sind belegt. Beitritt nicht möglich.");
+        }
+        GameRoom room = newRoom(UUID.randomUUID().toString());
+        rooms.put(room.getRoomId(), room);
+        log.info("Spielraum {} eröffnet ({} Räume aktiv)", room.getRoomId(), roomCount.get());
+        return room;
+    }
+
+    private GameRoom newRoom(String roomId) {
+        GameRoom room = new GameRoom(roomId, managedThreads, timer, gameEventLogger, gameJournalStore);
+        room.getConnectionHandler().setIdentifierTokenListener(
+                identifierToken -> roomsByIdentifierToken.put(identifierToken, room));
+        return room;
+    }
+
+    /**
+     * Bindet die Session an den Raum, sofern er noch offen ist und, falls
+     * verlangt, einen freien Platz hat. Gesperrt wird nur der Raum, damit
+     * gleichzeitige Zuordnungen ihn nicht überbelegen und er nicht während der
+     * Zuordnung geschlossen wird.
+     */
+    private boolean bindSession(String sessionId, GameRoom room, boolean needsSeat) {
+        synchronized (room) {
+            if (rooms.get(room.getRoomId()) != room || (needsSeat && !hasFreeSeat(room))) {
+                return false;
+            }
+            WebSocketSession session = socketMessageService.getSession(sessionId);
+            if (session != null) {
+                room.getSocketMessageService().addIncomingSession(session);
+            }
+            roomsBySessionId.put(sessionId, room);
+        }
+        return true;
+    }
+
+    private void removeAbandonedRooms() {
+        for (GameRoom room : rooms.values()) {
+            if (isClosable(room)) {
+                closeRoom(room);
+            }
+        }
+    }
+
+    private boolean isClosable(GameRoom room) {
+        return room.isAbandoned() && room.getSocketMessageService().getSessionCount() == 0;
+    }
+
+    private void closeRoom(GameRoom room) {
+        synchronized (room) {
+            if (!isClosable(room) || !rooms.remove(room.getRoomId(), room)) {
+                return;
+            }
+        }
+        roomCount.decrementAndGet();
+        roomsByIdentifierToken.values().removeIf(indexedRoom -> indexedRoom == room);
+        room.shutdown();
+        log.info("Spielraum {} geschlossen ({} Räume aktiv)", room.getRoomId(), roomCount.get());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (GameRoom room : rooms.values()) {
+            room.shutdown();
+        }
+        rooms.clear();
+        roomCount.set(0);
+        roomsBySessionId.clear();
+    }
+}
@@ -0,0 +1,147 @@
+package com.uni.gamesever.domain.game;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.uni.gamesever.domain.model.Bonus;
+import com.uni.gamesever.domain.model.GameBoard;
+import com.uni.gamesever.domain.model.PlayerState;
+import com.uni.gamesever.domain.model.Tile;
+import com.uni.gamesever.domain.model.Treasure;
+import com.uni.gamesever.domain.model.TurnInfo;
+import com.uni.gamesever.interfaces.Websocket.messages.server.GameStatePatch;
+import com.uni.gamesever.interfaces.Websocket.messages.server.GameStateUpdate;
+
+/**
+ * Versioniert den Spielzustand eines Raums und berechnet für Clients mit
+ * Delta-Updates die Änderungen gegenüber der zuletzt gesendeten Version.
+ *
+ * Als Vergleichsbasis dient ein Abbild des Bretts (Kachel-Referenz, Maske,
+ * Schatz, Bonus, fest/beweglich je Feld). Ein Patch enthält geänderte Felder
+ * immer vollständig, daher schadet es nicht, wenn ein Feld mehrfach übertragen
+ * wird.
+ */
+public class GameStateSync {
+    private final Set<String> deltaSessionIds = ConcurrentHashMap.newKeySet();
+    private long sequence;
+    private GameBoard baselineBoard;
+    private Tile[] baselineTiles;
+    private byte[] baselineMasks;
+    private Treasure[] baselineTreasures;
+    private Bonus[] baselineBonuses;
+    private boolean[] baselineFixed;
+
+    public void setDeltaUpdates(String sessionId, boolean enabled) {
+        if (enabled) {
+            deltaSessionIds.add(sessionId);
+        } else {
+            deltaSessionIds.remove(sessionId);
+        }
+    }
+
+    public void removeSession(String sessionId) {
+        deltaSessionIds.remove(sessionId);
+    }
+
+    public boolean isDeltaSession(String sessionId) {
+        return deltaSessionIds.contains(sessionId);
+    }
+
+    public Set<String> getDeltaSessionIds() {
+        return Collections.unmodifiableSet(deltaSessionIds);
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Erhöht die Version und liefert die Änderungen gegenüber der vorherigen.
+     * Ist keine passende Basis vorhanden (erstes Update, neues Brett), wird
+     * {@code null} geliefert und der Aufrufer sendet einen vollständigen Stand.
+     */
+    public GameStatePatch nextVersion(GameBoard board, PlayerState[] players, TurnInfo turnInfo,
+            String gameEndTime) {
+        long baseSequence = sequence++;
+        if (board == null) {
+            baselineBoard = null;
+            return null;
+        }
+        if (board != baselineBoard || baselineTiles.length != board.getRows() * board.getCols()) {
+            captureBaseline(board);
+            return null;
+        }
+
+        List<GameStatePatch.TileChange> changedTiles = new ArrayList<>();
+        Tile[][] tiles = board.getTiles();
+        int cols = board.getCols();
+        for (int row = 0; row < board.getRows(); row++) {
+            for (int col = 0; col < cols; col++) {
+                int cell = row * cols + col;
+                Tile tile = tiles[row][col];
+                if (hasChanged(cell, tile)) {
+                    changedTiles.add(new GameStatePatch.TileChange(row, col, tile));
+                    remember(cell, tile);
+                }
+            }
+        }
+        return new GameStatePatch(sequence, baseSequence, changedTiles, board.getSpareTile(), board.getLastPush(),
+                players, turnInfo, gameEndTime);
+    }
+
+    /**
+     * Vergisst die Vergleichsbasis, solange kein Client Delta-Updates bezieht.
+     * Der nächste Aufruf von {@link #nextVersion} liefert dann {@code null}.
+     */
+    public void discardBaseline() {
+        baselineBoard = null;
+    }
+
+    /**
+     * Vollständiger Stand der aktuellen Version, z. B. für einen Resync oder
+     * einen wiederverbundenen Client. Die Version wird dabei nicht erhöht.
+     */
+    public GameStateUpdate snapshot(GameBoard board, PlayerState[] players, TurnInfo turnInfo, String gameEndTime) {
+        return new GameStateUpdate(board, players, turnInfo, gameEndTime, sequence);
+    }
+
+    private boolean hasChanged(int cell, Tile tile) {
+        if (tile != baselineTiles[cell]) {
+            return true;
+        }
+        if (tile == null) {
+            return false;
+        }
+        return tile.getEntranceMask() != baselineMasks[cell]
+                || tile.getTreasure() != baselineTreasures[cell]
+                || tile.getBonus() != baselineBonuses[cell]
+                || tile.getIsFixed() != baselineFixed[cell];
+    }
+
+    private void captureBaseline(GameBoard board) {
+        int cells = board.getRows() * board.getCols();
+        baselineBoard = board;
+        baselineTiles = new Tile[cells];
+        baselineMasks = new byte[cells];
+        baselineTreasures = new Treasure[cells];
+        baselineBonuses = new Bonus[cells];
+        baselineFixed = new boolean[cells];
+        Tile[][] tiles = board.getTiles();
+        for (int row = 0; row < board.getRows(); row++) {
+            for (int col = 0; col < board.getCols(); col++) {
+                remember(row * board.getCols() + col, tiles[row][col]);
+            }
+        }
+    }
+
+    private void remember(int cell, Tile tile) {
+        baselineTiles[cell] = tile;
+        baselineMasks[cell] = tile != null ? (byte) tile.getEntranceMask() : 0;
+        baselineTreasures[cell] = tile != null ? tile.getTreasure() : null;
+        baselineBonuses[cell] = tile != null ? tile.getBonus() : null;
+        baselineFixed[cell] = tile != null && tile.getIsFixed();
+    }
+}
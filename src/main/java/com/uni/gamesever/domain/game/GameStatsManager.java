@@ -4,13 +4,11 @@ import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.stereotype.Service;
 
 import com.uni.gamesever.domain.model.PlayerGameStats;
 import com.uni.gamesever.domain.model.PlayerInfo;
 import com.uni.gamesever.domain.model.RankingEntry;
 
-@Service
 public class GameStatsManager {
     private List<RankingEntry> rankings;
     PlayerManager playerManager;
@@ -127,7 +125,7 @@ public class GameStatsManager {
         RankingEntry entry = findRankingEntry(playerId);
         if (entry != null) {
             entry.getStats().increaseStepsTaken(steps);
-            log.info("Schritte für Spieler {} um {} erhöht", playerId, steps);
+            log.debug("Schritte für Spieler {} um {} erhöht", playerId, steps);
         } else {
             log.info("⚠️  Could not find ranking entry for player " + playerId);
         }
@@ -137,7 +135,7 @@ public class GameStatsManager {
         RankingEntry entry = findRankingEntry(playerId);
         if (entry != null) {
             entry.getStats().increaseTilesPushed(tiles);
-            log.info("Geschobene Kacheln für Spieler {} um {} erhöht", playerId, tiles);
+            log.debug("Geschobene Kacheln für Spieler {} um {} erhöht", playerId, tiles);
         } else {
             log.info("⚠️  Could not find ranking entry for player " + playerId);
         }
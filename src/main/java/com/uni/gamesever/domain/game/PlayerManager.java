@@ -4,7 +4,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
-import org.springframework.stereotype.Service;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.uni.gamesever.domain.enums.Color;
 import com.uni.gamesever.domain.exceptions.UserNotFoundException;
@@ -15,9 +16,9 @@ import com.uni.gamesever.domain.model.PlayerInfo;
 import com.uni.gamesever.domain.model.PlayerState;
 import com.uni.gamesever.services.SocketMessageService;
 
-@Service
 public class PlayerManager {
-    private static final int MAX_PLAYERS = 4;
+    private static final Logger log = LoggerFactory.getLogger("GAME_LOG");
+    public static final int MAX_PLAYERS = 4;
     private PlayerInfo[] players = new PlayerInfo[MAX_PLAYERS];
     private PlayerState[] playerStates = new PlayerState[MAX_PLAYERS];
     private boolean hasAdministrator = false;
@@ -141,14 +142,32 @@ public class PlayerManager {
                     && player.getIdentifierToken().equals(identifierToken)) {
                 player.setIsConnected(true);
                 player.setId(newSessionId); // Update Session ID für Message-Routing
-                System.out.println(
-                        "📝 Reconnect: identifierToken=" + identifierToken + " → neue SessionID=" + newSessionId);
+                log.debug("Reconnect: identifierToken={}, neue Session {}", identifierToken, newSessionId);
                 return true;
             }
         }
         throw new UserNotFoundException("Es wurde kein Benutzer zum Verbinden gefunden!");
     }
 
+    /**
+     * Setzt die Spieler eines aus dem Journal wiederhergestellten Spiels in
+     * ihrer Reihenfolge beim Spielstart ein, Farben und Admin bleiben erhalten
+     */
+    public void restorePlayers(List<PlayerInfo> restoredPlayers) {
+        players = new PlayerInfo[MAX_PLAYERS];
+        playerStates = new PlayerState[MAX_PLAYERS];
+        currentAvailableColors = new ArrayList<>(
+                Arrays.asList(Color.RED, Color.BLUE, Color.GREEN, Color.YELLOW));
+        hasAdministrator = false;
+        currentPlayer = null;
+        for (int i = 0; i < restoredPlayers.size() && i < MAX_PLAYERS; i++) {
+            PlayerInfo player = restoredPlayers.get(i);
+            players[i] = player;
+            currentAvailableColors.remove(player.getColor());
+            hasAdministrator |= player.getIsAdmin();
+        }
+    }
+
     public PlayerInfo[] getPlayers() {
         return players.clone();
     }
@@ -159,19 +178,28 @@ public class PlayerManager {
                 .toArray(PlayerInfo[]::new);
     }
 
-    public void removeNotConnectedPlayers() {
-        // alle spieler durchgehen
-        for (int i = 0; i < players.length; i++) {
-            if (players[i] != null && !players[i].getIsConnected()) {
-                try {
-                    removePlayer(players[i].getId());
-                    System.out.println(
-                            "User " + players[i].getId() + " has been removed for next round due to disconnection.");
-                } catch (UserNotFoundException e) {
-
-                }
+    /**
+     * Entfernt alle getrennten Spieler, z. B. wenn ein Spiel zurück in die Lobby
+     * geht. {@link #removePlayer(String)} rückt die Spieler auf, deshalb werden
+     * die IDs vorher gesammelt.
+     *
+     * @return die entfernten Spieler
+     */
+    public List<PlayerInfo> removeNotConnectedPlayers() {
+        List<PlayerInfo> disconnectedPlayers = new ArrayList<>();
+        for (PlayerInfo player : players) {
+            if (player != null && !player.getIsConnected()) {
+                disconnectedPlayers.add(player);
+            }
+        }
+        for (PlayerInfo player : disconnectedPlayers) {
+            try {
+                removePlayer(player.getId());
+            } catch (UserNotFoundException e) {
+                // bereits entfernt
             }
         }
+        return disconnectedPlayers;
     }
 
     public PlayerState[] getPlayerStates() {
@@ -0,0 +1,166 @@
+package com.uni.gamesever.domain.game;
+
+import java.util.Arrays;
+
+import com.uni.gamesever.domain.model.EntranceMask;
+import com.uni.gamesever.domain.model.GameBoard;
+import com.uni.gamesever.domain.model.Tile;
+
+/**
+ * Breitensuche über Feldindizes ({@code row * cols + col}) auf den
+ * Eingangsmasken eines Spielbretts. Queue, Besucht-Markierung und Distanzen
+ * werden zwischen den Suchen wiederverwendet, eine Suche erzeugt daher keinen
+ * Müll. Eine Instanz ist nicht threadsicher und gehört genau einem Spielraum
+ * bzw. einer KI.
+ */
+public class ReachabilityEngine {
+    public static final int UNREACHABLE = -1;
+    private static final int DEFAULT_CAPACITY = 11 * 11;
+
+    private int[] queue;
+    private int[] visitedGeneration;
+    private int[] distances;
+    private long[] reachableCells;
+    private byte[] maskBuffer;
+    private int generation;
+    private int cellCount;
+    private int reachableCount;
+
+    public ReachabilityEngine() {
+        ensureCapacity(DEFAULT_CAPACITY);
+    }
+
+    public int search(GameBoard board, int startRow, int startCol) {
+        return search(board.getEntranceMasks(), board.getRows(), board.getCols(),
+                startRow * board.getCols() + startCol, null);
+    }
+
+    /**
+     * Sucht auf einem Kachel-Array, wie es die KI aus dem Spielzustand erhält.
+     * Die Masken werden dafür in einen wiederverwendeten Puffer kopiert.
+     */
+    public int search(Tile[][] tiles, int startRow, int startCol, long[] blockedCells) {
+        int rows = tiles.length;
+        int cols = rows > 0 ? tiles[0].length : 0;
+        ensureCapacity(rows * cols);
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                Tile tile = tiles[row][col];
+                maskBuffer[row * cols + col] = tile != null ? (byte) tile.getEntranceMask() : 0;
+            }
+        }
+        return search(maskBuffer, rows, cols, startRow * cols + startCol, blockedCells);
+    }
+
+    /**
+     * Berechnet alle vom Startfeld erreichbaren Felder und ihre Schrittzahl.
+     *
+     * @param blockedCells Bitset gesperrter Felder (z. B. von anderen Spielern
+     *                     besetzt) oder {@code null}
+     * @return Anzahl der erreichbaren Felder inklusive Startfeld
+     */
+    public int search(byte[] masks, int rows, int cols, int startCell, long[] blockedCells) {
+        cellCount = rows * cols;
+        ensureCapacity(cellCount);
+        nextGeneration();
+        Arrays.fill(reachableCells, 0, bitsetLength(cellCount), 0L);
+        reachableCount = 0;
+
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = startCell;
+        visit(startCell, 0);
+
+        while (head < tail) {
+            int cell = queue[head++];
+            int row = cell / cols;
+            int col = cell - row * cols;
+            int mask = masks[cell];
+            int nextDistance = distances[cell] + 1;
+
+            for (int direction = 0; direction < EntranceMask.DIRECTIONS; direction++) {
+                int bit = 1 << direction;
+                if ((mask & bit) == 0) {
+                    continue;
+                }
+                int neighborRow = row + EntranceMask.rowOffset(direction);
+                int neighborCol = col + EntranceMask.colOffset(direction);
+                if (neighborRow < 0 || neighborRow >= rows || neighborCol < 0 || neighborCol >= cols) {
+                    continue;
+                }
+                int neighbor = neighborRow * cols + neighborCol;
+                if (visitedGeneration[neighbor] == generation
+                        || (masks[neighbor] & EntranceMask.opposite(bit)) == 0
+                        || (blockedCells != null && containsCell(blockedCells, neighbor))) {
+                    continue;
+                }
+                visit(neighbor, nextDistance);
+                queue[tail++] = neighbor;
+            }
+        }
+        return reachableCount;
+    }
+
+    public boolean isReachable(int cell) {
+        return cell >= 0 && cell < cellCount && visitedGeneration[cell] == generation;
+    }
+
+    public int getDistance(int cell) {
+        return isReachable(cell) ? distances[cell] : UNREACHABLE;
+    }
+
+    /**
+     * Bitset der erreichbaren Felder der letzten Suche. Das Array wird von der
+     * nächsten Suche überschrieben.
+     */
+    public long[] getReachableCells() {
+        return reachableCells;
+    }
+
+    public int getReachableCount() {
+        return reachableCount;
+    }
+
+    public int getCellCount() {
+        return cellCount;
+    }
+
+    public static int bitsetLength(int cells) {
+        return (cells + 63) >>> 6;
+    }
+
+    public static boolean containsCell(long[] bitset, int cell) {
+        return (bitset[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    public static void addCell(long[] bitset, int cell) {
+        bitset[cell >>> 6] |= 1L << cell;
+    }
+
+    private void visit(int cell, int distance) {
+        visitedGeneration[cell] = generation;
+        distances[cell] = distance;
+        addCell(reachableCells, cell);
+        reachableCount++;
+    }
+
+    private void nextGeneration() {
+        generation++;
+        if (generation == 0) {
+            Arrays.fill(visitedGeneration, 0);
+            generation = 1;
+        }
+    }
+
+    private void ensureCapacity(int cells) {
+        if (queue != null && queue.length >= cells) {
+            return;
+        }
+        queue = new int[cells];
+        visitedGeneration = new int[cells];
+        distances = new int[cells];
+        reachableCells = new long[bitsetLength(cells)];
+        maskBuffer = new byte[cells];
+        generation = 0;
+    }
+}
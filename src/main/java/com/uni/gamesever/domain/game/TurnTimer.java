@@ -1,12 +1,11 @@
 package com.uni.gamesever.domain.game;
 
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.stereotype.Service;
 
 import com.uni.gamesever.infrastructure.TurnTimerManager;
 import com.uni.gamesever.domain.events.TurnTimeoutEvent;
+import com.uni.gamesever.domain.model.TurnInfo;
 
-@Service
 public class TurnTimer {
 
     private final TurnTimerManager turnTimerManager;
@@ -20,10 +19,15 @@ public class TurnTimer {
         this.eventPublisher = eventPublisher;
     }
 
-    public void resetTurnTimer() {
+    /**
+     * Startet den Timer für den Zug in {@code turnInfo}; das Ereignis trägt
+     * Spieler und Zugende dieses Zugs.
+     */
+    public void resetTurnTimer(TurnInfo turnInfo) {
         turnTimerManager.stop();
+        TurnTimeoutEvent timeout = new TurnTimeoutEvent(turnInfo.getCurrentPlayerId(), turnInfo.getTurnEndTime());
         turnTimerManager.start(TURN_DURATION, () -> {
-            eventPublisher.publishEvent(new TurnTimeoutEvent());
+            eventPublisher.publishEvent(timeout);
         });
     }
 
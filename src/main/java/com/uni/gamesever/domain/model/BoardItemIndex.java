@@ -0,0 +1,190 @@
+package com.uni.gamesever.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * Lage der Schätze und Boni eines Spielbretts: Schatz-ID → Feld, ein Bitset
+ * der Felder mit Bonus und ein Bitset der freien Felder (kein Startfeld, kein
+ * Schatz), auf die neue Gegenstände gelegt werden dürfen. Felder werden als
+ * {@code row * cols + col} abgelegt, die Ersatzkachel unter
+ * {@link #getSpareCell()}.
+ *
+ * Der Index wird von {@link GameBoard} bei jeder Änderung nachgeführt; nach
+ * einem Schieben nur entlang der geschobenen Reihe/Spalte und der
+ * Ersatzkachel. Schätze und Boni müssen daher über das Brett gesetzt und
+ * entfernt werden, nicht direkt an der Kachel.
+ */
+public class BoardItemIndex {
+    public static final int NO_CELL = -1;
+
+    private final int cols;
+    private final int spareCell;
+    private final long[] bonusCells;
+    private final long[] startCells;
+    private final long[] freeCells;
+    private int[] treasureCells = new int[0];
+    private int bonusCountOnBoard;
+    private int freeCellCount;
+
+    public BoardItemIndex(int rows, int cols) {
+        this.cols = cols;
+        this.spareCell = rows * cols;
+        int words = (spareCell >> 6) + 1;
+        this.bonusCells = new long[words];
+        this.startCells = new long[words];
+        this.freeCells = new long[words];
+        for (int cell : new int[] { 0, cols - 1, (rows - 1) * cols, rows * cols - 1 }) {
+            startCells[cell >> 6] |= 1L << cell;
+        }
+        for (int cell = 0; cell < spareCell; cell++) {
+            updateFreeBit(cell, false);
+        }
+    }
+
+    /**
+     * @return Feld des Schatzes, {@link #getSpareCell()} für die Ersatzkachel
+     *         oder {@link #NO_CELL}, wenn er nicht (mehr) im Spiel ist
+     */
+    public synchronized int getTreasureCell(int treasureId) {
+        if (treasureId < 0 || treasureId >= treasureCells.length) {
+            return NO_CELL;
+        }
+        return treasureCells[treasureId];
+    }
+
+    public synchronized boolean hasBonus(int cell) {
+        return (bonusCells[cell >> 6] & (1L << cell)) != 0;
+    }
+
+    /** Anzahl der Boni auf dem Brett, ohne Ersatzkachel */
+    public synchronized int getBonusCountOnBoard() {
+        return bonusCountOnBoard;
+    }
+
+    public int getSpareCell() {
+        return spareCell;
+    }
+
+    /** Anzahl der Felder ohne Schatz, die kein Startfeld sind */
+    public synchronized int getFreeCellCount() {
+        return freeCellCount;
+    }
+
+    /**
+     * Liefert das {@code n}-te freie Feld in Zeilenreihenfolge. Mit einem
+     * gleichverteilten {@code n} ist das gewählte Feld gleichverteilt über
+     * alle freien Felder.
+     *
+     * @param n 0 bis {@link #getFreeCellCount()} - 1
+     */
+    public synchronized int selectFreeCell(int n) {
+        if (n < 0 || n >= freeCellCount) {
+            throw new IndexOutOfBoundsException("Kein freies Feld mit Rang " + n + " von " + freeCellCount);
+        }
+        for (int word = 0; word < freeCells.length; word++) {
+            long bits = freeCells[word];
+            int count = Long.bitCount(bits);
+            if (n < count) {
+                for (int i = 0; i < n; i++) {
+                    bits &= bits - 1;
+                }
+                return (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            n -= count;
+        }
+        throw new IllegalStateException("Bitset der freien Felder ist inkonsistent");
+    }
+
+    synchronized void add(int cell, Tile tile) {
+        if (tile == null) {
+            return;
+        }
+        if (tile.getTreasure() != null) {
+            int id = tile.getTreasure().getId();
+            if (id >= treasureCells.length) {
+                int oldLength = treasureCells.length;
+                treasureCells = Arrays.copyOf(treasureCells, Math.max(id + 1, oldLength * 2));
+                Arrays.fill(treasureCells, oldLength, treasureCells.length, NO_CELL);
+            }
+            treasureCells[id] = cell;
+            if (cell != spareCell) {
+                updateFreeBit(cell, true);
+            }
+        }
+        if (tile.getBonus() != null) {
+            setBonusBit(cell);
+        }
+    }
+
+    synchronized void remove(int cell, Tile tile) {
+        if (tile == null) {
+            return;
+        }
+        if (tile.getTreasure() != null) {
+            int id = tile.getTreasure().getId();
+            if (id < treasureCells.length && treasureCells[id] == cell) {
+                treasureCells[id] = NO_CELL;
+            }
+            if (cell != spareCell) {
+                updateFreeBit(cell, false);
+            }
+        }
+        clearBonusBit(cell);
+    }
+
+    /**
+     * Führt den Index nach dem Schieben einer Reihe/Spalte nach. Alle Kacheln
+     * der Linie sind dieselben wie vorher (eine davon jetzt als Ersatzkachel)
+     * oder die frühere Ersatzkachel, daher genügt es, die Linie und die
+     * Ersatzkachel neu einzutragen.
+     */
+    synchronized void onLinePushed(Tile[][] tiles, boolean horizontal, int index, Tile spareTile) {
+        int length = horizontal ? tiles[index].length : tiles.length;
+        for (int i = 0; i < length; i++) {
+            int row = horizontal ? index : i;
+            int col = horizontal ? i : index;
+            clearBonusBit(row * cols + col);
+            updateFreeBit(row * cols + col, false);
+        }
+        clearBonusBit(spareCell);
+        for (int i = 0; i < length; i++) {
+            int row = horizontal ? index : i;
+            int col = horizontal ? i : index;
+            add(row * cols + col, tiles[row][col]);
+        }
+        add(spareCell, spareTile);
+    }
+
+    private void updateFreeBit(int cell, boolean hasTreasure) {
+        long bit = 1L << cell;
+        boolean free = !hasTreasure && (startCells[cell >> 6] & bit) == 0;
+        boolean wasFree = (freeCells[cell >> 6] & bit) != 0;
+        if (free && !wasFree) {
+            freeCells[cell >> 6] |= bit;
+            freeCellCount++;
+        } else if (!free && wasFree) {
+            freeCells[cell >> 6] &= ~bit;
+            freeCellCount--;
+        }
+    }
+
+    private void setBonusBit(int cell) {
+        long bit = 1L << cell;
+        if ((bonusCells[cell >> 6] & bit) == 0) {
+            bonusCells[cell >> 6] |= bit;
+            if (cell != spareCell) {
+                bonusCountOnBoard++;
+            }
+        }
+    }
+
+    private void clearBonusBit(int cell) {
+        long bit = 1L << cell;
+        if ((bonusCells[cell >> 6] & bit) != 0) {
+            bonusCells[cell >> 6] &= ~bit;
+            if (cell != spareCell) {
+                bonusCountOnBoard--;
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.uni.gamesever.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * Zusammenhangskomponenten der Felder eines Spielbretts (Union-Find über die
+ * offenen Durchgänge). Zwei Felder sind genau dann verbunden, wenn sie dieselbe
+ * Komponenten-ID haben.
+ *
+ * Nach einem Schieben werden nur die Komponenten neu berechnet, die die
+ * geschobene Reihe/Spalte oder ihre Nachbarlinien berühren. Alle anderen
+ * Kanten des Bretts sind unverändert, ihre Komponenten bleiben gültig.
+ */
+public class ConnectivityIndex {
+    private final int rows;
+    private final int cols;
+    private final int[] parent;
+    private final int[] componentOf;
+    private final boolean[] affected;
+    private final boolean[] invalidLabel;
+    private final boolean[] inRegion;
+    private boolean fullyDirty = true;
+    private boolean partiallyDirty = false;
+
+    public ConnectivityIndex(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        int cells = rows * cols;
+        this.parent = new int[cells];
+        this.componentOf = new int[cells];
+        this.affected = new boolean[cells];
+        this.invalidLabel = new boolean[cells];
+        this.inRegion = new boolean[cells];
+    }
+
+    public void invalidateAll() {
+        fullyDirty = true;
+    }
+
+    /**
+     * Merkt eine geschobene Zeile bzw. Spalte samt Nachbarlinien zur
+     * Neuberechnung vor.
+     */
+    public void onLinePushed(boolean isRow, int index) {
+        if (fullyDirty) {
+            return;
+        }
+        for (int line = index - 1; line <= index + 1; line++) {
+            if (isRow && line >= 0 && line < rows) {
+                for (int col = 0; col < cols; col++) {
+                    affected[line * cols + col] = true;
+                }
+            } else if (!isRow && line >= 0 && line < cols) {
+                for (int row = 0; row < rows; row++) {
+                    affected[row * cols + line] = true;
+                }
+            }
+        }
+        partiallyDirty = true;
+    }
+
+    public int getComponentId(byte[] masks, int cell) {
+        refresh(masks);
+        return componentOf[cell];
+    }
+
+    public boolean isConnected(byte[] masks, int fromCell, int toCell) {
+        refresh(masks);
+        return componentOf[fromCell] == componentOf[toCell];
+    }
+
+    private void refresh(byte[] masks) {
+        if (fullyDirty) {
+            Arrays.fill(inRegion, true);
+            relabelRegion(masks);
+            Arrays.fill(affected, false);
+            fullyDirty = false;
+            partiallyDirty = false;
+        } else if (partiallyDirty) {
+            collectRegion();
+            relabelRegion(masks);
+            Arrays.fill(affected, false);
+            partiallyDirty = false;
+        }
+    }
+
+    private void collectRegion() {
+        Arrays.fill(invalidLabel, false);
+        for (int cell = 0; cell < componentOf.length; cell++) {
+            if (affected[cell]) {
+                invalidLabel[componentOf[cell]] = true;
+            }
+        }
+        for (int cell = 0; cell < componentOf.length; cell++) {
+            inRegion[cell] = affected[cell] || invalidLabel[componentOf[cell]];
+        }
+    }
+
+    /**
+     * Baut die Komponenten aller Felder der Region neu auf. Die Region ist
+     * abgeschlossen: jeder offene Durchgang eines Region-Felds führt wieder in
+     * die Region, daher genügt es, nur innerhalb der Region zu vereinigen.
+     */
+    private void relabelRegion(byte[] masks) {
+        for (int cell = 0; cell < parent.length; cell++) {
+            if (inRegion[cell]) {
+                parent[cell] = cell;
+            }
+        }
+        for (int cell = 0; cell < parent.length; cell++) {
+            if (!inRegion[cell]) {
+                continue;
+            }
+            int mask = masks[cell];
+            int col = cell % cols;
+            if ((mask & EntranceMask.RIGHT) != 0 && col + 1 < cols && inRegion[cell + 1]
+                    && (masks[cell + 1] & EntranceMask.LEFT) != 0) {
+                union(cell, cell + 1);
+            }
+            if ((mask & EntranceMask.DOWN) != 0 && cell + cols < parent.length && inRegion[cell + cols]
+                    && (masks[cell + cols] & EntranceMask.UP) != 0) {
+                union(cell, cell + cols);
+            }
+        }
+        for (int cell = 0; cell < parent.length; cell++) {
+            if (inRegion[cell]) {
+                componentOf[cell] = find(cell);
+            }
+        }
+    }
+
+    private int find(int cell) {
+        while (parent[cell] != cell) {
+            parent[cell] = parent[parent[cell]];
+            cell = parent[cell];
+        }
+        return cell;
+    }
+
+    private void union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA != rootB) {
+            parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.uni.gamesever.domain.model;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * Distanzfelder eines Spielbretts zu einem Zielfeld, z. B. dem gesuchten
+ * Schatz oder dem Heimatfeld. Für jedes Feld gibt es zwei Werte:
+ * <ul>
+ * <li>Wegdistanz: Schritte über offene Durchgänge bis zum Ziel
+ * ({@link #UNREACHABLE}, wenn das Feld nicht verbunden ist),</li>
+ * <li>Push-Distanz: geschätzte Anzahl Pushes, bis das Feld mit dem Ziel
+ * verbunden ist. Jede fehlende Verbindung zwischen zwei Nachbarn kostet einen
+ * Push, sofern eine der beiden Kacheln verschiebbar ist.</li>
+ * </ul>
+ *
+ * Die Felder werden je Zielfeld einmal berechnet und bis zur nächsten Änderung
+ * des Bretts zwischengespeichert; alle KI-Spieler eines Raums teilen sie. Die
+ * gelieferten Arrays dürfen nicht verändert werden.
+ */
+public class DistanceFields {
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final int rows;
+    private final int cols;
+    private final int[][] pathByTarget;
+    private final int[][] pushesByTarget;
+
+    public DistanceFields(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.pathByTarget = new int[rows * cols][];
+        this.pushesByTarget = new int[rows * cols][];
+    }
+
+    public synchronized void invalidateAll() {
+        Arrays.fill(pathByTarget, null);
+        Arrays.fill(pushesByTarget, null);
+    }
+
+    public synchronized int[] pathDistances(Tile[][] tiles, int targetRow, int targetCol) {
+        int target = targetRow * cols + targetCol;
+        if (pathByTarget[target] == null) {
+            pathByTarget[target] = computePathDistances(tiles, new int[] { target });
+        }
+        return pathByTarget[target];
+    }
+
+    public synchronized int[] pushDistances(Tile[][] tiles, int targetRow, int targetCol) {
+        int target = targetRow * cols + targetCol;
+        if (pushesByTarget[target] == null) {
+            pushesByTarget[target] = computePushDistances(tiles, new int[] { target });
+        }
+        return pushesByTarget[target];
+    }
+
+    /**
+     * Breitensuche von allen Quellfeldern gleichzeitig über offene Durchgänge
+     *
+     * @param sourceCells Felder als {@code row * cols + col}
+     */
+    public static int[] computePathDistances(Tile[][] tiles, int[] sourceCells) {
+        int rows = tiles.length;
+        int cols = tiles[0].length;
+        byte[] masks = masksOf(tiles);
+        int[] distances = new int[rows * cols];
+        Arrays.fill(distances, UNREACHABLE);
+        int[] queue = new int[rows * cols];
+        int head = 0;
+        int tail = 0;
+        for (int source : sourceCells) {
+            if (distances[source] != 0) {
+                distances[source] = 0;
+                queue[tail++] = source;
+            }
+        }
+        while (head < tail) {
+            int cell = queue[head++];
+            for (int direction = 0; direction < EntranceMask.DIRECTIONS; direction++) {
+                int neighbor = neighbor(cell, direction, rows, cols);
+                if (neighbor >= 0 && distances[neighbor] == UNREACHABLE
+                        && isOpen(masks, cell, neighbor, direction)) {
+                    distances[neighbor] = distances[cell] + 1;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+        return distances;
+    }
+
+    /**
+     * 0-1-Breitensuche von allen Quellfeldern: offene Durchgänge kosten nichts,
+     * fehlende Verbindungen einen Push. Zwischen zwei festen Kacheln kann kein
+     * Push eine Verbindung herstellen.
+     */
+    public static int[] computePushDistances(Tile[][] tiles, int[] sourceCells) {
+        int rows = tiles.length;
+        int cols = tiles[0].length;
+        byte[] masks = masksOf(tiles);
+        boolean[] fixed = new boolean[rows * cols];
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                fixed[row * cols + col] = tiles[row][col] != null && tiles[row][col].getIsFixed();
+            }
+        }
+        int[] distances = new int[rows * cols];
+        Arrays.fill(distances, UNREACHABLE);
+        ArrayDeque<Integer> deque = new ArrayDeque<>();
+        for (int source : sourceCells) {
+            distances[source] = 0;
+            deque.addFirst(source);
+        }
+        while (!deque.isEmpty()) {
+            int cell = deque.pollFirst();
+            for (int direction = 0; direction < EntranceMask.DIRECTIONS; direction++) {
+                int neighbor = neighbor(cell, direction, rows, cols);
+                if (neighbor < 0) {
+                    continue;
+                }
+                int cost;
+                if (isOpen(masks, cell, neighbor, direction)) {
+                    cost = 0;
+                } else if (!fixed[cell] || !fixed[neighbor]) {
+                    cost = 1;
+                } else {
+                    continue;
+                }
+                if (distances[cell] + cost < distances[neighbor]) {
+                    distances[neighbor] = distances[cell] + cost;
+                    if (cost == 0) {
+                        deque.addFirst(neighbor);
+                    } else {
+                        deque.addLast(neighbor);
+                    }
+                }
+            }
+        }
+        return distances;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    private static byte[] masksOf(Tile[][] tiles) {
+        int cols = tiles[0].length;
+        byte[] masks = new byte[tiles.length * cols];
+        for (int row = 0; row < tiles.length; row++) {
+            for (int col = 0; col < cols; col++) {
+                Tile tile = tiles[row][col];
+                masks[row * cols + col] = tile != null ? (byte) tile.getEntranceMask() : 0;
+            }
+        }
+        return masks;
+    }
+
+    private static int neighbor(int cell, int direction, int rows, int cols) {
+        int row = cell / cols + EntranceMask.rowOffset(direction);
+        int col = cell % cols + EntranceMask.colOffset(direction);
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            return -1;
+        }
+        return row * cols + col;
+    }
+
+    private static boolean isOpen(byte[] masks, int cell, int neighbor, int direction) {
+        int bit = 1 << direction;
+        return (masks[cell] & bit) != 0 && (masks[neighbor] & EntranceMask.opposite(bit)) != 0;
+    }
+}
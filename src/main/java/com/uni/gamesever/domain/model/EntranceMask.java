@@ -0,0 +1,100 @@
+package com.uni.gamesever.domain.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.uni.gamesever.domain.enums.DirectionType;
+
+/**
+ * Eingänge einer Kachel als 4-Bit-Maske. Die Bits sind im Uhrzeigersinn
+ * angeordnet (UP, RIGHT, DOWN, LEFT), dadurch ist eine Drehung ein Bit-Shift.
+ */
+public final class EntranceMask {
+    public static final int NONE = 0;
+    public static final int UP = 1;
+    public static final int RIGHT = 1 << 1;
+    public static final int DOWN = 1 << 2;
+    public static final int LEFT = 1 << 3;
+    public static final int ALL = UP | RIGHT | DOWN | LEFT;
+
+    /** Anzahl der Richtungen; Index i gehört zum Bit {@code 1 << i}. */
+    public static final int DIRECTIONS = 4;
+
+    private static final int[] ROW_OFFSETS = { -1, 0, 1, 0 };
+    private static final int[] COL_OFFSETS = { 0, 1, 0, -1 };
+    private static final DirectionType[] DIRECTION_TYPES = { DirectionType.UP, DirectionType.RIGHT,
+            DirectionType.DOWN, DirectionType.LEFT };
+    private static final List<List<DirectionType>> ENTRANCE_LISTS = new ArrayList<>(ALL + 1);
+
+    static {
+        for (int mask = 0; mask <= ALL; mask++) {
+            List<DirectionType> entrances = new ArrayList<>(DIRECTIONS);
+            for (int i = 0; i < DIRECTIONS; i++) {
+                if ((mask & (1 << i)) != 0) {
+                    entrances.add(DIRECTION_TYPES[i]);
+                }
+            }
+            ENTRANCE_LISTS.add(Collections.unmodifiableList(entrances));
+        }
+    }
+
+    private EntranceMask() {
+    }
+
+    public static int of(DirectionType direction) {
+        if (direction == null) {
+            return NONE;
+        }
+        switch (direction) {
+            case UP:
+                return UP;
+            case RIGHT:
+                return RIGHT;
+            case DOWN:
+                return DOWN;
+            case LEFT:
+                return LEFT;
+            default:
+                return NONE;
+        }
+    }
+
+    public static int of(List<DirectionType> directions) {
+        int mask = NONE;
+        if (directions != null) {
+            for (DirectionType direction : directions) {
+                mask |= of(direction);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Liefert die Eingänge als unveränderliche Liste. Die Listen sind für alle 16
+     * Masken vorberechnet, damit die JSON-Ansicht keinen Müll erzeugt.
+     */
+    public static List<DirectionType> toList(int mask) {
+        return ENTRANCE_LISTS.get(mask & ALL);
+    }
+
+    public static int rotateClockwise(int mask) {
+        return ((mask << 1) | (mask >>> 3)) & ALL;
+    }
+
+    public static int opposite(int mask) {
+        return ((mask << 2) | (mask >>> 2)) & ALL;
+    }
+
+    public static boolean has(int mask, int bit) {
+        return (mask & bit) != 0;
+    }
+
+    public static int rowOffset(int directionIndex) {
+        return ROW_OFFSETS[directionIndex];
+    }
+
+    public static int colOffset(int directionIndex) {
+        return COL_OFFSETS[directionIndex];
+    }
+}
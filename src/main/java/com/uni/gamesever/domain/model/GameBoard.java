@@ -14,6 +14,14 @@ public class GameBoard {
     private int rows;
     private int cols;
     private Tile[][] tiles;
+    @JsonIgnore
+    private byte[] entranceMasks;
+    @JsonIgnore
+    private ConnectivityIndex connectivityIndex;
+    @JsonIgnore
+    private DistanceFields distanceFields;
+    @JsonIgnore
+    private BoardItemIndex itemIndex;
     private PushActionInfo lastPush;
     @JsonIgnore
     private BoardSize size;
@@ -25,6 +33,10 @@ public class GameBoard {
         this.rows = size.getRows();
         this.cols = size.getCols();
         this.tiles = new Tile[rows][cols];
+        this.entranceMasks = new byte[rows * cols];
+        this.connectivityIndex = new ConnectivityIndex(rows, cols);
+        this.distanceFields = new DistanceFields(rows, cols);
+        this.itemIndex = new BoardItemIndex(rows, cols);
     }
 
     public BoardSize getSize() {
@@ -36,7 +48,103 @@ public class GameBoard {
     }
 
     public void setTile(int row, int col, Tile tile) {
+        this.itemIndex.remove(row * cols + col, this.tiles[row][col]);
         this.tiles[row][col] = tile;
+        this.itemIndex.add(row * cols + col, tile);
+        this.entranceMasks[row * cols + col] = tile != null ? (byte) tile.getEntranceMask() : 0;
+        this.connectivityIndex.invalidateAll();
+        this.distanceFields.invalidateAll();
+    }
+
+    /**
+     * Eingangsmasken aller Felder, zeilenweise abgelegt unter dem Index
+     * {@code row * cols + col}. Leere Felder haben die Maske 0.
+     */
+    public byte[] getEntranceMasks() {
+        return entranceMasks;
+    }
+
+    public int getEntranceMask(int row, int col) {
+        return entranceMasks[row * cols + col];
+    }
+
+    /**
+     * Prüft, ob man vom Feld (row, col) in Richtung {@code directionIndex} (siehe
+     * {@link EntranceMask}) auf das Nachbarfeld gehen kann.
+     */
+    public boolean hasOpenPassage(int row, int col, int directionIndex) {
+        int bit = 1 << directionIndex;
+        if ((entranceMasks[row * cols + col] & bit) == 0) {
+            return false;
+        }
+        int neighborRow = row + EntranceMask.rowOffset(directionIndex);
+        int neighborCol = col + EntranceMask.colOffset(directionIndex);
+        if (neighborRow < 0 || neighborRow >= rows || neighborCol < 0 || neighborCol >= cols) {
+            return false;
+        }
+        return (entranceMasks[neighborRow * cols + neighborCol] & EntranceMask.opposite(bit)) != 0;
+    }
+
+    /**
+     * Prüft in O(1) über die Zusammenhangskomponenten, ob zwei Felder durch
+     * offene Durchgänge verbunden sind. Andere Spieler werden nicht
+     * berücksichtigt.
+     */
+    public boolean isConnected(int fromRow, int fromCol, int toRow, int toCol) {
+        return connectivityIndex.isConnected(entranceMasks, fromRow * cols + fromCol, toRow * cols + toCol);
+    }
+
+    public int getComponentId(int row, int col) {
+        return connectivityIndex.getComponentId(entranceMasks, row * cols + col);
+    }
+
+    /**
+     * Zwischengespeicherte Distanzfelder zu Zielfeldern, gültig bis zur
+     * nächsten Änderung des Bretts
+     */
+    public DistanceFields getDistanceFields() {
+        return distanceFields;
+    }
+
+    /**
+     * Index der Schatz- und Bonusfelder, nachgeführt bei jeder Änderung des
+     * Bretts
+     */
+    public BoardItemIndex getItemIndex() {
+        return itemIndex;
+    }
+
+    /**
+     * Findet den Schatz in O(1) über den Index.
+     *
+     * @return Position des Schatzes oder {@code null}, wenn er auf der
+     *         Ersatzkachel liegt oder nicht auf dem Brett ist
+     */
+    public Coordinates getTreasurePosition(int treasureId) {
+        int cell = itemIndex.getTreasureCell(treasureId);
+        if (cell == BoardItemIndex.NO_CELL || cell == itemIndex.getSpareCell()) {
+            return null;
+        }
+        return new Coordinates(cell % cols, cell / cols);
+    }
+
+    @JsonIgnore
+    public int getBonusCountOnBoard() {
+        return itemIndex.getBonusCountOnBoard();
+    }
+
+    public void placeTreasure(int row, int col, Treasure treasure) {
+        Tile tile = tiles[row][col];
+        itemIndex.remove(row * cols + col, tile);
+        tile.setTreasure(treasure);
+        itemIndex.add(row * cols + col, tile);
+    }
+
+    public void placeBonus(int row, int col, Bonus bonus) {
+        Tile tile = tiles[row][col];
+        itemIndex.remove(row * cols + col, tile);
+        tile.setBonus(bonus);
+        itemIndex.add(row * cols + col, tile);
     }
 
     public int getRows() {
@@ -60,7 +168,9 @@ public class GameBoard {
     }
 
     public void setSpareTile(Tile spareTile) {
+        itemIndex.remove(itemIndex.getSpareCell(), this.spareTile);
         this.spareTile = spareTile;
+        itemIndex.add(itemIndex.getSpareCell(), spareTile);
     }
 
     public Tile getTileAtCoordinate(Coordinates coordinate) {
@@ -108,43 +218,51 @@ public class GameBoard {
             throw new IllegalArgumentException("Es ist verboten, eine feste Kachel zu verschieben.");
         }
 
+        byte spareMask = (byte) spareTile.getEntranceMask();
         switch (direction) {
             case UP:
                 for (int r = 0; r < rows - 1; r++) {
                     tiles[r][rowOrColIndex] = tiles[r + 1][rowOrColIndex];
+                    entranceMasks[r * cols + rowOrColIndex] = entranceMasks[(r + 1) * cols + rowOrColIndex];
                 }
                 tiles[rows - 1][rowOrColIndex] = spareTile;
-                spareTile = tileToBePushedOut;
+                entranceMasks[(rows - 1) * cols + rowOrColIndex] = spareMask;
                 break;
 
             case DOWN:
                 for (int r = rows - 1; r > 0; r--) {
                     tiles[r][rowOrColIndex] = tiles[r - 1][rowOrColIndex];
+                    entranceMasks[r * cols + rowOrColIndex] = entranceMasks[(r - 1) * cols + rowOrColIndex];
                 }
                 tiles[0][rowOrColIndex] = spareTile;
-                spareTile = tileToBePushedOut;
+                entranceMasks[rowOrColIndex] = spareMask;
                 break;
 
             case LEFT:
-                for (int c = 0; c < cols - 1; c++) {
-                    tiles[rowOrColIndex][c] = tiles[rowOrColIndex][c + 1];
-                }
+                System.arraycopy(tiles[rowOrColIndex], 1, tiles[rowOrColIndex], 0, cols - 1);
+                System.arraycopy(entranceMasks, rowOrColIndex * cols + 1, entranceMasks, rowOrColIndex * cols,
+                        cols - 1);
                 tiles[rowOrColIndex][cols - 1] = spareTile;
-                spareTile = tileToBePushedOut;
+                entranceMasks[rowOrColIndex * cols + cols - 1] = spareMask;
                 break;
 
             case RIGHT:
-                for (int c = cols - 1; c > 0; c--) {
-                    tiles[rowOrColIndex][c] = tiles[rowOrColIndex][c - 1];
-                }
+                System.arraycopy(tiles[rowOrColIndex], 0, tiles[rowOrColIndex], 1, cols - 1);
+                System.arraycopy(entranceMasks, rowOrColIndex * cols, entranceMasks, rowOrColIndex * cols + 1,
+                        cols - 1);
                 tiles[rowOrColIndex][0] = spareTile;
-                spareTile = tileToBePushedOut;
+                entranceMasks[rowOrColIndex * cols] = spareMask;
                 break;
 
             default:
                 throw new IllegalArgumentException("Keine gültige Richtung: " + direction);
 
         }
+        spareTile = tileToBePushedOut;
+        boolean horizontal = direction == DirectionType.LEFT || direction == DirectionType.RIGHT;
+        connectivityIndex.onLinePushed(horizontal, rowOrColIndex);
+        itemIndex.onLinePushed(tiles, horizontal, rowOrColIndex, spareTile);
+        distanceFields.invalidateAll();
 
         if (isUsingPushFixed) {
             recomputeFixedTilesAfterPush();
@@ -154,6 +272,14 @@ public class GameBoard {
 
     // Tile generation and assignment
     public static GameBoard generateBoard(BoardSize size) throws NoExtraTileException {
+        return generateBoard(size, new Random());
+    }
+
+    /**
+     * Erzeugt ein Spielbrett; Kachelverteilung und Drehungen kommen allein aus
+     * {@code rnd}, derselbe Startwert ergibt also dasselbe Brett
+     */
+    public static GameBoard generateBoard(BoardSize size, Random rnd) throws NoExtraTileException {
         if (size.getRows() < 3 || size.getRows() > 11) {
             throw new IllegalArgumentException("Die Anzahl der Reihen muss zwischen 3 und 11 liegen.");
         }
@@ -203,16 +329,16 @@ public class GameBoard {
                     if (r == 0 || r == boardRows - 1 || c == 0 || c == boardCols - 1)
                         continue;
                     board.setTile(r, c,
-                            new Tile(generateEntrancesForTypeWithRandomRotation(TileType.CROSS), TileType.CROSS, true));
+                            new Tile(generateEntrancesForTypeWithRandomRotation(TileType.CROSS, rnd), TileType.CROSS, true));
                 }
             }
         }
-        fillRandomTiles(board);
+        fillRandomTiles(board, rnd);
 
         return board;
     }
 
-    private static void fillRandomTiles(GameBoard board) throws NoExtraTileException {
+    private static void fillRandomTiles(GameBoard board, Random rnd) throws NoExtraTileException {
         int boardRows = board.getSize().getRows();
         int boardCols = board.getSize().getCols();
         int totalTiles = boardRows * boardCols;
@@ -260,11 +386,11 @@ public class GameBoard {
         for (int i = 0; i < straights; i++)
             remainingTiles.add(TileType.STRAIGHT);
 
-        Collections.shuffle(remainingTiles);
+        Collections.shuffle(remainingTiles, rnd);
 
         if (!remainingTiles.isEmpty()) {
             TileType extraTileType = remainingTiles.remove(remainingTiles.size() - 1);
-            Tile extraTile = new Tile(generateEntrancesForTypeWithRandomRotation(extraTileType), extraTileType);
+            Tile extraTile = new Tile(generateEntrancesForTypeWithRandomRotation(extraTileType, rnd), extraTileType);
             board.setSpareTile(extraTile);
         } else {
             throw new NoExtraTileException("Es konnte kein Ersatzkachel generiert werden.");
@@ -275,7 +401,7 @@ public class GameBoard {
             for (int c = 0; c < boardCols; c++) {
                 if (board.getTiles()[r][c] == null && remainingTileIndex < remainingTiles.size()) {
                     TileType type = remainingTiles.get(remainingTileIndex++);
-                    Tile t = new Tile(generateEntrancesForTypeWithRandomRotation(type), type);
+                    Tile t = new Tile(generateEntrancesForTypeWithRandomRotation(type, rnd), type);
                     board.setTile(r, c, t);
                 }
             }
@@ -318,8 +444,7 @@ public class GameBoard {
         return entrances;
     }
 
-    private static List<DirectionType> generateEntrancesForTypeWithRandomRotation(TileType type) {
-        Random rnd = new Random();
+    private static List<DirectionType> generateEntrancesForTypeWithRandomRotation(TileType type, Random rnd) {
         switch (type) {
             case CORNER:
                 List<List<DirectionType>> corners = List.of(
@@ -351,18 +476,25 @@ public class GameBoard {
     public void removeTreasureFromTile(Coordinates coordinate) {
         Tile tile = getTileAtCoordinate(coordinate);
         if (tile != null) {
+            int cell = coordinate.getRow() * cols + coordinate.getColumn();
+            itemIndex.remove(cell, tile);
             tile.setTreasure(null);
+            itemIndex.add(cell, tile);
         }
     }
 
     public void removeBonusFromTile(Coordinates coordinate) {
         Tile tile = getTileAtCoordinate(coordinate);
         if (tile != null) {
+            int cell = coordinate.getRow() * cols + coordinate.getColumn();
+            itemIndex.remove(cell, tile);
             tile.setBonus(null);
+            itemIndex.add(cell, tile);
         }
     }
 
     public void recomputeFixedTilesAfterPush() {
+        distanceFields.invalidateAll();
         for (int row = 0; row < rows; row++) {
             for (int col = 0; col < cols; col++) {
                 Tile tile = tiles[row][col];
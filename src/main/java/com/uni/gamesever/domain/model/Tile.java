@@ -7,7 +7,8 @@ import com.uni.gamesever.domain.enums.DirectionType;
 import com.uni.gamesever.domain.enums.TileType;
 
 public class Tile {
-    private List<DirectionType> entrances;
+    @JsonIgnore
+    private byte entranceMask;
     @JsonIgnore
     private TileType type;
     private Treasure treasure;
@@ -15,23 +16,36 @@ public class Tile {
     private boolean isFixed;
 
     public Tile(List<DirectionType> entrances, TileType type, boolean isFixed) {
-        this.entrances = entrances;
+        this.entranceMask = (byte) EntranceMask.of(entrances);
         this.type = type;
         this.isFixed = isFixed;
     }
 
     public Tile(List<DirectionType> entrances, TileType type) {
-        this.entrances = entrances;
+        this.entranceMask = (byte) EntranceMask.of(entrances);
         this.type = type;
         this.isFixed = false;
     }
 
     public List<DirectionType> getEntrances() {
-        return entrances;
+        return EntranceMask.toList(entranceMask);
     }
 
     public void setEntrances(List<DirectionType> entrances) {
-        this.entrances = entrances;
+        this.entranceMask = (byte) EntranceMask.of(entrances);
+    }
+
+    @JsonIgnore
+    public int getEntranceMask() {
+        return entranceMask;
+    }
+
+    public void setEntranceMask(int entranceMask) {
+        this.entranceMask = (byte) (entranceMask & EntranceMask.ALL);
+    }
+
+    public boolean hasEntrance(DirectionType direction) {
+        return EntranceMask.has(entranceMask, EntranceMask.of(direction));
     }
 
     public Treasure getTreasure() {
@@ -66,25 +80,16 @@ public class Tile {
         return isFixed;
     }
 
+    /** Unabhängige Kopie, z. B. für eine Momentaufnahme des Bretts */
+    public Tile copy() {
+        Tile copy = new Tile(List.of(), type, isFixed);
+        copy.entranceMask = entranceMask;
+        copy.treasure = treasure;
+        copy.bonus = bonus;
+        return copy;
+    }
+
     public void rotateClockwise() {
-        for (int i = 0; i < entrances.size(); i++) {
-            DirectionType dir = entrances.get(i);
-            switch (dir) {
-                case UP:
-                    entrances.set(i, DirectionType.RIGHT);
-                    break;
-                case RIGHT:
-                    entrances.set(i, DirectionType.DOWN);
-                    break;
-                case DOWN:
-                    entrances.set(i, DirectionType.LEFT);
-                    break;
-                case LEFT:
-                    entrances.set(i, DirectionType.UP);
-                    break;
-                default:
-                    break;
-            }
-        }
+        entranceMask = (byte) EntranceMask.rotateClockwise(entranceMask);
     }
 }
@@ -1,6 +1,6 @@
 package com.uni.gamesever.domain.rest;
 
-import com.uni.gamesever.domain.game.GameManager;
+import com.uni.gamesever.domain.game.GameRoomRegistry;
 import com.uni.gamesever.domain.rest.Dtos.*;
 
 import org.slf4j.Logger;
@@ -16,7 +16,7 @@ import java.util.concurrent.atomic.AtomicReference;
 public class HeartbeatService {
 
     private final ServerRegistryClient registryClient;
-    private final GameManager gameManager;
+    private final GameRoomRegistry gameRoomRegistry;
     private final ServerPortHolder serverPortHolder;
 
     private final String name;
@@ -28,7 +28,7 @@ public class HeartbeatService {
 
     public HeartbeatService(
             ServerRegistryClient registryClient,
-            GameManager gameManager,
+            GameRoomRegistry gameRoomRegistry,
             ServerPortHolder serverPortHolder,
             @Value("${game-server.name:Group3}") String name,
             @Value("${game-server.uri:ws://}") String uriPrefix,
@@ -37,7 +37,7 @@ public class HeartbeatService {
 
     ) {
         this.registryClient = registryClient;
-        this.gameManager = gameManager;
+        this.gameRoomRegistry = gameRoomRegistry;
         this.serverPortHolder = serverPortHolder;
         this.name = name;
         this.uriPrefix = uriPrefix;
@@ -58,8 +58,8 @@ public class HeartbeatService {
     public void heartbeatTick() {
         try {
             UUID id = serverId.get();
-            int players = gameManager.getPlayerCount();
-            ServerStatus status = ServerStatus.valueOf(gameManager.getLobbyState().name());
+            int players = gameRoomRegistry.getTotalPlayerCount();
+            ServerStatus status = ServerStatus.valueOf(gameRoomRegistry.getLobbyState().name());
 
             if (id == null) {
                 var created = registryClient.createServer(
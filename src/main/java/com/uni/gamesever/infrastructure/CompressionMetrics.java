@@ -0,0 +1,64 @@
+package com.uni.gamesever.infrastructure;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Kennzahlen der permessage-deflate-Komprimierung aller Sessions, siehe
+ * {@link ThresholdDeflateTransformation}.
+ */
+@Component
+public class CompressionMetrics {
+    private final AtomicLong compressedMessages = new AtomicLong();
+    private final AtomicLong uncompressedMessages = new AtomicLong();
+    private final AtomicLong bytesBeforeCompression = new AtomicLong();
+    private final AtomicLong bytesAfterCompression = new AtomicLong();
+    private final AtomicLong deflateNanos = new AtomicLong();
+
+    void onCompressedFrame(boolean firstFrame, int bytesBefore, int bytesAfter, long nanos) {
+        if (firstFrame) {
+            compressedMessages.incrementAndGet();
+        }
+        bytesBeforeCompression.addAndGet(bytesBefore);
+        bytesAfterCompression.addAndGet(bytesAfter);
+        deflateNanos.addAndGet(nanos);
+    }
+
+    void onUncompressedMessage() {
+        uncompressedMessages.incrementAndGet();
+    }
+
+    public long getCompressedMessages() {
+        return compressedMessages.get();
+    }
+
+    // Nachrichten unter der Schwelle, die unkomprimiert gesendet wurden
+    public long getUncompressedMessages() {
+        return uncompressedMessages.get();
+    }
+
+    public long getBytesBeforeCompression() {
+        return bytesBeforeCompression.get();
+    }
+
+    public long getBytesAfterCompression() {
+        return bytesAfterCompression.get();
+    }
+
+    // Komprimierte Größe / Originalgröße, 1.0 solange nichts komprimiert wurde
+    public double getCompressionRatio() {
+        long before = bytesBeforeCompression.get();
+        return before == 0 ? 1.0 : (double) bytesAfterCompression.get() / before;
+    }
+
+    // Summe der im Deflater verbrachten Zeit
+    public long getDeflateNanos() {
+        return deflateNanos.get();
+    }
+
+    public double getAverageDeflateMicros() {
+        long messages = compressedMessages.get();
+        return messages == 0 ? 0 : deflateNanos.get() / 1000.0 / messages;
+    }
+}
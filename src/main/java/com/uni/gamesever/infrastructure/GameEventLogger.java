@@ -0,0 +1,216 @@
+package com.uni.gamesever.infrastructure;
+
+import java.time.Instant;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Strukturierte Spielereignisse (Kategorie, Typ, Raum, Spieler, Latenz) als
+ * JSON-Zeilen in einer eigenen Datei (Logger {@code GAME_EVENTS}).
+ *
+ * {@link #record} schreibt nur Referenzen und Zahlen in einen vorab
+ * angelegten Ringpuffer; Formatierung und Datei-I/O erledigt ein eigener
+ * Schreib-Thread. Ist der Puffer voll, wird das Ereignis verworfen und
+ * gezählt, der aufrufende Thread (z. B. die Befehlswarteschlange eines Raums)
+ * wartet also nie. Je Kategorie wird nur jedes n-te Ereignis aufgezeichnet
+ * ({@code game-server.event-log.sample-every.*}, 0 schaltet sie ab).
+ */
+@Component
+public class GameEventLogger {
+    public enum Category {
+        MESSAGE, AI
+    }
+
+    public static final long NO_LATENCY = -1;
+
+    private static final Logger events = LoggerFactory.getLogger("GAME_EVENTS");
+    private static final int BATCH_SIZE = 256;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private final int capacity;
+    private final int[] sampleEvery;
+    private final AtomicLongArray seenByCategory = new AtomicLongArray(Category.values().length);
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final AtomicLong writtenEvents = new AtomicLong();
+
+    // Ringpuffer, geschützt durch this
+    private final long[] timestamps;
+    private final Category[] categories;
+    private final String[] types;
+    private final String[] roomIds;
+    private final String[] playerIds;
+    private final long[] latencies;
+    private int head;
+    private int size;
+
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    @Autowired
+    public GameEventLogger(ManagedThreads managedThreads,
+            @Value("${game-server.event-log.capacity:4096}") int capacity,
+            @Value("${game-server.event-log.sample-every.message:1}") int sampleEveryMessage,
+            @Value("${game-server.event-log.sample-every.ai:1}") int sampleEveryAi) {
+        this(managedThreads.newThreadFactory("game-event-writer-"), capacity, sampleEveryMessage, sampleEveryAi);
+    }
+
+    GameEventLogger(ThreadFactory threadFactory, int capacity, int sampleEveryMessage, int sampleEveryAi) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Kapazität des Ereignispuffers muss positiv sein: " + capacity);
+        }
+        this.capacity = capacity;
+        this.sampleEvery = new int[Category.values().length];
+        this.sampleEvery[Category.MESSAGE.ordinal()] = sampleEveryMessage;
+        this.sampleEvery[Category.AI.ordinal()] = sampleEveryAi;
+        this.timestamps = new long[capacity];
+        this.categories = new Category[capacity];
+        this.types = new String[capacity];
+        this.roomIds = new String[capacity];
+        this.playerIds = new String[capacity];
+        this.latencies = new long[capacity];
+        this.writer = threadFactory.newThread(this::writeLoop);
+        this.writer.start();
+    }
+
+    /**
+     * Zeichnet ein Ereignis auf, ohne zu blockieren oder zu formatieren
+     *
+     * @param latencyNanos Dauer in Nanosekunden oder {@link #NO_LATENCY}
+     */
+    public void record(Category category, String type, String roomId, String playerId, long latencyNanos) {
+        int every = sampleEvery[category.ordinal()];
+        if (every <= 0 || !running) {
+            return;
+        }
+        if (every > 1 && seenByCategory.getAndIncrement(category.ordinal()) % every != 0) {
+            return;
+        }
+        boolean wasEmpty;
+        synchronized (this) {
+            if (size == capacity) {
+                droppedEvents.incrementAndGet();
+                return;
+            }
+            int slot = (head + size) % capacity;
+            timestamps[slot] = System.currentTimeMillis();
+            categories[slot] = category;
+            types[slot] = type;
+            roomIds[slot] = roomId;
+            playerIds[slot] = playerId;
+            latencies[slot] = latencyNanos;
+            wasEmpty = size++ == 0;
+        }
+        if (wasEmpty) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    // Wegen vollem Puffer verworfene Ereignisse
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    public long getWrittenEvents() {
+        return writtenEvents.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeLoop() {
+        long[] batchTimestamps = new long[BATCH_SIZE];
+        Category[] batchCategories = new Category[BATCH_SIZE];
+        String[] batchTypes = new String[BATCH_SIZE];
+        String[] batchRoomIds = new String[BATCH_SIZE];
+        String[] batchPlayerIds = new String[BATCH_SIZE];
+        long[] batchLatencies = new long[BATCH_SIZE];
+        StringBuilder line = new StringBuilder(160);
+        while (true) {
+            int count;
+            synchronized (this) {
+                count = Math.min(size, BATCH_SIZE);
+                for (int i = 0; i < count; i++) {
+                    int slot = (head + i) % capacity;
+                    batchTimestamps[i] = timestamps[slot];
+                    batchCategories[i] = categories[slot];
+                    batchTypes[i] = types[slot];
+                    batchRoomIds[i] = roomIds[slot];
+                    batchPlayerIds[i] = playerIds[slot];
+                    batchLatencies[i] = latencies[slot];
+                    types[slot] = null;
+                    roomIds[slot] = null;
+                    playerIds[slot] = null;
+                }
+                head = (head + count) % capacity;
+                size -= count;
+            }
+            if (count == 0) {
+                if (!running) {
+                    return;
+                }
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                continue;
+            }
+            for (int i = 0; i < count; i++) {
+                line.setLength(0);
+                format(line, batchTimestamps[i], batchCategories[i], batchTypes[i], batchRoomIds[i],
+                        batchPlayerIds[i], batchLatencies[i]);
+                events.info(line.toString());
+                batchTypes[i] = null;
+                batchRoomIds[i] = null;
+                batchPlayerIds[i] = null;
+            }
+            writtenEvents.addAndGet(count);
+        }
+    }
+
+    static void format(StringBuilder line, long timestamp, Category category, String type, String roomId,
+            String playerId, long latencyNanos) {
+        line.append("{\"ts\":\"").append(Instant.ofEpochMilli(timestamp)).append("\",\"cat\":\"")
+                .append(category.name()).append('"');
+        appendField(line, "type", type);
+        appendField(line, "room", roomId);
+        appendField(line, "player", playerId);
+        if (latencyNanos != NO_LATENCY) {
+            line.append(",\"latencyUs\":").append(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        }
+        line.append('}');
+    }
+
+    private static void appendField(StringBuilder line, String name, String value) {
+        if (value == null) {
+            return;
+        }
+        line.append(",\"").append(name).append("\":\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c < 0x20) {
+                line.append(' ');
+            } else {
+                line.append(c);
+            }
+        }
+        line.append('"');
+    }
+}
@@ -0,0 +1,460 @@
+package com.uni.gamesever.infrastructure;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.uni.gamesever.domain.enums.Color;
+import com.uni.gamesever.domain.enums.DirectionType;
+
+/**
+ * Journal eines laufenden Spiels: jede angenommene Spielaktion wird als
+ * kleiner Binärsatz an eine Datei je Raum angehängt. Geschrieben wird in eine
+ * speicherabgebildete Datei ({@link MappedByteBuffer}), ein Anhängen kostet
+ * also nur einige Kopien im Speicher; auf die Platte bringt die Sätze der
+ * Flush-Thread von {@link GameJournalStore} gesammelt per {@code force()}.
+ *
+ * Satzformat: {@code [Länge int][CRC32 int][Typ byte][Felder]}, Texte als
+ * {@code [Länge short][UTF-8]}; längere Texte (nur frei gewählte Namen) werden
+ * auf {@value #MAX_STRING_BYTES} Bytes gekürzt. Beim Einlesen
+ * endet das Journal am ersten Satz mit Länge 0 (nie beschriebener Bereich)
+ * oder falscher Prüfsumme (beim Absturz halb geschrieben).
+ *
+ * Alle Methoden außer {@link #flush()} laufen auf dem Thread der
+ * Befehlswarteschlange des Raums. Schreibfehler beenden nur das Journal, nie
+ * das Spiel.
+ */
+public class GameJournal {
+    public enum Type {
+        START, PUSH, ROTATE, MOVE, BEAM, SWAP, PUSH_FIXED, PUSH_TWICE, TURN_TIMEOUT, PLAYER_LEFT, END
+    }
+
+    public record StartPlayer(String id, String identifierToken, String name, Color color, boolean admin) {
+    }
+
+    public record Start(int rows, int cols, int treasureCount, long gameDurationSeconds, int totalBonusCount,
+            long seed, String gameEndTime, List<StartPlayer> players) {
+    }
+
+    /**
+     * Ein eingelesener Satz; je nach Typ sind nur die passenden Felder gesetzt
+     */
+    public record Entry(Type type, int index, DirectionType direction, boolean flag, int column, int row,
+            String identifierToken, Start start) {
+    }
+
+    /** Gültige Sätze eines Journals und die Länge des gültigen Anfangs */
+    public record Recording(List<Entry> entries, int validLength) {
+    }
+
+    /** Journal, das nichts schreibt (Tests, abgeschaltetes Journal) */
+    public static final GameJournal DISABLED = new GameJournal(null, null);
+
+    static final int INITIAL_MAPPING = 64 * 1024;
+    private static final int HEADER = 8;
+    static final int MAX_STRING_BYTES = 0xFFFF;
+    private static final DirectionType[] DIRECTIONS = DirectionType.values();
+    private static final Color[] COLORS = Color.values();
+    private static final Type[] TYPES = Type.values();
+    private static final Logger log = LoggerFactory.getLogger("GAME_LOG");
+
+    private enum State {
+        IDLE, REPLAYING, OPEN, CLOSED
+    }
+
+    private final GameJournalStore store;
+    private final Path file;
+    private final CRC32 crc = new CRC32();
+    private ByteBuffer scratch = ByteBuffer.allocate(1024);
+
+    // geschützt durch this
+    private State state = State.IDLE;
+    private FileChannel channel;
+    private MappedByteBuffer mapped;
+    private int position;
+    private int forcedPosition;
+
+    GameJournal(GameJournalStore store, Path file) {
+        this.store = store;
+        this.file = file;
+    }
+
+    /** {@code false} für {@link #DISABLED} */
+    public boolean isEnabled() {
+        return store != null;
+    }
+
+    public synchronized boolean isOpen() {
+        return state == State.OPEN;
+    }
+
+    /** Neues Journal für ein gerade gestartetes Spiel anlegen */
+    public void recordStart(Start start) {
+        synchronized (this) {
+            if (store == null || state != State.IDLE) {
+                return;
+            }
+            try {
+                openChannel(0, true);
+            } catch (IOException e) {
+                fail(e);
+                return;
+            }
+        }
+        begin(Type.START, 32).putInt(start.rows()).putInt(start.cols()).putInt(start.treasureCount())
+                .putLong(start.gameDurationSeconds()).putInt(start.totalBonusCount())
+                .putLong(start.seed());
+        putString(start.gameEndTime());
+        ensureRemaining(1);
+        scratch.put((byte) start.players().size());
+        for (StartPlayer player : start.players()) {
+            putString(player.id());
+            putString(player.identifierToken());
+            putString(player.name());
+            ensureRemaining(2);
+            scratch.put((byte) player.color().ordinal()).put((byte) (player.admin() ? 1 : 0));
+        }
+        commit();
+    }
+
+    public void recordPush(int rowOrColIndex, DirectionType direction, boolean usingPushFixed) {
+        if (!isOpen()) {
+            return;
+        }
+        begin(Type.PUSH, 6).putInt(rowOrColIndex).put((byte) direction.ordinal()).put((byte) (usingPushFixed ? 1 : 0));
+        commit();
+    }
+
+    public void recordPushFixed(int rowOrColIndex, DirectionType direction) {
+        if (!isOpen()) {
+            return;
+        }
+        begin(Type.PUSH_FIXED, 5).putInt(rowOrColIndex).put((byte) direction.ordinal());
+        commit();
+    }
+
+    public void recordMove(int column, int row, boolean usingBeam) {
+        if (!isOpen()) {
+            return;
+        }
+        begin(Type.MOVE, 9).putInt(column).putInt(row).put((byte) (usingBeam ? 1 : 0));
+        commit();
+    }
+
+    public void recordBeam(int column, int row) {
+        if (!isOpen()) {
+            return;
+        }
+        begin(Type.BEAM, 8).putInt(column).putInt(row);
+        commit();
+    }
+
+    public void recordSwap(String targetIdentifierToken) {
+        if (!isOpen()) {
+            return;
+        }
+        begin(Type.SWAP);
+        putString(targetIdentifierToken);
+        commit();
+    }
+
+    public void recordPlayerLeft(String identifierToken) {
+        if (!isOpen()) {
+            return;
+        }
+        begin(Type.PLAYER_LEFT);
+        putString(identifierToken);
+        commit();
+    }
+
+    /** Satz ohne Felder: ROTATE, PUSH_TWICE, TURN_TIMEOUT */
+    public void record(Type type) {
+        if (!isOpen()) {
+            return;
+        }
+        begin(type);
+        commit();
+    }
+
+    /**
+     * Während der Wiederherstellung werden die Aktionen erneut ausgeführt, dabei
+     * darf nichts ins Journal geschrieben werden
+     */
+    public synchronized void beginReplay() {
+        if (store != null && state == State.IDLE) {
+            state = State.REPLAYING;
+        }
+    }
+
+    /** Nach der Wiederherstellung hinter dem letzten gültigen Satz weiterschreiben */
+    public synchronized void resume(int validLength) {
+        if (state != State.REPLAYING) {
+            return;
+        }
+        try {
+            openChannel(validLength, false);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /** Das Spiel ist vorbei, das Journal wird nicht mehr gebraucht */
+    public synchronized void finish() {
+        if (store == null || state == State.CLOSED) {
+            return;
+        }
+        boolean hadFile = state != State.IDLE;
+        if (state == State.OPEN) {
+            // falls das Löschen scheitert, erkennt die Wiederherstellung das Spielende trotzdem
+            begin(Type.END);
+            commit();
+        }
+        release(false);
+        if (hadFile) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Spieljournal {} konnte nicht gelöscht werden: {}", file, e.getMessage());
+            }
+        }
+        state = State.IDLE;
+    }
+
+    /** Beim Herunterfahren: alles auf die Platte bringen, Datei bleibt für den Neustart */
+    public synchronized void close() {
+        if (state == State.OPEN) {
+            release(true);
+            state = State.CLOSED;
+        }
+    }
+
+    /**
+     * Bringt die seit dem letzten Aufruf angehängten Sätze auf die Platte. Das
+     * eigentliche {@code force()} läuft außerhalb der Sperre, das Anhängen
+     * wartet also nicht auf die Platte.
+     */
+    public void flush() {
+        MappedByteBuffer target;
+        int from;
+        int to;
+        synchronized (this) {
+            if (state != State.OPEN || forcedPosition == position) {
+                return;
+            }
+            target = mapped;
+            from = forcedPosition;
+            to = position;
+            forcedPosition = position;
+        }
+        target.force(from, to - from);
+    }
+
+    public static Recording read(Path file) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(file));
+        List<Entry> entries = new ArrayList<>();
+        CRC32 checksum = new CRC32();
+        int valid = 0;
+        while (in.remaining() >= HEADER) {
+            int length = in.getInt(valid);
+            if (length <= 0 || length > in.limit() - valid - HEADER) {
+                break;
+            }
+            checksum.reset();
+            checksum.update(in.array(), valid + HEADER, length);
+            if ((int) checksum.getValue() != in.getInt(valid + 4)) {
+                break;
+            }
+            ByteBuffer payload = ByteBuffer.wrap(in.array(), valid + HEADER, length).slice();
+            try {
+                entries.add(decode(payload));
+            } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+                break;
+            }
+            valid += HEADER + length;
+            in.position(valid);
+        }
+        return new Recording(entries, valid);
+    }
+
+    private static Entry decode(ByteBuffer in) {
+        Type type = TYPES[in.get()];
+        switch (type) {
+            case START: {
+                int rows = in.getInt();
+                int cols = in.getInt();
+                int treasureCount = in.getInt();
+                long duration = in.getLong();
+                int totalBonusCount = in.getInt();
+                long seed = in.getLong();
+                String gameEndTime = getString(in);
+                int count = in.get();
+                List<StartPlayer> players = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    players.add(new StartPlayer(getString(in), getString(in), getString(in), COLORS[in.get()],
+                            in.get() != 0));
+                }
+                return new Entry(type, 0, null, false, 0, 0, null, new Start(rows, cols, treasureCount, duration,
+                        totalBonusCount, seed, gameEndTime, players));
+            }
+            case PUSH:
+                return new Entry(type, in.getInt(), DIRECTIONS[in.get()], in.get() != 0, 0, 0, null, null);
+            case PUSH_FIXED:
+                return new Entry(type, in.getInt(), DIRECTIONS[in.get()], true, 0, 0, null, null);
+            case MOVE: {
+                int column = in.getInt();
+                int row = in.getInt();
+                return new Entry(type, 0, null, in.get() != 0, column, row, null, null);
+            }
+            case BEAM: {
+                int column = in.getInt();
+                int row = in.getInt();
+                return new Entry(type, 0, null, true, column, row, null, null);
+            }
+            case SWAP:
+            case PLAYER_LEFT:
+                return new Entry(type, 0, null, false, 0, 0, getString(in), null);
+            default:
+                return new Entry(type, 0, null, false, 0, 0, null, null);
+        }
+    }
+
+    private ByteBuffer begin(Type type) {
+        return begin(type, 0);
+    }
+
+    /** @param fixedBytes Bytes der direkt folgenden Felder fester Breite */
+    private ByteBuffer begin(Type type, int fixedBytes) {
+        scratch.clear();
+        ensureRemaining(1 + fixedBytes);
+        return scratch.put((byte) type.ordinal());
+    }
+
+    private void putString(String value) {
+        byte[] bytes = utf8(value);
+        ensureRemaining(bytes.length + 2);
+        scratch.putShort((short) bytes.length).put(bytes);
+    }
+
+    private void ensureRemaining(int required) {
+        if (scratch.remaining() >= required) {
+            return;
+        }
+        ByteBuffer larger = ByteBuffer.allocate(scratch.capacity() * 2 + required);
+        scratch.flip();
+        scratch = larger.put(scratch);
+    }
+
+    /** UTF-8, höchstens {@link #MAX_STRING_BYTES} Bytes, gekürzt an einer Zeichengrenze */
+    private static byte[] utf8(String value) {
+        if (value == null) {
+            return new byte[0];
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= MAX_STRING_BYTES) {
+            return bytes;
+        }
+        int end = MAX_STRING_BYTES;
+        // nicht mitten in einem Zeichen abschneiden (Folgebytes 10xxxxxx)
+        while (end > 0 && (bytes[end] & 0xC0) == 0x80) {
+            end--;
+        }
+        return Arrays.copyOf(bytes, end);
+    }
+
+    private static String getString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getShort() & 0xFFFF];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private synchronized void commit() {
+        if (state != State.OPEN) {
+            return;
+        }
+        int length = scratch.position();
+        try {
+            ensureCapacity(position + HEADER + length);
+        } catch (IOException e) {
+            fail(e);
+            return;
+        }
+        crc.reset();
+        crc.update(scratch.array(), 0, length);
+        mapped.put(position + HEADER, scratch.array(), 0, length);
+        mapped.putInt(position + 4, (int) crc.getValue());
+        // Länge zuletzt: erst damit gilt der Satz als geschrieben
+        mapped.putInt(position, length);
+        position += HEADER + length;
+    }
+
+    private void ensureCapacity(int required) throws IOException {
+        if (required <= mapped.capacity()) {
+            return;
+        }
+        int size = mapped.capacity();
+        while (size < required) {
+            size *= 2;
+        }
+        // Selten (alle paar hundert Züge): alte Abbildung vor dem Wechsel sichern
+        mapped.force();
+        forcedPosition = position;
+        mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+
+    private void openChannel(int validLength, boolean truncate) throws IOException {
+        Files.createDirectories(file.getParent());
+        channel = truncate
+                ? FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                        StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        int fileSize = (int) Math.min(channel.size(), Integer.MAX_VALUE);
+        int size = INITIAL_MAPPING;
+        while (size < Math.max(validLength + HEADER, fileSize)) {
+            size *= 2;
+        }
+        mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        // Reste eines halb geschriebenen Satzes löschen, damit sie nie als gültig gelesen werden
+        for (int i = validLength; i < fileSize; i++) {
+            mapped.put(i, (byte) 0);
+        }
+        position = validLength;
+        forcedPosition = validLength;
+        state = State.OPEN;
+        store.opened(this);
+    }
+
+    private void release(boolean force) {
+        if (mapped != null && force) {
+            mapped.force();
+        }
+        mapped = null;
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("Spieljournal {} konnte nicht geschlossen werden: {}", file, e.getMessage());
+            }
+            channel = null;
+        }
+        store.closed(this);
+    }
+
+    private void fail(IOException e) {
+        log.warn("Spieljournal {} abgeschaltet: {}", file, e.getMessage());
+        release(false);
+        state = State.CLOSED;
+    }
+}
@@ -0,0 +1,173 @@
+package com.uni.gamesever.infrastructure;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Verzeichnis der Spieljournale ({@code <roomId>.journal}, siehe
+ * {@link GameJournal}). Ein eigener Thread bringt alle offenen Journale im
+ * Abstand von {@code game-server.journal.flush-interval-ms} per
+ * {@code force()} auf die Platte; bei einem Absturz gehen also höchstens die
+ * Aktionen dieses Intervalls verloren.
+ */
+@Component
+public class GameJournalStore {
+    static final String SUFFIX = ".journal";
+    // Endung beiseitegelegter Journale; passt nicht mehr auf "*.journal"
+    static final String QUARANTINE_SUFFIX = ".failed-";
+    private static final Logger log = LoggerFactory.getLogger("GAME_LOG");
+
+    private final Path directory;
+    private final boolean enabled;
+    private final long flushIntervalNanos;
+    private final long recoveryGraceSeconds;
+    private final Set<GameJournal> openJournals = ConcurrentHashMap.newKeySet();
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    @Autowired
+    public GameJournalStore(ManagedThreads managedThreads,
+            @Value("${game-server.journal.enabled:true}") boolean enabled,
+            @Value("${game-server.journal.directory:journal}") String directory,
+            @Value("${game-server.journal.flush-interval-ms:50}") long flushIntervalMillis,
+            @Value("${game-server.journal.recovery-grace-seconds:120}") long recoveryGraceSeconds) {
+        this(managedThreads.newThreadFactory("game-journal-flusher-"), enabled, Paths.get(directory),
+                flushIntervalMillis, recoveryGraceSeconds);
+    }
+
+    GameJournalStore(ThreadFactory threadFactory, boolean enabled, Path directory, long flushIntervalMillis,
+            long recoveryGraceSeconds) {
+        if (flushIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Flush-Intervall des Spieljournals muss positiv sein: "
+                    + flushIntervalMillis);
+        }
+        this.enabled = enabled;
+        this.directory = directory;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.recoveryGraceSeconds = recoveryGraceSeconds;
+        this.flusher = threadFactory.newThread(this::flushLoop);
+        this.flusher.start();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** Wie lange ein wiederhergestelltes Spiel auf den ersten Reconnect wartet */
+    public long getRecoveryGraceSeconds() {
+        return recoveryGraceSeconds;
+    }
+
+    public GameJournal journalFor(String roomId) {
+        return enabled ? new GameJournal(this, fileOf(roomId)) : GameJournal.DISABLED;
+    }
+
+    /** Räume, für die beim Start ein Journal vorliegt */
+    public List<String> findJournaledRoomIds() {
+        List<String> roomIds = new ArrayList<>();
+        if (!enabled || !Files.isDirectory(directory)) {
+            return roomIds;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                roomIds.add(name.substring(0, name.length() - SUFFIX.length()));
+            }
+        } catch (IOException e) {
+            log.warn("Verzeichnis der Spieljournale {} nicht lesbar: {}", directory, e.getMessage());
+        }
+        return roomIds;
+    }
+
+    public GameJournal.Recording read(String roomId) throws IOException {
+        return GameJournal.read(fileOf(roomId));
+    }
+
+    /**
+     * Legt das Journal eines Spiels beiseite, dessen Wiederherstellung
+     * gescheitert ist. Die Datei bleibt zur Fehlersuche erhalten, wird beim
+     * nächsten Start aber nicht erneut eingelesen.
+     */
+    public void quarantine(String roomId) {
+        Path file = fileOf(roomId);
+        Path target = file.resolveSibling(file.getFileName() + QUARANTINE_SUFFIX + System.currentTimeMillis());
+        try {
+            Files.move(file, target, StandardCopyOption.ATOMIC_MOVE);
+            log.warn("Spieljournal von Raum {} nach {} verschoben", roomId, target);
+        } catch (IOException e) {
+            log.warn("Spieljournal von Raum {} konnte nicht beiseitegelegt werden: {}", roomId, e.getMessage());
+        }
+    }
+
+    /** Journal eines beendeten Spiels entfernen */
+    public void discard(String roomId) {
+        try {
+            Files.deleteIfExists(fileOf(roomId));
+        } catch (IOException e) {
+            log.warn("Spieljournal von Raum {} konnte nicht gelöscht werden: {}", roomId, e.getMessage());
+        }
+    }
+
+    void opened(GameJournal journal) {
+        openJournals.add(journal);
+    }
+
+    void closed(GameJournal journal) {
+        openJournals.remove(journal);
+    }
+
+    /** Alle offenen Journale sofort auf die Platte bringen */
+    public void flushAll() {
+        for (GameJournal journal : openJournals) {
+            try {
+                journal.flush();
+            } catch (RuntimeException e) {
+                log.warn("Spieljournal konnte nicht auf die Platte geschrieben werden: {}", e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (GameJournal journal : openJournals) {
+            journal.close();
+        }
+    }
+
+    private Path fileOf(String roomId) {
+        return directory.resolve(roomId + SUFFIX);
+    }
+
+    private void flushLoop() {
+        while (running) {
+            LockSupport.parkNanos(this, flushIntervalNanos);
+            flushAll();
+        }
+    }
+}
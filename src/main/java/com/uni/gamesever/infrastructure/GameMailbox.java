@@ -0,0 +1,99 @@
+package com.uni.gamesever.infrastructure;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Befehlswarteschlange eines Spielraums. Client-Aktionen, Timer und KI-Züge
+ * werden hier eingereiht und der Reihe nach auf genau einem Thread ausgeführt,
+ * sodass der Spielzustand nie von zwei Threads gleichzeitig verändert wird.
+ */
+public class GameMailbox {
+
+    @FunctionalInterface
+    public interface Command {
+        void execute() throws Exception;
+    }
+
+    private final String name;
+    private final ScheduledExecutorService executor;
+    private volatile Thread mailboxThread;
+    private static final Logger log = LoggerFactory.getLogger("GAME_LOG");
+
+    public GameMailbox(String name) {
+        this(name, ManagedThreads.platformThreadFactory("game-mailbox-" + name + "-"));
+    }
+
+    public GameMailbox(String name, ThreadFactory threadFactory) {
+        this.name = name;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = threadFactory.newThread(runnable);
+            mailboxThread = thread;
+            return thread;
+        });
+    }
+
+    public void post(Command command) {
+        try {
+            executor.execute(() -> runSafely(command));
+        } catch (RejectedExecutionException e) {
+            log.warn("Befehl für Spielraum {} verworfen, die Warteschlange ist bereits geschlossen", name);
+        }
+    }
+
+    public void postDelayed(long delayMillis, Command command) {
+        try {
+            executor.schedule(() -> runSafely(command), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.warn("Befehl für Spielraum {} verworfen, die Warteschlange ist bereits geschlossen", name);
+        }
+    }
+
+    /**
+     * Führt einen Befehl in der Warteschlange aus und wartet auf sein Ende.
+     * Exceptions des Befehls werden unverändert an den Aufrufer weitergegeben.
+     */
+    public void runAndWait(Command command) throws Exception {
+        if (isMailboxThread()) {
+            command.execute();
+            return;
+        }
+        Future<?> future = executor.submit(() -> {
+            command.execute();
+            return null;
+        });
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception exception) {
+                throw exception;
+            }
+            throw (Error) cause;
+        }
+    }
+
+    public boolean isMailboxThread() {
+        return Thread.currentThread() == mailboxThread;
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void runSafely(Command command) {
+        try {
+            command.execute();
+        } catch (Exception e) {
+            log.error("Fehler beim Ausführen eines Befehls in Spielraum {}: {}", name, e.getMessage(), e);
+        }
+    }
+}
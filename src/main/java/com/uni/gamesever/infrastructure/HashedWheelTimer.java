@@ -0,0 +1,300 @@
+package com.uni.gamesever.infrastructure;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Prozessweiter Timer auf Basis eines Zeitrads (Hashed Wheel). Alle Zug-, Spiel-
+ * und Wiederverbindungstimer aller Räume teilen sich einen einzigen Thread.
+ *
+ * Ein Timeout landet im Fach {@code deadline / tick & mask}; liegt er mehr als
+ * eine Radumdrehung in der Zukunft, zählt er die verbleibenden Runden herunter.
+ * Starten und Abbrechen sind O(1). Die Genauigkeit entspricht der Tick-Dauer,
+ * was für Timer im Sekundenbereich genügt.
+ *
+ * Die Aufgaben laufen auf dem Timer-Thread und müssen daher kurz sein; die
+ * vorhandenen Timer reichen ihre Arbeit an die Befehlswarteschlange des Raums
+ * weiter.
+ */
+@Component
+public class HashedWheelTimer {
+
+    /** Handle eines geplanten Timeouts. */
+    public interface Timeout {
+        /** @return {@code true}, wenn der Timeout dadurch abgebrochen wurde */
+        boolean cancel();
+
+        boolean isCancelled();
+
+        boolean isExpired();
+    }
+
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+    private static final Logger log = LoggerFactory.getLogger("GAME_LOG");
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<WheelTimeout> pendingAdds = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTimeout> pendingCancels = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pendingTimeouts = new AtomicLong();
+    private final AtomicLong firedTimeouts = new AtomicLong();
+    private final AtomicLong totalLagNanos = new AtomicLong();
+    private final AtomicLong maxLagNanos = new AtomicLong();
+    private final long startTime;
+    private final Thread worker;
+    private volatile boolean running = true;
+    private long tick;
+    private long lastLoggedFired;
+
+    public HashedWheelTimer(@Value("${game-server.timer.tick-ms:100}") long tickMillis,
+            @Value("${game-server.timer.wheel-size:512}") int wheelSize) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Die Tick-Dauer muss positiv sein.");
+        }
+        int normalizedSize = Integer.highestOneBit(Math.max(wheelSize - 1, 1)) << 1;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.wheel = new Bucket[normalizedSize];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = wheel.length - 1;
+        this.startTime = System.nanoTime();
+        this.worker = ManagedThreads.platformThreadFactory("timer-wheel-").newThread(this::run);
+        this.worker.start();
+    }
+
+    /**
+     * Plant eine Aufgabe. Der Timeout kann über das zurückgegebene Handle
+     * jederzeit abgebrochen werden.
+     */
+    public Timeout newTimeout(Runnable task, long delay, TimeUnit unit) {
+        if (!running) {
+            throw new IllegalStateException("Der Timer wurde bereits gestoppt.");
+        }
+        long deadline = System.nanoTime() - startTime + Math.max(unit.toNanos(delay), 0);
+        WheelTimeout timeout = new WheelTimeout(task, deadline);
+        pendingTimeouts.incrementAndGet();
+        pendingAdds.add(timeout);
+        return timeout;
+    }
+
+    // Geplante, noch nicht ausgelöste und nicht abgebrochene Timeouts
+    public long getPendingTimeouts() {
+        return pendingTimeouts.get();
+    }
+
+    public long getFiredTimeouts() {
+        return firedTimeouts.get();
+    }
+
+    // Verspätung beim Auslösen gegenüber der geplanten Zeit
+    public long getMaxFiringLagMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLagNanos.get());
+    }
+
+    public long getAverageFiringLagMillis() {
+        long fired = firedTimeouts.get();
+        return fired == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLagNanos.get() / fired);
+    }
+
+    // Schreibt die Kennzahlen periodisch ins Log, sofern seither Timeouts ausgelöst wurden
+    @Scheduled(initialDelayString = "${game-server.timer.metrics-log-interval-ms:60000}",
+            fixedDelayString = "${game-server.timer.metrics-log-interval-ms:60000}")
+    public void logMetrics() {
+        long fired = getFiredTimeouts();
+        if (fired == lastLoggedFired) {
+            return;
+        }
+        lastLoggedFired = fired;
+        log.info("Timer: {} ausgelöst, {} ausstehend, Verspätung Ø {} ms / max {} ms",
+                fired, getPendingTimeouts(), getAverageFiringLagMillis(), getMaxFiringLagMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(TimeUnit.NANOSECONDS.toMillis(tickNanos) * 10);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            long deadline = waitForNextTick();
+            if (!running) {
+                break;
+            }
+            removeCancelledTimeouts();
+            transferPendingTimeouts();
+            wheel[(int) (tick & mask)].expireTimeouts(deadline);
+            tick++;
+        }
+    }
+
+    /**
+     * Wartet bis zum Ende des aktuellen Ticks und liefert die vergangene Zeit
+     * seit dem Start des Timers.
+     */
+    private long waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (running) {
+            long currentTime = System.nanoTime() - startTime;
+            long sleepNanos = deadline - currentTime;
+            if (sleepNanos <= 0) {
+                return currentTime;
+            }
+            LockSupport.parkNanos(this, sleepNanos);
+        }
+        return deadline;
+    }
+
+    private void transferPendingTimeouts() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            WheelTimeout timeout = pendingAdds.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long calculatedTick = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculatedTick - tick) / wheel.length;
+            // Bereits überfällige Timeouts laufen im aktuellen Tick
+            long targetTick = Math.max(calculatedTick, tick);
+            wheel[(int) (targetTick & mask)].add(timeout);
+        }
+    }
+
+    private void removeCancelledTimeouts() {
+        WheelTimeout timeout;
+        while ((timeout = pendingCancels.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void fire(WheelTimeout timeout) {
+        if (!timeout.state.compareAndSet(WheelTimeout.STATE_INIT, WheelTimeout.STATE_EXPIRED)) {
+            return;
+        }
+        pendingTimeouts.decrementAndGet();
+        long lag = Math.max(System.nanoTime() - startTime - timeout.deadline, 0);
+        firedTimeouts.incrementAndGet();
+        totalLagNanos.addAndGet(lag);
+        maxLagNanos.accumulateAndGet(lag, Math::max);
+        try {
+            timeout.task.run();
+        } catch (Throwable t) {
+            log.error("Fehler beim Ausführen eines Timers: {}", t.getMessage(), t);
+        }
+    }
+
+    private final class WheelTimeout implements Timeout {
+        private static final int STATE_INIT = 0;
+        private static final int STATE_CANCELLED = 1;
+        private static final int STATE_EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(STATE_INIT);
+        // Nur vom Timer-Thread verwendet
+        private long remainingRounds;
+        private Bucket bucket;
+        private WheelTimeout prev;
+        private WheelTimeout next;
+
+        private WheelTimeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!state.compareAndSet(STATE_INIT, STATE_CANCELLED)) {
+                return false;
+            }
+            pendingTimeouts.decrementAndGet();
+            pendingCancels.add(this);
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state.get() == STATE_CANCELLED;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state.get() == STATE_EXPIRED;
+        }
+    }
+
+    /** Doppelt verkettete Liste der Timeouts eines Fachs; nur vom Timer-Thread verwendet. */
+    private final class Bucket {
+        private WheelTimeout head;
+        private WheelTimeout tail;
+
+        private void add(WheelTimeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        private void expireTimeouts(long deadline) {
+            WheelTimeout timeout = head;
+            while (timeout != null) {
+                WheelTimeout next = timeout.next;
+                if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+                    remove(timeout);
+                    fire(timeout);
+                } else if (timeout.remainingRounds > 0) {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        private void remove(WheelTimeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
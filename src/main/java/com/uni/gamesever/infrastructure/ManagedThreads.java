@@ -0,0 +1,159 @@
+package com.uni.gamesever.infrastructure;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Zentrale Stelle für alle Threads, die der Server selbst startet
+ * (Befehlswarteschlangen der Räume, Sender der Sessions).
+ *
+ * Mit {@code spring.threads.virtual.enabled=true} auf einem JDK ab 21 (Build
+ * mit {@code -Pjava21}) werden virtuelle Threads verwendet, sonst benannte
+ * Daemon-Threads. Blockierende KI-Züge sind über Permits begrenzt, damit viele
+ * Räume nicht gleichzeitig den KI-Dienst überlasten; Anfragen an entfernte
+ * KI-Dienste laufen auf einem gemeinsamen Executor. Die rechenintensive
+ * KI-Suche teilt sich einen Fork-Join-Pool mit einem Thread je Kern; das
+ * Vorausrechnen während fremder Züge (Pondering) läuft getrennt davon auf
+ * wenigen Threads mit niedriger Priorität und kann die Suche nicht verdrängen.
+ */
+@Component
+public class ManagedThreads {
+    private static final Logger log = LoggerFactory.getLogger("GAME_LOG");
+
+    private final boolean virtualThreads;
+    private final Semaphore aiTurnPermits;
+    private final List<ExecutorService> executors = new CopyOnWriteArrayList<>();
+    private final ExecutorService aiExecutor;
+    private final ForkJoinPool searchPool;
+    private final ForkJoinPool ponderPool;
+
+    public ManagedThreads(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsRequested,
+            @Value("${game-server.ai.max-concurrent-turns:32}") int maxConcurrentAiTurns) {
+        this.virtualThreads = virtualThreadsRequested && isVirtualThreadSupported();
+        this.aiTurnPermits = new Semaphore(maxConcurrentAiTurns, true);
+        this.aiExecutor = newExecutor("ai-decision-");
+        int processors = Runtime.getRuntime().availableProcessors();
+        this.searchPool = newForkJoinPool("ai-search-", processors, Thread.NORM_PRIORITY);
+        this.ponderPool = newForkJoinPool("ai-ponder-", Math.max(1, processors / 4), Thread.MIN_PRIORITY);
+        if (virtualThreadsRequested && !virtualThreads) {
+            log.warn("Virtuelle Threads angefordert, aber von dieser JVM nicht unterstützt. Es werden Plattform-Threads verwendet.");
+        } else if (virtualThreads) {
+            log.info("Server-Threads laufen als virtuelle Threads");
+        }
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public Semaphore getAiTurnPermits() {
+        return aiTurnPermits;
+    }
+
+    /**
+     * Gemeinsamer Executor für Anfragen an entfernte KI-Dienste
+     */
+    public ExecutorService getAiExecutor() {
+        return aiExecutor;
+    }
+
+    /**
+     * Gemeinsamer Pool der KI-Suche (Push-Suche, Baumsuche) aller Räume
+     */
+    public ForkJoinPool getSearchPool() {
+        return searchPool;
+    }
+
+    /**
+     * Gemeinsamer Pool für das Pondering aller Räume, höchstens ein Viertel der
+     * Kerne
+     */
+    public ForkJoinPool getPonderPool() {
+        return ponderPool;
+    }
+
+    public ThreadFactory newThreadFactory(String namePrefix) {
+        return virtualThreads ? virtualThreadFactory(namePrefix) : platformThreadFactory(namePrefix);
+    }
+
+    /**
+     * Executor für kurze, ggf. blockierende Aufgaben. Er wird beim Herunterfahren
+     * des Servers geschlossen.
+     */
+    public ExecutorService newExecutor(String namePrefix) {
+        ExecutorService executor = Executors.newCachedThreadPool(newThreadFactory(namePrefix));
+        executors.add(executor);
+        return executor;
+    }
+
+    /**
+     * Fork-Join-Pool mit benannten Plattform-Threads für CPU-gebundene Arbeit,
+     * fest auf {@code parallelism} Threads begrenzt. Er wird beim Herunterfahren
+     * des Servers geschlossen.
+     */
+    private ForkJoinPool newForkJoinPool(String namePrefix, int parallelism, int priority) {
+        AtomicLong counter = new AtomicLong();
+        ForkJoinPool pool = new ForkJoinPool(parallelism, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName(namePrefix + counter.getAndIncrement());
+            thread.setDaemon(true);
+            thread.setPriority(priority);
+            return thread;
+        }, null, false, parallelism, parallelism, 1, null, 60, TimeUnit.SECONDS);
+        executors.add(pool);
+        return pool;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ExecutorService executor : executors) {
+            executor.shutdownNow();
+        }
+        executors.clear();
+    }
+
+    public static ThreadFactory platformThreadFactory(String namePrefix) {
+        AtomicLong counter = new AtomicLong();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    static boolean isVirtualThreadSupported() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    /**
+     * Erzeugt {@code Thread.ofVirtual().name(prefix, 0).factory()}. Der Aufruf
+     * erfolgt reflektiv, damit der Quellcode weiterhin mit JDK 17 baut.
+     */
+    private static ThreadFactory virtualThreadFactory(String namePrefix) {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Method name = builderClass.getMethod("name", String.class, long.class);
+            builder = name.invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtuelle Threads konnten nicht erzeugt werden", e);
+        }
+    }
+}
@@ -2,44 +2,39 @@ package com.uni.gamesever.infrastructure;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.stereotype.Service;
 
-import jakarta.annotation.PreDestroy;
-
-import java.util.concurrent.ScheduledFuture;
-
-@Service
 public class ReconnectTimerManager {
 
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
+    private final HashedWheelTimer timer;
 
-    private final Map<String, ScheduledFuture<?>> reconnectTimers = new ConcurrentHashMap<>();
+    private final Map<String, HashedWheelTimer.Timeout> reconnectTimers = new ConcurrentHashMap<>();
     private static final Logger log = LoggerFactory.getLogger("GAME_LOG");
 
+    public ReconnectTimerManager(HashedWheelTimer timer) {
+        this.timer = timer;
+    }
+
     public void start(String playerId, long timeoutSeconds, Runnable onTimeout) {
-        System.out.println("Starting reconnect timer for player: " + playerId);
         log.info("Starte Wiederverbindungstimer für Spieler: {}", playerId);
         stop(playerId);
 
-        ScheduledFuture<?> future = scheduler.schedule(() -> {
+        HashedWheelTimer.Timeout timeout = timer.newTimeout(() -> {
             reconnectTimers.remove(playerId);
             onTimeout.run();
         }, timeoutSeconds, TimeUnit.SECONDS);
 
-        reconnectTimers.put(playerId, future);
+        reconnectTimers.put(playerId, timeout);
     }
 
     public void stop(String playerId) {
-        System.out.println("Stopping reconnect timer for player: " + playerId);
-        ScheduledFuture<?> future = reconnectTimers.remove(playerId);
-        if (future != null) {
-            future.cancel(false);
+        log.debug("Stopping reconnect timer for player: {}", playerId);
+        HashedWheelTimer.Timeout timeout = reconnectTimers.remove(playerId);
+        if (timeout != null) {
+            timeout.cancel();
         }
     }
 
@@ -50,12 +45,11 @@ public class ReconnectTimerManager {
     }
 
     public boolean isRunning(String playerId) {
-        ScheduledFuture<?> future = reconnectTimers.get(playerId);
-        return future != null && !future.isDone();
+        HashedWheelTimer.Timeout timeout = reconnectTimers.get(playerId);
+        return timeout != null && !timeout.isExpired() && !timeout.isCancelled();
     }
 
-    @PreDestroy
     public void shutdown() {
-        scheduler.shutdownNow();
+        stopAll();
     }
 }
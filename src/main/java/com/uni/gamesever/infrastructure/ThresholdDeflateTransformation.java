@@ -0,0 +1,124 @@
+package com.uni.gamesever.infrastructure;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.tomcat.websocket.MessagePart;
+import org.apache.tomcat.websocket.PerMessageDeflate;
+import org.apache.tomcat.websocket.Transformation;
+import org.apache.tomcat.websocket.TransformationBuilder;
+import org.apache.tomcat.websocket.TransformationResult;
+
+import jakarta.websocket.Extension;
+
+/**
+ * permessage-deflate (RFC 7692) mit Mindestgröße: Tomcats
+ * {@link PerMessageDeflate} übernimmt Aushandlung, Dekomprimierung und
+ * Komprimierung, ausgehende Nachrichten unter {@code thresholdBytes} werden
+ * aber unkomprimiert (ohne RSV1) gesendet. Kleine Ereignisse sparen so die
+ * CPU-Zeit, große Spielstände werden weiterhin komprimiert. Nach RFC 7692
+ * gehen unkomprimierte Nachrichten nicht in das gemeinsame Fenster ein, der
+ * Kontext des Deflaters bleibt also gültig.
+ *
+ * Fragmentierte Nachrichten werden immer komprimiert; die Entscheidung fällt
+ * am ersten Frame und gilt für alle Fortsetzungs-Frames.
+ */
+public class ThresholdDeflateTransformation implements Transformation {
+    private static final byte OPCODE_CONTINUATION = 0;
+    private static final byte OPCODE_CONTROL_BIT = 0x08;
+
+    private final Transformation deflate;
+    private final int thresholdBytes;
+    private final CompressionMetrics metrics;
+    private Transformation next;
+    private boolean compressCurrentMessage;
+
+    ThresholdDeflateTransformation(Transformation deflate, int thresholdBytes, CompressionMetrics metrics) {
+        this.deflate = deflate;
+        this.thresholdBytes = thresholdBytes;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Ersetzt Tomcats Builder für permessage-deflate, z. B. über
+     * {@code TransformationFactory.getInstance().registerExtension(PerMessageDeflate.NAME, ...)}
+     */
+    public static TransformationBuilder builder(int thresholdBytes, CompressionMetrics metrics) {
+        return (preferences, isServer) -> {
+            Transformation deflate = PerMessageDeflate.BUILDER.build(preferences, isServer);
+            return deflate == null ? null : new ThresholdDeflateTransformation(deflate, thresholdBytes, metrics);
+        };
+    }
+
+    @Override
+    public List<MessagePart> sendMessagePart(List<MessagePart> messageParts) throws IOException {
+        List<MessagePart> result = new ArrayList<>(messageParts.size());
+        for (MessagePart part : messageParts) {
+            byte opCode = part.getOpCode();
+            if ((opCode & OPCODE_CONTROL_BIT) != 0) {
+                result.addAll(forward(part));
+                continue;
+            }
+            boolean firstFrame = opCode != OPCODE_CONTINUATION;
+            if (firstFrame) {
+                compressCurrentMessage = !part.isFin() || part.getPayload().remaining() >= thresholdBytes;
+                if (!compressCurrentMessage) {
+                    metrics.onUncompressedMessage();
+                }
+            }
+            result.addAll(compressCurrentMessage ? compress(part, firstFrame) : forward(part));
+        }
+        return result;
+    }
+
+    private List<MessagePart> compress(MessagePart part, boolean firstFrame) throws IOException {
+        int bytesBefore = part.getPayload().remaining();
+        long start = System.nanoTime();
+        List<MessagePart> compressed = deflate.sendMessagePart(List.of(part));
+        long nanos = System.nanoTime() - start;
+        int bytesAfter = 0;
+        for (MessagePart compressedPart : compressed) {
+            ByteBuffer payload = compressedPart.getPayload();
+            bytesAfter += payload == null ? 0 : payload.remaining();
+        }
+        metrics.onCompressedFrame(firstFrame, bytesBefore, bytesAfter, nanos);
+        return compressed;
+    }
+
+    private List<MessagePart> forward(MessagePart part) throws IOException {
+        return next == null ? List.of(part) : next.sendMessagePart(List.of(part));
+    }
+
+    @Override
+    public void setNext(Transformation t) {
+        this.next = t;
+        deflate.setNext(t);
+    }
+
+    @Override
+    public boolean validateRsvBits(int i) {
+        return deflate.validateRsvBits(i);
+    }
+
+    @Override
+    public Extension getExtensionResponse() {
+        return deflate.getExtensionResponse();
+    }
+
+    @Override
+    public TransformationResult getMoreData(byte opCode, boolean fin, int rsv, ByteBuffer dest) throws IOException {
+        return deflate.getMoreData(opCode, fin, rsv, dest);
+    }
+
+    @Override
+    public boolean validateRsv(int rsv, byte opCode) {
+        return deflate.validateRsv(rsv, opCode);
+    }
+
+    @Override
+    public void close() {
+        deflate.close();
+    }
+}
@@ -0,0 +1,378 @@
+package com.uni.gamesever.interfaces.Websocket;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.uni.gamesever.domain.enums.DirectionType;
+import com.uni.gamesever.domain.model.Coordinates;
+import com.uni.gamesever.domain.model.GameBoard;
+import com.uni.gamesever.domain.model.PlayerInfo;
+import com.uni.gamesever.domain.model.PlayerState;
+import com.uni.gamesever.domain.model.PushActionInfo;
+import com.uni.gamesever.domain.model.Tile;
+import com.uni.gamesever.domain.model.Treasure;
+import com.uni.gamesever.domain.model.TurnInfo;
+import com.uni.gamesever.interfaces.Websocket.messages.client.Message;
+import com.uni.gamesever.interfaces.Websocket.messages.client.MovePawnRequest;
+import com.uni.gamesever.interfaces.Websocket.messages.client.PushTileRequest;
+import com.uni.gamesever.interfaces.Websocket.messages.client.RotateTileRequest;
+import com.uni.gamesever.interfaces.Websocket.messages.server.GameStarted;
+import com.uni.gamesever.interfaces.Websocket.messages.server.GameStatePatch;
+import com.uni.gamesever.interfaces.Websocket.messages.server.GameStateUpdate;
+
+/**
+ * Kompaktes Binärformat für Clients, die es beim CONNECT mit
+ * {@code binaryProtocol} anfordern. Jeder Frame beginnt mit einem Typ-Byte.
+ * Nachrichten ohne eigene Kodierung werden als {@link #TAG_JSON} gefolgt vom
+ * UTF-8-JSON übertragen.
+ *
+ * Grundbausteine:
+ * <ul>
+ * <li>Zahlen als vorzeichenlose Varints (7 Bit je Byte, niedrigste zuerst),</li>
+ * <li>Texte als Varint {@code Länge + 1} und UTF-8, {@code 0} für null,</li>
+ * <li>Enums als Byte {@code ordinal + 1}, {@code 0} für null,</li>
+ * <li>Koordinaten als Varints {@code column + 1}, {@code row + 1}; null und
+ * nicht gesetzte Koordinaten (-1) als {@code 0, 0}. Das Zugziel von
+ * {@link #TAG_MOVE_PAWN} muss gesetzt sein,</li>
+ * <li>Kachel als Byte: Bits 0–3 Eingänge wie {@link com.uni.gamesever.domain.model.EntranceMask},
+ * {@link #TILE_FIXED}, {@link #TILE_TREASURE} (Varint Schatz-ID folgt),
+ * {@link #TILE_BONUS} (Enum Bonustyp folgt); {@link #TILE_NULL} für kein
+ * Feld. Der Kacheltyp ergibt sich aus den Eingängen, Schatznamen werden nicht
+ * übertragen.</li>
+ * </ul>
+ *
+ * Spielstände ({@code GAME_STATE_UPDATE}, {@code GAME_STARTED},
+ * {@code GAME_STATE_PATCH}) enthalten Brett bzw. geänderte Felder, Spieler,
+ * Zuginfo und Spielende in dieser Reihenfolge, siehe die {@code write}-Methoden.
+ */
+public final class BinaryProtocol {
+    // Server → Client
+    public static final byte TAG_JSON = 0;
+    public static final byte TAG_GAME_STATE_UPDATE = 1;
+    public static final byte TAG_GAME_STARTED = 2;
+    public static final byte TAG_GAME_STATE_PATCH = 3;
+    // Client → Server
+    public static final byte TAG_PUSH_TILE = 16;
+    public static final byte TAG_ROTATE_TILE = 17;
+    public static final byte TAG_MOVE_PAWN = 18;
+
+    public static final int TILE_FIXED = 0x10;
+    public static final int TILE_TREASURE = 0x20;
+    public static final int TILE_BONUS = 0x40;
+    public static final int TILE_NULL = 0x80;
+
+    private static final int PLAYER_PRESENT = 0x01;
+    private static final int PLAYER_ADMIN = 0x02;
+    private static final int PLAYER_AI = 0x04;
+    private static final int PLAYER_CONNECTED = 0x08;
+
+    private static final DirectionType[] DIRECTIONS = DirectionType.values();
+
+    private BinaryProtocol() {
+    }
+
+    /**
+     * Kodiert eine Server-Nachricht. Spielstände kompakt, alles andere als
+     * JSON.
+     */
+    public static byte[] encode(Object message) throws JsonProcessingException {
+        if (message instanceof GameStateUpdate update) {
+            Writer out = new Writer(TAG_GAME_STATE_UPDATE);
+            out.writeVarint(update.getSequence() == null ? 0 : update.getSequence() + 1);
+            writeBoard(out, update.getBoard());
+            writeState(out, update.getPlayers(), update.getCurrentTurnInfo(), update.getGameEndTime());
+            return out.toByteArray();
+        }
+        if (message instanceof GameStarted started) {
+            Writer out = new Writer(TAG_GAME_STARTED);
+            writeBoard(out, started.getBoard());
+            writeState(out, started.getPlayers(), started.getCurrentTurnInfo(), started.getGameEndTime());
+            return out.toByteArray();
+        }
+        if (message instanceof GameStatePatch patch) {
+            Writer out = new Writer(TAG_GAME_STATE_PATCH);
+            out.writeVarint(patch.getSequence());
+            out.writeVarint(patch.getBaseSequence());
+            List<GameStatePatch.TileChange> changes = patch.getChangedTiles();
+            out.writeVarint(changes.size());
+            for (GameStatePatch.TileChange change : changes) {
+                out.writeVarint(change.getRow());
+                out.writeVarint(change.getCol());
+                writeTile(out, change.getTile());
+            }
+            writeTile(out, patch.getSpareTile());
+            writePush(out, patch.getLastPush());
+            writeState(out, patch.getPlayers(), patch.getCurrentTurnInfo(), patch.getGameEndTime());
+            return out.toByteArray();
+        }
+        return wrapJson(SerializerRegistry.toJsonBytes(message));
+    }
+
+    /** Bettet bereits serialisiertes JSON in einen Binär-Frame ein */
+    public static byte[] wrapJson(byte[] utf8Json) {
+        byte[] frame = new byte[utf8Json.length + 1];
+        frame[0] = TAG_JSON;
+        System.arraycopy(utf8Json, 0, frame, 1, utf8Json.length);
+        return frame;
+    }
+
+    /**
+     * Liest eine Client-Nachricht aus einem Binär-Frame.
+     *
+     * @throws IllegalArgumentException bei unbekanntem Typ, unvollständigem
+     *                                  Frame oder überzähligen Bytes
+     */
+    public static Message decodeClientMessage(ByteBuffer payload, ObjectReader messageReader) throws IOException {
+        try {
+            byte tag = payload.get();
+            switch (tag) {
+                case TAG_JSON: {
+                    byte[] json = new byte[payload.remaining()];
+                    payload.get(json);
+                    return messageReader.readValue(json);
+                }
+                case TAG_PUSH_TILE: {
+                    long rowOrColIndex = readVarint(payload);
+                    if (rowOrColIndex > Integer.MAX_VALUE) {
+                        throw new IllegalArgumentException("Einschubindex außerhalb des Wertebereichs");
+                    }
+                    DirectionType direction = readDirection(payload);
+                    expectEnd(payload);
+                    return new PushTileRequest((int) rowOrColIndex, direction);
+                }
+                case TAG_ROTATE_TILE:
+                    expectEnd(payload);
+                    return new RotateTileRequest();
+                case TAG_MOVE_PAWN: {
+                    MovePawnRequest request = new MovePawnRequest();
+                    request.setTargetCoordinates(readTargetCoordinates(payload));
+                    expectEnd(payload);
+                    return request;
+                }
+                default:
+                    throw new IllegalArgumentException("Unbekannter Binär-Nachrichtentyp: " + tag);
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Binär-Nachricht ist unvollständig");
+        }
+    }
+
+    private static void writeBoard(Writer out, GameBoard board) {
+        if (board == null) {
+            out.writeVarint(0);
+            return;
+        }
+        out.writeVarint(board.getRows());
+        out.writeVarint(board.getCols());
+        Tile[][] tiles = board.getTiles();
+        for (int row = 0; row < board.getRows(); row++) {
+            for (int col = 0; col < board.getCols(); col++) {
+                writeTile(out, tiles[row][col]);
+            }
+        }
+        writeTile(out, board.getSpareTile());
+        writePush(out, board.getLastPush());
+    }
+
+    private static void writeTile(Writer out, Tile tile) {
+        if (tile == null) {
+            out.writeByte(TILE_NULL);
+            return;
+        }
+        int flags = tile.getEntranceMask();
+        if (tile.getIsFixed()) {
+            flags |= TILE_FIXED;
+        }
+        if (tile.getTreasure() != null) {
+            flags |= TILE_TREASURE;
+        }
+        if (tile.getBonus() != null) {
+            flags |= TILE_BONUS;
+        }
+        out.writeByte(flags);
+        if (tile.getTreasure() != null) {
+            out.writeVarint(tile.getTreasure().getId());
+        }
+        if (tile.getBonus() != null) {
+            out.writeEnum(tile.getBonus().getType());
+        }
+    }
+
+    private static void writePush(Writer out, PushActionInfo push) {
+        if (push == null) {
+            out.writeByte(0);
+            return;
+        }
+        out.writeEnum(push.getDirection());
+        out.writeVarint(push.getRowOrColIndex());
+    }
+
+    private static void writeState(Writer out, PlayerState[] players, TurnInfo turnInfo, String gameEndTime) {
+        out.writeVarint(players == null ? 0 : players.length);
+        if (players != null) {
+            for (PlayerState player : players) {
+                writePlayer(out, player);
+            }
+        }
+        if (turnInfo == null) {
+            out.writeByte(0);
+        } else {
+            out.writeByte(1);
+            out.writeString(turnInfo.getCurrentPlayerId());
+            out.writeString(turnInfo.getTurnEndTime());
+            out.writeEnum(turnInfo.getState());
+        }
+        out.writeString(gameEndTime);
+    }
+
+    private static void writePlayer(Writer out, PlayerState player) {
+        if (player == null) {
+            out.writeByte(0);
+            return;
+        }
+        PlayerInfo info = player.getPlayerInfo();
+        int flags = PLAYER_PRESENT;
+        if (info != null && info.getIsAdmin()) {
+            flags |= PLAYER_ADMIN;
+        }
+        if (info != null && info.getIsAiControlled()) {
+            flags |= PLAYER_AI;
+        }
+        if (info != null && info.getIsConnected()) {
+            flags |= PLAYER_CONNECTED;
+        }
+        out.writeByte(flags);
+        out.writeString(info != null ? info.getId() : null);
+        out.writeString(info != null ? info.getName() : null);
+        out.writeEnum(info != null ? info.getColor() : null);
+        out.writeCoordinates(player.getCurrentPosition());
+        out.writeCoordinates(player.getHomePosition());
+        out.writeVarint(player.getRemainingTreasureCount());
+        List<Treasure> found = player.getTreasuresFound();
+        out.writeVarint(found == null ? 0 : found.size());
+        if (found != null) {
+            for (Treasure treasure : found) {
+                out.writeVarint(treasure.getId());
+            }
+        }
+        out.writeStrings(player.getAchievements());
+        out.writeStrings(player.getAvailableBonuses());
+    }
+
+    private static long readVarint(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Varint ist zu lang");
+    }
+
+    /** Gegenstück zu {@code writeCoordinates}; {@code 0} (null) ist kein gültiges Ziel */
+    private static Coordinates readTargetCoordinates(ByteBuffer in) {
+        long column = readVarint(in);
+        long row = readVarint(in);
+        if (column == 0 || row == 0) {
+            throw new IllegalArgumentException("Zugziel fehlt");
+        }
+        if (column > Integer.MAX_VALUE || row > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Zugziel außerhalb des Wertebereichs");
+        }
+        return new Coordinates((int) column - 1, (int) row - 1);
+    }
+
+    private static void expectEnd(ByteBuffer in) {
+        if (in.hasRemaining()) {
+            throw new IllegalArgumentException("Binär-Nachricht enthält " + in.remaining() + " überzählige Bytes");
+        }
+    }
+
+    private static DirectionType readDirection(ByteBuffer in) {
+        int value = in.get() & 0xFF;
+        if (value == 0) {
+            return null;
+        }
+        if (value > DIRECTIONS.length) {
+            throw new IllegalArgumentException("Unbekannte Richtung: " + value);
+        }
+        return DIRECTIONS[value - 1];
+    }
+
+    /** Wachsender Byte-Puffer mit den Grundbausteinen des Formats */
+    static final class Writer {
+        private byte[] buffer = new byte[256];
+        private int size;
+
+        Writer(byte tag) {
+            writeByte(tag);
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[size++] = (byte) value;
+        }
+
+        void writeVarint(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarint(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(bytes.length + 1L);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        void writeStrings(String[] values) {
+            writeVarint(values == null ? 0 : values.length);
+            if (values != null) {
+                for (String value : values) {
+                    writeString(value);
+                }
+            }
+        }
+
+        void writeEnum(Enum<?> value) {
+            writeByte(value == null ? 0 : value.ordinal() + 1);
+        }
+
+        void writeCoordinates(Coordinates coordinates) {
+            if (coordinates == null) {
+                writeVarint(0);
+                writeVarint(0);
+                return;
+            }
+            writeVarint(Math.max(0, coordinates.getColumn() + 1L));
+            writeVarint(Math.max(0, coordinates.getRow() + 1L));
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private void ensureCapacity(int additional) {
+            if (size + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+            }
+        }
+    }
+}
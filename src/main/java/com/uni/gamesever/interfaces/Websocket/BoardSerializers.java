@@ -0,0 +1,167 @@
+package com.uni.gamesever.interfaces.Websocket;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.uni.gamesever.domain.enums.DirectionType;
+import com.uni.gamesever.domain.model.EntranceMask;
+import com.uni.gamesever.domain.model.GameBoard;
+import com.uni.gamesever.domain.model.PushActionInfo;
+import com.uni.gamesever.domain.model.Tile;
+import com.uni.gamesever.domain.model.Treasure;
+
+/**
+ * Handgeschriebene Serialisierer für Spielbrett und Kacheln, die in jedem
+ * Spielstand den Großteil der Nachricht ausmachen. Sie schreiben direkt in den
+ * Generator statt über Reflection und liefern dasselbe JSON wie die
+ * Bean-Serialisierung (gleiche Felder in gleicher Reihenfolge), Clients merken
+ * also keinen Unterschied.
+ */
+public final class BoardSerializers {
+    private static final SerializedString ROWS = new SerializedString("rows");
+    private static final SerializedString COLS = new SerializedString("cols");
+    private static final SerializedString TILES = new SerializedString("tiles");
+    private static final SerializedString LAST_PUSH = new SerializedString("lastPush");
+    private static final SerializedString SPARE_TILE = new SerializedString("spareTile");
+    private static final SerializedString TREASURE = new SerializedString("treasure");
+    private static final SerializedString BONUS = new SerializedString("bonus");
+    private static final SerializedString IS_FIXED = new SerializedString("isFixed");
+    private static final SerializedString ENTRANCES = new SerializedString("entrances");
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString ROW_OR_COL_INDEX = new SerializedString("rowOrColIndex");
+    private static final SerializedString DIRECTION = new SerializedString("direction");
+
+    /** Eingänge je Maske, bereits als JSON-Strings */
+    private static final SerializableString[][] ENTRANCE_NAMES = new SerializableString[EntranceMask.ALL + 1][];
+
+    static {
+        for (int mask = 0; mask <= EntranceMask.ALL; mask++) {
+            List<DirectionType> entrances = EntranceMask.toList(mask);
+            ENTRANCE_NAMES[mask] = new SerializableString[entrances.size()];
+            for (int i = 0; i < entrances.size(); i++) {
+                ENTRANCE_NAMES[mask][i] = new SerializedString(entrances.get(i).name());
+            }
+        }
+    }
+
+    private BoardSerializers() {
+    }
+
+    /** Modul mit beiden Serialisierern für {@link ObjectMapperSingleton} */
+    public static SimpleModule module() {
+        SimpleModule module = new SimpleModule("BoardSerializers");
+        module.addSerializer(GameBoard.class, new GameBoardSerializer());
+        module.addSerializer(Tile.class, new TileSerializer());
+        return module;
+    }
+
+    public static final class GameBoardSerializer extends StdSerializer<GameBoard> {
+        public GameBoardSerializer() {
+            super(GameBoard.class);
+        }
+
+        @Override
+        public void serialize(GameBoard board, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(board);
+            gen.writeFieldName(ROWS);
+            gen.writeNumber(board.getRows());
+            gen.writeFieldName(COLS);
+            gen.writeNumber(board.getCols());
+            gen.writeFieldName(TILES);
+            Tile[][] tiles = board.getTiles();
+            if (tiles == null) {
+                gen.writeNull();
+            } else {
+                gen.writeStartArray(tiles, tiles.length);
+                for (Tile[] row : tiles) {
+                    if (row == null) {
+                        gen.writeNull();
+                        continue;
+                    }
+                    gen.writeStartArray(row, row.length);
+                    for (Tile tile : row) {
+                        writeTile(tile, gen);
+                    }
+                    gen.writeEndArray();
+                }
+                gen.writeEndArray();
+            }
+            gen.writeFieldName(LAST_PUSH);
+            writePush(board.getLastPush(), gen);
+            gen.writeFieldName(SPARE_TILE);
+            writeTile(board.getSpareTile(), gen);
+            gen.writeEndObject();
+        }
+    }
+
+    public static final class TileSerializer extends StdSerializer<Tile> {
+        public TileSerializer() {
+            super(Tile.class);
+        }
+
+        @Override
+        public void serialize(Tile tile, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            writeTile(tile, gen);
+        }
+    }
+
+    private static void writeTile(Tile tile, JsonGenerator gen) throws IOException {
+        if (tile == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject(tile);
+        gen.writeFieldName(TREASURE);
+        Treasure treasure = tile.getTreasure();
+        if (treasure == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartObject(treasure);
+            gen.writeFieldName(ID);
+            gen.writeNumber(treasure.getId());
+            gen.writeFieldName(NAME);
+            gen.writeString(treasure.getName());
+            gen.writeEndObject();
+        }
+        gen.writeFieldName(BONUS);
+        if (tile.getBonus() == null || tile.getBonus().getType() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(tile.getBonus().getType().name());
+        }
+        gen.writeFieldName(IS_FIXED);
+        gen.writeBoolean(tile.getIsFixed());
+        gen.writeFieldName(ENTRANCES);
+        SerializableString[] entrances = ENTRANCE_NAMES[tile.getEntranceMask()];
+        gen.writeStartArray(entrances, entrances.length);
+        for (SerializableString entrance : entrances) {
+            gen.writeString(entrance);
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+
+    private static void writePush(PushActionInfo push, JsonGenerator gen) throws IOException {
+        if (push == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject(push);
+        gen.writeFieldName(ROW_OR_COL_INDEX);
+        gen.writeNumber(push.getRowOrColIndex());
+        gen.writeFieldName(DIRECTION);
+        if (push.getDirection() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(push.getDirection().name());
+        }
+        gen.writeEndObject();
+    }
+}
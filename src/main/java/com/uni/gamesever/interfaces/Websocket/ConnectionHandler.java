@@ -1,11 +1,11 @@
 package com.uni.gamesever.interfaces.Websocket;
 
+import java.util.function.Consumer;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.uni.gamesever.domain.ai.ServerAIManager;
 import com.uni.gamesever.domain.exceptions.GameAlreadyStartedException;
 import com.uni.gamesever.infrastructure.ReconnectTimerManager;
@@ -17,22 +17,22 @@ import com.uni.gamesever.domain.game.GameManager;
 import com.uni.gamesever.domain.game.PlayerManager;
 import com.uni.gamesever.domain.model.PlayerInfo;
 import com.uni.gamesever.domain.model.TurnState;
+import com.uni.gamesever.infrastructure.GameJournal;
 import com.uni.gamesever.interfaces.Websocket.messages.client.ConnectRequest;
 import com.uni.gamesever.interfaces.Websocket.messages.server.ConnectAck;
-import com.uni.gamesever.interfaces.Websocket.messages.server.GameStateUpdate;
 import com.uni.gamesever.interfaces.Websocket.messages.server.LobbyState;
 import com.uni.gamesever.interfaces.Websocket.messages.server.NextTreasureCardEvent;
 import com.uni.gamesever.interfaces.Websocket.messages.server.PlayerUpdateEvent;
 import com.uni.gamesever.services.SocketMessageService;
 
-@Service
 public class ConnectionHandler {
     private final PlayerManager playerManager;
     private final GameManager gameManager;
     private final SocketMessageService socketMessageService;
     private final ServerAIManager serverAIManager;
     private final ReconnectTimerManager reconnectTimerManager;
-    private final ObjectMapper objectMapper = ObjectMapperSingleton.getInstance();
+    private Consumer<String> identifierTokenListener = identifierToken -> {
+    };
     private static final Logger log = LoggerFactory.getLogger("GAME_LOG");
 
     public ConnectionHandler(PlayerManager playerManager, GameManager gameManager,
@@ -45,6 +45,14 @@ public class ConnectionHandler {
         this.reconnectTimerManager = reconnectTimerManager;
     }
 
+    /**
+     * Wird mit jedem beim ersten Connect vergebenen identifierToken aufgerufen,
+     * damit ein Reconnect den Raum des Spielers wiederfindet
+     */
+    public void setIdentifierTokenListener(Consumer<String> identifierTokenListener) {
+        this.identifierTokenListener = identifierTokenListener;
+    }
+
     public boolean handleConnectMessage(ConnectRequest request, String userId)
             throws JsonProcessingException, GameFullException, IllegalArgumentException, UsernameNullOrEmptyException,
             UsernameAlreadyTakenException, UserNotFoundException, GameAlreadyStartedException {
@@ -60,7 +68,7 @@ public class ConnectionHandler {
                 // STOP RECONNECT TIMER mit der ALTEN Session ID!
                 if (oldSessionId != null) {
                     reconnectTimerManager.stop(oldSessionId);
-                    System.out.println("⏱️  Stopped reconnect timer for old session: " + oldSessionId);
+                    log.debug("Reconnect-Timer der alten Session {} gestoppt", oldSessionId);
                 }
 
                 // DEACTIVATE AI WHEN PLAYER RECONNECTS
@@ -74,18 +82,22 @@ public class ConnectionHandler {
                     reconnectedPlayer.setIsAiControlled(false);
                 }
 
-                System.out.println("🤖 AI deactivated for reconnected player: " + request.getIdentifierToken() + " (new session: " + userId + ")");
+                log.debug("AI für wiederverbundenen Spieler {} deaktiviert (neue Session {})",
+                        request.getIdentifierToken(), userId);
                 log.info("User {} hat sich als {} wiederverbunden", userId, request.getUsername());
                 ConnectAck connectionAck = new ConnectAck(userId, request.getIdentifierToken());
-                socketMessageService.sendMessageToSession(userId, objectMapper.writeValueAsString(connectionAck));
+                socketMessageService.sendMessageToSession(userId, SerializerRegistry.toJson(connectionAck));
                 NextTreasureCardEvent nextTreasureCardEvent = new NextTreasureCardEvent(
                         playerManager.getPlayerStateById(userId).getCurrentTreasure());
                 socketMessageService.sendMessageToSession(userId,
-                        objectMapper.writeValueAsString(nextTreasureCardEvent));
-                GameStateUpdate gameStateUpdate = new GameStateUpdate(gameManager.getCurrentBoard(),
-                        playerManager.getNonNullPlayerStates(),
-                        gameManager.getTurnInfo(), gameManager.getGameEndTime());
-                socketMessageService.broadcastMessage(objectMapper.writeValueAsString(gameStateUpdate));
+                        SerializerRegistry.toJson(nextTreasureCardEvent));
+                gameManager.getGameStateSync().setDeltaUpdates(userId, request.isDeltaUpdates());
+                if (request.isDeltaUpdates()) {
+                    gameManager.sendGameStateSnapshotToSession(userId);
+                }
+                // erster Spieler zurück in einem aus dem Journal wiederhergestellten Spiel
+                gameManager.resumeAfterRecovery();
+                gameManager.informAllPlayersAboutCurrentGameState();
                 return true;
             }
         }
@@ -97,14 +109,16 @@ public class ConnectionHandler {
         newPlayer.setName(request.getUsername());
         newPlayer.setIdentifierToken(userId); // Setze identifierToken beim ersten Connect
         if (playerManager.addPlayer(newPlayer)) {
+            identifierTokenListener.accept(newPlayer.getIdentifierToken());
+            gameManager.getGameStateSync().setDeltaUpdates(userId, request.isDeltaUpdates());
             log.info("User {} hat sich als {} verbunden", userId, request.getUsername());
             ConnectAck connectionAck = new ConnectAck(newPlayer.getId(), newPlayer.getIdentifierToken());
-            socketMessageService.sendMessageToSession(userId, objectMapper.writeValueAsString(connectionAck));
+            socketMessageService.sendMessageToSession(userId, SerializerRegistry.toJson(connectionAck));
 
             LobbyState lobbyState = new LobbyState(playerManager.getNonNullPlayers());
-            socketMessageService.broadcastMessage(objectMapper.writeValueAsString(lobbyState));
+            socketMessageService.broadcastMessage(SerializerRegistry.toJson(lobbyState));
         } else {
-            System.err.println("Game is full. User " + userId + " cannot join.");
+            log.warn("Spiel ist voll, Benutzer {} kann nicht beitreten", userId);
             throw new GameFullException("Das Spiel ist voll. Beitritt nicht möglich.");
         }
 
@@ -116,7 +130,13 @@ public class ConnectionHandler {
         if (userId == null || userId.isEmpty()) {
             throw new UserNotFoundException("Die Benutzer-ID darf nicht null oder leer sein.");
         }
+        gameManager.getGameStateSync().removeSession(userId);
         if (gameManager.getTurnInfo().getState() != TurnState.NOT_STARTED) {
+            PlayerInfo leavingPlayer = playerManager.getPlayerById(userId);
+            GameJournal journal = gameManager.getJournal();
+            if (leavingPlayer != null && journal != null) {
+                journal.recordPlayerLeft(leavingPlayer.getIdentifierToken());
+            }
             if (playerManager.getCurrentPlayer().getId().equals(userId)) {
                 playerManager.setNextPlayerAsCurrent();
                 playerManager.removePlayer(userId);
@@ -129,10 +149,7 @@ public class ConnectionHandler {
                 gameManager.getTurnInfo().setCurrentPlayerId(playerManager.getCurrentPlayer().getId());
 
                 gameManager.resetAllVariablesForNextTurn();
-                GameStateUpdate gameStatUpdate = new GameStateUpdate(gameManager.getCurrentBoard(),
-                        playerManager.getNonNullPlayerStates(),
-                        gameManager.getTurnInfo(), gameManager.getGameEndTime());
-                socketMessageService.broadcastMessage(objectMapper.writeValueAsString(gameStatUpdate));
+                gameManager.informAllPlayersAboutCurrentGameState();
             } else {
                 playerManager.removePlayer(userId);
 
@@ -141,16 +158,13 @@ public class ConnectionHandler {
                     return true;
                 }
 
-                GameStateUpdate gameStatUpdate = new GameStateUpdate(gameManager.getCurrentBoard(),
-                        playerManager.getNonNullPlayerStates(),
-                        gameManager.getTurnInfo(), gameManager.getGameEndTime());
-                socketMessageService.broadcastMessage(objectMapper.writeValueAsString(gameStatUpdate));
+                gameManager.informAllPlayersAboutCurrentGameState();
 
             }
         } else {
             playerManager.removePlayer(userId);
             LobbyState lobbyState = new LobbyState(playerManager.getNonNullPlayers());
-            socketMessageService.broadcastMessage(objectMapper.writeValueAsString(lobbyState));
+            socketMessageService.broadcastMessage(SerializerRegistry.toJson(lobbyState));
         }
         return true;
     }
@@ -161,9 +175,10 @@ public class ConnectionHandler {
             throw new UserNotFoundException("Die Benutzer-ID darf nicht null oder leer sein.");
         }
         playerManager.disconnectPlayer(userId);
+        gameManager.getGameStateSync().removeSession(userId);
         PlayerUpdateEvent playerUpdateEvent = new PlayerUpdateEvent(
                 playerManager.getPlayerById(userId));
-        socketMessageService.broadcastMessage(objectMapper.writeValueAsString(playerUpdateEvent));
+        socketMessageService.broadcastMessage(SerializerRegistry.toJson(playerUpdateEvent));
 
         return true;
     }
@@ -1,16 +1,23 @@
 package com.uni.gamesever.interfaces.Websocket;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.uni.gamesever.domain.ai.ServerAIManager;
 import com.uni.gamesever.domain.exceptions.*;
 import com.uni.gamesever.domain.game.GameInitializationController;
 import com.uni.gamesever.domain.game.GameManager;
+import com.uni.gamesever.domain.game.GameRoom;
+import com.uni.gamesever.domain.game.GameRoomRegistry;
 import com.uni.gamesever.domain.game.PlayerManager;
 import com.uni.gamesever.domain.model.ErrorCode;
 import com.uni.gamesever.domain.model.PlayerInfo;
@@ -25,531 +32,618 @@ import com.uni.gamesever.interfaces.Websocket.messages.client.ToggleAiCommand;
 import com.uni.gamesever.interfaces.Websocket.messages.client.UseBeamRequest;
 import com.uni.gamesever.interfaces.Websocket.messages.client.UseSwapRequest;
 import com.uni.gamesever.interfaces.Websocket.messages.server.ActionErrorEvent;
+import com.uni.gamesever.infrastructure.GameEventLogger;
 import com.uni.gamesever.services.SocketMessageService;
 
 @Service
 public class MessageHandler {
 
     private final ObjectMapper objectMapper = ObjectMapperSingleton.getInstance();
-    private final ConnectionHandler connectionHandler;
-    private final GameInitializationController gameInitialitionController;
-    private final GameManager gameManager;
-    private final PlayerManager playerManager;
-    private final ServerAIManager serverAIManager;
+    private final GameRoomRegistry gameRoomRegistry;
     private final SocketMessageService socketMessageService;
+    private final GameEventLogger gameEventLogger;
     private static final Logger log = LoggerFactory.getLogger("GAME_LOG");
+    private final ObjectReader messageReader = objectMapper.readerFor(Message.class);
+    private final Map<String, RoomMessageHandler<Message>> roomHandlers = new HashMap<>();
+
+    /**
+     * Verarbeitet eine bereits eingelesene Spielaktion auf dem Thread der
+     * Befehlswarteschlange des Raums
+     */
+    @FunctionalInterface
+    private interface RoomMessageHandler<T extends Message> {
+        void handle(GameRoom room, T request, String userId) throws JsonProcessingException;
+    }
 
-    public MessageHandler(SocketMessageService socketMessageService,
-            GameInitializationController gameInitialitionController, ConnectionHandler connectionHandler,
-            GameManager gameManager, PlayerManager playerManager, ServerAIManager serverAIManager) {
+    public MessageHandler(SocketMessageService socketMessageService, GameRoomRegistry gameRoomRegistry,
+            GameEventLogger gameEventLogger) {
         this.socketMessageService = socketMessageService;
-        this.connectionHandler = connectionHandler;
-        this.gameInitialitionController = gameInitialitionController;
-        this.gameManager = gameManager;
-        this.playerManager = playerManager;
-        this.serverAIManager = serverAIManager;
+        this.gameRoomRegistry = gameRoomRegistry;
+        this.gameEventLogger = gameEventLogger;
+
+        register("DISCONNECT", Message.class, this::handleDisconnect);
+        register("START_GAME", StartGameRequest.class, this::handleStartGame);
+        register("PUSH_TILE", PushTileRequest.class, this::handlePushTile);
+        register("ROTATE_TILE", Message.class, this::handleRotateTile);
+        register("MOVE_PAWN", MovePawnRequest.class, this::handleMovePawn);
+        register("USE_BEAM", UseBeamRequest.class, this::handleUseBeam);
+        register("USE_SWAP", UseSwapRequest.class, this::handleUseSwap);
+        register("USE_PUSH_FIXED", UsePushFixedTileRequest.class, this::handleUsePushFixed);
+        register("USE_PUSH_TWICE", Message.class, this::handleUsePushTwice);
+        register("REQUEST_RESYNC", Message.class, this::handleRequestResync);
+        register("TOGGLE_AI", ToggleAiCommand.class, this::handleToggleAi);
+    }
+
+    private <T extends Message> void register(String type, Class<T> requestType, RoomMessageHandler<T> handler) {
+        roomHandlers.put(type, (room, request, userId) -> handler.handle(room, requestType.cast(request), userId));
     }
 
     public void handleClientMessage(String message, String userId)
             throws ConnectionRejectedException, JsonProcessingException {
-        // parsing the client message into a connectRequest object
-        log.info("Nachricht von Benutzer {} empfangen: {}", userId, message);
+        // Nachricht einmal einlesen; Jackson wählt über "type" direkt die Anfrageklasse
+        log.debug("Nachricht von Benutzer {} empfangen: {}", userId, message);
         Message request;
         try {
-            request = objectMapper.readValue(message, Message.class);
+            request = messageReader.readValue(message);
         } catch (JsonProcessingException e) {
             log.error("Failed to parse message from user " + userId + ": " + e.getMessage());
             ActionErrorEvent errorEvent = new ActionErrorEvent(ErrorCode.INVALID_COMMAND,
                     "Ungültiges Nachrichtenformat");
-            socketMessageService.sendMessageToSession(userId, objectMapper.writeValueAsString(errorEvent));
+            socketMessageService.sendMessageToSession(userId, SerializerRegistry.toJson(errorEvent));
             return;
         }
+        handleClientRequest(request, userId);
+    }
 
+    /**
+     * Verarbeitet einen Binär-Frame eines Clients, siehe {@link BinaryProtocol}
+     */
+    public void handleBinaryClientMessage(ByteBuffer payload, String userId)
+            throws ConnectionRejectedException, JsonProcessingException {
+        Message request;
+        try {
+            request = BinaryProtocol.decodeClientMessage(payload, messageReader);
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("Binär-Nachricht von Benutzer {} nicht lesbar: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.INVALID_COMMAND, "Ungültiges Nachrichtenformat");
+            return;
+        }
+        log.debug("Binär-Nachricht {} von Benutzer {} empfangen", request.getType(), userId);
+        handleClientRequest(request, userId);
+    }
+
+    private void handleClientRequest(Message request, String userId)
+            throws ConnectionRejectedException, JsonProcessingException {
         if (request.getType() == null || request.getType().isBlank()) {
             ActionErrorEvent errorEvent = new ActionErrorEvent(
                     ErrorCode.INVALID_COMMAND,
                     "Missing message type");
             socketMessageService.sendMessageToSession(
                     userId,
-                    objectMapper.writeValueAsString(errorEvent));
+                    SerializerRegistry.toJson(errorEvent));
+            return;
+        }
+
+        if (request instanceof ConnectRequest connectReq) {
+            handleConnectMessage(connectReq, userId);
+            return;
+        }
+
+        GameRoom room = gameRoomRegistry.getRoomOfSession(userId);
+        if (room == null) {
+            sendError(userId, ErrorCode.PLAYER_NOT_CONNECTED,
+                    "Du bist keinem Spielraum zugeordnet. Bitte verbinde dich zuerst.");
+            return;
+        }
+        RoomMessageHandler<Message> handler = roomHandlers.get(request.getType());
+        if (handler == null) {
+            return;
+        }
+        // Latenz vom Empfang bis zum Ende der Verarbeitung, inklusive Wartezeit in der Warteschlange
+        long receivedAt = System.nanoTime();
+        room.getMailbox().post(() -> {
+            try {
+                handler.handle(room, request, userId);
+            } finally {
+                gameEventLogger.record(GameEventLogger.Category.MESSAGE, request.getType(), room.getRoomId(), userId,
+                        System.nanoTime() - receivedAt);
+            }
+        });
+    }
+
+    private void handleDisconnect(GameRoom room, Message request, String userId)
+            throws JsonProcessingException {
+        ConnectionHandler connectionHandler = room.getConnectionHandler();
+
+        try {
+            connectionHandler.handleIntentionalDisconnectOrAfterTimeOut(userId);
+            gameRoomRegistry.releaseSession(userId);
+            return;
+        } catch (UserNotFoundException e) {
+            sendError(userId, ErrorCode.PLAYER_NOT_FOUND, e.getMessage());
+            log.error("Benutzer {} nicht gefunden: {}", userId, e.getMessage());
+            return;
+        } catch (JsonProcessingException e) {
+            sendError(userId, ErrorCode.INVALID_COMMAND,
+                    "Ungültiges Nachrichtenformat");
+            log.error("Fehler beim Verarbeiten der Trennungsanfrage von Benutzer {}: {}", userId,
+                    e.getMessage());
+            return;
+        }
+    }
+
+    private void handleStartGame(GameRoom room, StartGameRequest startGameReq, String userId)
+            throws JsonProcessingException {
+        GameInitializationController gameInitialitionController = room.getGameInitializationController();
+
+        try {
+            if (startGameReq.getTreasureCardCount() < 2 || startGameReq.getTreasureCardCount() > 24) {
+                log.error("Die Anzahl der Schatzkarten ist nicht korrekt.");
+                throw new IllegalArgumentException(
+                        "Die Anzahl der Schatzkarten muss zwischen 2 und 24 liegen.");
+            }
+            if (startGameReq.getGameDurationInSeconds() < 0) {
+                log.error("Die Spieldauer ist nicht korrekt.");
+                throw new IllegalArgumentException("Die Spieldauer muss positiv sein.");
+            }
+            if (startGameReq.getTotalBonusCount() < 0 || startGameReq.getTotalBonusCount() > 20) {
+                log.error("Die Anzahl der Bonusse ist nicht korrekt.");
+                throw new IllegalArgumentException(
+                        "Die Anzahl der Bonusse darf nicht negativ oder größer als 20 sein.");
+            }
+            gameInitialitionController.handleStartGameMessage(userId, startGameReq.getBoardSize(),
+                    startGameReq.getTreasureCardCount(), startGameReq.getGameDurationInSeconds(),
+                    startGameReq.getTotalBonusCount());
+            return;
+        } catch (GameAlreadyStartedException e) {
+            sendError(userId, ErrorCode.GAME_ALREADY_STARTED, "Das Spiel hat bereits begonnen.");
+            log.error(userId, "Das Spiel hat bereits begonnen: {}", e.getMessage());
+            return;
+        } catch (PlayerNotAdminException e) {
+            sendError(userId, ErrorCode.NOT_ADMIN,
+                    "Nur der Admin-Spieler kann das Spiel starten. Bitte warte bis zum Spielstart.");
+            log.error(userId, "Nur der Admin-Spieler kann das Spiel starten: {}", e.getMessage());
+            return;
+        } catch (NotEnoughPlayerException e) {
+            sendError(userId, ErrorCode.GENERAL, "Nicht genügend Spieler, um das Spiel zu starten.");
+            log.error(userId, "Nicht genügend Spieler, um das Spiel zu starten: {}", e.getMessage());
+            return;
+        } catch (NoExtraTileException e) {
+            sendError(userId, ErrorCode.GENERAL, "Es gab ein Problem mit der Extra-Kachel");
+            log.error(userId, "Es gab ein Problem mit der Extra-Kachel: {}", e.getMessage());
+            return;
+        } catch (IllegalArgumentException e) {
+            sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
+            log.error(userId, "Ungültige Startspiel-Anfrage: {}", e.getMessage());
+            return;
+        } catch (JsonProcessingException e) {
+            sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
+            log.error(userId, "Fehler beim Verarbeiten der Startspiel-Anfrage von Benutzer {}: {}", userId,
+                    e.getMessage());
+            return;
+        } catch (Exception e) {
+            sendError(userId, ErrorCode.GENERAL, "Ein unerwarteter Fehler ist aufgetreten.");
+            log.error(userId,
+                    "Unerwarteter Fehler bei der Verarbeitung der Startspiel-Anfrage von Benutzer {}: {}",
+                    userId,
+                    e.getMessage());
+            return;
+        }
+    }
+
+    private void handlePushTile(GameRoom room, PushTileRequest pushTileCommand, String userId)
+            throws JsonProcessingException {
+        GameManager gameManager = room.getGameManager();
+
+        if (gameManager.getTurnInfo().getState() == null
+                || gameManager.getTurnInfo().getState() == TurnState.NOT_STARTED) {
+            sendError(userId, ErrorCode.GENERAL, "Das Spiel hat noch nicht begonnen.");
+            log.error(userId, "Das Spiel hat noch nicht begonnen. Es kann keine Kachel geschoben werden.");
+            return;
+        }
+        try {
+            if (pushTileCommand.getRowOrColIndex() < 0) {
+                log.error(userId, "Keine gültige Zeilen- oder Spaltenindex für Push angegeben");
+                throw new IllegalArgumentException(
+                        "Keine gültige Zeilen- oder Spaltenindex für Push angegeben");
+            }
+            if (pushTileCommand.getDirection() == null) {
+                log.error(userId, "Keine gültige Richtung für Push angegeben");
+                throw new IllegalArgumentException("Keine gültige Richtung für Push angegeben");
+            }
+            gameManager.handlePushTile(pushTileCommand.getRowOrColIndex(),
+                    pushTileCommand.getDirection(), userId, false);
+            return;
+        } catch (PushNotValidException e) {
+            log.error(userId, "Ungültiger Push-Kachel-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.INVALID_PUSH, e.getMessage());
+            return;
+        } catch (NoDirectionForPush e) {
+            log.error(userId, "Ungültiger Push-Kachel-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
+            return;
+        } catch (NotPlayersTurnException e) {
+            log.error(userId, "Ungültiger Push-Kachel-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.NOT_YOUR_TURN, e.getMessage());
+            return;
+        } catch (NoExtraTileException e) {
+            log.error(userId, "Ungültiger Push-Kachel-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.GENERAL, e.getMessage());
+            return;
+        } catch (GameNotStartedException e) {
+            log.error(userId, "Ungültiger Push-Kachel-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.GENERAL, e.getMessage());
+            return;
+        } catch (IllegalArgumentException e) {
+            log.error(userId, "Ungültiger Push-Kachel-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
+            return;
+        }
+    }
+
+    private void handleRotateTile(GameRoom room, Message request, String userId)
+            throws JsonProcessingException {
+        GameManager gameManager = room.getGameManager();
+
+        if (gameManager.getTurnInfo().getState() == null
+                || gameManager.getTurnInfo().getState() == TurnState.NOT_STARTED) {
+            sendError(userId, ErrorCode.GENERAL, "Das Spiel hat noch nicht begonnen.");
+            return;
+        }
+        try {
+            gameManager.handleRotateTile(userId);
+            return;
+        } catch (NotPlayersRotateTileExeption e) {
+            log.error(userId, "Ungültiger Rotate-Kachel-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
+            return;
+        } catch (NotPlayersTurnException e) {
+            log.error(userId, "Ungültiger Rotate-Kachel-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.NOT_YOUR_TURN, e.getMessage());
+            return;
+        } catch (GameNotValidException e) {
+            log.error(userId, "Ungültiger Rotate-Kachel-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.GENERAL, e.getMessage());
+            return;
+        } catch (NoValidActionException e) {
+            log.error(userId, "Ungültiger Rotate-Kachel-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
+            return;
+        } catch (IllegalArgumentException e) {
+            log.error(userId, "Ungültiger Rotate-Kachel-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
+            return;
+        }
+    }
+
+    private void handleMovePawn(GameRoom room, MovePawnRequest movePawnRequest, String userId)
+            throws JsonProcessingException {
+        GameManager gameManager = room.getGameManager();
+
+        if (gameManager.getTurnInfo().getState() == null
+                || gameManager.getTurnInfo().getState() == TurnState.NOT_STARTED) {
+            sendError(userId, ErrorCode.GENERAL, "Das Spiel hat noch nicht begonnen.");
+            return;
+        }
+        try {
+            if (movePawnRequest.getTargetCoordinates().getColumn() < 0) {
+                log.error(userId, "Die Anzahl der Spalten darf nicht negativ sein");
+                throw new IllegalArgumentException("Die Anzahl der Spalten darf nicht negativ sein");
+            }
+            if (movePawnRequest.getTargetCoordinates().getRow() < 0) {
+                log.error(userId, "Die Anzahl der Reihen darf nicht negativ sein");
+                throw new IllegalArgumentException("Die Anzahl der Reihen darf nicht negativ sein");
+            }
+            gameManager.handleMovePawn(movePawnRequest.getTargetCoordinates(), userId, false);
+            return;
+        } catch (TargetCoordinateNullException e) {
+            log.error(userId, "Ungültiger Move-Pawn-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
+            return;
+        } catch (NotPlayersTurnException e) {
+            log.error(userId, "Ungültiger Move-Pawn-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.NOT_YOUR_TURN, e.getMessage());
+            return;
+        } catch (GameNotValidException e) {
+            log.error(userId, "Ungültiger Move-Pawn-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.GENERAL, e.getMessage());
+            return;
+        } catch (NoValidActionException e) {
+            log.error(userId, "Ungültiger Move-Pawn-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.INVALID_MOVE, e.getMessage());
+            return;
+        } catch (IllegalArgumentException e) {
+            log.error(userId, "Ungültiger Move-Pawn-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
+            return;
+        }
+    }
+
+    private void handleUseBeam(GameRoom room, UseBeamRequest useBeamCommand, String userId)
+            throws JsonProcessingException {
+        GameManager gameManager = room.getGameManager();
+
+        if (gameManager.getTurnInfo().getState() == null
+                || gameManager.getTurnInfo().getState() == TurnState.NOT_STARTED) {
+            sendError(userId, ErrorCode.GENERAL, "Das Spiel hat noch nicht begonnen.");
+            return;
+        }
+        try {
+            if (useBeamCommand.getTargetCoordinates().getColumn() < 0) {
+                log.error(userId, "Die Anzahl der Spalten darf nicht negativ sein.");
+                throw new IllegalArgumentException("Die Anzahl der Spalten darf nicht negativ sein");
+            }
+            if (useBeamCommand.getTargetCoordinates().getRow() < 0) {
+                log.error(userId, "Die Anzahl der Reihen darf nicht negativ sein.");
+                throw new IllegalArgumentException("Die Anzahl der Reihen darf nicht negativ sein");
+            }
+            gameManager.handleUseBeam(useBeamCommand.getTargetCoordinates(), userId);
+            return;
+        } catch (TargetCoordinateNullException e) {
+            log.error(userId, "Ungültiger Use-Beam-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            ActionErrorEvent errorEvent = new ActionErrorEvent(ErrorCode.INVALID_COMMAND,
+                    e.getMessage());
+            socketMessageService.sendMessageToSession(userId, SerializerRegistry.toJson(errorEvent));
+            return;
+        } catch (NotPlayersTurnException e) {
+            log.error(userId, "Ungültiger Use-Beam-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            ActionErrorEvent errorEvent = new ActionErrorEvent(ErrorCode.NOT_YOUR_TURN,
+                    e.getMessage());
+            socketMessageService.sendMessageToSession(userId, SerializerRegistry.toJson(errorEvent));
+            return;
+        } catch (GameNotValidException e) {
+            log.error(userId, "Ungültiger Use-Beam-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.GENERAL, e.getMessage());
+            return;
+        } catch (NoValidActionException e) {
+            log.error(userId, "Ungültiger Use-Beam-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
+            return;
+        } catch (BonusNotAvailable e) {
+            log.error(userId, "Ungültiger Use-Beam-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.BONUS_NOT_AVAILABLE, e.getMessage());
+            e.getMessage();
+            return;
+        } catch (IllegalArgumentException e) {
+            log.error(userId, "Ungültiger Use-Beam-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
+            return;
+        }
+    }
+
+    private void handleUseSwap(GameRoom room, UseSwapRequest useSwapCommand, String userId)
+            throws JsonProcessingException {
+        GameManager gameManager = room.getGameManager();
+
+        if (gameManager.getTurnInfo().getState() == null
+                || gameManager.getTurnInfo().getState() == TurnState.NOT_STARTED) {
+            sendError(userId, ErrorCode.GENERAL, "Das Spiel hat noch nicht begonnen.");
+            return;
+        }
+        try {
+            if (useSwapCommand.getTargetPlayerId() == null || useSwapCommand.getTargetPlayerId().isBlank()) {
+                log.error(userId, "Keine gültige Zielspieler-ID für Swap angegeben");
+                throw new IllegalArgumentException("Keine gültige Zielspieler-ID für Swap angegeben");
+            }
+            gameManager.handleUseSwap(useSwapCommand.getTargetPlayerId(), userId);
+            return;
+        } catch (NotPlayersTurnException e) {
+            log.error(userId, "Ungültiger Use-Swap-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.NOT_YOUR_TURN, e.getMessage());
+            return;
+        } catch (NoValidActionException e) {
+            log.error(userId, "Ungültiger Use-Swap-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
+            return;
+        } catch (BonusNotAvailable e) {
+            log.error(userId, "Ungültiger Use-Swap-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.BONUS_NOT_AVAILABLE, e.getMessage());
+            return;
+        } catch (GameNotValidException e) {
+            log.error(userId, "Ungültiger Use-Swap-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.GENERAL, e.getMessage());
+            return;
+        } catch (IllegalArgumentException e) {
+            log.error(userId, "Ungültiger Use-Swap-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
+            return;
+        }
+    }
+
+    private void handleUsePushFixed(GameRoom room, UsePushFixedTileRequest pushFixedTileCommand, String userId)
+            throws JsonProcessingException {
+        GameManager gameManager = room.getGameManager();
+
+        if (gameManager.getTurnInfo().getState() == null
+                || gameManager.getTurnInfo().getState() == TurnState.NOT_STARTED) {
+            sendError(userId, ErrorCode.GENERAL, "Das Spiel hat noch nicht begonnen.");
+            log.error(userId, "Das Spiel hat noch nicht begonnen. Es kann kein fester Push verwendet werden.");
+            return;
+        }
+        try {
+            if (pushFixedTileCommand.getRowOrColIndex() < 0) {
+                log.error(userId, "Keine gültige Zeilen- oder Spaltenindex für Push angegeben");
+                throw new IllegalArgumentException(
+                        "Keine gültige Zeilen- oder Spaltenindex für Push angegeben");
+            }
+            if (pushFixedTileCommand.getDirection() == null) {
+                log.error(userId, "Keine gültige Richtung für Push angegeben");
+                throw new IllegalArgumentException("Keine gültige Richtung für Push angegeben");
+            }
+            gameManager.handleUsePushFixedTile(pushFixedTileCommand.getDirection(),
+                    pushFixedTileCommand.getRowOrColIndex(), userId);
+            return;
+        } catch (PushNotValidException e) {
+            log.error(userId, "Ungültiger Use-Push-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.INVALID_PUSH, e.getMessage());
+            return;
+        } catch (NoDirectionForPush e) {
+            log.error(userId, "Ungültiger Use-Push-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
+            return;
+        } catch (NotPlayersTurnException e) {
+            log.error(userId, "Ungültiger Use-Push-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.NOT_YOUR_TURN, e.getMessage());
+            return;
+        } catch (NoExtraTileException e) {
+            log.error(userId, "Ungültiger Use-Push-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.GENERAL, e.getMessage());
+            return;
+        } catch (GameNotStartedException e) {
+            log.error(userId, "Ungültiger Use-Push-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.GENERAL, e.getMessage());
+            return;
+        } catch (GameNotValidException e) {
+            log.error(userId, "Ungültiger Use-Push-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.GENERAL, e.getMessage());
+            return;
+        } catch (NoValidActionException e) {
+            log.error(userId, "Ungültiger Use-Push-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
+            return;
+        } catch (BonusNotAvailable e) {
+            log.error(userId, "Ungültiger Use-Push-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.BONUS_NOT_AVAILABLE, e.getMessage());
+            return;
+        } catch (IllegalArgumentException e) {
+            log.error(userId, "Ungültiger Use-Push-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
             return;
         }
+    }
 
-        switch (request.getType()) {
-            case "CONNECT":
-                try {
-                    ConnectRequest connectReq = objectMapper.readValue(message, ConnectRequest.class);
-                    connectionHandler.handleConnectMessage(connectReq, userId);
-                    return;
-                } catch (GameFullException e) {
-                    sendError(userId, ErrorCode.LOBBY_FULL,
-                            "Das Spiel ist bereits voll. Es kann keine weitere Person mehr beitreten!");
-                    log.error("Spiel ist bereits voll, Verbindung von Benutzer {} abgelehnt", userId);
-                    throw new ConnectionRejectedException("Lobby voll");
-                } catch (UsernameNullOrEmptyException e) {
-                    sendError(userId, ErrorCode.INVALID_COMMAND,
-                            e.getMessage());
-                    log.error("Ungültiger Benutzername von Benutzer {}: {}", userId, e.getMessage());
-                    throw new ConnectionRejectedException("Ungültiger Benutzername");
-                } catch (IllegalArgumentException e) {
-                    sendError(userId, ErrorCode.INVALID_COMMAND,
-                            e.getMessage());
-                    log.error("Der Benutzername von Benutzer {} ist ungültig: {}", userId, e.getMessage());
-                    throw new ConnectionRejectedException("Ungültiger Benutzername");
-                } catch (UsernameAlreadyTakenException e) {
-                    sendError(userId, ErrorCode.USERNAME_TAKEN,
-                            e.getMessage());
-                    log.error("Der Benutzername von Benutzer {} ist bereits vergeben: {}", userId, e.getMessage());
-                    throw new ConnectionRejectedException("Benutzername bereits vergeben");
-                } catch (GameAlreadyStartedException e) {
-                    sendError(userId, ErrorCode.GAME_ALREADY_STARTED,
-                            e.getMessage());
-                    log.error("Das Spiel wurde bereits gestartet, Benutzer {} kann nicht beitreten: {}", userId,
-                            e.getMessage());
-                    throw new ConnectionRejectedException("Spiel bereits gestartet");
-                } catch (UserNotFoundException e) {
-                    sendError(userId, ErrorCode.PLAYER_NOT_FOUND,
-                            e.getMessage());
-                    log.error("Benutzer {} nicht gefunden: {}", userId, e.getMessage());
-                    throw new ConnectionRejectedException("Benutzer nicht gefunden");
-                } catch (JsonProcessingException e) {
-                    sendError(userId, ErrorCode.INVALID_COMMAND,
-                            "Ungültiges Nachrichtenformat");
-                    log.error("Fehler beim Verarbeiten der Verbindungsanfrage von Benutzer {}: {}", userId,
-                            e.getMessage());
-                    throw new ConnectionRejectedException("Ungültiges Nachrichtenformat");
-                }
-            case "DISCONNECT":
-                try {
-                    connectionHandler.handleIntentionalDisconnectOrAfterTimeOut(userId);
-                    return;
-                } catch (UserNotFoundException e) {
-                    sendError(userId, ErrorCode.PLAYER_NOT_FOUND, e.getMessage());
-                    log.error("Benutzer {} nicht gefunden: {}", userId, e.getMessage());
-                    return;
-                } catch (JsonProcessingException e) {
-                    sendError(userId, ErrorCode.INVALID_COMMAND,
-                            "Ungültiges Nachrichtenformat");
-                    log.error("Fehler beim Verarbeiten der Trennungsanfrage von Benutzer {}: {}", userId,
-                            e.getMessage());
-                    return;
-                }
-            case "START_GAME":
-                try {
-                    StartGameRequest startGameReq = objectMapper.readValue(message, StartGameRequest.class);
-                    if (startGameReq.getTreasureCardCount() < 2 || startGameReq.getTreasureCardCount() > 24) {
-                        log.error("Die Anzahl der Schatzkarten ist nicht korrekt.");
-                        throw new IllegalArgumentException(
-                                "Die Anzahl der Schatzkarten muss zwischen 2 und 24 liegen.");
-                    }
-                    if (startGameReq.getGameDurationInSeconds() < 0) {
-                        log.error("Die Spieldauer ist nicht korrekt.");
-                        throw new IllegalArgumentException("Die Spieldauer muss positiv sein.");
-                    }
-                    if (startGameReq.getTotalBonusCount() < 0 || startGameReq.getTotalBonusCount() > 20) {
-                        log.error("Die Anzahl der Bonusse ist nicht korrekt.");
-                        throw new IllegalArgumentException(
-                                "Die Anzahl der Bonusse darf nicht negativ oder größer als 20 sein.");
-                    }
-                    gameInitialitionController.handleStartGameMessage(userId, startGameReq.getBoardSize(),
-                            startGameReq.getTreasureCardCount(), startGameReq.getGameDurationInSeconds(),
-                            startGameReq.getTotalBonusCount());
-                    return;
-                } catch (GameAlreadyStartedException e) {
-                    sendError(userId, ErrorCode.GAME_ALREADY_STARTED, "Das Spiel hat bereits begonnen.");
-                    log.error(userId, "Das Spiel hat bereits begonnen: {}", e.getMessage());
-                    return;
-                } catch (PlayerNotAdminException e) {
-                    sendError(userId, ErrorCode.NOT_ADMIN,
-                            "Nur der Admin-Spieler kann das Spiel starten. Bitte warte bis zum Spielstart.");
-                    log.error(userId, "Nur der Admin-Spieler kann das Spiel starten: {}", e.getMessage());
-                    return;
-                } catch (NotEnoughPlayerException e) {
-                    sendError(userId, ErrorCode.GENERAL, "Nicht genügend Spieler, um das Spiel zu starten.");
-                    log.error(userId, "Nicht genügend Spieler, um das Spiel zu starten: {}", e.getMessage());
-                    return;
-                } catch (NoExtraTileException e) {
-                    sendError(userId, ErrorCode.GENERAL, "Es gab ein Problem mit der Extra-Kachel");
-                    log.error(userId, "Es gab ein Problem mit der Extra-Kachel: {}", e.getMessage());
-                    return;
-                } catch (IllegalArgumentException e) {
-                    sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
-                    log.error(userId, "Ungültige Startspiel-Anfrage: {}", e.getMessage());
-                    return;
-                } catch (JsonProcessingException e) {
-                    sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
-                    log.error(userId, "Fehler beim Verarbeiten der Startspiel-Anfrage von Benutzer {}: {}", userId,
-                            e.getMessage());
-                    return;
-                } catch (Exception e) {
-                    sendError(userId, ErrorCode.GENERAL, "Ein unerwarteter Fehler ist aufgetreten.");
-                    log.error(userId,
-                            "Unerwarteter Fehler bei der Verarbeitung der Startspiel-Anfrage von Benutzer {}: {}",
-                            userId,
-                            e.getMessage());
-                    return;
-                }
-
-            case "PUSH_TILE":
-                if (gameManager.getTurnInfo().getState() == null
-                        || gameManager.getTurnInfo().getState() == TurnState.NOT_STARTED) {
-                    sendError(userId, ErrorCode.GENERAL, "Das Spiel hat noch nicht begonnen.");
-                    log.error(userId, "Das Spiel hat noch nicht begonnen. Es kann keine Kachel geschoben werden.");
-                    return;
-                }
-                try {
-                    PushTileRequest pushTileCommand = objectMapper.readValue(message, PushTileRequest.class);
-                    if (pushTileCommand.getRowOrColIndex() < 0) {
-                        log.error(userId, "Keine gültige Zeilen- oder Spaltenindex für Push angegeben");
-                        throw new IllegalArgumentException(
-                                "Keine gültige Zeilen- oder Spaltenindex für Push angegeben");
-                    }
-                    if (pushTileCommand.getDirection() == null) {
-                        log.error(userId, "Keine gültige Richtung für Push angegeben");
-                        throw new IllegalArgumentException("Keine gültige Richtung für Push angegeben");
-                    }
-                    gameManager.handlePushTile(pushTileCommand.getRowOrColIndex(),
-                            pushTileCommand.getDirection(), userId, false);
-                    return;
-                } catch (PushNotValidException e) {
-                    log.error(userId, "Ungültiger Push-Kachel-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.INVALID_PUSH, e.getMessage());
-                    return;
-                } catch (NoDirectionForPush e) {
-                    log.error(userId, "Ungültiger Push-Kachel-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
-                    return;
-                } catch (NotPlayersTurnException e) {
-                    log.error(userId, "Ungültiger Push-Kachel-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.NOT_YOUR_TURN, e.getMessage());
-                    return;
-                } catch (NoExtraTileException e) {
-                    log.error(userId, "Ungültiger Push-Kachel-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.GENERAL, e.getMessage());
-                    return;
-                } catch (GameNotStartedException e) {
-                    log.error(userId, "Ungültiger Push-Kachel-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.GENERAL, e.getMessage());
-                    return;
-                } catch (IllegalArgumentException e) {
-                    log.error(userId, "Ungültiger Push-Kachel-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
-                    return;
-                } catch (JsonMappingException e) {
-                    log.error(userId, "Fehler beim Zuordnen des Push-Kachel-Befehls von Benutzer {}: {}", userId,
-                            e.getMessage());
-                    sendError(userId, ErrorCode.INVALID_COMMAND,
-                            "Ungültiges Nachrichtenformat");
-                    return;
-                }
-            case "ROTATE_TILE":
-                if (gameManager.getTurnInfo().getState() == null
-                        || gameManager.getTurnInfo().getState() == TurnState.NOT_STARTED) {
-                    sendError(userId, ErrorCode.GENERAL, "Das Spiel hat noch nicht begonnen.");
-                    return;
-                }
-                try {
-                    gameManager.handleRotateTile(userId);
-                    return;
-                } catch (NotPlayersRotateTileExeption e) {
-                    log.error(userId, "Ungültiger Rotate-Kachel-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
-                    return;
-                } catch (NotPlayersTurnException e) {
-                    log.error(userId, "Ungültiger Rotate-Kachel-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.NOT_YOUR_TURN, e.getMessage());
-                    return;
-                } catch (GameNotValidException e) {
-                    log.error(userId, "Ungültiger Rotate-Kachel-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.GENERAL, e.getMessage());
-                    return;
-                } catch (NoValidActionException e) {
-                    log.error(userId, "Ungültiger Rotate-Kachel-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
-                    return;
-                } catch (IllegalArgumentException e) {
-                    log.error(userId, "Ungültiger Rotate-Kachel-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
-                    return;
-                } catch (JsonMappingException e) {
-                    log.error(userId, "Ungültiger Move-Pawn-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
-                    return;
-                }
-            case "MOVE_PAWN":
-                if (gameManager.getTurnInfo().getState() == null
-                        || gameManager.getTurnInfo().getState() == TurnState.NOT_STARTED) {
-                    sendError(userId, ErrorCode.GENERAL, "Das Spiel hat noch nicht begonnen.");
-                    return;
-                }
-                try {
-                    MovePawnRequest movePawnRequest = objectMapper.readValue(message, MovePawnRequest.class);
-                    if (movePawnRequest.getTargetCoordinates().getColumn() < 0) {
-                        log.error(userId, "Die Anzahl der Spalten darf nicht negativ sein");
-                        throw new IllegalArgumentException("Die Anzahl der Spalten darf nicht negativ sein");
-                    }
-                    if (movePawnRequest.getTargetCoordinates().getRow() < 0) {
-                        log.error(userId, "Die Anzahl der Reihen darf nicht negativ sein");
-                        throw new IllegalArgumentException("Die Anzahl der Reihen darf nicht negativ sein");
-                    }
-                    gameManager.handleMovePawn(movePawnRequest.getTargetCoordinates(), userId, false);
-                    return;
-                } catch (TargetCoordinateNullException e) {
-                    log.error(userId, "Ungültiger Move-Pawn-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
-                    return;
-                } catch (NotPlayersTurnException e) {
-                    log.error(userId, "Ungültiger Move-Pawn-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.NOT_YOUR_TURN, e.getMessage());
-                    return;
-                } catch (GameNotValidException e) {
-                    log.error(userId, "Ungültiger Move-Pawn-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.GENERAL, e.getMessage());
-                    return;
-                } catch (NoValidActionException e) {
-                    log.error(userId, "Ungültiger Move-Pawn-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.INVALID_MOVE, e.getMessage());
-                    return;
-                } catch (IllegalArgumentException e) {
-                    log.error(userId, "Ungültiger Move-Pawn-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
-                    return;
-                } catch (JsonMappingException e) {
-                    System.err.println("Failed to map move pawn command from user " + userId + ": " + e.getMessage());
-                    log.error(userId, "Fehler beim Zuordnen des Move-Pawn-Befehls von Benutzer {}: {}", userId,
-                            e.getMessage());
-                    sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
-                    return;
-                }
-            case "USE_BEAM":
-                if (gameManager.getTurnInfo().getState() == null
-                        || gameManager.getTurnInfo().getState() == TurnState.NOT_STARTED) {
-                    sendError(userId, ErrorCode.GENERAL, "Das Spiel hat noch nicht begonnen.");
-                    return;
-                }
-                try {
-                    UseBeamRequest useBeamCommand = objectMapper.readValue(message, UseBeamRequest.class);
-                    if (useBeamCommand.getTargetCoordinates().getColumn() < 0) {
-                        log.error(userId, "Die Anzahl der Spalten darf nicht negativ sein.");
-                        throw new IllegalArgumentException("Die Anzahl der Spalten darf nicht negativ sein");
-                    }
-                    if (useBeamCommand.getTargetCoordinates().getRow() < 0) {
-                        log.error(userId, "Die Anzahl der Reihen darf nicht negativ sein.");
-                        throw new IllegalArgumentException("Die Anzahl der Reihen darf nicht negativ sein");
-                    }
-                    gameManager.handleUseBeam(useBeamCommand.getTargetCoordinates(), userId);
-                    return;
-                } catch (TargetCoordinateNullException e) {
-                    log.error(userId, "Ungültiger Use-Beam-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    ActionErrorEvent errorEvent = new ActionErrorEvent(ErrorCode.INVALID_COMMAND,
-                            e.getMessage());
-                    socketMessageService.sendMessageToSession(userId, objectMapper.writeValueAsString(errorEvent));
-                    return;
-                } catch (NotPlayersTurnException e) {
-                    log.error(userId, "Ungültiger Use-Beam-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    ActionErrorEvent errorEvent = new ActionErrorEvent(ErrorCode.NOT_YOUR_TURN,
-                            e.getMessage());
-                    socketMessageService.sendMessageToSession(userId, objectMapper.writeValueAsString(errorEvent));
-                    return;
-                } catch (GameNotValidException e) {
-                    log.error(userId, "Ungültiger Use-Beam-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.GENERAL, e.getMessage());
-                    return;
-                } catch (NoValidActionException e) {
-                    log.error(userId, "Ungültiger Use-Beam-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
-                    return;
-                } catch (BonusNotAvailable e) {
-                    log.error(userId, "Ungültiger Use-Beam-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.BONUS_NOT_AVAILABLE, e.getMessage());
-                    e.getMessage();
-                    return;
-                } catch (IllegalArgumentException e) {
-                    log.error(userId, "Ungültiger Use-Beam-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
-                    return;
-                } catch (JsonMappingException e) {
-                    log.error(userId, "Ungültiger Use-Beam-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
-                    e.getMessage();
-                    return;
-                }
-            case "USE_SWAP":
-                if (gameManager.getTurnInfo().getState() == null
-                        || gameManager.getTurnInfo().getState() == TurnState.NOT_STARTED) {
-                    sendError(userId, ErrorCode.GENERAL, "Das Spiel hat noch nicht begonnen.");
-                    return;
-                }
-                try {
-                    UseSwapRequest useSwapCommand = objectMapper.readValue(message, UseSwapRequest.class);
-                    if (useSwapCommand.getTargetPlayerId() == null || useSwapCommand.getTargetPlayerId().isBlank()) {
-                        log.error(userId, "Keine gültige Zielspieler-ID für Swap angegeben");
-                        throw new IllegalArgumentException("Keine gültige Zielspieler-ID für Swap angegeben");
-                    }
-                    gameManager.handleUseSwap(useSwapCommand.getTargetPlayerId(), userId);
-                    return;
-                } catch (NotPlayersTurnException e) {
-                    System.err.println("Invalid use swap command from user " + userId + ": " + e.getMessage());
-                    log.error(userId, "Ungültiger Use-Swap-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.NOT_YOUR_TURN, e.getMessage());
-                    return;
-                } catch (NoValidActionException e) {
-                    log.error(userId, "Ungültiger Use-Swap-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
-                    return;
-                } catch (BonusNotAvailable e) {
-                    log.error(userId, "Ungültiger Use-Swap-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.BONUS_NOT_AVAILABLE, e.getMessage());
-                    return;
-                } catch (GameNotValidException e) {
-                    log.error(userId, "Ungültiger Use-Swap-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.GENERAL, e.getMessage());
-                    return;
-                } catch (IllegalArgumentException e) {
-                    log.error(userId, "Ungültiger Use-Swap-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
-                    return;
-                } catch (JsonMappingException e) {
-                    log.error(userId, "Ungültiger Use-Swap-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
-                    return;
-                }
-            case "USE_PUSH_FIXED":
-                if (gameManager.getTurnInfo().getState() == null
-                        || gameManager.getTurnInfo().getState() == TurnState.NOT_STARTED) {
-                    sendError(userId, ErrorCode.GENERAL, "Das Spiel hat noch nicht begonnen.");
-                    log.error(userId, "Das Spiel hat noch nicht begonnen. Es kann kein fester Push verwendet werden.");
-                    return;
-                }
-                try {
-                    UsePushFixedTileRequest pushFixedTileCommand = objectMapper.readValue(message,
-                            UsePushFixedTileRequest.class);
-                    if (pushFixedTileCommand.getRowOrColIndex() < 0) {
-                        log.error(userId, "Keine gültige Zeilen- oder Spaltenindex für Push angegeben");
-                        throw new IllegalArgumentException(
-                                "Keine gültige Zeilen- oder Spaltenindex für Push angegeben");
-                    }
-                    if (pushFixedTileCommand.getDirection() == null) {
-                        log.error(userId, "Keine gültige Richtung für Push angegeben");
-                        throw new IllegalArgumentException("Keine gültige Richtung für Push angegeben");
-                    }
-                    gameManager.handleUsePushFixedTile(pushFixedTileCommand.getDirection(),
-                            pushFixedTileCommand.getRowOrColIndex(), userId);
-                    return;
-                } catch (PushNotValidException e) {
-                    log.error(userId, "Ungültiger Use-Push-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.INVALID_PUSH, e.getMessage());
-                    return;
-                } catch (NoDirectionForPush e) {
-                    log.error(userId, "Ungültiger Use-Push-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
-                    return;
-                } catch (NotPlayersTurnException e) {
-                    log.error(userId, "Ungültiger Use-Push-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.NOT_YOUR_TURN, e.getMessage());
-                    return;
-                } catch (NoExtraTileException e) {
-                    log.error(userId, "Ungültiger Use-Push-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.GENERAL, e.getMessage());
-                    return;
-                } catch (GameNotStartedException e) {
-                    log.error(userId, "Ungültiger Use-Push-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.GENERAL, e.getMessage());
-                    return;
-                } catch (GameNotValidException e) {
-                    log.error(userId, "Ungültiger Use-Push-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.GENERAL, e.getMessage());
-                    return;
-                } catch (NoValidActionException e) {
-                    log.error(userId, "Ungültiger Use-Push-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
-                    return;
-                } catch (BonusNotAvailable e) {
-                    log.error(userId, "Ungültiger Use-Push-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.BONUS_NOT_AVAILABLE, e.getMessage());
-                    return;
-                } catch (IllegalArgumentException e) {
-                    log.error(userId, "Ungültiger Use-Push-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.INVALID_COMMAND, e.getMessage());
-                    return;
-                } catch (JsonMappingException e) {
-                    log.error(userId, "Ungültiger Use-Push-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.INVALID_COMMAND, "Ungültiges Nachrichtenformat");
-                    return;
-                }
-            case "USE_PUSH_TWICE":
-                if (gameManager.getTurnInfo().getState() == null
-                        || gameManager.getTurnInfo().getState() == TurnState.NOT_STARTED) {
-                    sendError(userId, ErrorCode.GENERAL, "Das Spiel hat noch nicht begonnen.");
-                    return;
-                }
-                try {
-                    gameManager.handleUsePushTwice(userId);
-                    return;
-                } catch (NotPlayersTurnException e) {
-                    log.error(userId, "Ungültiger Use-Push-Twice-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.NOT_YOUR_TURN, e.getMessage());
-                    return;
-                } catch (BonusNotAvailable e) {
-                    log.error(userId, "Ungültiger Use-Push-Twice-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.BONUS_NOT_AVAILABLE, e.getMessage());
-                    return;
-                } catch (GameNotValidException e) {
-                    log.error(userId, "Ungültiger Use-Push-Twice-Befehl von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.GENERAL,
-                            e.getMessage());
-                    return;
-                }
-            case "TOGGLE_AI":
-                try {
-                    ToggleAiCommand toggleAiCommand = objectMapper.readValue(message, ToggleAiCommand.class);
-                    PlayerInfo player = playerManager.getPlayerById(userId);
-
-                    if (player == null) {
-                        log.error("Spieler mit ID {} nicht gefunden für TOGGLE_AI", userId);
-                        sendError(userId, ErrorCode.PLAYER_NOT_FOUND, "Spieler nicht gefunden");
-                        return;
-                    }
-
-                    String identifierToken = player.getIdentifierToken();
-                    if (identifierToken == null) {
-                        log.error("Spieler {} hat keinen identifierToken für TOGGLE_AI", userId);
-                        sendError(userId, ErrorCode.GENERAL, "Ungültiger Spieler-Token");
-                        return;
-                    }
-
-                    if (toggleAiCommand.isEnabled()) {
-                        // ACTIVATE AI
-                        serverAIManager.activateAI(identifierToken);
-                        player.setIsAiControlled(true);
-                        System.out.println("🤖 AI aktiviert für Spieler: " + player.getName() + " (" + identifierToken + ")");
-                        log.info("AI aktiviert für Spieler {}", identifierToken);
-                    } else {
-                        // DEACTIVATE AI
-                        serverAIManager.deactivateAI(identifierToken);
-                        player.setIsAiControlled(false);
-                        System.out.println("🤖 AI deaktiviert für Spieler: " + player.getName() + " (" + identifierToken + ")");
-                        log.info("AI deaktiviert für Spieler {}", identifierToken);
-                    }
-
-                    return;
-                } catch (JsonMappingException e) {
-                    log.error("Fehler beim Parsen von TOGGLE_AI von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.INVALID_COMMAND, "Ungültiges Nachrichtenformat");
-                    return;
-                } catch (Exception e) {
-                    log.error("Fehler beim Verarbeiten von TOGGLE_AI von Benutzer {}: {}", userId, e.getMessage());
-                    sendError(userId, ErrorCode.GENERAL, "Fehler beim Umschalten der AI");
-                    return;
-                }
-            default:
+    private void handleUsePushTwice(GameRoom room, Message request, String userId)
+            throws JsonProcessingException {
+        GameManager gameManager = room.getGameManager();
+
+        if (gameManager.getTurnInfo().getState() == null
+                || gameManager.getTurnInfo().getState() == TurnState.NOT_STARTED) {
+            sendError(userId, ErrorCode.GENERAL, "Das Spiel hat noch nicht begonnen.");
+            return;
+        }
+        try {
+            gameManager.handleUsePushTwice(userId);
+            return;
+        } catch (NotPlayersTurnException e) {
+            log.error(userId, "Ungültiger Use-Push-Twice-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.NOT_YOUR_TURN, e.getMessage());
+            return;
+        } catch (BonusNotAvailable e) {
+            log.error(userId, "Ungültiger Use-Push-Twice-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.BONUS_NOT_AVAILABLE, e.getMessage());
+            return;
+        } catch (GameNotValidException e) {
+            log.error(userId, "Ungültiger Use-Push-Twice-Befehl von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.GENERAL,
+                    e.getMessage());
+            return;
+        }
+    }
+
+    private void handleRequestResync(GameRoom room, Message request, String userId)
+            throws JsonProcessingException {
+        GameManager gameManager = room.getGameManager();
+
+        gameManager.sendGameStateSnapshotToSession(userId);
+        return;
+    }
+
+    private void handleToggleAi(GameRoom room, ToggleAiCommand toggleAiCommand, String userId)
+            throws JsonProcessingException {
+        PlayerManager playerManager = room.getPlayerManager();
+        ServerAIManager serverAIManager = room.getServerAIManager();
+
+        try {
+            PlayerInfo player = playerManager.getPlayerById(userId);
+
+            if (player == null) {
+                log.error("Spieler mit ID {} nicht gefunden für TOGGLE_AI", userId);
+                sendError(userId, ErrorCode.PLAYER_NOT_FOUND, "Spieler nicht gefunden");
                 return;
+            }
+
+            String identifierToken = player.getIdentifierToken();
+            if (identifierToken == null) {
+                log.error("Spieler {} hat keinen identifierToken für TOGGLE_AI", userId);
+                sendError(userId, ErrorCode.GENERAL, "Ungültiger Spieler-Token");
+                return;
+            }
+
+            if (toggleAiCommand.isEnabled()) {
+                // ACTIVATE AI
+                serverAIManager.activateAI(identifierToken);
+                player.setIsAiControlled(true);
+                log.info("AI aktiviert für Spieler {} ({})", player.getName(), identifierToken);
+            } else {
+                // DEACTIVATE AI
+                serverAIManager.deactivateAI(identifierToken);
+                player.setIsAiControlled(false);
+                log.info("AI deaktiviert für Spieler {} ({})", player.getName(), identifierToken);
+            }
+
+            return;
+        } catch (Exception e) {
+            log.error("Fehler beim Verarbeiten von TOGGLE_AI von Benutzer {}: {}", userId, e.getMessage());
+            sendError(userId, ErrorCode.GENERAL, "Fehler beim Umschalten der AI");
+            return;
+        }
+    }
+
+    private void handleConnectMessage(ConnectRequest connectReq, String userId)
+            throws ConnectionRejectedException, JsonProcessingException {
+        // Ab hier, auch für Fehlermeldungen, im angeforderten Format antworten
+        socketMessageService.setBinaryProtocol(userId, connectReq.isBinaryProtocol());
+        try {
+            GameRoom room = gameRoomRegistry.assignSessionToRoom(userId, connectReq.getIdentifierToken());
+            room.getMailbox().runAndWait(() -> room.getConnectionHandler().handleConnectMessage(connectReq, userId));
+        } catch (GameFullException e) {
+            sendError(userId, ErrorCode.LOBBY_FULL,
+                    "Das Spiel ist bereits voll. Es kann keine weitere Person mehr beitreten!");
+            log.error("Spiel ist bereits voll, Verbindung von Benutzer {} abgelehnt", userId);
+            throw new ConnectionRejectedException("Lobby voll");
+        } catch (UsernameNullOrEmptyException e) {
+            sendError(userId, ErrorCode.INVALID_COMMAND,
+                    e.getMessage());
+            log.error("Ungültiger Benutzername von Benutzer {}: {}", userId, e.getMessage());
+            throw new ConnectionRejectedException("Ungültiger Benutzername");
+        } catch (IllegalArgumentException e) {
+            sendError(userId, ErrorCode.INVALID_COMMAND,
+                    e.getMessage());
+            log.error("Der Benutzername von Benutzer {} ist ungültig: {}", userId, e.getMessage());
+            throw new ConnectionRejectedException("Ungültiger Benutzername");
+        } catch (UsernameAlreadyTakenException e) {
+            sendError(userId, ErrorCode.USERNAME_TAKEN,
+                    e.getMessage());
+            log.error("Der Benutzername von Benutzer {} ist bereits vergeben: {}", userId, e.getMessage());
+            throw new ConnectionRejectedException("Benutzername bereits vergeben");
+        } catch (GameAlreadyStartedException e) {
+            sendError(userId, ErrorCode.GAME_ALREADY_STARTED,
+                    e.getMessage());
+            log.error("Das Spiel wurde bereits gestartet, Benutzer {} kann nicht beitreten: {}", userId,
+                    e.getMessage());
+            throw new ConnectionRejectedException("Spiel bereits gestartet");
+        } catch (UserNotFoundException e) {
+            sendError(userId, ErrorCode.PLAYER_NOT_FOUND,
+                    e.getMessage());
+            log.error("Benutzer {} nicht gefunden: {}", userId, e.getMessage());
+            throw new ConnectionRejectedException("Benutzer nicht gefunden");
+        } catch (JsonProcessingException e) {
+            sendError(userId, ErrorCode.INVALID_COMMAND,
+                    "Ungültiges Nachrichtenformat");
+            log.error("Fehler beim Verarbeiten der Verbindungsanfrage von Benutzer {}: {}", userId,
+                    e.getMessage());
+            throw new ConnectionRejectedException("Ungültiges Nachrichtenformat");
+        } catch (Exception e) {
+            sendError(userId, ErrorCode.GENERAL, "Ein unerwarteter Fehler ist aufgetreten.");
+            log.error("Unerwarteter Fehler bei der Verbindungsanfrage von Benutzer {}: {}", userId,
+                    e.getMessage());
+            throw new ConnectionRejectedException("Verbindung fehlgeschlagen");
         }
     }
 
     private void sendError(String userId, ErrorCode code, String msg) throws JsonProcessingException {
         ActionErrorEvent errorEvent = new ActionErrorEvent(code, msg);
-        socketMessageService.sendMessageToSession(userId, objectMapper.writeValueAsString(errorEvent));
+        socketMessageService.sendMessageToSession(userId, SerializerRegistry.toJson(errorEvent));
     }
 
 }
@@ -1,9 +1,17 @@
 package com.uni.gamesever.interfaces.Websocket;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 
+/**
+ * Gemeinsamer ObjectMapper des Servers. Blackbird ersetzt die
+ * Reflection-Zugriffe auf Getter und Setter durch generierte Lambdas,
+ * Spielbrett und Kacheln werden von {@link BoardSerializers} geschrieben.
+ */
 public class ObjectMapperSingleton {
-    private static ObjectMapper instance = new ObjectMapper();
+    private static ObjectMapper instance = new ObjectMapper()
+            .registerModule(new BlackbirdModule())
+            .registerModule(BoardSerializers.module());
 
     private ObjectMapperSingleton() {
     }
@@ -0,0 +1,112 @@
+package com.uni.gamesever.interfaces.Websocket;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Serialisiert Server-Nachrichten. Für jeden Nachrichtentyp wird einmal ein
+ * {@link ObjectWriter} mit bereits aufgelöstem Serialisierer angelegt, sodass
+ * pro Nachricht keine Typauflösung mehr nötig ist. Geschrieben wird in einen
+ * wiederverwendeten Puffer je Thread; nur das fertige Ergebnis wird kopiert.
+ */
+public final class SerializerRegistry {
+    /** Größere Puffer werden nach dem Schreiben nicht behalten */
+    static final int MAX_RETAINED_BUFFER = 256 * 1024;
+    private static final int INITIAL_BUFFER = 8 * 1024;
+
+    private static final ClassValue<ObjectWriter> WRITERS = new ClassValue<>() {
+        @Override
+        protected ObjectWriter computeValue(Class<?> type) {
+            return ObjectMapperSingleton.getInstance().writerFor(type);
+        }
+    };
+    private static final ThreadLocal<OutputBuffer> BUFFERS = ThreadLocal.withInitial(OutputBuffer::new);
+
+    private SerializerRegistry() {
+    }
+
+    public static ObjectWriter writerFor(Class<?> type) {
+        return WRITERS.get(type);
+    }
+
+    public static byte[] toJsonBytes(Object message) throws JsonProcessingException {
+        OutputBuffer buffer = acquire();
+        try {
+            write(message, buffer);
+            return Arrays.copyOf(buffer.bytes, buffer.count);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    public static String toJson(Object message) throws JsonProcessingException {
+        OutputBuffer buffer = acquire();
+        try {
+            write(message, buffer);
+            return new String(buffer.bytes, 0, buffer.count, StandardCharsets.UTF_8);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    private static void write(Object message, OutputBuffer buffer) throws JsonProcessingException {
+        ObjectWriter writer = message == null ? ObjectMapperSingleton.getInstance().writer()
+                : writerFor(message.getClass());
+        try {
+            writer.writeValue(buffer, message);
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) {
+            throw JsonMappingException.fromUnexpectedIOE(e);
+        }
+    }
+
+    /** Ein verschachtelter Aufruf auf demselben Thread bekommt einen eigenen Puffer */
+    private static OutputBuffer acquire() {
+        OutputBuffer buffer = BUFFERS.get();
+        if (buffer.inUse) {
+            return new OutputBuffer();
+        }
+        buffer.inUse = true;
+        return buffer;
+    }
+
+    private static final class OutputBuffer extends OutputStream {
+        private byte[] bytes = new byte[INITIAL_BUFFER];
+        private int count;
+        private boolean inUse;
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(count + 1);
+            bytes[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] source, int offset, int length) {
+            ensureCapacity(count + length);
+            System.arraycopy(source, offset, bytes, count, length);
+            count += length;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+            }
+        }
+
+        private void release() {
+            count = 0;
+            inUse = false;
+            if (bytes.length > MAX_RETAINED_BUFFER) {
+                bytes = new byte[INITIAL_BUFFER];
+            }
+        }
+    }
+}
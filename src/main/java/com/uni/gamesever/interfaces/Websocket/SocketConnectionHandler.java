@@ -6,27 +6,31 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
-import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.uni.gamesever.domain.ai.ServerAIManager;
 import com.uni.gamesever.domain.exceptions.ConnectionRejectedException;
 import com.uni.gamesever.domain.exceptions.UserNotFoundException;
 import com.uni.gamesever.domain.game.GameManager;
+import com.uni.gamesever.domain.game.GameRoom;
+import com.uni.gamesever.domain.game.GameRoomRegistry;
 import com.uni.gamesever.domain.game.PlayerManager;
 import com.uni.gamesever.domain.model.PlayerInfo;
 import com.uni.gamesever.domain.model.TurnState;
 import com.uni.gamesever.infrastructure.ReconnectTimerManager;
 import com.uni.gamesever.interfaces.Websocket.messages.server.LobbyState;
 import com.uni.gamesever.interfaces.Websocket.messages.server.ServerInfoEvent;
+import com.uni.gamesever.services.OutboundSession;
 import com.uni.gamesever.services.SocketMessageService;
 
 // Socket-Connection Configuration class
-public class SocketConnectionHandler extends TextWebSocketHandler {
+// Nimmt Text-Frames (JSON) und Binär-Frames (BinaryProtocol) auf demselben Endpunkt an
+public class SocketConnectionHandler extends AbstractWebSocketHandler {
     private final SocketMessageService socketBroadcastService;
     private final MessageHandler messageHandler;
     @Value("${server.version}")
@@ -35,30 +39,19 @@ public class SocketConnectionHandler extends TextWebSocketHandler {
     private String protocolVersion;
     @Value("${server.motd}")
     private String serverMotd;
-    private final ObjectMapper objectmapper = new ObjectMapper();
-    private final GameManager gameManager;
-    private final ConnectionHandler connectionHandler;
-    private final ReconnectTimerManager reconnectTimerManager;
+    private final GameRoomRegistry gameRoomRegistry;
     private final ApplicationEventPublisher eventPublisher;
-    private final PlayerManager playerManager;
-    private final ServerAIManager serverAIManager;
     private final long playerReconnectionTimeout = 30;
     private final ShutdownState shutdownState;
     private static final Logger log = LoggerFactory.getLogger(SocketConnectionHandler.class);
 
     public SocketConnectionHandler(SocketMessageService socketBroadcastService, MessageHandler messageHandler,
-            GameManager gameManager, ConnectionHandler connectionHandler, ReconnectTimerManager reconnectTimerManager,
-            ApplicationEventPublisher eventPublisher, PlayerManager playerManager, ShutdownState shutdownState,
-            ServerAIManager serverAIManager) {
+            GameRoomRegistry gameRoomRegistry, ApplicationEventPublisher eventPublisher, ShutdownState shutdownState) {
         this.socketBroadcastService = socketBroadcastService;
         this.messageHandler = messageHandler;
-        this.gameManager = gameManager;
-        this.connectionHandler = connectionHandler;
-        this.reconnectTimerManager = reconnectTimerManager;
+        this.gameRoomRegistry = gameRoomRegistry;
         this.eventPublisher = eventPublisher;
-        this.playerManager = playerManager;
         this.shutdownState = shutdownState;
-        this.serverAIManager = serverAIManager;
     }
 
     // This method is executed when client tries to connect
@@ -74,7 +67,7 @@ public class SocketConnectionHandler extends TextWebSocketHandler {
             ServerInfoEvent serverInfoEvent = new ServerInfoEvent(OffsetDateTime.now().toString(), serverVersion,
                     protocolVersion, serverMotd);
             socketBroadcastService.sendMessageToSession(session.getId(),
-                    objectmapper.writeValueAsString(serverInfoEvent));
+                    SerializerRegistry.toJson(serverInfoEvent));
         } catch (Exception e) {
             throw e;
         }
@@ -94,8 +87,28 @@ public class SocketConnectionHandler extends TextWebSocketHandler {
         }
 
         super.afterConnectionClosed(session, status);
+        socketBroadcastService.removeDisconnectedSession(session);
+        GameRoom room = gameRoomRegistry.getRoomOfSession(session.getId());
+        if (room == null) {
+            return;
+        }
+        room.getMailbox().post(() -> handleConnectionLost(room, session));
+    }
+
+    /**
+     * Behandelt den Verbindungsverlust einer Session im Kontext ihres Raums. Läuft
+     * auf dem Thread der Befehlswarteschlange des Raums.
+     */
+    private void handleConnectionLost(GameRoom room, WebSocketSession session) throws JsonProcessingException {
+        GameManager gameManager = room.getGameManager();
+        PlayerManager playerManager = room.getPlayerManager();
+        ConnectionHandler connectionHandler = room.getConnectionHandler();
+        ReconnectTimerManager reconnectTimerManager = room.getReconnectTimerManager();
+        ServerAIManager serverAIManager = room.getServerAIManager();
+        SocketMessageService roomMessageService = room.getSocketMessageService();
+
         try {
-            socketBroadcastService.removeDisconnectedSession(session);
+            roomMessageService.removeDisconnectedSession(session);
             if (gameManager.getTurnInfo().getState() != TurnState.NOT_STARTED) {
                 connectionHandler.handleSituationWhenTheConnectionIsLost(session.getId());
 
@@ -112,60 +125,44 @@ public class SocketConnectionHandler extends TextWebSocketHandler {
                 }
 
                 serverAIManager.activateAI(identifierToken);
-                System.out.println("🤖 AI activated for disconnected player: " + identifierToken + " (session: "
-                        + session.getId() + ")");
+                log.debug("AI für getrennten Spieler {} aktiviert (Session {})", identifierToken, session.getId());
 
                 // Prüfe ob alle Spieler disconnected sind
                 if (playerManager.areAllPlayersDisconnected()) {
-                    System.out.println("⚠️ ALLE Spieler sind disconnected - beende Spiel automatisch");
                     log.warn("Alle Spieler sind disconnected - Spiel wird beendet");
                     try {
                         gameManager.endGameByTimeoutOrAfterCollectingAllTreasures();
-                        System.out.println("✓ Spiel wurde erfolgreich beendet (alle Spieler disconnected)");
                     } catch (Exception e) {
-                        System.err.println("❌ Fehler beim Beenden des Spiels: " + e.getMessage());
-                        e.printStackTrace();
+                        log.error("Fehler beim Beenden des Spiels", e);
                     }
                     return; // Wichtig: Keine weiteren Timer starten
                 }
 
-                reconnectTimerManager.start(session.getId(), playerReconnectionTimeout, () -> {
+                reconnectTimerManager.start(session.getId(), playerReconnectionTimeout, () -> room.getMailbox().post(() -> {
                     // WICHTIG: Verwende identifierToken statt session.getId() weil Session ID sich bei Reconnect ändert!
                     PlayerInfo playerInfo = playerManager.getPlayerByIdentifierToken(identifierToken);
                     if (playerInfo != null && playerInfo.getIsConnected()) {
-                        System.out.println("✓ Player " + identifierToken + " reconnected in time - timer aborted");
+                        log.debug("Spieler {} hat sich rechtzeitig wiederverbunden", identifierToken);
                         return;
                     }
 
-                    System.out.println("⏱️  Player " + identifierToken + " failed to reconnect in time.");
-                    log.info("Spieler " + identifierToken + " hat sich nicht rechtzeitig wiederverbunden.");
+                    log.info("Spieler {} hat sich nicht rechtzeitig wiederverbunden.", identifierToken);
 
                     // WICHTIG: Wenn AI aktiv ist, NICHT den Spieler entfernen!
                     // Die AI soll weiterspielen bis der Spieler sich wieder verbindet
                     if (serverAIManager.isAIActive(identifierToken)) {
-                        System.out.println("🤖 AI bleibt aktiv - Spieler kann sich jederzeit wieder verbinden");
                         log.info("AI bleibt aktiv für Spieler: {}", identifierToken);
 
                         // WICHTIG: Wenn es der Zug des Spielers ist, führe SOFORT AI-Zug aus!
                         // Nicht erst beim Turn Timer Timeout warten
                         if (playerInfo != null && gameManager.getTurnInfo().getCurrentPlayerId().equals(playerInfo.getId())) {
-                            System.out.println("🤖 Es ist der Zug des Spielers - führe SOFORT AI-Zug aus!");
+                            log.debug("Spieler {} ist am Zug, AI zieht sofort", identifierToken);
                             try {
-                                // Führe AI-Zug in separatem Thread aus um Timer nicht zu blockieren
-                                new Thread(() -> {
-                                    try {
-                                        serverAIManager.executeAITurn(identifierToken);
-                                        System.out.println("✓ AI-Zug erfolgreich ausgeführt nach Reconnect Timeout");
-                                    } catch (Exception e) {
-                                        System.err.println("❌ AI-Zug nach Reconnect Timeout fehlgeschlagen: " + e.getMessage());
-                                        e.printStackTrace();
-                                    }
-                                }, "AI-Turn-After-Reconnect-Timeout").start();
+                                serverAIManager.executeAITurn(identifierToken);
                             } catch (Exception e) {
-                                System.err.println("❌ Fehler beim Starten des AI-Zugs: " + e.getMessage());
+                                log.warn("AI-Zug nach Reconnect-Timeout für Spieler {} fehlgeschlagen", identifierToken,
+                                        e);
                             }
-                        } else {
-                            System.out.println("ℹ️  Nicht der Zug des Spielers - AI wartet auf ihren Zug");
                         }
 
                         // Spieler bleibt im Spiel, AI spielt weiter
@@ -174,28 +171,26 @@ public class SocketConnectionHandler extends TextWebSocketHandler {
 
                     // Nur wenn AI NICHT aktiv ist, entferne den Spieler wie bisher
                     try {
-                        System.out.println("❌ Entferne Spieler aus dem Spiel (keine AI aktiv)");
+                        log.debug("Spieler {} wird aus dem Spiel entfernt (keine AI aktiv)", identifierToken);
                         eventPublisher.publishEvent(
                                 connectionHandler.handleIntentionalDisconnectOrAfterTimeOut(session.getId()));
-                    } catch (UserNotFoundException e) {
-                        System.err.println(
-                                "Fehler beim Verarbeiten der Zeitüberschreitung für die Verbindung: " + e.getMessage());
-                    } catch (JsonProcessingException e) {
-                        System.err.println(
-                                "Fehler beim Verarbeiten der Zeitüberschreitung für die Verbindung: " + e.getMessage());
+                    } catch (UserNotFoundException | JsonProcessingException e) {
+                        log.warn("Fehler beim Verarbeiten der Zeitüberschreitung für die Verbindung: {}",
+                                e.getMessage());
                     }
-                });
+                }));
             } else {
                 eventPublisher
                         .publishEvent(connectionHandler.handleIntentionalDisconnectOrAfterTimeOut(session.getId()));
                 LobbyState lobbyState = new LobbyState(playerManager.getNonNullPlayers());
-                socketBroadcastService.broadcastMessage(
-                        objectmapper.writeValueAsString(lobbyState));
+                roomMessageService.broadcastMessage(
+                        SerializerRegistry.toJson(lobbyState));
             }
         } catch (UserNotFoundException e) {
-            System.err.println(
-                    "Der Benutzer mit der ID " + session.getId()
-                            + " wurde nicht gefunden und wurde bereites entfernt.");
+            log.debug("Der Benutzer mit der ID {} wurde nicht gefunden und wurde bereits entfernt.",
+                    session.getId());
+        } finally {
+            gameRoomRegistry.releaseSession(session.getId());
         }
     }
 
@@ -209,9 +204,12 @@ public class SocketConnectionHandler extends TextWebSocketHandler {
 
         super.handleMessage(session, message);
 
-        log.info("Nachricht von Benutzer {} empfangen: {}", session.getId(), message.getPayload());
-
         try {
+            if (message instanceof BinaryMessage binaryMessage) {
+                messageHandler.handleBinaryClientMessage(binaryMessage.getPayload(), session.getId());
+                return;
+            }
+            log.debug("Nachricht von Benutzer {} empfangen: {}", session.getId(), message.getPayload());
             messageHandler.handleClientMessage(message.getPayload().toString(), session.getId());
         } catch (ConnectionRejectedException e) {
             log.warn("Websocket-Verbindung von {} wird wieder geschlossen: {}", session.getId(), e.getMessage());
@@ -227,7 +225,11 @@ public class SocketConnectionHandler extends TextWebSocketHandler {
 
     private void closeSession(WebSocketSession session) {
         try {
-            if (session.isOpen()) {
+            // Eine bereits wartende Fehlermeldung soll den Client noch erreichen
+            WebSocketSession registeredSession = socketBroadcastService.getSession(session.getId());
+            if (registeredSession instanceof OutboundSession outboundSession) {
+                outboundSession.closeAfterFlush(CloseStatus.POLICY_VIOLATION);
+            } else if (session.isOpen()) {
                 session.close(CloseStatus.POLICY_VIOLATION);
             }
         } catch (Exception e) {
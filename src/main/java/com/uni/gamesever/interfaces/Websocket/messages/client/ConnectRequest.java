@@ -3,6 +3,9 @@ package com.uni.gamesever.interfaces.Websocket.messages.client;
 public class ConnectRequest extends Message {
     private String username;
     private String identifierToken;
+    private boolean deltaUpdates;
+    // Server-Nachrichten im kompakten Binärformat statt JSON, siehe BinaryProtocol
+    private boolean binaryProtocol;
 
     public ConnectRequest() {
         super("CONNECT");
@@ -31,4 +34,20 @@ public class ConnectRequest extends Message {
     public void setIdentifierToken(String identifierToken) {
         this.identifierToken = identifierToken;
     }
+
+    public boolean isDeltaUpdates() {
+        return deltaUpdates;
+    }
+
+    public void setDeltaUpdates(boolean deltaUpdates) {
+        this.deltaUpdates = deltaUpdates;
+    }
+
+    public boolean isBinaryProtocol() {
+        return binaryProtocol;
+    }
+
+    public void setBinaryProtocol(boolean binaryProtocol) {
+        this.binaryProtocol = binaryProtocol;
+    }
 }
@@ -1,8 +1,31 @@
 package com.uni.gamesever.interfaces.Websocket.messages.client;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
 
+/**
+ * Basis aller Client-Nachrichten. Beim Einlesen als {@code Message} wählt
+ * Jackson anhand von {@code type} direkt die passende Unterklasse, die
+ * Nachricht wird also nur einmal geparst. Typen ohne eigene Klasse (z. B.
+ * {@code REQUEST_RESYNC}) und unbekannte Typen werden als {@code Message}
+ * eingelesen.
+ */
 @JsonIgnoreProperties(ignoreUnknown = true)
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.EXISTING_PROPERTY, property = "type", visible = true, defaultImpl = Message.class)
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = ConnectRequest.class, name = "CONNECT"),
+        @JsonSubTypes.Type(value = DisconnectRequest.class, name = "DISCONNECT"),
+        @JsonSubTypes.Type(value = StartGameRequest.class, name = "START_GAME"),
+        @JsonSubTypes.Type(value = PushTileRequest.class, name = "PUSH_TILE"),
+        @JsonSubTypes.Type(value = RotateTileRequest.class, name = "ROTATE_TILE"),
+        @JsonSubTypes.Type(value = MovePawnRequest.class, name = "MOVE_PAWN"),
+        @JsonSubTypes.Type(value = UseBeamRequest.class, name = "USE_BEAM"),
+        @JsonSubTypes.Type(value = UseSwapRequest.class, name = "USE_SWAP"),
+        @JsonSubTypes.Type(value = UsePushFixedTileRequest.class, name = "USE_PUSH_FIXED"),
+        @JsonSubTypes.Type(value = UsePushTwiceRequest.class, name = "USE_PUSH_TWICE"),
+        @JsonSubTypes.Type(value = ToggleAiCommand.class, name = "TOGGLE_AI")
+})
 public class Message {
     private String type;
 
@@ -16,4 +39,8 @@ public class Message {
     public String getType() {
         return type;
     }
+
+    public void setType(String type) {
+        this.type = type;
+    }
 }
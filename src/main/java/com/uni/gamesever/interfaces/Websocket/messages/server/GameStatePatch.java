@@ -0,0 +1,95 @@
+package com.uni.gamesever.interfaces.Websocket.messages.server;
+
+import java.util.List;
+
+import com.uni.gamesever.domain.model.PlayerState;
+import com.uni.gamesever.domain.model.PushActionInfo;
+import com.uni.gamesever.domain.model.Tile;
+import com.uni.gamesever.domain.model.TurnInfo;
+import com.uni.gamesever.interfaces.Websocket.messages.client.Message;
+
+/**
+ * Änderungen am Spielzustand gegenüber der Version {@code baseSequence}. Nur
+ * für Clients, die beim CONNECT {@code deltaUpdates} angefordert haben. Passt
+ * {@code baseSequence} nicht zur zuletzt empfangenen Version, fordert der Client
+ * mit REQUEST_RESYNC einen vollständigen Stand an.
+ */
+public class GameStatePatch extends Message {
+    private long sequence;
+    private long baseSequence;
+    private List<TileChange> changedTiles;
+    private Tile spareTile;
+    private PushActionInfo lastPush;
+    private PlayerState[] players;
+    private TurnInfo currentTurnInfo;
+    private String gameEndTime;
+
+    public GameStatePatch(long sequence, long baseSequence, List<TileChange> changedTiles, Tile spareTile,
+            PushActionInfo lastPush, PlayerState[] players, TurnInfo currentTurnInfo, String gameEndTime) {
+        super("GAME_STATE_PATCH");
+        this.sequence = sequence;
+        this.baseSequence = baseSequence;
+        this.changedTiles = changedTiles;
+        this.spareTile = spareTile;
+        this.lastPush = lastPush;
+        this.players = players;
+        this.currentTurnInfo = currentTurnInfo;
+        this.gameEndTime = gameEndTime;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getBaseSequence() {
+        return baseSequence;
+    }
+
+    public List<TileChange> getChangedTiles() {
+        return changedTiles;
+    }
+
+    public Tile getSpareTile() {
+        return spareTile;
+    }
+
+    public PushActionInfo getLastPush() {
+        return lastPush;
+    }
+
+    public PlayerState[] getPlayers() {
+        return players;
+    }
+
+    public TurnInfo getCurrentTurnInfo() {
+        return currentTurnInfo;
+    }
+
+    public String getGameEndTime() {
+        return gameEndTime;
+    }
+
+    public static class TileChange {
+        private final int row;
+        private final int col;
+        private final Tile tile;
+
+        public TileChange(int row, int col, Tile tile) {
+            this.row = row;
+            this.col = col;
+            this.tile = tile;
+        }
+
+        public int getRow() {
+            return row;
+        }
+
+        public int getCol() {
+            return col;
+        }
+
+        public Tile getTile() {
+            return tile;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.uni.gamesever.interfaces.Websocket.messages.server;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.uni.gamesever.domain.model.GameBoard;
 import com.uni.gamesever.domain.model.PlayerState;
 import com.uni.gamesever.domain.model.TurnInfo;
@@ -10,6 +11,8 @@ public class GameStateUpdate extends Message {
     private PlayerState[] players;
     private TurnInfo currentTurnInfo;
     private String gameEndTime;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long sequence;
 
     public GameStateUpdate(GameBoard board, PlayerState[] players, TurnInfo currentTurnInfo, String gameEndTime) {
         super("GAME_STATE_UPDATE");
@@ -19,6 +22,15 @@ public class GameStateUpdate extends Message {
         this.gameEndTime = gameEndTime;
     }
 
+    /**
+     * Vollständiger Stand mit Versionsnummer für Clients mit Delta-Updates.
+     */
+    public GameStateUpdate(GameBoard board, PlayerState[] players, TurnInfo currentTurnInfo, String gameEndTime,
+            long sequence) {
+        this(board, players, currentTurnInfo, gameEndTime);
+        this.sequence = sequence;
+    }
+
     public GameBoard getBoard() {
         return board;
     }
@@ -35,4 +47,8 @@ public class GameStateUpdate extends Message {
         return gameEndTime;
     }
 
+    public Long getSequence() {
+        return sequence;
+    }
+
 }
@@ -0,0 +1,59 @@
+package com.uni.gamesever.services;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Kennzahlen der Ausgangswarteschlangen aller Sessions eines
+ * {@link SocketMessageService}.
+ */
+public class OutboundMetrics {
+    private final AtomicLong queuedMessages = new AtomicLong();
+    private final AtomicLong maxQueueDepth = new AtomicLong();
+    private final AtomicLong droppedMessages = new AtomicLong();
+    private final AtomicLong coalescedMessages = new AtomicLong();
+    private final AtomicLong evictedSessions = new AtomicLong();
+
+    void onEnqueued(int sessionQueueDepth) {
+        queuedMessages.incrementAndGet();
+        maxQueueDepth.accumulateAndGet(sessionQueueDepth, Math::max);
+    }
+
+    void onDequeued(int count) {
+        queuedMessages.addAndGet(-count);
+    }
+
+    void onCoalesced() {
+        queuedMessages.decrementAndGet();
+        coalescedMessages.incrementAndGet();
+    }
+
+    void onDropped(int count) {
+        droppedMessages.addAndGet(count);
+    }
+
+    void onEvicted() {
+        evictedSessions.incrementAndGet();
+    }
+
+    // Aktuell wartende Nachrichten über alle Sessions
+    public long getQueuedMessages() {
+        return queuedMessages.get();
+    }
+
+    // Größte bisher beobachtete Warteschlangenlänge einer Session
+    public long getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    public long getDroppedMessages() {
+        return droppedMessages.get();
+    }
+
+    public long getCoalescedMessages() {
+        return coalescedMessages.get();
+    }
+
+    public long getEvictedSessions() {
+        return evictedSessions.get();
+    }
+}
@@ -0,0 +1,210 @@
+package com.uni.gamesever.services;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+/**
+ * Session mit eigener, begrenzter Ausgangswarteschlange. Senden legt die
+ * Nachricht nur in die Warteschlange; ein Sender auf dem gemeinsamen
+ * Executor leert sie seriell. Ein langsamer Client hält dadurch weder die
+ * Spiellogik noch andere Empfänger auf.
+ *
+ * Ein neuer Spielstand ersetzt einen noch nicht gesendeten Spielstand am Ende
+ * der Warteschlange, da nur der jüngste Stand relevant ist. Läuft die
+ * Warteschlange voll, greift die konfigurierte {@link OverflowPolicy}. Andere
+ * Nachrichten (Spielende, Fehler, Schatzkarten, Patches) werden nie verworfen.
+ */
+public class OutboundSession extends WebSocketSessionDecorator {
+    public enum OverflowPolicy {
+        // Ältesten Spielstand verwerfen, auf den noch ein neuerer folgt;
+        // gibt es keinen, wird die Verbindung geschlossen
+        DROP_OLDEST,
+        // Verbindung des zu langsamen Clients schließen
+        DISCONNECT
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(OutboundSession.class);
+
+    private final Deque<QueuedMessage> queue = new ArrayDeque<>();
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final Executor senderExecutor;
+    private final OutboundMetrics metrics;
+    private boolean evicted;
+    private volatile boolean binaryProtocol;
+
+    public OutboundSession(WebSocketSession delegate, int capacity, OverflowPolicy overflowPolicy,
+            Executor senderExecutor, OutboundMetrics metrics) {
+        super(delegate);
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.senderExecutor = senderExecutor;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) {
+        enqueue(message, null);
+    }
+
+    /**
+     * Legt eine Nachricht in die Warteschlange.
+     *
+     * @param messageType Nachrichtentyp; {@code GAME_STATE_UPDATE} ersetzt einen
+     *                    direkt davor wartenden Spielstand, {@code null} wird
+     *                    nie zusammengefasst
+     */
+    public void enqueue(WebSocketMessage<?> message, String messageType) {
+        boolean disconnect = false;
+        synchronized (queue) {
+            if (evicted) {
+                return;
+            }
+            QueuedMessage last = queue.peekLast();
+            if (last != null && isCoalescible(messageType) && messageType.equals(last.type())) {
+                queue.pollLast();
+                metrics.onCoalesced();
+            } else if (queue.size() >= capacity) {
+                if (overflowPolicy == OverflowPolicy.DROP_OLDEST && dropSupersededState(messageType)) {
+                    metrics.onDropped(1);
+                    metrics.onDequeued(1);
+                } else {
+                    evicted = true;
+                    metrics.onDropped(queue.size() + 1);
+                    metrics.onDequeued(queue.size());
+                    queue.clear();
+                    disconnect = true;
+                }
+            }
+            if (!disconnect) {
+                queue.addLast(new QueuedMessage(message, messageType, null));
+                metrics.onEnqueued(queue.size());
+            }
+        }
+        if (disconnect) {
+            evict();
+        } else {
+            scheduleDrain();
+        }
+    }
+
+    /**
+     * Schließt die Verbindung, nachdem alle bereits wartenden Nachrichten
+     * gesendet wurden (z. B. eine Fehlermeldung vor dem Abweisen).
+     */
+    public void closeAfterFlush(CloseStatus status) {
+        synchronized (queue) {
+            if (evicted) {
+                return;
+            }
+            evicted = true;
+            queue.addLast(new QueuedMessage(null, null, status));
+        }
+        scheduleDrain();
+    }
+
+    /**
+     * @return {@code true}, wenn der Client beim CONNECT das Binärformat
+     *         angefordert hat
+     */
+    public boolean isBinaryProtocol() {
+        return binaryProtocol;
+    }
+
+    public void setBinaryProtocol(boolean binaryProtocol) {
+        this.binaryProtocol = binaryProtocol;
+    }
+
+    public int getQueueDepth() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    private static boolean isCoalescible(String messageType) {
+        return "GAME_STATE_UPDATE".equals(messageType);
+    }
+
+    /**
+     * Entfernt den ältesten wartenden Spielstand, sofern ein neuerer Spielstand
+     * wartet oder gerade eingereiht wird. Aufruf nur unter der Sperre der
+     * Warteschlange.
+     *
+     * @return {@code false}, wenn es keinen solchen Spielstand gibt
+     */
+    private boolean dropSupersededState(String incomingType) {
+        QueuedMessage oldestState = null;
+        boolean superseded = isCoalescible(incomingType);
+        for (QueuedMessage queued : queue) {
+            if (isCoalescible(queued.type())) {
+                if (oldestState != null) {
+                    superseded = true;
+                    break;
+                }
+                oldestState = queued;
+            }
+        }
+        if (oldestState == null || !superseded) {
+            return false;
+        }
+        queue.removeFirstOccurrence(oldestState);
+        return true;
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            senderExecutor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            QueuedMessage next;
+            synchronized (queue) {
+                next = queue.pollFirst();
+                if (next == null) {
+                    draining.set(false);
+                    return;
+                }
+                if (next.closeStatus() == null) {
+                    metrics.onDequeued(1);
+                }
+            }
+            try {
+                if (next.closeStatus() != null) {
+                    getDelegate().close(next.closeStatus());
+                } else if (getDelegate().isOpen()) {
+                    getDelegate().sendMessage(next.message());
+                }
+            } catch (Exception e) {
+                log.error("Fehler beim Senden der Nachricht an die Sitzung {}: {}", getId(), e.getMessage());
+            }
+        }
+    }
+
+    private void evict() {
+        metrics.onEvicted();
+        log.warn("Sitzung {} kommt mit dem Empfang nicht nach und wird getrennt.", getId());
+        senderExecutor.execute(() -> {
+            try {
+                getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (IOException e) {
+                log.error("Fehler beim Schließen der Sitzung {}: {}", getId(), e.getMessage());
+            }
+        });
+    }
+
+    private record QueuedMessage(WebSocketMessage<?> message, String type, CloseStatus closeStatus) {
+    }
+}
@@ -1,61 +1,233 @@
 package com.uni.gamesever.services;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.uni.gamesever.infrastructure.ManagedThreads;
+import com.uni.gamesever.interfaces.Websocket.BinaryProtocol;
+import com.uni.gamesever.interfaces.Websocket.SerializerRegistry;
+import com.uni.gamesever.interfaces.Websocket.messages.client.Message;
+import com.uni.gamesever.services.OutboundSession.OverflowPolicy;
 
 @Service
 public class SocketMessageService {
-    // In this list all the connections will be stored
-    // Then it will be used to broadcast the message
-    private final List<WebSocketSession> webSocketSessions = Collections.synchronizedList(new ArrayList<>());
+    // Zeitlimit und Puffergröße je Session, ab denen ein zu langsamer Client
+    // getrennt wird, statt alle anderen Empfänger aufzuhalten
+    static final int SEND_TIME_LIMIT_MS = 5_000;
+    static final int SEND_BUFFER_SIZE_LIMIT = 512 * 1024;
+    static final int DEFAULT_QUEUE_CAPACITY = 256;
+
+
+    // All connections indexed by session id, used for unicast, broadcast and removal
+    private final Map<String, WebSocketSession> webSocketSessions = new ConcurrentHashMap<>();
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final Executor senderExecutor;
+    private final OutboundMetrics outboundMetrics = new OutboundMetrics();
     private static final Logger log = LoggerFactory.getLogger(SocketMessageService.class);
 
+    /**
+     * Dienst eines Spielraums. Er übernimmt nur bereits registrierte Sessions
+     * des globalen Dienstes und startet daher keine eigenen Sender.
+     */
+    public SocketMessageService() {
+        this(DEFAULT_QUEUE_CAPACITY, OverflowPolicy.DROP_OLDEST, Runnable::run);
+    }
+
+    @Autowired
+    public SocketMessageService(
+            @Value("${websocket.outbound.queue-capacity:" + DEFAULT_QUEUE_CAPACITY + "}") int queueCapacity,
+            @Value("${websocket.outbound.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+            ManagedThreads managedThreads) {
+        this(queueCapacity, overflowPolicy, managedThreads.newExecutor("ws-sender-"));
+    }
+
+    SocketMessageService(int queueCapacity, OverflowPolicy overflowPolicy, Executor senderExecutor) {
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+        this.senderExecutor = senderExecutor;
+    }
+
+    /**
+     * Registriert eine Session. Sie erhält dabei eine eigene Ausgangswarteschlange
+     * über einer für nebenläufiges Senden dekorierten Verbindung. Eine bereits
+     * registrierte Session (z. B. beim Eintritt in einen Raum) wird unverändert
+     * übernommen, damit alle Dienste dieselbe Warteschlange teilen.
+     */
     public void addIncomingSession(WebSocketSession session) {
-        webSocketSessions.add(session);
+        if (session instanceof OutboundSession) {
+            webSocketSessions.put(session.getId(), session);
+            return;
+        }
+        WebSocketSession concurrentSession = new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MS,
+                SEND_BUFFER_SIZE_LIMIT);
+        webSocketSessions.put(session.getId(), new OutboundSession(concurrentSession, queueCapacity, overflowPolicy,
+                senderExecutor, outboundMetrics));
+    }
+
+    public OutboundMetrics getOutboundMetrics() {
+        return outboundMetrics;
     }
 
     public void removeDisconnectedSessionWithID(String sessionId) {
-        webSocketSessions.removeIf(session -> session.getId().equals(sessionId));
+        if (sessionId != null) {
+            webSocketSessions.remove(sessionId);
+        }
     }
 
     public void removeDisconnectedSession(WebSocketSession session) {
-        webSocketSessions.remove(session);
+        // Nur entfernen, wenn unter der ID wirklich diese Verbindung registriert ist
+        webSocketSessions.computeIfPresent(session.getId(),
+                (id, s) -> s == session || WebSocketSessionDecorator.unwrap(s) == session ? null : s);
+    }
+
+    public WebSocketSession getSession(String sessionId) {
+        if (sessionId == null) {
+            return null;
+        }
+        return webSocketSessions.get(sessionId);
+    }
+
+    public int getSessionCount() {
+        return webSocketSessions.size();
+    }
+
+    /**
+     * Legt beim CONNECT fest, ob die Session Nachrichten im Binärformat
+     * ({@link BinaryProtocol}) statt als JSON-Text erhält
+     */
+    public void setBinaryProtocol(String sessionId, boolean enabled) {
+        if (getSession(sessionId) instanceof OutboundSession outboundSession) {
+            outboundSession.setBinaryProtocol(enabled);
+        }
+    }
+
+    /**
+     * Serialisiert eine Nachricht einmalig nach UTF-8. Der entstehende Frame ist
+     * unveränderlich und kann an beliebig viele Sessions gesendet werden.
+     */
+    public TextMessage encode(Object message) throws JsonProcessingException {
+        return new TextMessage(SerializerRegistry.toJsonBytes(message));
     }
 
     public void sendMessageToSession(String sessionId, String message) {
-        WebSocketSession session = null;
-        for (WebSocketSession s : webSocketSessions) {
-            if (s.getId().equals(sessionId)) {
-                session = s;
-                break;
+        WebSocketSession session = getSession(sessionId);
+        if (session != null) {
+            TextMessage frame = new TextMessage(message);
+            sendToOpenSession(session, isBinary(session) ? wrapJson(frame) : frame, null);
+        }
+    }
+
+    public void broadcastMessage(String message) {
+        TextMessage frame = new TextMessage(message);
+        BinaryMessage binaryFrame = null;
+        for (WebSocketSession s : webSocketSessions.values()) {
+            if (isBinary(s)) {
+                if (binaryFrame == null) {
+                    binaryFrame = wrapJson(frame);
+                }
+                sendToOpenSession(s, binaryFrame, null);
+            } else {
+                sendToOpenSession(s, frame, null);
             }
         }
-        try {
-            if (session != null && session.isOpen()) {
-                session.sendMessage(new org.springframework.web.socket.TextMessage(message));
+    }
+
+    public void broadcast(Object message) throws JsonProcessingException {
+        Frames frames = new Frames(message);
+        String messageType = typeOf(message);
+        for (WebSocketSession s : webSocketSessions.values()) {
+            sendToOpenSession(s, frames.forSession(s), messageType);
+        }
+    }
+
+    public void broadcastToSessions(Collection<String> sessionIds, Object message) throws JsonProcessingException {
+        Frames frames = new Frames(message);
+        String messageType = typeOf(message);
+        for (String sessionId : sessionIds) {
+            WebSocketSession s = webSocketSessions.get(sessionId);
+            if (s != null) {
+                sendToOpenSession(s, frames.forSession(s), messageType);
             }
-        } catch (Exception e) {
-            System.out.println("Fehler beim Senden der Nachricht an die Sitzung: " + e.getMessage());
-            log.error("Fehler beim Senden der Nachricht an die Sitzung: {}", e.getMessage());
         }
     }
 
-    public void broadcastMessage(String message) {
-        for (WebSocketSession s : webSocketSessions) {
-            try {
-                if (s.isOpen()) {
-                    s.sendMessage(new org.springframework.web.socket.TextMessage(message));
+    public void broadcastExcept(Collection<String> excludedSessionIds, Object message) throws JsonProcessingException {
+        Frames frames = new Frames(message);
+        String messageType = typeOf(message);
+        for (WebSocketSession s : webSocketSessions.values()) {
+            if (!excludedSessionIds.contains(s.getId())) {
+                sendToOpenSession(s, frames.forSession(s), messageType);
+            }
+        }
+    }
+
+    private static boolean isBinary(WebSocketSession session) {
+        return session instanceof OutboundSession outboundSession && outboundSession.isBinaryProtocol();
+    }
+
+    private static BinaryMessage wrapJson(TextMessage frame) {
+        return new BinaryMessage(BinaryProtocol.wrapJson(frame.asBytes()));
+    }
+
+    /**
+     * Frames einer Nachricht je Protokoll. Jede Kodierung wird höchstens einmal
+     * und erst für die erste Session erzeugt, die sie braucht.
+     */
+    private final class Frames {
+        private final Object message;
+        private TextMessage text;
+        private BinaryMessage binary;
+
+        Frames(Object message) {
+            this.message = message;
+        }
+
+        WebSocketMessage<?> forSession(WebSocketSession session) throws JsonProcessingException {
+            if (isBinary(session)) {
+                if (binary == null) {
+                    binary = new BinaryMessage(BinaryProtocol.encode(message));
                 }
-            } catch (Exception e) {
-                System.out.println("Fehler beim Senden der Nachricht an die Sitzung: " + e.getMessage());
-                log.error("Fehler beim Senden der Nachricht an die Sitzung: {}", e.getMessage());
+                return binary;
+            }
+            if (text == null) {
+                text = encode(message);
+            }
+            return text;
+        }
+    }
+
+    private static String typeOf(Object message) {
+        return message instanceof Message typedMessage ? typedMessage.getType() : null;
+    }
+
+    private void sendToOpenSession(WebSocketSession s, WebSocketMessage<?> frame, String messageType) {
+        try {
+            if (!s.isOpen()) {
+                return;
             }
+            if (s instanceof OutboundSession outboundSession) {
+                outboundSession.enqueue(frame, messageType);
+            } else {
+                s.sendMessage(frame);
+            }
+        } catch (Exception e) {
+            log.error("Fehler beim Senden der Nachricht an die Sitzung: {}", e.getMessage());
         }
     }
 }
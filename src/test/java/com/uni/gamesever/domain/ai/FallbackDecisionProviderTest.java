@@ -0,0 +1,63 @@
+package com.uni.gamesever.domain.ai;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FallbackDecisionProviderTest {
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch never = new CountDownLatch(1);
+    private final AIDecision primaryDecision = new AIDecision();
+    private final AIDecision fallbackDecision = new AIDecision();
+
+    @AfterEach
+    void tearDown() {
+        never.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void getNextMove_shouldUsePrimaryWhenItAnswersInTime() {
+        FallbackDecisionProvider provider = new FallbackDecisionProvider(gameState -> primaryDecision,
+                gameState -> fallbackDecision, executor, 1_000);
+
+        assertSame(primaryDecision, provider.getNextMove(new GameState()));
+    }
+
+    @Test
+    void getNextMove_shouldFallBackWhenPrimaryMissesTurnDeadline() {
+        DecisionProvider hanging = gameState -> {
+            try {
+                never.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return primaryDecision;
+        };
+        FallbackDecisionProvider provider = new FallbackDecisionProvider(hanging, gameState -> fallbackDecision,
+                executor, 10_000);
+        GameState gameState = new GameState();
+        // Ein Zehntel der verbleibenden 2 s Zugzeit
+        gameState.setTurnEndTime(OffsetDateTime.now().plusSeconds(2).toString());
+        long start = System.nanoTime();
+
+        assertSame(fallbackDecision, provider.getNextMove(gameState));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1_000);
+    }
+
+    @Test
+    void getNextMove_shouldFallBackWhenPrimaryFails() {
+        FallbackDecisionProvider provider = new FallbackDecisionProvider(gameState -> {
+            throw new IllegalStateException("LLM nicht erreichbar");
+        }, gameState -> fallbackDecision, executor, 1_000);
+
+        assertSame(fallbackDecision, provider.getNextMove(new GameState()));
+    }
+}
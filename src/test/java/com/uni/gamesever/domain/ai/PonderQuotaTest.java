@@ -0,0 +1,33 @@
+package com.uni.gamesever.domain.ai;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PonderQuotaTest {
+    private final AtomicLong clock = new AtomicLong(1_000);
+    private final PonderQuota quota = new PonderQuota(500, 2_000, clock::get);
+
+    @Test
+    void reserve_shouldGrantAtMostTheAvailableBudget() {
+        assertEquals(1_500, quota.reserve(1_500));
+        assertEquals(500, quota.reserve(1_500));
+        assertEquals(0, quota.reserve(100));
+    }
+
+    @Test
+    void quota_shouldRefillOverTimeAndTakeBackUnusedTime() {
+        quota.reserve(2_000);
+
+        clock.addAndGet(1_000);
+        assertEquals(500, quota.getAvailable());
+
+        quota.release(700);
+        assertEquals(1_200, quota.getAvailable());
+
+        clock.addAndGet(10_000);
+        assertEquals(2_000, quota.getAvailable());
+    }
+}
@@ -0,0 +1,96 @@
+package com.uni.gamesever.domain.ai;
+
+import com.uni.gamesever.domain.enums.DirectionType;
+import com.uni.gamesever.domain.enums.TileType;
+import com.uni.gamesever.domain.model.Coordinates;
+import com.uni.gamesever.domain.model.PlayerInfo;
+import com.uni.gamesever.domain.model.PlayerState;
+import com.uni.gamesever.domain.model.Tile;
+import com.uni.gamesever.domain.model.Treasure;
+import com.uni.gamesever.domain.model.TurnState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PushSearchTest {
+    private static final int SIZE = 7;
+
+    private PushSearch pushSearch;
+    private GameState gameState;
+    private Tile[][] board;
+
+    @BeforeEach
+    void setUp() {
+        pushSearch = new PushSearch(ForkJoinPool.commonPool());
+        // Kacheln ohne Eingänge: erreichbar ist nur das eigene Feld
+        board = new Tile[SIZE][SIZE];
+        for (int r = 0; r < SIZE; r++) {
+            for (int c = 0; c < SIZE; c++) {
+                board[r][c] = new Tile(List.of(), TileType.STRAIGHT);
+            }
+        }
+        Treasure treasure = new Treasure(7, "Krone");
+        Tile spareTile = new Tile(List.of(DirectionType.UP, DirectionType.DOWN), TileType.STRAIGHT);
+        spareTile.setTreasure(treasure);
+
+        PlayerState me = new PlayerState(new PlayerInfo("ai"), new Coordinates(1, 0), new Coordinates(0, 0),
+                treasure, 1);
+        gameState = new GameState();
+        gameState.setBoard(board);
+        gameState.setSpareTile(spareTile);
+        gameState.setPlayers(List.of(me));
+        gameState.setMyPlayerState(me);
+        gameState.setCurrentTurnState(TurnState.WAITING_FOR_PUSH);
+    }
+
+    @Test
+    void findBestPush_shouldPushSpareTreasureUnderOwnPiece() {
+        // UP in Spalte 1 schiebt die Figur über den Rand auf die eingeschobene Kachel
+        PushSearch.Result result = pushSearch.findBestPush(gameState);
+
+        assertNotNull(result);
+        assertTrue(result.targetReachable);
+        assertEquals(1, result.index);
+        assertEquals(DirectionType.UP, result.direction);
+        assertEquals(0, result.rotations);
+        assertEquals(1, result.moveTarget.getColumn());
+        assertEquals(SIZE - 1, result.moveTarget.getRow());
+    }
+
+    @Test
+    void findBestPush_shouldSkipPushBack() {
+        gameState.setLastPush(new LastPush(1, DirectionType.DOWN));
+
+        PushSearch.Result result = pushSearch.findBestPush(gameState);
+
+        assertNotNull(result);
+        assertFalse(result.index == 1 && result.direction == DirectionType.UP);
+        assertFalse(result.targetReachable);
+    }
+
+    @Test
+    void findBestPush_shouldNotPushOutFixedTiles() {
+        for (int i = 1; i < SIZE; i += 2) {
+            board[0][i].setisFixed(true);
+            board[SIZE - 1][i].setisFixed(true);
+            board[i][0].setisFixed(true);
+            board[i][SIZE - 1].setisFixed(true);
+        }
+
+        assertNull(pushSearch.findBestPush(gameState));
+    }
+
+    @Test
+    void computeBudgetMillis_shouldFollowRemainingTurnTime() {
+        assertEquals(PushSearch.MAX_BUDGET_MS, PushSearch.computeBudgetMillis(null));
+        assertEquals(PushSearch.MAX_BUDGET_MS,
+                PushSearch.computeBudgetMillis(OffsetDateTime.now().plusSeconds(60).toString()));
+        assertEquals(PushSearch.MIN_BUDGET_MS,
+                PushSearch.computeBudgetMillis(OffsetDateTime.now().minusSeconds(1).toString()));
+    }
+}
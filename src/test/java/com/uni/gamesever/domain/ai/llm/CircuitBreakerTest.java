@@ -0,0 +1,42 @@
+package com.uni.gamesever.domain.ai.llm;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+    private final AtomicLong clock = new AtomicLong();
+    private final CircuitBreaker breaker = new CircuitBreaker(2, 1_000, clock::get);
+
+    @Test
+    void breaker_shouldOpenAfterConsecutiveFailuresAndAllowOneTrialLater() {
+        breaker.onFailure();
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure();
+
+        assertFalse(breaker.tryAcquire());
+
+        clock.addAndGet(1_000);
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire(), "Nur ein Probeaufruf gleichzeitig");
+
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    void failedTrial_shouldReopenBreaker() {
+        breaker.onFailure();
+        breaker.onFailure();
+        clock.addAndGet(1_000);
+        assertTrue(breaker.tryAcquire());
+
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+}
@@ -0,0 +1,113 @@
+package com.uni.gamesever.domain.ai.llm;
+
+import com.sun.net.httpserver.HttpServer;
+import com.uni.gamesever.domain.exceptions.LlmUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testet den Client gegen einen lokalen Stub-Server statt des LLM-Dienstes
+ */
+class LlmClientTest {
+    private static final String ANSWER = "{\"choices\":[{\"message\":{\"role\":\"assistant\","
+            + "\"content\":\"{\\\"chosenOption\\\": 2}\"}}]}";
+
+    private HttpServer server;
+    private ExecutorService serverThreads;
+    private LlmClient client;
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile int status = 200;
+    private volatile long delayMillis;
+    private volatile String lastAuthorization;
+    private volatile String lastBody;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/chat/completions", exchange -> {
+            requests.incrementAndGet();
+            lastAuthorization = exchange.getRequestHeaders().getFirst("Authorization");
+            lastBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = ANSWER.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        serverThreads = Executors.newCachedThreadPool();
+        server.setExecutor(serverThreads);
+        server.start();
+        URI endpoint = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/v1/")
+                .resolve("chat/completions");
+        client = new LlmClient(endpoint, "test-key", new CircuitBreaker(2, 60_000, System::currentTimeMillis));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverThreads.shutdownNow();
+    }
+
+    @Test
+    void complete_shouldReturnContentOfFirstChoice() throws Exception {
+        String content = client.complete("system", "Welche Option?", 2_000).get(3, TimeUnit.SECONDS);
+
+        assertEquals("{\"chosenOption\": 2}", content);
+        assertEquals("Bearer test-key", lastAuthorization);
+        assertTrue(lastBody.contains("\"content\":\"Welche Option?\""));
+        assertEquals(CircuitBreaker.State.CLOSED, client.getCircuitBreaker().getState());
+    }
+
+    @Test
+    void complete_shouldFailWithinDeadlineWhenEndpointIsSlow() {
+        delayMillis = 3_000;
+        long start = System.nanoTime();
+
+        assertThrows(ExecutionException.class, () -> client.complete("system", "user", 200).get());
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1_500);
+    }
+
+    @Test
+    void complete_shouldFailFastWithoutRequestOnceCircuitBreakerIsOpen() {
+        status = 500;
+        assertThrows(ExecutionException.class, () -> client.complete("system", "user", 2_000).get());
+        assertThrows(ExecutionException.class, () -> client.complete("system", "user", 2_000).get());
+        assertEquals(CircuitBreaker.State.OPEN, client.getCircuitBreaker().getState());
+
+        ExecutionException rejected = assertThrows(ExecutionException.class,
+                () -> client.complete("system", "user", 2_000).get());
+
+        assertInstanceOf(LlmUnavailableException.class, rejected.getCause());
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void shared_shouldReplaceClientWhenApiKeyChanges() {
+        LlmClient first = LlmClient.shared("key-a");
+
+        assertSame(first, LlmClient.shared("key-a"));
+        LlmClient second = LlmClient.shared("key-b");
+        assertNotSame(first, second);
+        assertSame(second, LlmClient.shared("key-b"));
+    }
+}
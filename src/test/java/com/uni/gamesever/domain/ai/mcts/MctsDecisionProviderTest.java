@@ -0,0 +1,141 @@
+package com.uni.gamesever.domain.ai.mcts;
+
+import com.uni.gamesever.domain.ai.AIDecision;
+import com.uni.gamesever.domain.ai.GameState;
+import com.uni.gamesever.domain.ai.LastPush;
+import com.uni.gamesever.domain.enums.DirectionType;
+import com.uni.gamesever.domain.enums.TileType;
+import com.uni.gamesever.domain.game.ReachabilityEngine;
+import com.uni.gamesever.domain.model.Coordinates;
+import com.uni.gamesever.domain.model.PlayerInfo;
+import com.uni.gamesever.domain.model.PlayerState;
+import com.uni.gamesever.domain.model.Tile;
+import com.uni.gamesever.domain.model.Treasure;
+import com.uni.gamesever.domain.model.TurnState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MctsDecisionProviderTest {
+    private MctsDecisionProvider provider;
+    private GameState gameState;
+
+    @BeforeEach
+    void setUp() {
+        provider = new MctsDecisionProvider(ForkJoinPool.commonPool(), ForkJoinPool.commonPool(), 200, 2, 1);
+        // Nur UP in Spalte 1 schiebt die Figur auf die Ersatzkachel mit dem Schatz
+        Tile spareTile = new Tile(List.of(DirectionType.UP, DirectionType.DOWN), TileType.STRAIGHT);
+        spareTile.setTreasure(new Treasure(7, "Krone"));
+        PlayerState me = new PlayerState(new PlayerInfo("ai"), new Coordinates(1, 0), new Coordinates(6, 6),
+                new Treasure(7, "Krone"), 1);
+        gameState = SimStateTest.gameState(List.of(), spareTile, me);
+    }
+
+    @Test
+    void getNextMove_shouldPickPushThatReachesTreasure() {
+        AIDecision decision = provider.getNextMove(gameState);
+
+        assertEquals(1, decision.getPushRowOrCol());
+        assertEquals(DirectionType.UP, decision.getPushDirection());
+        assertNull(decision.getUseBonus());
+    }
+
+    @Test
+    void getNextMove_shouldOnlyMoveInMovePhase() {
+        gameState.setCurrentTurnState(TurnState.WAITING_FOR_MOVE);
+
+        AIDecision decision = provider.getNextMove(gameState);
+
+        assertEquals(1, decision.getMoveTarget().getColumn());
+        assertEquals(0, decision.getMoveTarget().getRow());
+        assertNull(provider.getPreviousRoot());
+    }
+
+    @Test
+    void getNextMove_shouldPushEvenWithoutSearchResult() {
+        MctsDecisionProvider withoutWorkers = new MctsDecisionProvider(ForkJoinPool.commonPool(),
+                ForkJoinPool.commonPool(), 200, 0, 1);
+
+        AIDecision decision = withoutWorkers.getNextMove(gameState);
+
+        int[] legal = new int[SimState.MAX_MOVES];
+        int count = SimState.fromGameState(gameState).legalMoves(legal);
+        int pushed = SimMove.push(decision.getRotations(), decision.getPushRowOrCol(),
+                SimMove.directionIndex(decision.getPushDirection()));
+        assertTrue(IntStream.of(legal).limit(count).anyMatch(move -> move == pushed));
+        assertNull(decision.getUseBonus());
+    }
+
+    @Test
+    void findReusableSubtree_shouldReturnExploredBranchOfActualMove() {
+        provider.getNextMove(gameState);
+        MctsNode played = provider.getPreviousRoot().mostVisitedChild();
+        SimState afterMove = SimState.fromGameState(gameState);
+        afterMove.apply(played.getMove(), new ReachabilityEngine());
+
+        MctsNode reused = provider.findReusableSubtree(afterMove);
+
+        assertSame(played, reused);
+        assertNull(reused.getParent());
+    }
+
+    @Test
+    void startPondering_shouldBuildTreeThatOwnTurnReuses() throws InterruptedException {
+        GameState opponentTurn = opponentToMove();
+        provider.startPondering(opponentTurn, 150);
+        waitUntilPonderingEnds();
+
+        assertTrue(provider.stopPondering() >= 150);
+        MctsNode opponentMove = provider.getPreviousRoot().mostVisitedChild();
+        SimState ownTurn = SimState.fromGameState(opponentTurn);
+        ownTurn.apply(opponentMove.getMove(), new ReachabilityEngine());
+
+        assertSame(opponentMove, provider.findReusableSubtree(ownTurn));
+    }
+
+    @Test
+    void onRealPush_shouldKeepExploredPushAndDiscardUnexploredOne() throws InterruptedException {
+        GameState opponentTurn = opponentToMove();
+        opponentTurn.setLastPush(new LastPush(1, DirectionType.DOWN));
+        provider.startPondering(opponentTurn, 5_000);
+        waitUntilFirstChild();
+        int explored = provider.getPreviousRoot().mostVisitedChild().getMove();
+
+        provider.onRealPush(new LastPush(SimMove.index(explored), SimMove.directionType(SimMove.direction(explored))));
+        assertTrue(provider.isPondering());
+
+        provider.startPondering(opponentTurn, 5_000);
+        // Zurückschieben ist verboten und kann nicht vorausberechnet sein
+        provider.onRealPush(new LastPush(1, DirectionType.UP));
+
+        assertFalse(provider.isPondering());
+        assertNull(provider.getPreviousRoot());
+        assertTrue(provider.stopPondering() > 0);
+    }
+
+    private GameState opponentToMove() {
+        PlayerState opponent = new PlayerState(new PlayerInfo("p2"), new Coordinates(5, 5), new Coordinates(0, 6),
+                new Treasure(3, "Ring"), 1);
+        gameState.setPlayers(List.of(gameState.getMyPlayerState(), opponent));
+        gameState.setMyPlayerState(opponent);
+        return gameState;
+    }
+
+    private void waitUntilFirstChild() throws InterruptedException {
+        for (int i = 0; i < 500 && provider.getPreviousRoot().mostVisitedChild() == null; i++) {
+            Thread.sleep(10);
+        }
+        assertNotNull(provider.getPreviousRoot().mostVisitedChild(), "Pondering hat keinen Zug untersucht");
+    }
+
+    private void waitUntilPonderingEnds() throws InterruptedException {
+        for (int i = 0; i < 100 && provider.isPondering(); i++) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.uni.gamesever.domain.ai.mcts;
+
+import com.uni.gamesever.domain.ai.GameState;
+import com.uni.gamesever.domain.ai.LastPush;
+import com.uni.gamesever.domain.enums.DirectionType;
+import com.uni.gamesever.domain.enums.TileType;
+import com.uni.gamesever.domain.game.ReachabilityEngine;
+import com.uni.gamesever.domain.model.Coordinates;
+import com.uni.gamesever.domain.model.PlayerInfo;
+import com.uni.gamesever.domain.model.PlayerState;
+import com.uni.gamesever.domain.model.Tile;
+import com.uni.gamesever.domain.model.Treasure;
+import com.uni.gamesever.domain.model.TurnState;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimStateTest {
+    private static final int SIZE = 7;
+    private static final List<DirectionType> ALL = List.of(DirectionType.UP, DirectionType.RIGHT,
+            DirectionType.DOWN, DirectionType.LEFT);
+
+    private final ReachabilityEngine engine = new ReachabilityEngine();
+
+    static GameState gameState(List<DirectionType> entrances, Tile spareTile, PlayerState me) {
+        Tile[][] board = new Tile[SIZE][SIZE];
+        for (int r = 0; r < SIZE; r++) {
+            for (int c = 0; c < SIZE; c++) {
+                board[r][c] = new Tile(entrances, TileType.STRAIGHT);
+            }
+        }
+        GameState gameState = new GameState();
+        gameState.setBoard(board);
+        gameState.setSpareTile(spareTile);
+        gameState.setPlayers(List.of(me));
+        gameState.setMyPlayerState(me);
+        gameState.setCurrentTurnState(TurnState.WAITING_FOR_PUSH);
+        return gameState;
+    }
+
+    @Test
+    void push_shouldShiftLineAndCarryPlayerOntoInsertedTile() {
+        Tile spareTile = new Tile(List.of(DirectionType.UP, DirectionType.DOWN), TileType.STRAIGHT);
+        spareTile.setTreasure(new Treasure(7, "Krone"));
+        PlayerState me = new PlayerState(new PlayerInfo("ai"), new Coordinates(1, 0), new Coordinates(0, 0),
+                new Treasure(7, "Krone"), 1);
+        GameState gameState = gameState(List.of(), spareTile, me);
+        gameState.getBoard()[0][1] = new Tile(List.of(DirectionType.LEFT, DirectionType.DOWN), TileType.CORNER);
+        SimState state = SimState.fromGameState(gameState);
+
+        state.push(1, SimMove.directionIndex(DirectionType.UP));
+
+        int inserted = (SIZE - 1) * SIZE + 1;
+        assertEquals(inserted, state.getPosition(0), "Die Figur wandert über den Rand auf die neue Kachel.");
+        assertEquals(7, state.treasureAt[inserted]);
+        assertEquals(inserted, state.targetCell(0));
+        assertEquals(tileMask(DirectionType.LEFT, DirectionType.DOWN), state.spareMask);
+        assertEquals(SimState.NO_ITEM, state.spareTreasure);
+    }
+
+    @Test
+    void legalMoves_shouldSkipPushBackAndDuplicateRotations() {
+        Tile spareTile = new Tile(List.of(DirectionType.UP, DirectionType.DOWN), TileType.STRAIGHT);
+        PlayerState me = new PlayerState(new PlayerInfo("ai"), new Coordinates(0, 0), new Coordinates(0, 0),
+                null, 0);
+        GameState gameState = gameState(List.of(), spareTile, me);
+        gameState.setLastPush(new LastPush(1, DirectionType.DOWN));
+        SimState state = SimState.fromGameState(gameState);
+
+        int[] moves = new int[SimState.MAX_MOVES];
+        int count = state.legalMoves(moves);
+
+        // 4 Richtungen x 7 Linien x 2 unterschiedliche Rotationen, ohne Zurückschieben
+        assertEquals(4 * SIZE * 2 - 2, count);
+        for (int i = 0; i < count; i++) {
+            assertFalse(SimMove.index(moves[i]) == 1 && SimMove.directionType(SimMove.direction(moves[i])) == DirectionType.UP);
+        }
+    }
+
+    @Test
+    void apply_shouldCollectTreasureAndWinAtHome() {
+        Tile spareTile = new Tile(ALL, TileType.CROSS);
+        PlayerState me = new PlayerState(new PlayerInfo("ai"), new Coordinates(0, 0), new Coordinates(0, 0),
+                new Treasure(7, "Krone"), 1);
+        GameState gameState = gameState(ALL, spareTile, me);
+        gameState.getBoard()[3][4].setTreasure(new Treasure(7, "Krone"));
+        SimState state = SimState.fromGameState(gameState);
+        int pushColumnOne = SimMove.push(0, 1, SimMove.directionIndex(DirectionType.UP));
+
+        state.apply(pushColumnOne, engine);
+
+        assertEquals(1, state.getProgress(0));
+        assertEquals(3 * SIZE + 4, state.getPosition(0));
+        assertFalse(state.isTerminal());
+
+        state.apply(SimMove.push(0, 1, SimMove.directionIndex(DirectionType.UP)), engine);
+
+        assertEquals(0, state.getWinner());
+    }
+
+    @Test
+    void hash_shouldMatchFullRecomputeAfterEveryMove() {
+        Tile spareTile = new Tile(List.of(DirectionType.UP, DirectionType.RIGHT), TileType.CORNER);
+        spareTile.setTreasure(new Treasure(3, "Ring"));
+        PlayerState me = new PlayerState(new PlayerInfo("ai"), new Coordinates(0, 0), new Coordinates(0, 0),
+                new Treasure(7, "Krone"), 1);
+        me.setAvailableBonuses(new String[] { "PUSH_TWICE", "SWAP", "BEAM" });
+        PlayerState other = new PlayerState(new PlayerInfo("p2"), new Coordinates(6, 6), new Coordinates(6, 6),
+                new Treasure(3, "Ring"), 1);
+        GameState gameState = gameState(List.of(DirectionType.UP, DirectionType.DOWN), spareTile, me);
+        gameState.setPlayers(List.of(me, other));
+        gameState.getBoard()[2][5].setTreasure(new Treasure(7, "Krone"));
+        SimState state = SimState.fromGameState(gameState);
+        TranspositionTable table = new TranspositionTable(1 << 10);
+        SplittableRandom random = new SplittableRandom(42);
+        int[] moves = new int[SimState.MAX_MOVES];
+
+        for (int turn = 0; turn < 40 && !state.isTerminal(); turn++) {
+            int count = state.legalMoves(moves);
+            long before = state.getHash();
+            state.apply(moves[random.nextInt(count)], engine, table);
+
+            assertEquals(state.computeHash(), state.getHash());
+            assertNotEquals(before, state.getHash());
+            assertTrue(state.copy().sameAs(state));
+        }
+    }
+
+    private static int tileMask(DirectionType... directions) {
+        return new Tile(List.of(directions), TileType.CORNER).getEntranceMask();
+    }
+}
@@ -0,0 +1,34 @@
+package com.uni.gamesever.domain.ai.mcts;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranspositionTableTest {
+
+    @Test
+    void get_shouldReturnStoredValueAndMissOtherwise() {
+        TranspositionTable table = new TranspositionTable(100);
+
+        table.put(0x1234_5678_9ABCL, 42);
+
+        assertEquals(128, table.getCapacity());
+        assertEquals(42, table.get(0x1234_5678_9ABCL));
+        assertEquals(TranspositionTable.MISS, table.get(0x1234_5678_9ABDL));
+        assertEquals(1, table.getHits());
+        assertEquals(1, table.getMisses());
+    }
+
+    @Test
+    void put_shouldReplaceEntryInSameSlot() {
+        TranspositionTable table = new TranspositionTable(4);
+        long first = 1L << 40 | 1;
+        long second = 2L << 40 | 1;
+
+        table.put(first, 1);
+        table.put(second, 2);
+
+        assertEquals(TranspositionTable.MISS, table.get(first), "Die Tabelle ist begrenzt und ersetzt alte Einträge.");
+        assertEquals(2, table.get(second));
+    }
+}
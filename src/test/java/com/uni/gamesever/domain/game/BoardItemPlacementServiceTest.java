@@ -103,4 +103,47 @@ public class BoardItemPlacementServiceTest {
             assertTrue(List.of(BonusType.values()).contains(bonus.getType()));
         }
     }
+
+    @Test
+    void placeTreasures_shouldBeReproducibleWithSameSeed() throws NoExtraTileException {
+        GameBoard first = GameBoard.generateBoard(new BoardSize());
+        GameBoard second = GameBoard.generateBoard(new BoardSize());
+
+        new BoardItemPlacementService(42).placeTreasures(first, boardItemPlacementService.createTreasures(24));
+        new BoardItemPlacementService(42).placeTreasures(second, boardItemPlacementService.createTreasures(24));
+
+        for (int id = 1; id <= 24; id++) {
+            Coordinates a = first.getTreasurePosition(id);
+            Coordinates b = second.getTreasurePosition(id);
+            assertEquals(a.getColumn(), b.getColumn());
+            assertEquals(a.getRow(), b.getRow());
+        }
+    }
+
+    @Test
+    void placeOneBonus_shouldOnlyUseFreeCells() throws NoExtraTileException {
+        BoardSize size = new BoardSize();
+        size.setRows(3);
+        size.setCols(3);
+        GameBoard board = GameBoard.generateBoard(size);
+        boardItemPlacementService.placeTreasures(board, boardItemPlacementService.createTreasures(4));
+
+        for (int i = 0; i < 20; i++) {
+            boardItemPlacementService.placeOneBonus(board, boardItemPlacementService.createRandomBonus());
+        }
+
+        Tile[][] tiles = board.getTiles();
+        int bonuses = 0;
+        for (int row = 0; row < 3; row++) {
+            for (int col = 0; col < 3; col++) {
+                if (tiles[row][col].getBonus() != null) {
+                    bonuses++;
+                    assertNull(tiles[row][col].getTreasure(), "Kein Bonus auf einem Schatzfeld");
+                    assertFalse(row != 1 && col != 1, "Kein Bonus auf einem Startfeld");
+                }
+            }
+        }
+        assertEquals(1, bonuses, "Nur ein freies Feld übrig");
+        assertEquals(1, boardItemPlacementService.countBonusesOnBoard(board));
+    }
 }
@@ -1,12 +1,15 @@
 package com.uni.gamesever.domain.game;
 
+import com.uni.gamesever.domain.ai.ServerAIManager;
 import com.uni.gamesever.domain.enums.BonusType;
 import com.uni.gamesever.domain.enums.DirectionType;
 import com.uni.gamesever.domain.enums.TileType;
+import com.uni.gamesever.domain.events.TurnTimeoutEvent;
 import com.uni.gamesever.domain.exceptions.*;
 import com.uni.gamesever.domain.model.*;
 import com.uni.gamesever.infrastructure.GameTimerManager;
 import com.uni.gamesever.infrastructure.ReconnectTimerManager;
+import com.uni.gamesever.interfaces.Websocket.messages.server.GameStateUpdate;
 import com.uni.gamesever.services.SocketMessageService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -46,6 +49,9 @@ public class GameManagerTest {
     @Mock
     ReconnectTimerManager reconnectTimerManager;
 
+    @Mock
+    ServerAIManager serverAIManager;
+
     @InjectMocks
     GameManager gameManager;
 
@@ -125,6 +131,30 @@ public class GameManagerTest {
         });
     }
 
+    @Test
+    void onTurnTimeout_shouldIgnoreTimeoutOfEndedTurn() {
+        gameManager.getTurnInfo().setState(TurnState.WAITING_FOR_PUSH);
+        gameManager.getTurnInfo().setCurrentPlayerId(player1.getId());
+        gameManager.getTurnInfo().updateTurnEndTime();
+        TurnTimeoutEvent staleTimeout = new TurnTimeoutEvent(player1.getId(), "2026-01-01T00:00:00Z");
+
+        gameManager.onTurnTimeout(staleTimeout);
+
+        verify(playerManager, never()).setNextPlayerAsCurrent();
+    }
+
+    @Test
+    void onTurnTimeout_shouldSkipCurrentTurn() {
+        gameManager.getTurnInfo().setState(TurnState.WAITING_FOR_PUSH);
+        gameManager.getTurnInfo().setCurrentPlayerId(player1.getId());
+        gameManager.getTurnInfo().updateTurnEndTime();
+        TurnTimeoutEvent timeout = new TurnTimeoutEvent(player1.getId(), gameManager.getTurnInfo().getTurnEndTime());
+
+        gameManager.onTurnTimeout(timeout);
+
+        verify(playerManager).setNextPlayerAsCurrent();
+    }
+
     @Test
     void GameManagerTest_isOppositeDirection_shouldReturnTrueForOppositePairs() {
         assertTrue(gameManager.isOppositeDirection(DirectionType.UP, DirectionType.DOWN));
@@ -387,7 +417,7 @@ public class GameManagerTest {
         assertTrue(movedHome);
 
         verify(socketBroadcastService, atLeastOnce()).broadcastMessage(argThat(msg -> msg.contains("GAME_OVER")));
-        verify(socketBroadcastService, atLeastOnce()).broadcastMessage(argThat(msg -> msg.contains("GAME_STATE_UPDATE")));
+        verify(socketBroadcastService, atLeastOnce()).broadcast(any(GameStateUpdate.class));
         verify(socketBroadcastService, atLeastOnce()).broadcastMessage(argThat(msg -> msg.contains("LOBBY_STATE")));
 
         assertEquals(TurnState.NOT_STARTED, gameManager.getTurnInfo().getState());
@@ -0,0 +1,135 @@
+package com.uni.gamesever.domain.game;
+
+import com.uni.gamesever.domain.enums.DirectionType;
+import com.uni.gamesever.domain.model.BoardSize;
+import com.uni.gamesever.domain.model.Coordinates;
+import com.uni.gamesever.domain.model.PlayerInfo;
+import com.uni.gamesever.domain.model.PlayerState;
+import com.uni.gamesever.domain.model.TurnState;
+import com.uni.gamesever.infrastructure.GameEventLogger;
+import com.uni.gamesever.infrastructure.GameJournalStore;
+import com.uni.gamesever.infrastructure.HashedWheelTimer;
+import com.uni.gamesever.infrastructure.ManagedThreads;
+import com.uni.gamesever.interfaces.Websocket.SerializerRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class GameRoomTest {
+
+    @TempDir
+    Path directory;
+
+    ManagedThreads managedThreads;
+    HashedWheelTimer timer;
+    GameJournalStore store;
+
+    @BeforeEach
+    void setUp() {
+        managedThreads = new ManagedThreads(false, 4);
+        timer = new HashedWheelTimer(100, 64);
+        store = new GameJournalStore(managedThreads, true, directory.toString(), 10, 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.shutdown();
+        timer.stop();
+        managedThreads.shutdown();
+    }
+
+    @Test
+    void recover_shouldRebuildTheSameGameFromItsJournal() throws Exception {
+        GameRoom room = newRoom();
+        room.getMailbox().runAndWait(() -> {
+            room.getPlayerManager().addPlayer(player("p1", "Ada"));
+            room.getPlayerManager().addPlayer(player("p2", "Bob"));
+            room.getGameInitializationController().handleStartGameMessage("p1", new BoardSize(), 12, 600, 4);
+
+            GameManager gameManager = room.getGameManager();
+            gameManager.handleRotateTile("p1");
+            gameManager.handlePushTile(1, DirectionType.DOWN, "p1", false);
+            gameManager.handleMovePawn(new Coordinates(0, 0), "p1", false);
+            gameManager.skipTurn();
+            gameManager.handleRotateTile("p1");
+        });
+        String expected = snapshot(room);
+        room.shutdown();
+
+        GameRoom recovered = newRoom();
+        boolean[] running = new boolean[1];
+        recovered.getMailbox().runAndWait(() -> running[0] = recovered.recover(store.read("room-1"), 60));
+        try {
+            assertTrue(running[0]);
+            assertEquals(expected, snapshot(recovered));
+            assertTrue(recovered.getGameManager().isAwaitingResume());
+            assertFalse(recovered.getPlayerManager().getPlayerByIdentifierToken("p2").getIsConnected());
+            assertEquals(TurnState.WAITING_FOR_PUSH, recovered.getGameManager().getTurnInfo().getState());
+
+            // Aktionen nach der Wiederherstellung werden weiter angehängt
+            recovered.getMailbox().runAndWait(() -> recovered.getGameManager().handleRotateTile("p1"));
+            assertEquals(7, store.read("room-1").entries().size());
+        } finally {
+            recovered.shutdown();
+        }
+    }
+
+    @Test
+    void aiTurn_shouldBeDecidedOffTheMailboxAndExecutedThroughIt() throws Exception {
+        GameRoom room = newRoom();
+        try {
+            room.getMailbox().runAndWait(() -> {
+                room.getPlayerManager().addPlayer(player("p1", "Ada"));
+                room.getPlayerManager().addPlayer(player("p2", "Bob"));
+                room.getGameInitializationController().handleStartGameMessage("p1", new BoardSize(), 12, 600, 4);
+                PlayerInfo p1 = room.getPlayerManager().getPlayerById("p1");
+                p1.setIsConnected(false);
+                p1.setIsAiControlled(true);
+                room.getServerAIManager().activateAI("p1");
+                room.getServerAIManager().executeAITurn("p1");
+            });
+
+            String[] currentPlayerId = new String[1];
+            long deadline = System.currentTimeMillis() + 5000;
+            do {
+                Thread.sleep(50);
+                room.getMailbox().runAndWait(
+                        () -> currentPlayerId[0] = room.getPlayerManager().getCurrentPlayer().getId());
+            } while (!"p2".equals(currentPlayerId[0]) && System.currentTimeMillis() < deadline);
+
+            assertEquals("p2", currentPlayerId[0], "Die KI sollte den Zug von p1 vollständig ausführen.");
+        } finally {
+            room.shutdown();
+        }
+    }
+
+    private GameRoom newRoom() {
+        return new GameRoom("room-1", managedThreads, timer, mock(GameEventLogger.class), store);
+    }
+
+    private static PlayerInfo player(String id, String name) {
+        PlayerInfo player = new PlayerInfo(id);
+        player.setName(name);
+        player.setIdentifierToken(id);
+        return player;
+    }
+
+    private static String snapshot(GameRoom room) throws Exception {
+        StringBuilder snapshot = new StringBuilder(
+                SerializerRegistry.toJson(room.getGameManager().getCurrentBoard()));
+        snapshot.append(room.getPlayerManager().getCurrentPlayer().getId());
+        for (PlayerState state : room.getPlayerManager().getNonNullPlayerStates()) {
+            snapshot.append(state.getPlayerInfo().getColor())
+                    .append(state.getCurrentPosition().getColumn()).append(state.getCurrentPosition().getRow())
+                    .append(SerializerRegistry.toJson(state.getCurrentTreasure()))
+                    .append(state.getRemainingTreasureCount());
+        }
+        return snapshot.toString();
+    }
+}
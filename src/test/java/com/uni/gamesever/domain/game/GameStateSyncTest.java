@@ -0,0 +1,77 @@
+package com.uni.gamesever.domain.game;
+
+import com.uni.gamesever.domain.enums.DirectionType;
+import com.uni.gamesever.domain.model.BoardSize;
+import com.uni.gamesever.domain.model.GameBoard;
+import com.uni.gamesever.domain.model.PlayerState;
+import com.uni.gamesever.domain.model.TurnInfo;
+import com.uni.gamesever.domain.model.TurnState;
+import com.uni.gamesever.interfaces.Websocket.messages.server.GameStatePatch;
+import com.uni.gamesever.interfaces.Websocket.messages.server.GameStateUpdate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameStateSyncTest {
+    private GameStateSync gameStateSync;
+    private GameBoard board;
+    private final PlayerState[] players = new PlayerState[0];
+    private final TurnInfo turnInfo = new TurnInfo(null, TurnState.NOT_STARTED);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        gameStateSync = new GameStateSync();
+        board = GameBoard.generateBoard(new BoardSize());
+    }
+
+    @Test
+    void nextVersion_shouldReturnNullWithoutBaseline() {
+        assertNull(gameStateSync.nextVersion(board, players, turnInfo, null));
+        assertEquals(1, gameStateSync.getSequence());
+    }
+
+    @Test
+    void nextVersion_shouldContainOnlyPushedRow() throws Exception {
+        gameStateSync.nextVersion(board, players, turnInfo, null);
+        board.pushTile(1, DirectionType.LEFT, false);
+
+        GameStatePatch patch = gameStateSync.nextVersion(board, players, turnInfo, null);
+
+        assertNotNull(patch);
+        assertEquals(1, patch.getBaseSequence());
+        assertEquals(2, patch.getSequence());
+        assertFalse(patch.getChangedTiles().isEmpty());
+        assertTrue(patch.getChangedTiles().size() <= board.getCols());
+        assertTrue(patch.getChangedTiles().stream().allMatch(change -> change.getRow() == 1));
+    }
+
+    @Test
+    void nextVersion_shouldSendEmptyPatchWhenBoardIsUnchanged() {
+        gameStateSync.nextVersion(board, players, turnInfo, null);
+
+        GameStatePatch patch = gameStateSync.nextVersion(board, players, turnInfo, null);
+
+        assertTrue(patch.getChangedTiles().isEmpty());
+    }
+
+    @Test
+    void snapshot_shouldNotIncreaseSequence() {
+        gameStateSync.nextVersion(board, players, turnInfo, null);
+
+        GameStateUpdate snapshot = gameStateSync.snapshot(board, players, turnInfo, null);
+
+        assertEquals(1L, snapshot.getSequence());
+        assertEquals(1, gameStateSync.getSequence());
+    }
+
+    @Test
+    void discardBaseline_shouldLetNextVersionStartWithFullState() {
+        gameStateSync.nextVersion(board, players, turnInfo, null);
+
+        gameStateSync.discardBaseline();
+
+        assertNull(gameStateSync.nextVersion(board, players, turnInfo, null));
+        assertEquals(2, gameStateSync.getSequence());
+    }
+}
@@ -368,4 +368,25 @@ class PlayerManagerTest {
             assertEquals(0, state.getAchievements().length, "Die Achievements sollten leer sein.");
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("removeNotConnectedPlayers Tests")
+    public class removeNotConnectedPlayers_test {
+        @Test
+        void removeNotConnectedPlayers_shouldRemoveAdjacentDisconnectedPlayers() throws UsernameAlreadyTakenException {
+            playerManager.addPlayer(player1);
+            playerManager.addPlayer(player2);
+            playerManager.addPlayer(player3);
+            player1.setIsConnected(false);
+            player2.setIsConnected(false);
+
+            // WHEN
+            int removed = playerManager.removeNotConnectedPlayers().size();
+
+            // THEN
+            assertEquals(2, removed, "Beide getrennten Spieler sollten entfernt werden.");
+            assertArrayEquals(new PlayerInfo[] { player3 }, playerManager.getNonNullPlayers(),
+                    "Nur der verbundene Spieler sollte übrig bleiben.");
+        }
+    }
+}
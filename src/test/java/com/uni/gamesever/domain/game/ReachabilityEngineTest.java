@@ -0,0 +1,70 @@
+package com.uni.gamesever.domain.game;
+
+import com.uni.gamesever.domain.enums.DirectionType;
+import com.uni.gamesever.domain.enums.TileType;
+import com.uni.gamesever.domain.model.BoardSize;
+import com.uni.gamesever.domain.model.GameBoard;
+import com.uni.gamesever.domain.model.Tile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReachabilityEngineTest {
+    private ReachabilityEngine engine;
+    private GameBoard board;
+
+    @BeforeEach
+    void setUp() {
+        engine = new ReachabilityEngine();
+        board = new GameBoard(new BoardSize());
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                board.setTile(r, c, new Tile(List.of(DirectionType.UP, DirectionType.DOWN), TileType.STRAIGHT));
+            }
+        }
+    }
+
+    @Test
+    void search_shouldReturnDistancesAlongPath() {
+        board.setTile(0, 0, new Tile(List.of(DirectionType.RIGHT), TileType.STRAIGHT));
+        board.setTile(0, 1, new Tile(List.of(DirectionType.LEFT, DirectionType.DOWN), TileType.CORNER));
+
+        int count = engine.search(board, 0, 0);
+
+        int cols = board.getCols();
+        assertEquals(0, engine.getDistance(0));
+        assertEquals(1, engine.getDistance(1));
+        assertEquals(2, engine.getDistance(cols + 1));
+        assertEquals(board.getRows() + 1, count);
+        assertEquals(ReachabilityEngine.UNREACHABLE, engine.getDistance(cols));
+    }
+
+    @Test
+    void search_shouldResetResultsBetweenSearches() {
+        engine.search(board, 0, 0);
+        assertTrue(engine.isReachable(board.getCols()));
+
+        engine.search(board, 0, 1);
+
+        assertFalse(engine.isReachable(board.getCols()), "Ergebnisse der vorherigen Suche dürfen nicht übrig bleiben.");
+        assertFalse(ReachabilityEngine.containsCell(engine.getReachableCells(), 0));
+        assertTrue(engine.isReachable(board.getCols() + 1));
+    }
+
+    @Test
+    void search_shouldNotEnterBlockedCells() {
+        Tile[][] tiles = board.getTiles();
+        int cols = board.getCols();
+        long[] blocked = new long[ReachabilityEngine.bitsetLength(board.getRows() * cols)];
+        ReachabilityEngine.addCell(blocked, 2 * cols);
+
+        engine.search(tiles, 0, 0, blocked);
+
+        assertTrue(engine.isReachable(cols));
+        assertFalse(engine.isReachable(2 * cols));
+        assertFalse(engine.isReachable(3 * cols), "Felder hinter einem gesperrten Feld sind nicht erreichbar.");
+    }
+}
@@ -0,0 +1,245 @@
+package com.uni.gamesever.domain.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.uni.gamesever.domain.enums.DirectionType;
+import com.uni.gamesever.domain.enums.TileType;
+import com.uni.gamesever.domain.game.ReachabilityEngine;
+import com.uni.gamesever.interfaces.Websocket.ObjectMapperSingleton;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameBoardTest {
+    private GameBoard board;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        board = GameBoard.generateBoard(new BoardSize());
+    }
+
+    private void assertMasksMatchTiles() {
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                Tile tile = board.getTiles()[r][c];
+                int expected = tile != null ? tile.getEntranceMask() : 0;
+                assertEquals(expected, board.getEntranceMask(r, c), "Maske bei (" + r + "," + c + ") ist veraltet.");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Tile Tests")
+    class Tile_test {
+        @Test
+        void rotateClockwise_shouldRotateAllEntrances() {
+            Tile tile = new Tile(List.of(DirectionType.UP, DirectionType.RIGHT, DirectionType.LEFT), TileType.CROSS);
+
+            tile.rotateClockwise();
+
+            assertEquals(List.of(DirectionType.UP, DirectionType.RIGHT, DirectionType.DOWN), tile.getEntrances());
+        }
+
+        @Test
+        void rotateClockwise_fourTimesShouldRestoreEntrances() {
+            Tile tile = new Tile(List.of(DirectionType.LEFT, DirectionType.DOWN), TileType.CORNER);
+            int before = tile.getEntranceMask();
+
+            for (int i = 0; i < 4; i++) {
+                tile.rotateClockwise();
+            }
+
+            assertEquals(before, tile.getEntranceMask());
+        }
+
+        @Test
+        void serialization_shouldKeepEntrancesAndHideMask() throws Exception {
+            Tile tile = new Tile(List.of(DirectionType.DOWN, DirectionType.UP), TileType.STRAIGHT);
+
+            JsonNode json = ObjectMapperSingleton.getInstance().valueToTree(tile);
+
+            assertEquals("UP", json.get("entrances").get(0).asText());
+            assertEquals("DOWN", json.get("entrances").get(1).asText());
+            assertFalse(json.has("entranceMask"));
+        }
+    }
+
+    @Nested
+    @DisplayName("pushTile Tests")
+    class pushTile_test {
+        @Test
+        void pushTile_shouldKeepMasksInSyncForAllDirections() throws Exception {
+            board.pushTile(1, DirectionType.UP, false);
+            assertMasksMatchTiles();
+            board.pushTile(1, DirectionType.DOWN, false);
+            assertMasksMatchTiles();
+            board.pushTile(1, DirectionType.LEFT, false);
+            assertMasksMatchTiles();
+            board.getSpareTile().rotateClockwise();
+            board.pushTile(1, DirectionType.RIGHT, false);
+            assertMasksMatchTiles();
+        }
+
+        @Test
+        void hasOpenPassage_shouldRequireEntrancesOnBothSides() {
+            board.setTile(0, 0, new Tile(List.of(DirectionType.RIGHT, DirectionType.DOWN), TileType.CORNER));
+            board.setTile(0, 1, new Tile(List.of(DirectionType.LEFT, DirectionType.RIGHT), TileType.STRAIGHT));
+            board.setTile(1, 0, new Tile(List.of(DirectionType.LEFT, DirectionType.RIGHT), TileType.STRAIGHT));
+
+            assertTrue(board.hasOpenPassage(0, 0, 1), "RIGHT sollte offen sein.");
+            assertFalse(board.hasOpenPassage(0, 0, 2), "DOWN sollte am Nachbarn blockiert sein.");
+            assertFalse(board.hasOpenPassage(0, 0, 0), "UP führt aus dem Brett heraus.");
+        }
+    }
+
+    @Nested
+    @DisplayName("isConnected Tests")
+    class isConnected_test {
+        private void assertConnectivityMatchesSearch(ReachabilityEngine engine) {
+            int cols = board.getCols();
+            for (int from = 0; from < board.getRows() * cols; from++) {
+                engine.search(board, from / cols, from % cols);
+                for (int to = 0; to < board.getRows() * cols; to++) {
+                    assertEquals(engine.isReachable(to), board.isConnected(from / cols, from % cols, to / cols, to % cols),
+                            "Zusammenhang von " + from + " nach " + to + " weicht von der Breitensuche ab.");
+                }
+            }
+        }
+
+        @Test
+        void isConnected_shouldMatchSearchAfterRandomPushes() throws Exception {
+            ReachabilityEngine engine = new ReachabilityEngine();
+            Random random = new Random(42);
+            DirectionType[] directions = { DirectionType.UP, DirectionType.DOWN, DirectionType.LEFT, DirectionType.RIGHT };
+            assertConnectivityMatchesSearch(engine);
+
+            for (int i = 0; i < 50; i++) {
+                int index = 1 + 2 * random.nextInt(board.getRows() / 2);
+                board.getSpareTile().rotateClockwise();
+                board.pushTile(index, directions[random.nextInt(directions.length)], false);
+                assertConnectivityMatchesSearch(engine);
+            }
+        }
+
+        @Test
+        void isConnected_shouldRefreshAfterSetTile() {
+            board.setTile(0, 0, new Tile(List.of(DirectionType.RIGHT), TileType.STRAIGHT));
+            board.setTile(0, 1, new Tile(List.of(DirectionType.LEFT), TileType.STRAIGHT));
+            assertTrue(board.isConnected(0, 0, 0, 1));
+
+            board.setTile(0, 1, new Tile(List.of(DirectionType.UP, DirectionType.DOWN), TileType.STRAIGHT));
+
+            assertFalse(board.isConnected(0, 0, 0, 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("DistanceFields Tests")
+    class distanceFields_test {
+        @Test
+        void distances_shouldMatchConnectivityAfterRandomPushes() throws Exception {
+            Random random = new Random(7);
+            DirectionType[] directions = { DirectionType.UP, DirectionType.DOWN, DirectionType.LEFT, DirectionType.RIGHT };
+            int cols = board.getCols();
+
+            for (int i = 0; i < 20; i++) {
+                board.pushTile(1 + 2 * random.nextInt(board.getRows() / 2), directions[random.nextInt(4)], false);
+                int[] path = board.getDistanceFields().pathDistances(board.getTiles(), 3, 3);
+                int[] pushes = board.getDistanceFields().pushDistances(board.getTiles(), 3, 3);
+                for (int cell = 0; cell < board.getRows() * cols; cell++) {
+                    boolean connected = board.isConnected(cell / cols, cell % cols, 3, 3);
+                    assertEquals(connected, path[cell] != DistanceFields.UNREACHABLE);
+                    assertEquals(connected, pushes[cell] == 0);
+                }
+            }
+        }
+
+        @Test
+        void pathDistances_shouldCountStepsAndRefreshAfterBoardChange() throws Exception {
+            board.setTile(0, 0, new Tile(List.of(DirectionType.RIGHT), TileType.STRAIGHT));
+            board.setTile(0, 1, new Tile(List.of(DirectionType.LEFT, DirectionType.RIGHT), TileType.STRAIGHT));
+            board.setTile(0, 2, new Tile(List.of(DirectionType.LEFT), TileType.STRAIGHT));
+            DistanceFields fields = board.getDistanceFields();
+
+            int[] path = fields.pathDistances(board.getTiles(), 0, 2);
+
+            assertEquals(2, path[0]);
+            assertSame(path, fields.pathDistances(board.getTiles(), 0, 2), "Ohne Änderung aus dem Zwischenspeicher");
+
+            board.pushTile(1, DirectionType.DOWN, false);
+
+            assertNotSame(path, fields.pathDistances(board.getTiles(), 0, 2));
+        }
+    }
+
+    @Nested
+    @DisplayName("BoardItemIndex Tests")
+    class itemIndex_test {
+        private void assertIndexMatchesScan(int treasureCount) {
+            int bonuses = 0;
+            for (int r = 0; r < board.getRows(); r++) {
+                for (int c = 0; c < board.getCols(); c++) {
+                    Tile tile = board.getTiles()[r][c];
+                    if (tile.getBonus() != null) {
+                        bonuses++;
+                    }
+                    assertEquals(tile.getBonus() != null, board.getItemIndex().hasBonus(r * board.getCols() + c));
+                    if (tile.getTreasure() != null) {
+                        Coordinates position = board.getTreasurePosition(tile.getTreasure().getId());
+                        assertEquals(c, position.getColumn());
+                        assertEquals(r, position.getRow());
+                    }
+                }
+            }
+            assertEquals(bonuses, board.getBonusCountOnBoard());
+            Treasure spareTreasure = board.getSpareTile().getTreasure();
+            for (int id = 1; id <= treasureCount; id++) {
+                if (spareTreasure != null && spareTreasure.getId() == id) {
+                    assertNull(board.getTreasurePosition(id), "Schatz auf der Ersatzkachel hat keine Position");
+                    assertEquals(board.getItemIndex().getSpareCell(), board.getItemIndex().getTreasureCell(id));
+                }
+            }
+        }
+
+        @Test
+        void index_shouldMatchScanAfterRandomPushesAndRemovals() throws Exception {
+            Random random = new Random(11);
+            DirectionType[] directions = { DirectionType.UP, DirectionType.DOWN, DirectionType.LEFT, DirectionType.RIGHT };
+            for (int id = 1; id <= 12; id++) {
+                board.placeTreasure(id / board.getCols(), id % board.getCols(), new Treasure(id, "Schatz " + id));
+            }
+            board.placeBonus(3, 3, new Bonus());
+            board.placeBonus(1, 5, new Bonus());
+            assertEquals(2, board.getBonusCountOnBoard());
+
+            for (int i = 0; i < 40; i++) {
+                board.pushTile(1 + 2 * random.nextInt(board.getRows() / 2), directions[random.nextInt(4)], false);
+                if (i % 10 == 9) {
+                    Coordinates bonusCell = new Coordinates(random.nextInt(board.getCols()), random.nextInt(board.getRows()));
+                    board.removeBonusFromTile(bonusCell);
+                    board.removeTreasureFromTile(bonusCell);
+                }
+                assertIndexMatchesScan(12);
+            }
+        }
+
+        @Test
+        void setSpareTile_shouldMoveTreasureOffTheBoard() throws Exception {
+            Tile spare = board.getSpareTile();
+            spare.setTreasure(new Treasure(5, "Schatz 5"));
+            board.setSpareTile(spare);
+            assertNull(board.getTreasurePosition(5));
+
+            board.pushTile(1, DirectionType.RIGHT, false);
+
+            Coordinates position = board.getTreasurePosition(5);
+            assertEquals(0, position.getColumn());
+            assertEquals(1, position.getRow());
+        }
+    }
+}
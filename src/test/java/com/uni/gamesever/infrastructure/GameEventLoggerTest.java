@@ -0,0 +1,55 @@
+package com.uni.gamesever.infrastructure;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventLoggerTest {
+
+    @Test
+    void format_shouldWriteJsonLineWithLatencyInMicros() {
+        StringBuilder line = new StringBuilder();
+
+        GameEventLogger.format(line, 0, GameEventLogger.Category.MESSAGE, "PUSH_TILE", "room-1", "say \"hi\"",
+                TimeUnit.MICROSECONDS.toNanos(1500));
+
+        assertEquals("{\"ts\":\"1970-01-01T00:00:00Z\",\"cat\":\"MESSAGE\",\"type\":\"PUSH_TILE\","
+                + "\"room\":\"room-1\",\"player\":\"say \\\"hi\\\"\",\"latencyUs\":1500}", line.toString());
+    }
+
+    @Test
+    void record_shouldWriteEverySampledEventOnWriterThread() throws InterruptedException {
+        GameEventLogger logger = new GameEventLogger(ManagedThreads.platformThreadFactory("test-event-writer-"), 64,
+                2, 0);
+        try {
+            for (int i = 0; i < 10; i++) {
+                logger.record(GameEventLogger.Category.MESSAGE, "MOVE_PAWN", "room-1", "p1", 10);
+                logger.record(GameEventLogger.Category.AI, "AI_DECISION", "room-1", "p1", 10);
+            }
+
+            long deadline = System.currentTimeMillis() + 2000;
+            while (logger.getWrittenEvents() < 5 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(5, logger.getWrittenEvents(), "Jede zweite Nachricht, keine KI-Ereignisse");
+        } finally {
+            logger.shutdown();
+        }
+    }
+
+    @Test
+    void record_shouldDropInsteadOfBlockingWhenBufferIsFull() {
+        // Schreib-Thread, der nie liest
+        GameEventLogger logger = new GameEventLogger(runnable -> new Thread(() -> {
+        }), 2, 1, 1);
+
+        for (int i = 0; i < 5; i++) {
+            logger.record(GameEventLogger.Category.AI, "AI_DECISION", "room-1", "p1", GameEventLogger.NO_LATENCY);
+        }
+
+        assertEquals(3, logger.getDroppedEvents());
+        assertEquals(0, logger.getWrittenEvents());
+    }
+}
@@ -0,0 +1,149 @@
+package com.uni.gamesever.infrastructure;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.uni.gamesever.domain.enums.Color;
+import com.uni.gamesever.domain.enums.DirectionType;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameJournalTest {
+
+    @TempDir
+    Path directory;
+
+    GameJournalStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new GameJournalStore(ManagedThreads.platformThreadFactory("test-journal-flusher-"), true, directory,
+                10, 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.shutdown();
+    }
+
+    @Test
+    void recordedActions_shouldBeReadBackInOrder() throws Exception {
+        GameJournal journal = store.journalFor("room-1");
+        journal.recordStart(start());
+        journal.record(GameJournal.Type.ROTATE);
+        journal.recordPush(3, DirectionType.LEFT, false);
+        journal.recordMove(2, 5, false);
+        journal.recordSwap("p2");
+        journal.record(GameJournal.Type.TURN_TIMEOUT);
+        journal.close();
+
+        assertEquals(List.of("room-1"), store.findJournaledRoomIds());
+        List<GameJournal.Entry> entries = store.read("room-1").entries();
+
+        assertEquals(6, entries.size());
+        GameJournal.Start start = entries.get(0).start();
+        assertEquals(42L, start.seed());
+        assertEquals("Zoë", start.players().get(1).name());
+        assertEquals(Color.BLUE, start.players().get(1).color());
+        assertTrue(start.players().get(0).admin());
+        assertEquals(GameJournal.Type.ROTATE, entries.get(1).type());
+        assertEquals(3, entries.get(2).index());
+        assertEquals(DirectionType.LEFT, entries.get(2).direction());
+        assertEquals(2, entries.get(3).column());
+        assertEquals(5, entries.get(3).row());
+        assertEquals("p2", entries.get(4).identifierToken());
+        assertEquals(GameJournal.Type.TURN_TIMEOUT, entries.get(5).type());
+    }
+
+    @Test
+    void tornRecord_shouldBeIgnoredAndOverwrittenAfterResume() throws Exception {
+        GameJournal journal = store.journalFor("room-1");
+        journal.recordStart(start());
+        journal.recordPush(1, DirectionType.DOWN, false);
+        journal.close();
+        int validLength = store.read("room-1").validLength();
+
+        // halb geschriebener Satz: Länge steht, Prüfsumme passt nicht
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve("room-1.journal").toFile(), "rw")) {
+            file.seek(validLength);
+            file.writeInt(6);
+            file.writeInt(12345);
+            file.write(new byte[] { 1, 0, 0, 0, 7, 2 });
+        }
+        GameJournal.Recording recording = store.read("room-1");
+        assertEquals(2, recording.entries().size());
+        assertEquals(validLength, recording.validLength());
+
+        GameJournal resumed = store.journalFor("room-1");
+        resumed.beginReplay();
+        resumed.recordPush(9, DirectionType.UP, false);
+        resumed.resume(recording.validLength());
+        resumed.record(GameJournal.Type.ROTATE);
+        resumed.close();
+
+        List<GameJournal.Entry> entries = store.read("room-1").entries();
+        assertEquals(3, entries.size(), "Während der Wiederherstellung wird nichts geschrieben");
+        assertEquals(GameJournal.Type.ROTATE, entries.get(2).type());
+    }
+
+    @Test
+    void quarantine_shouldKeepFileButHideItFromRecovery() throws Exception {
+        GameJournal journal = store.journalFor("room-1");
+        journal.recordStart(start());
+        journal.close();
+
+        store.quarantine("room-1");
+
+        assertEquals(List.of(), store.findJournaledRoomIds());
+        try (Stream<Path> files = Files.list(directory)) {
+            assertTrue(files.anyMatch(file -> file.getFileName().toString()
+                    .startsWith("room-1" + GameJournalStore.SUFFIX + GameJournalStore.QUARANTINE_SUFFIX)));
+        }
+    }
+
+    @Test
+    void recordStart_shouldKeepLongPlayerNamesAndShortenOversizedOnes() throws Exception {
+        String longName = "ä".repeat(600);
+        String oversizedName = "ö".repeat(40_000);
+        GameJournal journal = store.journalFor("room-1");
+        journal.recordStart(new GameJournal.Start(7, 7, 24, 600, 2, 42L, "2026-01-01T12:00:00Z", List.of(
+                new GameJournal.StartPlayer("p1", "p1", longName, Color.RED, true),
+                new GameJournal.StartPlayer("p2", "p2", longName, Color.BLUE, false),
+                new GameJournal.StartPlayer("p3", "p3", oversizedName, Color.GREEN, false))));
+        journal.record(GameJournal.Type.ROTATE);
+        journal.close();
+
+        List<GameJournal.Entry> entries = store.read("room-1").entries();
+
+        assertEquals(2, entries.size());
+        List<GameJournal.StartPlayer> players = entries.get(0).start().players();
+        assertEquals(longName, players.get(1).name());
+        assertEquals(Color.GREEN, players.get(2).color());
+        assertEquals("ö".repeat(GameJournal.MAX_STRING_BYTES / 2), players.get(2).name());
+    }
+
+    @Test
+    void finish_shouldDeleteJournal() throws Exception {
+        GameJournal journal = store.journalFor("room-1");
+        journal.recordStart(start());
+        journal.finish();
+
+        assertFalse(Files.exists(directory.resolve("room-1.journal")));
+        journal.record(GameJournal.Type.ROTATE);
+        assertFalse(Files.exists(directory.resolve("room-1.journal")), "Nach dem Spielende wird nicht geschrieben");
+    }
+
+    private static GameJournal.Start start() {
+        return new GameJournal.Start(7, 7, 24, 600, 2, 42L, "2026-01-01T12:00:00Z", List.of(
+                new GameJournal.StartPlayer("p1", "p1", "Ada", Color.RED, true),
+                new GameJournal.StartPlayer("p2", "p2", "Zoë", Color.BLUE, false)));
+    }
+}
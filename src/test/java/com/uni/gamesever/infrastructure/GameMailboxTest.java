@@ -0,0 +1,87 @@
+package com.uni.gamesever.infrastructure;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameMailboxTest {
+
+    private GameMailbox mailbox;
+
+    @BeforeEach
+    void setUp() {
+        mailbox = new GameMailbox("test");
+    }
+
+    @AfterEach
+    void tearDown() {
+        mailbox.shutdown();
+    }
+
+    @Test
+    void post_shouldExecuteCommandsInOrderOnMailboxThread() throws Exception {
+        List<Integer> executed = new ArrayList<>();
+        List<Boolean> onMailboxThread = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            int value = i;
+            mailbox.post(() -> {
+                executed.add(value);
+                onMailboxThread.add(mailbox.isMailboxThread());
+            });
+        }
+        mailbox.runAndWait(() -> {
+        });
+
+        assertEquals(100, executed.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, executed.get(i));
+        }
+        assertFalse(onMailboxThread.contains(false));
+        assertFalse(mailbox.isMailboxThread());
+    }
+
+    @Test
+    void post_shouldKeepRunningAfterFailingCommand() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        mailbox.post(() -> {
+            throw new IllegalStateException("Simulierter Fehler");
+        });
+        mailbox.post(latch::countDown);
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void runAndWait_shouldPropagateCommandException() {
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+                () -> mailbox.runAndWait(() -> {
+                    throw new IllegalArgumentException("Ungültig");
+                }));
+
+        assertEquals("Ungültig", thrown.getMessage());
+    }
+
+    @Test
+    void runAndWait_shouldRunInlineWhenCalledFromMailboxThread() throws Exception {
+        List<String> executed = new ArrayList<>();
+
+        mailbox.runAndWait(() -> mailbox.runAndWait(() -> executed.add("inner")));
+
+        assertEquals(List.of("inner"), executed);
+    }
+
+    @Test
+    void post_shouldIgnoreCommandsAfterShutdown() {
+        mailbox.shutdown();
+
+        assertDoesNotThrow(() -> mailbox.post(() -> fail("Darf nicht ausgeführt werden")));
+    }
+}
@@ -0,0 +1,65 @@
+package com.uni.gamesever.infrastructure;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedWheelTimerTest {
+    private HashedWheelTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        // Kleines Rad, damit längere Timeouts mehrere Umdrehungen brauchen
+        timer = new HashedWheelTimer(10, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timer.stop();
+    }
+
+    @Test
+    void newTimeout_shouldFireAfterDelay() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        HashedWheelTimer.Timeout timeout = timer.newTimeout(fired::countDown, 150, TimeUnit.MILLISECONDS);
+
+        assertTrue(fired.await(2, TimeUnit.SECONDS), "Der Timeout wurde nicht ausgelöst.");
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 150, "Der Timeout kam zu früh.");
+        assertTrue(timeout.isExpired());
+        assertEquals(1, timer.getFiredTimeouts());
+        assertEquals(0, timer.getPendingTimeouts());
+    }
+
+    @Test
+    void cancel_shouldPreventFiring() throws InterruptedException {
+        AtomicBoolean fired = new AtomicBoolean(false);
+        HashedWheelTimer.Timeout timeout = timer.newTimeout(() -> fired.set(true), 50, TimeUnit.MILLISECONDS);
+
+        assertTrue(timeout.cancel());
+        assertEquals(0, timer.getPendingTimeouts());
+        Thread.sleep(150);
+
+        assertFalse(fired.get());
+        assertTrue(timeout.isCancelled());
+        assertFalse(timeout.cancel(), "Ein abgebrochener Timeout kann nicht erneut abgebrochen werden.");
+    }
+
+    @Test
+    void newTimeout_shouldKeepRunningAfterFailingTask() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        timer.newTimeout(() -> {
+            throw new IllegalStateException("Simulierter Fehler");
+        }, 10, TimeUnit.MILLISECONDS);
+        timer.newTimeout(fired::countDown, 30, TimeUnit.MILLISECONDS);
+
+        assertTrue(fired.await(2, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,75 @@
+package com.uni.gamesever.infrastructure;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ManagedThreadsTest {
+    private ManagedThreads managedThreads;
+
+    @AfterEach
+    void tearDown() {
+        if (managedThreads != null) {
+            managedThreads.shutdown();
+        }
+    }
+
+    @Test
+    void newThreadFactory_shouldNameThreadsWithPrefix() {
+        managedThreads = new ManagedThreads(false, 4);
+
+        Thread thread = managedThreads.newThreadFactory("test-worker-").newThread(() -> {
+        });
+
+        assertEquals("test-worker-0", thread.getName());
+        assertTrue(thread.isDaemon());
+    }
+
+    @Test
+    void constructor_shouldOnlyUseVirtualThreadsWhenSupported() {
+        managedThreads = new ManagedThreads(true, 4);
+
+        assertEquals(ManagedThreads.isVirtualThreadSupported(), managedThreads.isVirtualThreads());
+    }
+
+    @Test
+    void shutdown_shouldStopManagedExecutors() throws Exception {
+        managedThreads = new ManagedThreads(false, 4);
+        ExecutorService executor = managedThreads.newExecutor("test-executor-");
+        CompletableFuture<String> threadName = new CompletableFuture<>();
+        executor.execute(() -> threadName.complete(Thread.currentThread().getName()));
+        assertEquals("test-executor-0", threadName.get(1, TimeUnit.SECONDS));
+
+        managedThreads.shutdown();
+
+        assertTrue(executor.isShutdown());
+    }
+
+    @Test
+    void getPonderPool_shouldRunSmallerAndWithLowPriority() throws Exception {
+        managedThreads = new ManagedThreads(false, 4);
+
+        Thread ponderThread = managedThreads.getPonderPool().submit(Thread::currentThread).get(1, TimeUnit.SECONDS);
+
+        assertTrue(ponderThread.getName().startsWith("ai-ponder-"));
+        assertEquals(Thread.MIN_PRIORITY, ponderThread.getPriority());
+        assertTrue(managedThreads.getPonderPool().getParallelism() <= managedThreads.getSearchPool().getParallelism());
+
+        managedThreads.shutdown();
+
+        assertTrue(managedThreads.getPonderPool().isShutdown());
+        assertTrue(managedThreads.getSearchPool().isShutdown());
+    }
+
+    @Test
+    void getAiTurnPermits_shouldBeBoundedByConfiguration() {
+        managedThreads = new ManagedThreads(false, 2);
+
+        assertEquals(2, managedThreads.getAiTurnPermits().availablePermits());
+    }
+}
@@ -0,0 +1,74 @@
+package com.uni.gamesever.infrastructure;
+
+import org.apache.tomcat.websocket.MessagePart;
+import org.apache.tomcat.websocket.Transformation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ThresholdDeflateTransformationTest {
+    private static final byte OPCODE_TEXT = 1;
+    private static final byte OPCODE_PING = 9;
+    private static final int RSV1 = 0x04;
+
+    private CompressionMetrics metrics;
+    private Transformation transformation;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new CompressionMetrics();
+        transformation = ThresholdDeflateTransformation.builder(64, metrics)
+                .build(Collections.singletonList(Collections.emptyList()), true);
+    }
+
+    @Test
+    void sendMessagePart_shouldSendSmallMessagesUncompressed() throws Exception {
+        MessagePart part = mockPart(OPCODE_TEXT, true, "{\"type\":\"ACK\"}");
+
+        List<MessagePart> sent = transformation.sendMessagePart(List.of(part));
+
+        assertEquals(List.of(part), sent);
+        assertEquals(1, metrics.getUncompressedMessages());
+        assertEquals(0, metrics.getCompressedMessages());
+    }
+
+    @Test
+    void sendMessagePart_shouldCompressMessagesAboveThreshold() throws Exception {
+        String json = "{\"tiles\":[" + "{\"treasure\":null,\"bonus\":null,\"isFixed\":false},".repeat(40) + "]}";
+        MessagePart part = mockPart(OPCODE_TEXT, true, json);
+
+        List<MessagePart> sent = transformation.sendMessagePart(List.of(part));
+
+        int sentBytes = sent.stream().mapToInt(p -> p.getPayload().remaining()).sum();
+        assertEquals(RSV1, sent.get(0).getRsv() & RSV1, "Komprimierte Nachrichten tragen RSV1");
+        assertTrue(sentBytes < json.length() / 4, "Gesendet " + sentBytes + " von " + json.length() + " Bytes");
+        assertEquals(1, metrics.getCompressedMessages());
+        assertEquals(json.length(), metrics.getBytesBeforeCompression());
+        assertEquals(sentBytes, metrics.getBytesAfterCompression());
+        assertTrue(metrics.getCompressionRatio() < 0.25);
+    }
+
+    @Test
+    void sendMessagePart_shouldPassControlFramesThroughWithoutCounting() throws Exception {
+        MessagePart ping = mockPart(OPCODE_PING, true, "x".repeat(100));
+
+        assertEquals(List.of(ping), transformation.sendMessagePart(List.of(ping)));
+        assertEquals(0, metrics.getCompressedMessages() + metrics.getUncompressedMessages());
+    }
+
+    private static MessagePart mockPart(byte opCode, boolean fin, String payload) {
+        MessagePart part = mock(MessagePart.class);
+        ByteBuffer buffer = ByteBuffer.wrap(payload.getBytes(StandardCharsets.UTF_8));
+        when(part.getOpCode()).thenReturn(opCode);
+        when(part.isFin()).thenReturn(fin);
+        when(part.getPayload()).thenReturn(buffer);
+        return part;
+    }
+}
@@ -0,0 +1,92 @@
+package com.uni.gamesever.interfaces.Websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.uni.gamesever.domain.enums.DirectionType;
+import com.uni.gamesever.domain.model.BoardSize;
+import com.uni.gamesever.domain.model.GameBoard;
+import com.uni.gamesever.domain.model.PlayerInfo;
+import com.uni.gamesever.domain.model.PlayerState;
+import com.uni.gamesever.domain.model.Coordinates;
+import com.uni.gamesever.domain.model.Tile;
+import com.uni.gamesever.domain.model.TurnInfo;
+import com.uni.gamesever.domain.model.TurnState;
+import com.uni.gamesever.interfaces.Websocket.messages.client.Message;
+import com.uni.gamesever.interfaces.Websocket.messages.client.MovePawnRequest;
+import com.uni.gamesever.interfaces.Websocket.messages.client.PushTileRequest;
+import com.uni.gamesever.interfaces.Websocket.messages.server.GameStateUpdate;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryProtocolTest {
+    private final ObjectMapper objectMapper = ObjectMapperSingleton.getInstance();
+    private final ObjectReader messageReader = objectMapper.readerFor(Message.class);
+
+    @Test
+    void gameStateUpdate_shouldPackTilesIntoSingleBytesAndBeSmallerThanJson() throws Exception {
+        GameBoard board = GameBoard.generateBoard(new BoardSize());
+        PlayerInfo info = new PlayerInfo("p1");
+        info.setName("Alice");
+        PlayerState player = new PlayerState(info, new Coordinates(0, 0), new Coordinates(0, 0), null, 3);
+        GameStateUpdate update = new GameStateUpdate(board, new PlayerState[] { player },
+                new TurnInfo("p1", TurnState.WAITING_FOR_PUSH), "2026-01-01T00:00:00Z");
+
+        byte[] binary = BinaryProtocol.encode(update);
+        byte[] json = objectMapper.writeValueAsBytes(update);
+
+        assertEquals(BinaryProtocol.TAG_GAME_STATE_UPDATE, binary[0]);
+        assertEquals(0, binary[1], "Ohne Sequenznummer");
+        assertEquals(7, binary[2]);
+        assertEquals(7, binary[3]);
+        Tile corner = board.getTiles()[0][0];
+        assertEquals(corner.getEntranceMask() | BinaryProtocol.TILE_FIXED, binary[4]);
+        assertTrue(binary.length * 5 < json.length, "Binär " + binary.length + " B, JSON " + json.length + " B");
+    }
+
+    @Test
+    void decodeClientMessage_shouldReadCompactCommands() throws Exception {
+        Message push = BinaryProtocol.decodeClientMessage(ByteBuffer.wrap(new byte[] {
+                BinaryProtocol.TAG_PUSH_TILE, 3, (byte) (DirectionType.LEFT.ordinal() + 1) }), messageReader);
+        Message move = BinaryProtocol.decodeClientMessage(ByteBuffer.wrap(new byte[] {
+                BinaryProtocol.TAG_MOVE_PAWN, 3, 6 }), messageReader);
+
+        PushTileRequest pushRequest = assertInstanceOf(PushTileRequest.class, push);
+        assertEquals(3, pushRequest.getRowOrColIndex());
+        assertEquals(DirectionType.LEFT, pushRequest.getDirection());
+        MovePawnRequest moveRequest = assertInstanceOf(MovePawnRequest.class, move);
+        assertEquals(2, moveRequest.getTargetCoordinates().getColumn());
+        assertEquals(5, moveRequest.getTargetCoordinates().getRow());
+    }
+
+    @Test
+    void decodeClientMessage_shouldAcceptJsonAndRejectTruncatedFrames() throws Exception {
+        byte[] json = BinaryProtocol.wrapJson("{\"type\":\"ROTATE_TILE\"}".getBytes());
+
+        assertEquals("ROTATE_TILE", BinaryProtocol.decodeClientMessage(ByteBuffer.wrap(json), messageReader).getType());
+        assertThrows(IllegalArgumentException.class, () -> BinaryProtocol.decodeClientMessage(
+                ByteBuffer.wrap(new byte[] { BinaryProtocol.TAG_PUSH_TILE, 3 }), messageReader));
+    }
+
+    @Test
+    void decodeClientMessage_shouldRejectMissingTargetAndTrailingBytes() {
+        assertThrows(IllegalArgumentException.class, () -> BinaryProtocol.decodeClientMessage(
+                ByteBuffer.wrap(new byte[] { BinaryProtocol.TAG_MOVE_PAWN, 0, 0 }), messageReader));
+        assertThrows(IllegalArgumentException.class, () -> BinaryProtocol.decodeClientMessage(
+                ByteBuffer.wrap(new byte[] { BinaryProtocol.TAG_MOVE_PAWN, 3, 6, 1 }), messageReader));
+        assertThrows(IllegalArgumentException.class, () -> BinaryProtocol.decodeClientMessage(
+                ByteBuffer.wrap(new byte[] { BinaryProtocol.TAG_ROTATE_TILE, 0 }), messageReader));
+    }
+
+    @Test
+    void decodeClientMessage_shouldRejectPushIndexBeyondIntRange() {
+        // 2^32 + 3 würde abgeschnitten als Index 3 durchgehen
+        byte[] frame = { BinaryProtocol.TAG_PUSH_TILE, (byte) 0x83, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x10,
+                (byte) (DirectionType.LEFT.ordinal() + 1) };
+
+        assertThrows(IllegalArgumentException.class,
+                () -> BinaryProtocol.decodeClientMessage(ByteBuffer.wrap(frame), messageReader));
+    }
+}
@@ -0,0 +1,83 @@
+package com.uni.gamesever.interfaces.Websocket;
+
+import com.uni.gamesever.domain.enums.DirectionType;
+import com.uni.gamesever.domain.game.GameManager;
+import com.uni.gamesever.domain.game.GameRoom;
+import com.uni.gamesever.domain.game.GameRoomRegistry;
+import com.uni.gamesever.domain.model.TurnInfo;
+import com.uni.gamesever.domain.model.TurnState;
+import com.uni.gamesever.infrastructure.GameEventLogger;
+import com.uni.gamesever.infrastructure.GameMailbox;
+import com.uni.gamesever.services.SocketMessageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MessageHandlerTest {
+    private static final String SESSION_ID = "SESSION_XYZ";
+
+    @Mock
+    private SocketMessageService socketMessageService;
+    @Mock
+    private GameRoomRegistry gameRoomRegistry;
+    @Mock
+    private GameRoom room;
+    @Mock
+    private GameMailbox mailbox;
+    @Mock
+    private GameManager gameManager;
+    @Mock
+    private GameEventLogger gameEventLogger;
+
+    private MessageHandler messageHandler;
+
+    @BeforeEach
+    void setUp() {
+        messageHandler = new MessageHandler(socketMessageService, gameRoomRegistry, gameEventLogger);
+        when(gameRoomRegistry.getRoomOfSession(SESSION_ID)).thenReturn(room);
+        when(room.getMailbox()).thenReturn(mailbox);
+        when(room.getGameManager()).thenReturn(gameManager);
+        when(gameManager.getTurnInfo()).thenReturn(new TurnInfo(SESSION_ID, TurnState.WAITING_FOR_PUSH));
+    }
+
+    @Test
+    void pushTile_shouldBeDecodedOnceAndDispatchedOnMailbox() throws Exception {
+        messageHandler.handleClientMessage("{\"type\":\"PUSH_TILE\",\"rowOrColIndex\":3,\"direction\":\"RIGHT\"}",
+                SESSION_ID);
+
+        ArgumentCaptor<GameMailbox.Command> command = ArgumentCaptor.forClass(GameMailbox.Command.class);
+        verify(mailbox).post(command.capture());
+        command.getValue().execute();
+
+        verify(gameManager).handlePushTile(3, DirectionType.RIGHT, SESSION_ID, false);
+        verify(gameEventLogger).record(eq(GameEventLogger.Category.MESSAGE), eq("PUSH_TILE"), any(), eq(SESSION_ID),
+                anyLong());
+    }
+
+    @Test
+    void malformedBody_shouldBeRejectedBeforeReachingTheRoom() throws Exception {
+        messageHandler.handleClientMessage("{\"type\":\"PUSH_TILE\",\"rowOrColIndex\":3,\"direction\":\"SIDEWAYS\"}",
+                SESSION_ID);
+
+        verify(socketMessageService).sendMessageToSession(eq(SESSION_ID), contains("INVALID_COMMAND"));
+        verify(mailbox, never()).post(any());
+    }
+
+    @Test
+    void unknownType_shouldBeIgnored() throws Exception {
+        messageHandler.handleClientMessage("{\"type\":\"DANCE\"}", SESSION_ID);
+
+        verify(mailbox, never()).post(any());
+        verify(socketMessageService, never()).sendMessageToSession(anyString(), anyString());
+    }
+}
@@ -0,0 +1,50 @@
+package com.uni.gamesever.interfaces.Websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uni.gamesever.domain.enums.DirectionType;
+import com.uni.gamesever.domain.model.BoardSize;
+import com.uni.gamesever.domain.model.Bonus;
+import com.uni.gamesever.domain.model.ErrorCode;
+import com.uni.gamesever.domain.model.GameBoard;
+import com.uni.gamesever.domain.model.Treasure;
+import com.uni.gamesever.interfaces.Websocket.messages.server.ActionErrorEvent;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SerializerRegistryTest {
+
+    @Test
+    void boardSerializer_shouldWriteSameJsonAsBeanSerialization() throws Exception {
+        GameBoard board = GameBoard.generateBoard(new BoardSize());
+        board.placeTreasure(1, 1, new Treasure(3, "Krone"));
+        board.placeBonus(2, 3, new Bonus());
+        board.pushTile(1, DirectionType.RIGHT, false);
+
+        String expected = new ObjectMapper().writeValueAsString(board);
+
+        assertEquals(expected, SerializerRegistry.toJson(board));
+    }
+
+    @Test
+    void toJsonBytes_shouldReuseCachedWriterAndMatchString() throws Exception {
+        ActionErrorEvent event = new ActionErrorEvent(ErrorCode.INVALID_COMMAND, "Fehler mit Umlauten: äöü");
+
+        byte[] first = SerializerRegistry.toJsonBytes(event);
+        byte[] second = SerializerRegistry.toJsonBytes(event);
+
+        assertArrayEquals(first, second);
+        assertEquals(SerializerRegistry.toJson(event), new String(first, StandardCharsets.UTF_8));
+        assertSame(SerializerRegistry.writerFor(ActionErrorEvent.class), SerializerRegistry.writerFor(ActionErrorEvent.class));
+    }
+
+    @Test
+    void toJson_shouldHandleMessagesLargerThanRetainedBuffer() throws Exception {
+        String large = "x".repeat(SerializerRegistry.MAX_RETAINED_BUFFER + 10);
+
+        assertEquals("\"" + large + "\"", SerializerRegistry.toJson(large));
+        assertEquals("null", SerializerRegistry.toJson(null));
+    }
+}
@@ -0,0 +1,114 @@
+package com.uni.gamesever.services;
+
+import com.uni.gamesever.services.OutboundSession.OverflowPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OutboundSessionTest {
+    // Sammelt Sender-Aufträge, damit der Client im Test "hängt", bis run() gerufen wird
+    private final List<Runnable> pendingSends = new ArrayList<>();
+    private WebSocketSession delegate;
+    private OutboundMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(WebSocketSession.class);
+        when(delegate.isOpen()).thenReturn(true);
+        metrics = new OutboundMetrics();
+    }
+
+    private OutboundSession session(int capacity, OverflowPolicy policy) {
+        return new OutboundSession(delegate, capacity, policy, pendingSends::add, metrics);
+    }
+
+    private void runPendingSends() {
+        while (!pendingSends.isEmpty()) {
+            pendingSends.remove(0).run();
+        }
+    }
+
+    @Test
+    void enqueue_shouldCoalesceWaitingGameStateUpdates() throws IOException {
+        OutboundSession session = session(8, OverflowPolicy.DROP_OLDEST);
+
+        session.enqueue(new TextMessage("chat"), "CHAT");
+        session.enqueue(new TextMessage("state1"), "GAME_STATE_UPDATE");
+        session.enqueue(new TextMessage("state2"), "GAME_STATE_UPDATE");
+        runPendingSends();
+
+        verify(delegate).sendMessage(new TextMessage("chat"));
+        verify(delegate).sendMessage(new TextMessage("state2"));
+        verify(delegate, never()).sendMessage(new TextMessage("state1"));
+        assertEquals(1, metrics.getCoalescedMessages());
+        assertEquals(0, metrics.getQueuedMessages());
+    }
+
+    @Test
+    void enqueue_shouldDropOldestGameStateWhenQueueIsFull() throws IOException {
+        OutboundSession session = session(2, OverflowPolicy.DROP_OLDEST);
+
+        session.enqueue(new TextMessage("state1"), "GAME_STATE_UPDATE");
+        session.enqueue(new TextMessage("gameOver"), "GAME_OVER");
+        session.enqueue(new TextMessage("state2"), "GAME_STATE_UPDATE");
+
+        assertEquals(2, session.getQueueDepth());
+        assertEquals(1, metrics.getDroppedMessages());
+        runPendingSends();
+        verify(delegate, never()).sendMessage(new TextMessage("state1"));
+        verify(delegate).sendMessage(new TextMessage("gameOver"));
+        verify(delegate).sendMessage(new TextMessage("state2"));
+    }
+
+    @Test
+    void enqueue_shouldDisconnectInsteadOfDroppingOtherMessages() throws IOException {
+        OutboundSession session = session(2, OverflowPolicy.DROP_OLDEST);
+
+        session.enqueue(new TextMessage("state1"), "GAME_STATE_UPDATE");
+        session.enqueue(new TextMessage("gameOver"), "GAME_OVER");
+        session.enqueue(new TextMessage("error"), "ERROR");
+        runPendingSends();
+
+        verify(delegate).close(CloseStatus.SESSION_NOT_RELIABLE);
+        verify(delegate, never()).sendMessage(any());
+        assertEquals(1, metrics.getEvictedSessions());
+    }
+
+    @Test
+    void enqueue_shouldDisconnectSlowConsumerWhenConfigured() throws IOException {
+        OutboundSession session = session(2, OverflowPolicy.DISCONNECT);
+
+        session.enqueue(new TextMessage("1"), null);
+        session.enqueue(new TextMessage("2"), null);
+        session.enqueue(new TextMessage("3"), null);
+        session.enqueue(new TextMessage("4"), null);
+        runPendingSends();
+
+        verify(delegate).close(CloseStatus.SESSION_NOT_RELIABLE);
+        verify(delegate, never()).sendMessage(any());
+        assertEquals(1, metrics.getEvictedSessions());
+        assertEquals(0, session.getQueueDepth());
+    }
+
+    @Test
+    void closeAfterFlush_shouldSendWaitingMessagesBeforeClosing() throws IOException {
+        OutboundSession session = session(8, OverflowPolicy.DROP_OLDEST);
+
+        session.enqueue(new TextMessage("error"), "ERROR");
+        session.closeAfterFlush(CloseStatus.POLICY_VIOLATION);
+        runPendingSends();
+
+        var order = inOrder(delegate);
+        order.verify(delegate).sendMessage(new TextMessage("error"));
+        order.verify(delegate).close(CloseStatus.POLICY_VIOLATION);
+    }
+}
@@ -5,16 +5,26 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import com.uni.gamesever.services.OutboundSession.OverflowPolicy;
+import com.uni.gamesever.interfaces.Websocket.BinaryProtocol;
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -22,19 +32,21 @@ import static org.mockito.Mockito.*;
 class SocketMessageServiceTest {
     private final String TEST_MESSAGE = "Test Message";
 
-    @InjectMocks
+    // Sender laufen im Test synchron, damit Sendungen direkt prüfbar sind
     private SocketMessageService service;
 
+    private int sessionCounter = 0;
+
     private WebSocketSession mockSession(boolean isOpen) {
         WebSocketSession session = mock(WebSocketSession.class);
         when(session.isOpen()).thenReturn(isOpen);
+        when(session.getId()).thenReturn("session-" + sessionCounter++);
         return session;
     }
 
     @BeforeEach
     void setUp() {
-        // Der Service wird durch @InjectMocks vor jedem Test neu instanziiert,
-        // was die interne webSocketSessions Liste automatisch leert.
+        service = new SocketMessageService(16, OverflowPolicy.DROP_OLDEST, Runnable::run);
     }
 
     @Nested
@@ -158,4 +170,104 @@ class SocketMessageServiceTest {
             verify(throwingSession, times(1)).sendMessage(eq(new TextMessage(TEST_MESSAGE)));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("broadcast Tests")
+    class broadcast_test {
+        @Test
+        void broadcast_shouldSendSameEncodedFrameToAllSessions() throws IOException {
+            // GIVEN
+            WebSocketSession session1 = mockSession(true);
+            WebSocketSession session2 = mockSession(true);
+            service.addIncomingSession(session1);
+            service.addIncomingSession(session2);
+
+            // WHEN
+            service.broadcast(Map.of("type", "TEST"));
+
+            // THEN
+            ArgumentCaptor<TextMessage> frame1 = ArgumentCaptor.forClass(TextMessage.class);
+            ArgumentCaptor<TextMessage> frame2 = ArgumentCaptor.forClass(TextMessage.class);
+            verify(session1).sendMessage(frame1.capture());
+            verify(session2).sendMessage(frame2.capture());
+            assertSame(frame1.getValue(), frame2.getValue(), "Die Nachricht sollte nur einmal serialisiert werden.");
+            assertEquals("{\"type\":\"TEST\"}", frame1.getValue().getPayload());
+        }
+
+        @Test
+        void broadcastToSessions_shouldOnlyReachSelectedSessions() throws IOException {
+            // GIVEN
+            WebSocketSession selected = mockSession(true);
+            WebSocketSession other = mockSession(true);
+            when(selected.getId()).thenReturn("selected");
+            when(other.getId()).thenReturn("other");
+            service.addIncomingSession(selected);
+            service.addIncomingSession(other);
+
+            // WHEN
+            service.broadcastToSessions(List.of("selected"), Map.of("type", "TEST"));
+
+            // THEN
+            verify(selected, times(1)).sendMessage(any());
+            verify(other, never()).sendMessage(any());
+        }
+
+        @Test
+        void broadcast_shouldSendBinaryFramesToSessionsWithBinaryProtocol() throws IOException {
+            // GIVEN
+            WebSocketSession textSession = mockSession(true);
+            WebSocketSession binarySession = mockSession(true);
+            service.addIncomingSession(textSession);
+            service.addIncomingSession(binarySession);
+            service.setBinaryProtocol(binarySession.getId(), true);
+
+            // WHEN
+            service.broadcast(Map.of("type", "TEST"));
+
+            // THEN
+            verify(textSession).sendMessage(new TextMessage("{\"type\":\"TEST\"}"));
+            ArgumentCaptor<BinaryMessage> frame = ArgumentCaptor.forClass(BinaryMessage.class);
+            verify(binarySession).sendMessage(frame.capture());
+            byte[] payload = frame.getValue().getPayload().array();
+            assertEquals(BinaryProtocol.TAG_JSON, payload[0]);
+            assertEquals("{\"type\":\"TEST\"}", new String(payload, 1, payload.length - 1, StandardCharsets.UTF_8));
+        }
+    }
+
+    @Nested
+    @DisplayName("session index Tests")
+    class sessionIndex_test {
+        @Test
+        void sendMessageToSession_shouldOnlyReachAddressedSession() throws IOException {
+            // GIVEN
+            WebSocketSession target = mockSession(true);
+            WebSocketSession other = mockSession(true);
+            service.addIncomingSession(target);
+            service.addIncomingSession(other);
+
+            // WHEN
+            service.sendMessageToSession(target.getId(), TEST_MESSAGE);
+
+            // THEN
+            verify(target, times(1)).sendMessage(eq(new TextMessage(TEST_MESSAGE)));
+            verify(other, never()).sendMessage(any());
+        }
+
+        @Test
+        void removeDisconnectedSessionWithID_shouldRemoveOnlyThatSession() {
+            // GIVEN
+            WebSocketSession sessionToRemove = mockSession(true);
+            WebSocketSession sessionToKeep = mockSession(true);
+            service.addIncomingSession(sessionToRemove);
+            service.addIncomingSession(sessionToKeep);
+
+            // WHEN
+            service.removeDisconnectedSessionWithID(sessionToRemove.getId());
+
+            // THEN
+            assertNull(service.getSession(sessionToRemove.getId()));
+            assertNotNull(service.getSession(sessionToKeep.getId()));
+            assertEquals(1, service.getSessionCount());
+        }
+    }
+}